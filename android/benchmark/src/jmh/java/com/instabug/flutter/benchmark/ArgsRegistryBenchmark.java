@@ -0,0 +1,67 @@
+package com.instabug.flutter.benchmark;
+
+import com.instabug.flutter.util.ArgsRegistry;
+import com.instabug.library.InstabugCustomTextPlaceHolder;
+import com.instabug.library.internal.module.InstabugLocale;
+import com.instabug.library.invocation.InstabugInvocationEvent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving the enum names sent by Dart to their SDK values, done by most setters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ArgsRegistryBenchmark {
+    private String[] locales;
+    private String[] placeholders;
+    private String[] invocationEvents;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        locales = copyOf(ArgsRegistry.locales.keySet());
+        placeholders = copyOf(ArgsRegistry.placeholders.keySet());
+        invocationEvents = copyOf(ArgsRegistry.invocationEvents.keySet());
+    }
+
+    @Benchmark
+    public InstabugLocale locale() {
+        return ArgsRegistry.locales.get(next(locales));
+    }
+
+    @Benchmark
+    public InstabugCustomTextPlaceHolder.Key placeholder() {
+        return ArgsRegistry.placeholders.get(next(placeholders));
+    }
+
+    @Benchmark
+    public InstabugInvocationEvent invocationEvent() {
+        return ArgsRegistry.invocationEvents.get(next(invocationEvents));
+    }
+
+    private String next(String[] keys) {
+        index = index + 1 < keys.length ? index + 1 : 0;
+        return keys[index];
+    }
+
+    // The keys are copied as the strings decoded from messages aren't the map's instances.
+    private static String[] copyOf(Set<String> keys) {
+        final String[] copies = new String[keys.size()];
+        int i = 0;
+        for (String key : keys) {
+            copies[i++] = new String(key.toCharArray());
+        }
+        return copies;
+    }
+}
@@ -0,0 +1,20 @@
+package com.instabug.flutter.benchmark;
+
+import androidx.annotation.NonNull;
+
+import com.instabug.flutter.util.NetworkLogQueue;
+
+/**
+ * Processes the network logs on the calling thread, so the benchmarks measure the
+ * work done per log rather than the hand-off to the queue's workers.
+ */
+final class InlineNetworkLogQueue extends NetworkLogQueue {
+    InlineNetworkLogQueue() {
+        super(1, 1, DropPolicy.CALLER_RUNS);
+    }
+
+    @Override
+    public void enqueue(@NonNull Runnable task) {
+        task.run();
+    }
+}
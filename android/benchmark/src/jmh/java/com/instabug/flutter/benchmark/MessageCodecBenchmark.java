@@ -0,0 +1,84 @@
+package com.instabug.flutter.benchmark;
+
+import com.instabug.flutter.generated.InstabugPigeon;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.flutter.plugin.common.MessageCodec;
+
+/**
+ * Encoding and decoding the arguments of typical host API calls with the pigeon codec.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MessageCodecBenchmark {
+    private final MessageCodec<Object> codec = InstabugPigeon.InstabugHostApi.getCodec();
+
+    private List<Object> identifyUserArgs;
+    private List<Object> networkLogArgs;
+    private List<Object> networkEntryArgs;
+
+    private ByteBuffer identifyUserMessage;
+    private ByteBuffer networkLogMessage;
+    private ByteBuffer networkEntryMessage;
+
+    @Setup
+    public void setUp() {
+        identifyUserArgs = Payloads.identifyUserArgs();
+        networkLogArgs = Collections.<Object>singletonList(Payloads.networkLogData());
+        networkEntryArgs = Collections.<Object>singletonList(Payloads.networkEntry());
+
+        identifyUserMessage = encoded(identifyUserArgs);
+        networkLogMessage = encoded(networkLogArgs);
+        networkEntryMessage = encoded(networkEntryArgs);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeIdentifyUser() {
+        return codec.encodeMessage(identifyUserArgs);
+    }
+
+    @Benchmark
+    public Object decodeIdentifyUser() {
+        return codec.decodeMessage(identifyUserMessage.duplicate());
+    }
+
+    @Benchmark
+    public ByteBuffer encodeNetworkLog() {
+        return codec.encodeMessage(networkLogArgs);
+    }
+
+    @Benchmark
+    public Object decodeNetworkLog() {
+        return codec.decodeMessage(networkLogMessage.duplicate());
+    }
+
+    @Benchmark
+    public ByteBuffer encodeNetworkEntry() {
+        return codec.encodeMessage(networkEntryArgs);
+    }
+
+    @Benchmark
+    public Object decodeNetworkEntry() {
+        return codec.decodeMessage(networkEntryMessage.duplicate());
+    }
+
+    // Read from the start, like the messages the engine hands to the handlers.
+    private ByteBuffer encoded(Object message) {
+        final ByteBuffer buffer = codec.encodeMessage(message);
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,67 @@
+package com.instabug.flutter.benchmark;
+
+import com.instabug.flutter.generated.InstabugPigeon;
+import com.instabug.flutter.modules.ApmApi;
+import com.instabug.flutter.modules.InstabugApi;
+import com.instabug.flutter.util.HeadersEncoder;
+import com.instabug.flutter.util.NetworkLogQueue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding a network log sent by Dart and serializing its headers, on the calling
+ * thread instead of the {@link NetworkLogQueue}'s workers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class NetworkLogBenchmark {
+    private InstabugApi instabugApi;
+    private ApmApi apmApi;
+    private Map<String, Object> data;
+    private InstabugPigeon.NetworkEntry entry;
+    private Map<String, String> headers;
+
+    @Setup
+    public void setUp() {
+        NetworkLogQueue.setInstance(new InlineNetworkLogQueue());
+
+        instabugApi = new InstabugApi(null, null, null, null, null, false, false);
+        apmApi = new ApmApi();
+        data = Payloads.networkLogData();
+        entry = Payloads.networkEntry();
+        headers = Payloads.responseHeaders();
+    }
+
+    @Benchmark
+    public void networkLog() {
+        instabugApi.networkLog(data);
+    }
+
+    @Benchmark
+    public void networkLogAndroid() {
+        apmApi.networkLogAndroid(data);
+    }
+
+    /**
+     * Both of the above in a single call, for comparison.
+     */
+    @Benchmark
+    public void logNetworkEntry() {
+        instabugApi.logNetworkEntry(entry);
+    }
+
+    @Benchmark
+    public String encodeHeaders() throws Exception {
+        return HeadersEncoder.encode(headers);
+    }
+}
@@ -0,0 +1,47 @@
+package com.instabug.flutter.benchmark;
+
+import com.instabug.apm.networkinterception.cp.APMCPNetworkLog;
+import com.instabug.apm.networking.APMNetworkLogger;
+import com.instabug.flutter.util.Reflection;
+import com.instabug.library.Instabug;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looking up the private SDK methods the modules call by reflection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ReflectionBenchmark {
+    @Benchmark
+    public Method getMethod() {
+        return Reflection.getMethod(Instabug.class, "setCurrentPlatform", int.class);
+    }
+
+    @Benchmark
+    public Method getMethodWithManyParameters() {
+        return Reflection.getMethod(APMNetworkLogger.class, "log", long.class, long.class, String.class, String.class,
+                long.class, String.class, String.class, String.class, String.class, String.class, long.class, int.class,
+                String.class, String.class, String.class, String.class, APMCPNetworkLog.W3CExternalTraceAttributes.class);
+    }
+
+    @Benchmark
+    public Method getMissingMethod() {
+        return Reflection.getMethod(Instabug.class, "setCurrentPlatform", long.class);
+    }
+
+    @Benchmark
+    public Method getMethodUncached() {
+        Reflection.clearCache();
+        return Reflection.getMethod(Instabug.class, "setCurrentPlatform", int.class);
+    }
+}
@@ -0,0 +1,39 @@
+package com.instabug.apm;
+
+import com.instabug.apm.model.ExecutionTrace;
+
+public class APM {
+    public static void setEnabled(boolean isEnabled) {
+    }
+
+    public static void setColdAppLaunchEnabled(boolean isEnabled) {
+    }
+
+    public static void setAutoUITraceEnabled(boolean isEnabled) {
+    }
+
+    public static void setScreenLoadingEnabled(boolean isEnabled) {
+    }
+
+    public static ExecutionTrace startExecutionTrace(String name) {
+        return new ExecutionTrace(name);
+    }
+
+    public static void startFlow(String name) {
+    }
+
+    public static void setFlowAttribute(String name, String key, String value) {
+    }
+
+    public static void endFlow(String name) {
+    }
+
+    public static void startUITrace(String name) {
+    }
+
+    public static void endUITrace() {
+    }
+
+    public static void endAppLaunch() {
+    }
+}
@@ -0,0 +1,8 @@
+package com.instabug.apm.configuration.cp;
+
+public enum APMFeature {
+    APM,
+    UI_TRACE,
+    SCREEN_LOADING,
+    END_SCREEN_LOADING,
+}
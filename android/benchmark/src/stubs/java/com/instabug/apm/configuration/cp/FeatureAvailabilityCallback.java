@@ -0,0 +1,5 @@
+package com.instabug.apm.configuration.cp;
+
+public interface FeatureAvailabilityCallback {
+    void invoke(boolean isFeatureAvailable);
+}
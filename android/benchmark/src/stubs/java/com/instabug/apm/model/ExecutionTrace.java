@@ -0,0 +1,12 @@
+package com.instabug.apm.model;
+
+public class ExecutionTrace {
+    public ExecutionTrace(String name) {
+    }
+
+    public void setAttribute(String key, String value) {
+    }
+
+    public void end() {
+    }
+}
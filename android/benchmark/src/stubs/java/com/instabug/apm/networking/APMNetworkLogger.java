@@ -0,0 +1,12 @@
+package com.instabug.apm.networking;
+
+import com.instabug.apm.networkinterception.cp.APMCPNetworkLog;
+
+public class APMNetworkLogger {
+    private void log(long requestStartTime, long requestDuration, String requestHeaders, String requestBody,
+                     long requestBodySize, String requestMethod, String requestUrl, String requestContentType,
+                     String responseHeaders, String responseBody, long responseBodySize, int statusCode,
+                     String responseContentType, String errorMessage, String gqlQueryName, String serverErrorMessage,
+                     APMCPNetworkLog.W3CExternalTraceAttributes w3cAttributes) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.instabug.apm.networkinterception.cp;
+
+public class APMCPNetworkLog {
+    public static class W3CExternalTraceAttributes {
+    }
+}
@@ -0,0 +1,9 @@
+package com.instabug.bug;
+
+public class BugReporting {
+    public static class ReportType {
+        public static final int BUG = 0;
+        public static final int FEEDBACK = 1;
+        public static final int QUESTION = 2;
+    }
+}
@@ -0,0 +1,8 @@
+package com.instabug.bug.invocation;
+
+public class Option {
+    public static final int COMMENT_FIELD_REQUIRED = 1;
+    public static final int EMAIL_FIELD_HIDDEN = 2;
+    public static final int EMAIL_FIELD_OPTIONAL = 4;
+    public static final int DISABLE_POST_SENDING_DIALOG = 8;
+}
@@ -0,0 +1,10 @@
+package com.instabug.crash.models;
+
+public class IBGNonFatalException {
+    public enum Level {
+        INFO,
+        WARNING,
+        ERROR,
+        CRITICAL,
+    }
+}
@@ -0,0 +1,6 @@
+package com.instabug.featuresrequest;
+
+public class ActionType {
+    public static final int REQUEST_NEW_FEATURE = 2;
+    public static final int ADD_COMMENT_TO_FEATURE = 4;
+}
@@ -0,0 +1,8 @@
+package com.instabug.library;
+
+public class Feature {
+    public enum State {
+        ENABLED,
+        DISABLED,
+    }
+}
@@ -0,0 +1,152 @@
+package com.instabug.library;
+
+import android.app.Application;
+import android.graphics.Bitmap;
+import android.net.Uri;
+
+import com.instabug.library.featuresflags.model.IBGFeatureFlag;
+import com.instabug.library.invocation.InstabugInvocationEvent;
+import com.instabug.library.ui.onboarding.WelcomeMessage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+public class Instabug {
+    public static class Builder {
+        public Builder(Application application, String token) {
+        }
+
+        public Builder setInvocationEvents(InstabugInvocationEvent... events) {
+            return this;
+        }
+
+        public Builder setSdkDebugLogsLevel(int level) {
+            return this;
+        }
+
+        public void build() {
+        }
+    }
+
+    public static boolean isBuilt() {
+        return true;
+    }
+
+    public static boolean isEnabled() {
+        return true;
+    }
+
+    public static void enable() {
+    }
+
+    public static void disable() {
+    }
+
+    public static void show() {
+    }
+
+    public static void showWelcomeMessage(WelcomeMessage.State state) {
+    }
+
+    public static void setWelcomeMessageState(WelcomeMessage.State state) {
+    }
+
+    public static void setScreenshotProvider(Callable<Bitmap> provider) {
+    }
+
+    public static void identifyUser(String name, String email, String id) {
+    }
+
+    public static void setUserData(String data) {
+    }
+
+    public static void logUserEvent(String name) {
+    }
+
+    public static void logoutUser() {
+    }
+
+    public static void setLocale(Locale locale) {
+    }
+
+    public static void setColorTheme(InstabugColorTheme theme) {
+    }
+
+    public static void setPrimaryColor(int color) {
+    }
+
+    public static void setSessionProfilerState(Feature.State state) {
+    }
+
+    public static void setCustomTextPlaceHolders(InstabugCustomTextPlaceHolder placeHolder) {
+    }
+
+    public static void addTags(String... tags) {
+    }
+
+    public static void resetTags() {
+    }
+
+    public static ArrayList<String> getTags() {
+        return new ArrayList<>();
+    }
+
+    public static void addExperiments(List<String> experiments) {
+    }
+
+    public static void removeExperiments(List<String> experiments) {
+    }
+
+    public static void clearAllExperiments() {
+    }
+
+    public static void addFeatureFlags(List<IBGFeatureFlag> featureFlags) {
+    }
+
+    public static void removeFeatureFlag(List<String> featureFlags) {
+    }
+
+    public static void removeAllFeatureFlags() {
+    }
+
+    public static void setUserAttribute(String key, String value) {
+    }
+
+    public static void removeUserAttribute(String key) {
+    }
+
+    public static String getUserAttribute(String key) {
+        return null;
+    }
+
+    public static HashMap<String, String> getAllUserAttributes() {
+        return new HashMap<>();
+    }
+
+    public static void setReproConfigurations(ReproConfigurations configurations) {
+    }
+
+    public static void addFileAttachment(Uri uri, String fileName) {
+    }
+
+    public static void addFileAttachment(byte[] data, String fileName) {
+    }
+
+    public static void clearFileAttachment() {
+    }
+
+    public static void willRedirectToStore() {
+    }
+
+    private static void setCurrentPlatform(int platform) {
+    }
+
+    private static void reportScreenChange(Bitmap screenshot, String screenName) {
+    }
+
+    private static void setCustomBrandingImage(Bitmap light, Bitmap dark) {
+    }
+}
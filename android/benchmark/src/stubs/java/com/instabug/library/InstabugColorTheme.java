@@ -0,0 +1,6 @@
+package com.instabug.library;
+
+public enum InstabugColorTheme {
+    InstabugColorThemeLight,
+    InstabugColorThemeDark,
+}
@@ -0,0 +1,67 @@
+package com.instabug.library;
+
+public class InstabugCustomTextPlaceHolder {
+    public enum Key {
+        SHAKE_HINT,
+        SWIPE_HINT,
+        INVALID_EMAIL_MESSAGE,
+        EMAIL_FIELD_HINT,
+        COMMENT_FIELD_HINT_FOR_BUG_REPORT,
+        COMMENT_FIELD_HINT_FOR_FEEDBACK,
+        COMMENT_FIELD_HINT_FOR_QUESTION,
+        INVOCATION_HEADER,
+        REPORT_QUESTION,
+        REPORT_BUG,
+        REPORT_FEEDBACK,
+        CONVERSATIONS_LIST_TITLE,
+        ADD_VOICE_MESSAGE,
+        ADD_IMAGE_FROM_GALLERY,
+        ADD_EXTRA_SCREENSHOT,
+        ADD_VIDEO,
+        AUDIO_RECORDING_PERMISSION_DENIED,
+        VOICE_MESSAGE_PRESS_AND_HOLD_TO_RECORD,
+        VOICE_MESSAGE_RELEASE_TO_ATTACH,
+        SUCCESS_DIALOG_HEADER,
+        VIDEO_RECORDING_FAB_BUBBLE_HINT,
+        CONVERSATION_TEXT_FIELD_HINT,
+        REPORT_SUCCESSFULLY_SENT,
+        BETA_WELCOME_MESSAGE_WELCOME_STEP_TITLE,
+        BETA_WELCOME_MESSAGE_WELCOME_STEP_CONTENT,
+        BETA_WELCOME_MESSAGE_HOW_TO_REPORT_STEP_TITLE,
+        BETA_WELCOME_MESSAGE_HOW_TO_REPORT_STEP_CONTENT,
+        BETA_WELCOME_MESSAGE_FINISH_STEP_TITLE,
+        BETA_WELCOME_MESSAGE_FINISH_STEP_CONTENT,
+        LIVE_WELCOME_MESSAGE_TITLE,
+        LIVE_WELCOME_MESSAGE_CONTENT,
+        SURVEYS_STORE_RATING_THANKS_TITLE,
+        SURVEYS_STORE_RATING_THANKS_SUBTITLE,
+        REPORT_BUG_DESCRIPTION,
+        REPORT_FEEDBACK_DESCRIPTION,
+        REPORT_QUESTION_DESCRIPTION,
+        REQUEST_FEATURE_DESCRIPTION,
+        REPORT_DISCARD_DIALOG_TITLE,
+        REPORT_DISCARD_DIALOG_BODY,
+        REPORT_DISCARD_DIALOG_NEGATIVE_ACTION,
+        REPORT_DISCARD_DIALOG_POSITIVE_ACTION,
+        REPORT_ADD_ATTACHMENT_HEADER,
+        REPORT_REPRO_STEPS_DISCLAIMER_BODY,
+        REPORT_REPRO_STEPS_DISCLAIMER_LINK,
+        REPRO_STEPS_PROGRESS_DIALOG_BODY,
+        REPRO_STEPS_LIST_HEADER,
+        REPRO_STEPS_LIST_DESCRIPTION,
+        REPRO_STEPS_LIST_EMPTY_STATE_DESCRIPTION,
+        REPRO_STEPS_LIST_ITEM_NUMBERING_TITLE,
+        CHATS_TEAM_STRING_NAME,
+        REPLIES_NOTIFICATION_REPLY_BUTTON,
+        REPLIES_NOTIFICATION_DISMISS_BUTTON,
+        BUG_ATTACHMENT_DIALOG_OK_BUTTON,
+        CHATS_TYPE_AUDIO,
+        CHATS_TYPE_IMAGE,
+        CHATS_TYPE_VIDEO,
+        CHATS_MULTIPLE_MESSAGE_NOTIFICATION,
+        COMMENT_FIELD_INSUFFICIENT_CONTENT,
+    }
+
+    public void set(Key key, String value) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.instabug.library;
+
+public class IssueType {
+    public static final int Bug = 1;
+    public static final int Crash = 2;
+    public static final int SessionReplay = 4;
+}
@@ -0,0 +1,8 @@
+package com.instabug.library;
+
+public class LogLevel {
+    public static final int NONE = -1;
+    public static final int ERROR = 0;
+    public static final int DEBUG = 1;
+    public static final int VERBOSE = 2;
+}
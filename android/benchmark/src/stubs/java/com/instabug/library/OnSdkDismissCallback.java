@@ -0,0 +1,9 @@
+package com.instabug.library;
+
+public interface OnSdkDismissCallback {
+    enum DismissType {
+        SUBMIT,
+        CANCEL,
+        ADD_ATTACHMENT,
+    }
+}
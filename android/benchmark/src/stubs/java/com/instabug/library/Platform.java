@@ -0,0 +1,5 @@
+package com.instabug.library;
+
+public class Platform {
+    public static final int FLUTTER = 7;
+}
@@ -0,0 +1,13 @@
+package com.instabug.library;
+
+public class ReproConfigurations {
+    public static class Builder {
+        public Builder setIssueMode(int issueType, int mode) {
+            return this;
+        }
+
+        public ReproConfigurations build() {
+            return new ReproConfigurations();
+        }
+    }
+}
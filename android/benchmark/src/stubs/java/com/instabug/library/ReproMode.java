@@ -0,0 +1,7 @@
+package com.instabug.library;
+
+public class ReproMode {
+    public static final int Disable = 0;
+    public static final int EnableWithNoScreenshots = 1;
+    public static final int EnableWithScreenshots = 2;
+}
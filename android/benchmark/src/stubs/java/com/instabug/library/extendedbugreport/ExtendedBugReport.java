@@ -0,0 +1,9 @@
+package com.instabug.library.extendedbugreport;
+
+public class ExtendedBugReport {
+    public enum State {
+        ENABLED_WITH_REQUIRED_FIELDS,
+        ENABLED_WITH_OPTIONAL_FIELDS,
+        DISABLED,
+    }
+}
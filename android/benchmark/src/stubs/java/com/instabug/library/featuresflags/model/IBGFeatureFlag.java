@@ -0,0 +1,6 @@
+package com.instabug.library.featuresflags.model;
+
+public class IBGFeatureFlag {
+    public IBGFeatureFlag(String key, String value) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.instabug.library.internal.module;
+
+public enum InstabugLocale {
+    ARABIC("ar", ""),
+    AZERBAIJANI("az", ""),
+    SIMPLIFIED_CHINESE("zh", "CN"),
+    TRADITIONAL_CHINESE("zh", "TW"),
+    CZECH("cs", ""),
+    DANISH("da", ""),
+    NETHERLANDS("nl", ""),
+    ENGLISH("en", ""),
+    FINNISH("fi", ""),
+    FRENCH("fr", ""),
+    GERMAN("de", ""),
+    HUNGARIAN("hu", ""),
+    INDONESIAN("in", ""),
+    ITALIAN("it", ""),
+    JAPANESE("ja", ""),
+    KOREAN("ko", ""),
+    NORWEGIAN("nb", ""),
+    POLISH("pl", ""),
+    PORTUGUESE_BRAZIL("pt", "BR"),
+    PORTUGUESE_PORTUGAL("pt", "PT"),
+    ROMANIAN("ro", ""),
+    RUSSIAN("ru", ""),
+    SLOVAK("sk", ""),
+    SPANISH("es", ""),
+    SWEDISH("sv", ""),
+    TURKISH("tr", "");
+
+    private final String code;
+    private final String country;
+
+    InstabugLocale(String code, String country) {
+        this.code = code;
+        this.country = country;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+}
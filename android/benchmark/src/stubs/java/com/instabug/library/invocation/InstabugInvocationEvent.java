@@ -0,0 +1,9 @@
+package com.instabug.library.invocation;
+
+public enum InstabugInvocationEvent {
+    NONE,
+    SHAKE,
+    FLOATING_BUTTON,
+    SCREENSHOT,
+    TWO_FINGER_SWIPE_LEFT,
+}
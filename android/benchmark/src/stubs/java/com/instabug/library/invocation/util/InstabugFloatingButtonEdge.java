@@ -0,0 +1,6 @@
+package com.instabug.library.invocation.util;
+
+public enum InstabugFloatingButtonEdge {
+    LEFT,
+    RIGHT,
+}
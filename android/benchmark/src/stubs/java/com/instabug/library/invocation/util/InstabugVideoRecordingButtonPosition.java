@@ -0,0 +1,8 @@
+package com.instabug.library.invocation.util;
+
+public enum InstabugVideoRecordingButtonPosition {
+    TOP_LEFT,
+    TOP_RIGHT,
+    BOTTOM_LEFT,
+    BOTTOM_RIGHT,
+}
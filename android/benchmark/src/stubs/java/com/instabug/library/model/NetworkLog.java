@@ -0,0 +1,52 @@
+package com.instabug.library.model;
+
+public class NetworkLog {
+    private String date;
+    private String url;
+    private String request;
+    private String response;
+    private String method;
+    private int responseCode;
+    private String requestHeaders;
+    private String responseHeaders;
+    private long totalDuration;
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public void setRequest(String request) {
+        this.request = request;
+    }
+
+    public void setResponse(String response) {
+        this.response = response;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public void setResponseCode(int responseCode) {
+        this.responseCode = responseCode;
+    }
+
+    public void setRequestHeaders(String requestHeaders) {
+        this.requestHeaders = requestHeaders;
+    }
+
+    public void setResponseHeaders(String responseHeaders) {
+        this.responseHeaders = responseHeaders;
+    }
+
+    public void setTotalDuration(long totalDuration) {
+        this.totalDuration = totalDuration;
+    }
+
+    public void insert() {
+    }
+}
@@ -0,0 +1,9 @@
+package com.instabug.library.ui.onboarding;
+
+public class WelcomeMessage {
+    public enum State {
+        LIVE,
+        BETA,
+        DISABLED,
+    }
+}
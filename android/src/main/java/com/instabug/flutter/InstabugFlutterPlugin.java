@@ -3,13 +3,24 @@ package com.instabug.flutter;
 import android.annotation.SuppressLint;
 import android.app.Activity;
 import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageManager;
 import android.graphics.Bitmap;
+import android.os.Bundle;
 import android.util.Log;
 import android.view.View;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.instabug.flutter.generated.ApmPigeon;
+import com.instabug.flutter.generated.BugReportingPigeon;
+import com.instabug.flutter.generated.CrashReportingPigeon;
+import com.instabug.flutter.generated.FeatureRequestsPigeon;
+import com.instabug.flutter.generated.InstabugLogPigeon;
+import com.instabug.flutter.generated.RepliesPigeon;
+import com.instabug.flutter.generated.SessionReplayPigeon;
+import com.instabug.flutter.generated.SurveysPigeon;
 import com.instabug.flutter.modules.ApmApi;
 import com.instabug.flutter.modules.BugReportingApi;
 import com.instabug.flutter.modules.CrashReportingApi;
@@ -19,13 +30,28 @@ import com.instabug.flutter.modules.InstabugLogApi;
 import com.instabug.flutter.modules.RepliesApi;
 import com.instabug.flutter.modules.SessionReplayApi;
 import com.instabug.flutter.modules.SurveysApi;
+import com.instabug.flutter.util.BridgeStats;
+import com.instabug.flutter.util.DispatchMessenger;
+import com.instabug.flutter.util.InstrumentedMessenger;
+import com.instabug.flutter.util.LazyHostApi;
+import com.instabug.flutter.util.LazyHostApis;
+import com.instabug.flutter.util.ScreenshotCapturer;
+import com.instabug.flutter.util.ScreenshotFrameCache;
+import com.instabug.flutter.util.SdkStartup;
+import com.instabug.flutter.util.SdkInvokers;
+import com.instabug.flutter.util.ThreadManager;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.embedding.engine.plugins.activity.ActivityAware;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 import io.flutter.embedding.engine.renderer.FlutterRenderer;
+import io.flutter.embedding.engine.renderer.FlutterUiDisplayListener;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.PluginRegistry.Registrar;
 
@@ -35,6 +61,93 @@ public class InstabugFlutterPlugin implements FlutterPlugin, ActivityAware {
     @SuppressLint("StaticFieldLeak")
     private static Activity activity;
 
+    @Nullable
+    private static ScreenshotFrameCache screenshotCache;
+
+    /**
+     * The manifest meta-data listing the modules the plugin shouldn't register, separated by commas,
+     * e.g. {@code "Surveys, FeatureRequests, Replies"}.
+     */
+    public static final String DISABLED_MODULES_KEY = "com.instabug.flutter.DISABLED_MODULES";
+
+    private static boolean multiplexedChannelEnabled = false;
+    private static boolean lazyModuleRegistrationEnabled = false;
+    private static boolean bridgeStatsEnabled = false;
+    private static boolean backgroundSdkBuildEnabled = false;
+
+    private static final Map<String, LazyHostApi<?>> lazyModules = new HashMap<>();
+    private static long registrationDuration = 0;
+
+    private interface HostApiSetup<T> {
+        void setup(BinaryMessenger messenger, T api);
+    }
+
+    private interface LazyStandIn<T> {
+        T create(LazyHostApi<T> module);
+    }
+
+    /**
+     * Receives all the plugin's platform channel calls on a single multiplexed channel
+     * instead of one channel per method, see {@link DispatchMessenger}. The Dart side
+     * learns it from {@code Instabug.init}. Must be called before the plugin is registered.
+     */
+    public static void setMultiplexedChannelEnabled(boolean isEnabled) {
+        multiplexedChannelEnabled = isEnabled;
+    }
+
+    /**
+     * Registers stand-ins for the modules other than the core {@code Instabug} module, which
+     * only build the real modules, and load the SDK classes they use, once Dart first calls
+     * them. Must be called before the plugin is registered.
+     * <p>
+     * Modules the app never uses can also be skipped entirely by listing them in the
+     * {@link #DISABLED_MODULES_KEY} manifest meta-data, their calls then fail with an error.
+     */
+    public static void setLazyModuleRegistrationEnabled(boolean isEnabled) {
+        lazyModuleRegistrationEnabled = isEnabled;
+    }
+
+    /**
+     * Records the call count, latency, payload size and errors of each host API method in
+     * {@link BridgeStats}, exposed to Dart through {@code Instabug.getBridgeStats}. Must be
+     * called before the plugin is registered.
+     */
+    public static void setBridgeStatsEnabled(boolean isEnabled) {
+        bridgeStatsEnabled = isEnabled;
+    }
+
+    /**
+     * Builds the SDK on a background thread when {@code Instabug.init} is called instead of
+     * the platform thread. Only the calls that go through {@link SdkStartup} are held until
+     * it's built, so apps enabling it should wait for {@code Instabug.waitForInit} before
+     * calling the other APIs. Must be called before the plugin is registered.
+     */
+    public static void setBackgroundSdkBuildEnabled(boolean isEnabled) {
+        backgroundSdkBuildEnabled = isEnabled;
+    }
+
+    /**
+     * @return the time in nanoseconds the last registration of the plugin took
+     */
+    public static long getRegistrationDuration() {
+        return registrationDuration;
+    }
+
+    /**
+     * @return the number of lazily registered modules that were built so far
+     */
+    public static int getBuiltModuleCount() {
+        int count = 0;
+        synchronized (lazyModules) {
+            for (LazyHostApi<?> module : lazyModules.values()) {
+                if (module.isBuilt()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
     /**
      * Embedding v1
      */
@@ -52,6 +165,12 @@ public class InstabugFlutterPlugin implements FlutterPlugin, ActivityAware {
     @Override
     public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
         activity = null;
+        ApmApi.stopListeningToFeatures(binding.getBinaryMessenger());
+
+        if (screenshotCache != null) {
+            screenshotCache.clear();
+            screenshotCache = null;
+        }
     }
 
     @Override
@@ -74,25 +193,121 @@ public class InstabugFlutterPlugin implements FlutterPlugin, ActivityAware {
         activity = null;
     }
 
-    private static void register(Context context, BinaryMessenger messenger, FlutterRenderer renderer) {
-        final Callable<Bitmap> screenshotProvider = new Callable<Bitmap>() {
+    private static void register(Context context, BinaryMessenger binaryMessenger, FlutterRenderer renderer) {
+        final long start = System.nanoTime();
+        final BinaryMessenger dispatcher = multiplexedChannelEnabled ? new DispatchMessenger(binaryMessenger) : binaryMessenger;
+        final BinaryMessenger messenger = bridgeStatsEnabled ? new InstrumentedMessenger(dispatcher, BridgeStats.getInstance()) : dispatcher;
+
+        final ScreenshotCapturer capturer = ScreenshotCapturer.getInstance();
+        final ScreenshotCapturer.FrameSource frameSource = new ScreenshotCapturer.FrameSource() {
+            @Nullable
             @Override
-            public Bitmap call() {
+            public Bitmap grab() {
                 return takeScreenshot(renderer);
             }
         };
+        final ScreenshotFrameCache screenshotProvider = ScreenshotFrameCache.create(new Callable<Bitmap>() {
+            @Override
+            public Bitmap call() {
+                return capturer.capture(frameSource);
+            }
+        });
+        renderer.addIsDisplayingFlutterUiListener(new FlutterUiDisplayListener() {
+            @Override
+            public void onFlutterUiDisplayed() {
+                screenshotProvider.invalidate();
+            }
+
+            @Override
+            public void onFlutterUiNoLongerDisplayed() {
+                screenshotProvider.invalidate();
+            }
+        });
+        screenshotCache = screenshotProvider;
+
+        ThreadManager.runOnBackground(new Runnable() {
+            @Override
+            public void run() {
+                SdkInvokers.resolveAll();
+            }
+        });
+
+        final Set<String> disabledModules = getDisabledModules(context);
+        synchronized (lazyModules) {
+            lazyModules.clear();
+        }
+
+        InstabugApi.init(messenger, context, screenshotProvider, backgroundSdkBuildEnabled, multiplexedChannelEnabled);
+        registerModule(messenger, "Apm", disabledModules, ApmPigeon.ApmHostApi::setup, LazyHostApis.Apm::new, () -> {
+            final ApmApi api = ApmApi.create(messenger);
+            // Installed along with the module, so lazy registration doesn't load the APM SDK
+            // until Dart uses APM. Keyed by the engine's own messenger, which is the one
+            // it's detached with.
+            ApmApi.listenToFeatures(binaryMessenger, messenger);
+            return api;
+        });
+        registerModule(messenger, "BugReporting", disabledModules, BugReportingPigeon.BugReportingHostApi::setup, LazyHostApis.BugReporting::new, () -> BugReportingApi.create(messenger));
+        registerModule(messenger, "CrashReporting", disabledModules, CrashReportingPigeon.CrashReportingHostApi::setup, LazyHostApis.CrashReporting::new, () -> CrashReportingApi.create(messenger));
+        registerModule(messenger, "FeatureRequests", disabledModules, FeatureRequestsPigeon.FeatureRequestsHostApi::setup, LazyHostApis.FeatureRequests::new, () -> FeatureRequestsApi.create(messenger));
+        registerModule(messenger, "InstabugLog", disabledModules, InstabugLogPigeon.InstabugLogHostApi::setup, LazyHostApis.InstabugLog::new, () -> InstabugLogApi.create(messenger));
+        registerModule(messenger, "Replies", disabledModules, RepliesPigeon.RepliesHostApi::setup, LazyHostApis.Replies::new, () -> RepliesApi.create(messenger));
+        registerModule(messenger, "SessionReplay", disabledModules, SessionReplayPigeon.SessionReplayHostApi::setup, LazyHostApis.SessionReplay::new, () -> SessionReplayApi.create(messenger));
+        registerModule(messenger, "Surveys", disabledModules, SurveysPigeon.SurveysHostApi::setup, LazyHostApis.Surveys::new, () -> SurveysApi.create(messenger));
+
+        registrationDuration = System.nanoTime() - start;
+    }
 
-        ApmApi.init(messenger);
-        BugReportingApi.init(messenger);
-        CrashReportingApi.init(messenger);
-        FeatureRequestsApi.init(messenger);
-        InstabugApi.init(messenger, context, screenshotProvider);
-        InstabugLogApi.init(messenger);
-        RepliesApi.init(messenger);
-        SessionReplayApi.init(messenger);
-        SurveysApi.init(messenger);
+    /**
+     * Registers the module with its pigeon channels, through a {@link LazyHostApis} stand-in
+     * when lazy registration is enabled. Modules disabled in the manifest are never built,
+     * their stand-in fails each call with an error naming the module.
+     */
+    private static <T> void registerModule(BinaryMessenger messenger, String name, Set<String> disabledModules, HostApiSetup<T> setup, LazyStandIn<T> standIn, Callable<T> factory) {
+        if (disabledModules.contains(name)) {
+            setup.setup(messenger, standIn.create(LazyHostApi.<T>disabled("The " + name + " module is disabled through the " + DISABLED_MODULES_KEY + " manifest meta-data")));
+            return;
+        }
+
+        if (lazyModuleRegistrationEnabled) {
+            final LazyHostApi<T> module = new LazyHostApi<>(factory);
+            synchronized (lazyModules) {
+                lazyModules.put(name, module);
+            }
+            setup.setup(messenger, standIn.create(module));
+            return;
+        }
+
+        try {
+            setup.setup(messenger, factory.call());
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to register the " + name + " module. Cause: " + e);
+        }
     }
 
+    private static Set<String> getDisabledModules(Context context) {
+        final Set<String> modules = new HashSet<>();
+        try {
+            final ApplicationInfo info = context.getPackageManager().getApplicationInfo(context.getPackageName(), PackageManager.GET_META_DATA);
+            final Bundle metaData = info.metaData;
+            final String value = metaData == null ? null : metaData.getString(DISABLED_MODULES_KEY);
+            if (value == null) {
+                return modules;
+            }
+
+            for (String module : value.split(",")) {
+                if (!module.trim().isEmpty()) {
+                    modules.add(module.trim());
+                }
+            }
+        } catch (PackageManager.NameNotFoundException e) {
+            Log.w(TAG, "Failed to read the disabled modules from the manifest. Cause: " + e);
+        }
+        return modules;
+    }
+
+    /**
+     * Grabs the current Flutter frame at full size, called on the main thread by the {@link ScreenshotCapturer}.
+     */
     @Nullable
     private static Bitmap takeScreenshot(FlutterRenderer renderer) {
         try {
@@ -63,6 +63,32 @@ public class ApmPigeon {
 
     void error(@NonNull Throwable error);
   }
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class ApmFlutterApi {
+    private final @NonNull BinaryMessenger binaryMessenger;
+
+    public ApmFlutterApi(@NonNull BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    /** Public interface for sending reply. */ 
+    @SuppressWarnings("UnknownNullness")
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+    /** The codec used by ApmFlutterApi. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return StandardMessageCodec.INSTANCE;
+    }
+    public void onFeatureAvailabilityChanged(@NonNull String featureArg, @NonNull Boolean isAvailableArg, @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.instabug_flutter.ApmFlutterApi.onFeatureAvailabilityChanged", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(featureArg, isAvailableArg)),
+          channelReply -> callback.reply(null));
+    }
+  }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface ApmHostApi {
 
@@ -80,14 +106,20 @@ public class ApmPigeon {
 
     void startExecutionTrace(@NonNull String id, @NonNull String name, @NonNull Result<String> result);
 
+    void startExecutionTraceNonBlocking(@NonNull String id, @NonNull String name);
+
     void startFlow(@NonNull String name);
 
     void setFlowAttribute(@NonNull String name, @NonNull String key, @Nullable String value);
 
+    void setFlowAttributes(@NonNull String name, @NonNull Map<String, String> attributes);
+
     void endFlow(@NonNull String name);
 
     void setExecutionTraceAttribute(@NonNull String id, @NonNull String key, @NonNull String value);
 
+    void setExecutionTraceAttributes(@NonNull String id, @NonNull Map<String, String> attributes);
+
     void endExecutionTrace(@NonNull String id);
 
     void startUITrace(@NonNull String name);
@@ -108,10 +140,11 @@ public class ApmPigeon {
 
     /** The codec used by ApmHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return StandardMessageCodec.INSTANCE;
     }
     /**Sets up an instance of `ApmHostApi` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable ApmHostApi api) {
+      BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -292,6 +325,31 @@ public class ApmPigeon {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.ApmHostApi.startExecutionTraceNonBlocking", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String idArg = (String) args.get(0);
+                String nameArg = (String) args.get(1);
+                try {
+                  api.startExecutionTraceNonBlocking(idArg, nameArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -332,6 +390,31 @@ public class ApmPigeon {
                   api.setFlowAttribute(nameArg, keyArg, valueArg);
                   wrapped.add(0, null);
                 }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.ApmHostApi.setFlowAttributes", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String nameArg = (String) args.get(0);
+                Map<String, String> attributesArg = (Map<String, String>) args.get(1);
+                try {
+                  api.setFlowAttributes(nameArg, attributesArg);
+                  wrapped.add(0, null);
+                }
  catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
                   wrapped = wrappedError;
@@ -382,6 +465,31 @@ public class ApmPigeon {
                   api.setExecutionTraceAttribute(idArg, keyArg, valueArg);
                   wrapped.add(0, null);
                 }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.ApmHostApi.setExecutionTraceAttributes", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String idArg = (String) args.get(0);
+                Map<String, String> attributesArg = (Map<String, String>) args.get(1);
+                try {
+                  api.setExecutionTraceAttributes(idArg, attributesArg);
+                  wrapped.add(0, null);
+                }
  catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
                   wrapped = wrappedError;
@@ -487,7 +595,7 @@ public class ApmPigeon {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.ApmHostApi.networkLogAndroid", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.ApmHostApi.networkLogAndroid", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -71,7 +71,7 @@ public class BugReportingPigeon {
     }
     /** The codec used by BugReportingFlutterApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return StandardMessageCodec.INSTANCE;
     }
     public void onSdkInvoke(@NonNull Reply<Void> callback) {
       BasicMessageChannel<Object> channel =
@@ -127,7 +127,7 @@ public class BugReportingPigeon {
 
     /** The codec used by BugReportingHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return StandardMessageCodec.INSTANCE;
     }
     /**Sets up an instance of `BugReportingHostApi` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable BugReportingHostApi api) {
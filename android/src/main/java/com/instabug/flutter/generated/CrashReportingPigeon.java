@@ -67,10 +67,11 @@ public class CrashReportingPigeon {
 
     /** The codec used by CrashReportingHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return StandardMessageCodec.INSTANCE;
     }
     /**Sets up an instance of `CrashReportingHostApi` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable CrashReportingHostApi api) {
+      BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -98,7 +99,7 @@ public class CrashReportingPigeon {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.CrashReportingHostApi.send", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.CrashReportingHostApi.send", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -123,7 +124,7 @@ public class CrashReportingPigeon {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.CrashReportingHostApi.sendNonFatalError", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.CrashReportingHostApi.sendNonFatalError", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
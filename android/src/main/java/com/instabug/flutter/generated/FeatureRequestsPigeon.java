@@ -65,7 +65,7 @@ public class FeatureRequestsPigeon {
 
     /** The codec used by FeatureRequestsHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return StandardMessageCodec.INSTANCE;
     }
     /**Sets up an instance of `FeatureRequestsHostApi` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable FeatureRequestsHostApi api) {
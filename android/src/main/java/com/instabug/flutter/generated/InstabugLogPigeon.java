@@ -69,11 +69,13 @@ public class InstabugLogPigeon {
 
     void logError(@NonNull String message);
 
+    void logBatch(@NonNull List<Object> entries);
+
     void clearAllLogs();
 
     /** The codec used by InstabugLogHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return StandardMessageCodec.INSTANCE;
     }
     /**Sets up an instance of `InstabugLogHostApi` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable InstabugLogHostApi api) {
@@ -187,6 +189,30 @@ public class InstabugLogPigeon {
                   api.logError(messageArg);
                   wrapped.add(0, null);
                 }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugLogHostApi.logBatch", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                List<Object> entriesArg = (List<Object>) args.get(0);
+                try {
+                  api.logBatch(entriesArg);
+                  wrapped.add(0, null);
+                }
  catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
                   wrapped = wrappedError;
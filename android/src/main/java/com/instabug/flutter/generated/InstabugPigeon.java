@@ -57,12 +57,654 @@ public class InstabugPigeon {
     return errorList;
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class NetworkEntry {
+    private @NonNull String url;
+
+    public @NonNull String getUrl() {
+      return url;
+    }
+
+    public void setUrl(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"url\" is null.");
+      }
+      this.url = setterArg;
+    }
+
+    private @NonNull String method;
+
+    public @NonNull String getMethod() {
+      return method;
+    }
+
+    public void setMethod(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"method\" is null.");
+      }
+      this.method = setterArg;
+    }
+
+    private @NonNull String requestBody;
+
+    public @NonNull String getRequestBody() {
+      return requestBody;
+    }
+
+    public void setRequestBody(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"requestBody\" is null.");
+      }
+      this.requestBody = setterArg;
+    }
+
+    private @NonNull String responseBody;
+
+    public @NonNull String getResponseBody() {
+      return responseBody;
+    }
+
+    public void setResponseBody(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"responseBody\" is null.");
+      }
+      this.responseBody = setterArg;
+    }
+
+    private @NonNull Long requestBodySize;
+
+    public @NonNull Long getRequestBodySize() {
+      return requestBodySize;
+    }
+
+    public void setRequestBodySize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"requestBodySize\" is null.");
+      }
+      this.requestBodySize = setterArg;
+    }
+
+    private @NonNull Long responseBodySize;
+
+    public @NonNull Long getResponseBodySize() {
+      return responseBodySize;
+    }
+
+    public void setResponseBodySize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"responseBodySize\" is null.");
+      }
+      this.responseBodySize = setterArg;
+    }
+
+    private @Nullable Long responseCode;
+
+    public @Nullable Long getResponseCode() {
+      return responseCode;
+    }
+
+    public void setResponseCode(@Nullable Long setterArg) {
+      this.responseCode = setterArg;
+    }
+
+    private @NonNull Map<String, String> requestHeaders;
+
+    public @NonNull Map<String, String> getRequestHeaders() {
+      return requestHeaders;
+    }
+
+    public void setRequestHeaders(@NonNull Map<String, String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"requestHeaders\" is null.");
+      }
+      this.requestHeaders = setterArg;
+    }
+
+    private @NonNull Map<String, String> responseHeaders;
+
+    public @NonNull Map<String, String> getResponseHeaders() {
+      return responseHeaders;
+    }
+
+    public void setResponseHeaders(@NonNull Map<String, String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"responseHeaders\" is null.");
+      }
+      this.responseHeaders = setterArg;
+    }
+
+    private @Nullable String requestContentType;
+
+    public @Nullable String getRequestContentType() {
+      return requestContentType;
+    }
+
+    public void setRequestContentType(@Nullable String setterArg) {
+      this.requestContentType = setterArg;
+    }
+
+    private @Nullable String responseContentType;
+
+    public @Nullable String getResponseContentType() {
+      return responseContentType;
+    }
+
+    public void setResponseContentType(@Nullable String setterArg) {
+      this.responseContentType = setterArg;
+    }
+
+    /** In microseconds. */
+    private @Nullable Long duration;
+
+    public @Nullable Long getDuration() {
+      return duration;
+    }
+
+    public void setDuration(@Nullable Long setterArg) {
+      this.duration = setterArg;
+    }
+
+    /** In milliseconds since epoch. */
+    private @NonNull Long startTime;
+
+    public @NonNull Long getStartTime() {
+      return startTime;
+    }
+
+    public void setStartTime(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"startTime\" is null.");
+      }
+      this.startTime = setterArg;
+    }
+
+    private @NonNull Long errorCode;
+
+    public @NonNull Long getErrorCode() {
+      return errorCode;
+    }
+
+    public void setErrorCode(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"errorCode\" is null.");
+      }
+      this.errorCode = setterArg;
+    }
+
+    private @NonNull String errorDomain;
+
+    public @NonNull String getErrorDomain() {
+      return errorDomain;
+    }
+
+    public void setErrorDomain(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"errorDomain\" is null.");
+      }
+      this.errorDomain = setterArg;
+    }
+
+    private @Nullable String gqlQueryName;
+
+    public @Nullable String getGqlQueryName() {
+      return gqlQueryName;
+    }
+
+    public void setGqlQueryName(@Nullable String setterArg) {
+      this.gqlQueryName = setterArg;
+    }
+
+    private @Nullable String serverErrorMessage;
+
+    public @Nullable String getServerErrorMessage() {
+      return serverErrorMessage;
+    }
+
+    public void setServerErrorMessage(@Nullable String setterArg) {
+      this.serverErrorMessage = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    NetworkEntry() {}
+
+    public static final class Builder {
+
+      private @Nullable String url;
+
+      public @NonNull Builder setUrl(@NonNull String setterArg) {
+        this.url = setterArg;
+        return this;
+      }
+
+      private @Nullable String method;
+
+      public @NonNull Builder setMethod(@NonNull String setterArg) {
+        this.method = setterArg;
+        return this;
+      }
+
+      private @Nullable String requestBody;
+
+      public @NonNull Builder setRequestBody(@NonNull String setterArg) {
+        this.requestBody = setterArg;
+        return this;
+      }
+
+      private @Nullable String responseBody;
+
+      public @NonNull Builder setResponseBody(@NonNull String setterArg) {
+        this.responseBody = setterArg;
+        return this;
+      }
+
+      private @Nullable Long requestBodySize;
+
+      public @NonNull Builder setRequestBodySize(@NonNull Long setterArg) {
+        this.requestBodySize = setterArg;
+        return this;
+      }
+
+      private @Nullable Long responseBodySize;
+
+      public @NonNull Builder setResponseBodySize(@NonNull Long setterArg) {
+        this.responseBodySize = setterArg;
+        return this;
+      }
+
+      private @Nullable Long responseCode;
+
+      public @NonNull Builder setResponseCode(@Nullable Long setterArg) {
+        this.responseCode = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> requestHeaders;
+
+      public @NonNull Builder setRequestHeaders(@NonNull Map<String, String> setterArg) {
+        this.requestHeaders = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> responseHeaders;
+
+      public @NonNull Builder setResponseHeaders(@NonNull Map<String, String> setterArg) {
+        this.responseHeaders = setterArg;
+        return this;
+      }
+
+      private @Nullable String requestContentType;
+
+      public @NonNull Builder setRequestContentType(@Nullable String setterArg) {
+        this.requestContentType = setterArg;
+        return this;
+      }
+
+      private @Nullable String responseContentType;
+
+      public @NonNull Builder setResponseContentType(@Nullable String setterArg) {
+        this.responseContentType = setterArg;
+        return this;
+      }
+
+      private @Nullable Long duration;
+
+      public @NonNull Builder setDuration(@Nullable Long setterArg) {
+        this.duration = setterArg;
+        return this;
+      }
+
+      private @Nullable Long startTime;
+
+      public @NonNull Builder setStartTime(@NonNull Long setterArg) {
+        this.startTime = setterArg;
+        return this;
+      }
+
+      private @Nullable Long errorCode;
+
+      public @NonNull Builder setErrorCode(@NonNull Long setterArg) {
+        this.errorCode = setterArg;
+        return this;
+      }
+
+      private @Nullable String errorDomain;
+
+      public @NonNull Builder setErrorDomain(@NonNull String setterArg) {
+        this.errorDomain = setterArg;
+        return this;
+      }
+
+      private @Nullable String gqlQueryName;
+
+      public @NonNull Builder setGqlQueryName(@Nullable String setterArg) {
+        this.gqlQueryName = setterArg;
+        return this;
+      }
+
+      private @Nullable String serverErrorMessage;
+
+      public @NonNull Builder setServerErrorMessage(@Nullable String setterArg) {
+        this.serverErrorMessage = setterArg;
+        return this;
+      }
+
+      public @NonNull NetworkEntry build() {
+        NetworkEntry pigeonReturn = new NetworkEntry();
+        pigeonReturn.setUrl(url);
+        pigeonReturn.setMethod(method);
+        pigeonReturn.setRequestBody(requestBody);
+        pigeonReturn.setResponseBody(responseBody);
+        pigeonReturn.setRequestBodySize(requestBodySize);
+        pigeonReturn.setResponseBodySize(responseBodySize);
+        pigeonReturn.setResponseCode(responseCode);
+        pigeonReturn.setRequestHeaders(requestHeaders);
+        pigeonReturn.setResponseHeaders(responseHeaders);
+        pigeonReturn.setRequestContentType(requestContentType);
+        pigeonReturn.setResponseContentType(responseContentType);
+        pigeonReturn.setDuration(duration);
+        pigeonReturn.setStartTime(startTime);
+        pigeonReturn.setErrorCode(errorCode);
+        pigeonReturn.setErrorDomain(errorDomain);
+        pigeonReturn.setGqlQueryName(gqlQueryName);
+        pigeonReturn.setServerErrorMessage(serverErrorMessage);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(17);
+      toListResult.add(url);
+      toListResult.add(method);
+      toListResult.add(requestBody);
+      toListResult.add(responseBody);
+      toListResult.add(requestBodySize);
+      toListResult.add(responseBodySize);
+      toListResult.add(responseCode);
+      toListResult.add(requestHeaders);
+      toListResult.add(responseHeaders);
+      toListResult.add(requestContentType);
+      toListResult.add(responseContentType);
+      toListResult.add(duration);
+      toListResult.add(startTime);
+      toListResult.add(errorCode);
+      toListResult.add(errorDomain);
+      toListResult.add(gqlQueryName);
+      toListResult.add(serverErrorMessage);
+      return toListResult;
+    }
+
+    static @NonNull NetworkEntry fromList(@NonNull ArrayList<Object> list) {
+      NetworkEntry pigeonResult = new NetworkEntry();
+      Object url = list.get(0);
+      pigeonResult.setUrl((String) url);
+      Object method = list.get(1);
+      pigeonResult.setMethod((String) method);
+      Object requestBody = list.get(2);
+      pigeonResult.setRequestBody((String) requestBody);
+      Object responseBody = list.get(3);
+      pigeonResult.setResponseBody((String) responseBody);
+      Object requestBodySize = list.get(4);
+      pigeonResult.setRequestBodySize((requestBodySize == null) ? null : ((requestBodySize instanceof Integer) ? (Integer) requestBodySize : (Long) requestBodySize));
+      Object responseBodySize = list.get(5);
+      pigeonResult.setResponseBodySize((responseBodySize == null) ? null : ((responseBodySize instanceof Integer) ? (Integer) responseBodySize : (Long) responseBodySize));
+      Object responseCode = list.get(6);
+      pigeonResult.setResponseCode((responseCode == null) ? null : ((responseCode instanceof Integer) ? (Integer) responseCode : (Long) responseCode));
+      Object requestHeaders = list.get(7);
+      pigeonResult.setRequestHeaders((Map<String, String>) requestHeaders);
+      Object responseHeaders = list.get(8);
+      pigeonResult.setResponseHeaders((Map<String, String>) responseHeaders);
+      Object requestContentType = list.get(9);
+      pigeonResult.setRequestContentType((String) requestContentType);
+      Object responseContentType = list.get(10);
+      pigeonResult.setResponseContentType((String) responseContentType);
+      Object duration = list.get(11);
+      pigeonResult.setDuration((duration == null) ? null : ((duration instanceof Integer) ? (Integer) duration : (Long) duration));
+      Object startTime = list.get(12);
+      pigeonResult.setStartTime((startTime == null) ? null : ((startTime instanceof Integer) ? (Integer) startTime : (Long) startTime));
+      Object errorCode = list.get(13);
+      pigeonResult.setErrorCode((errorCode == null) ? null : ((errorCode instanceof Integer) ? (Integer) errorCode : (Long) errorCode));
+      Object errorDomain = list.get(14);
+      pigeonResult.setErrorDomain((String) errorDomain);
+      Object gqlQueryName = list.get(15);
+      pigeonResult.setGqlQueryName((String) gqlQueryName);
+      Object serverErrorMessage = list.get(16);
+      pigeonResult.setServerErrorMessage((String) serverErrorMessage);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class BridgeMethodStats {
+    private @NonNull String method;
+
+    public @NonNull String getMethod() {
+      return method;
+    }
+
+    public void setMethod(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"method\" is null.");
+      }
+      this.method = setterArg;
+    }
+
+    private @NonNull Long callCount;
+
+    public @NonNull Long getCallCount() {
+      return callCount;
+    }
+
+    public void setCallCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"callCount\" is null.");
+      }
+      this.callCount = setterArg;
+    }
+
+    private @NonNull Long errorCount;
+
+    public @NonNull Long getErrorCount() {
+      return errorCount;
+    }
+
+    public void setErrorCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"errorCount\" is null.");
+      }
+      this.errorCount = setterArg;
+    }
+
+    private @NonNull Long payloadBytes;
+
+    public @NonNull Long getPayloadBytes() {
+      return payloadBytes;
+    }
+
+    public void setPayloadBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"payloadBytes\" is null.");
+      }
+      this.payloadBytes = setterArg;
+    }
+
+    private @NonNull Long p50LatencyMicros;
+
+    public @NonNull Long getP50LatencyMicros() {
+      return p50LatencyMicros;
+    }
+
+    public void setP50LatencyMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"p50LatencyMicros\" is null.");
+      }
+      this.p50LatencyMicros = setterArg;
+    }
+
+    private @NonNull Long p95LatencyMicros;
+
+    public @NonNull Long getP95LatencyMicros() {
+      return p95LatencyMicros;
+    }
+
+    public void setP95LatencyMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"p95LatencyMicros\" is null.");
+      }
+      this.p95LatencyMicros = setterArg;
+    }
+
+    private @NonNull Long p99LatencyMicros;
+
+    public @NonNull Long getP99LatencyMicros() {
+      return p99LatencyMicros;
+    }
+
+    public void setP99LatencyMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"p99LatencyMicros\" is null.");
+      }
+      this.p99LatencyMicros = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    BridgeMethodStats() {}
+
+    public static final class Builder {
+
+      private @Nullable String method;
+
+      public @NonNull Builder setMethod(@NonNull String setterArg) {
+        this.method = setterArg;
+        return this;
+      }
+
+      private @Nullable Long callCount;
+
+      public @NonNull Builder setCallCount(@NonNull Long setterArg) {
+        this.callCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long errorCount;
+
+      public @NonNull Builder setErrorCount(@NonNull Long setterArg) {
+        this.errorCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long payloadBytes;
+
+      public @NonNull Builder setPayloadBytes(@NonNull Long setterArg) {
+        this.payloadBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long p50LatencyMicros;
+
+      public @NonNull Builder setP50LatencyMicros(@NonNull Long setterArg) {
+        this.p50LatencyMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long p95LatencyMicros;
+
+      public @NonNull Builder setP95LatencyMicros(@NonNull Long setterArg) {
+        this.p95LatencyMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long p99LatencyMicros;
+
+      public @NonNull Builder setP99LatencyMicros(@NonNull Long setterArg) {
+        this.p99LatencyMicros = setterArg;
+        return this;
+      }
+
+      public @NonNull BridgeMethodStats build() {
+        BridgeMethodStats pigeonReturn = new BridgeMethodStats();
+        pigeonReturn.setMethod(method);
+        pigeonReturn.setCallCount(callCount);
+        pigeonReturn.setErrorCount(errorCount);
+        pigeonReturn.setPayloadBytes(payloadBytes);
+        pigeonReturn.setP50LatencyMicros(p50LatencyMicros);
+        pigeonReturn.setP95LatencyMicros(p95LatencyMicros);
+        pigeonReturn.setP99LatencyMicros(p99LatencyMicros);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(7);
+      toListResult.add(method);
+      toListResult.add(callCount);
+      toListResult.add(errorCount);
+      toListResult.add(payloadBytes);
+      toListResult.add(p50LatencyMicros);
+      toListResult.add(p95LatencyMicros);
+      toListResult.add(p99LatencyMicros);
+      return toListResult;
+    }
+
+    static @NonNull BridgeMethodStats fromList(@NonNull ArrayList<Object> list) {
+      BridgeMethodStats pigeonResult = new BridgeMethodStats();
+      Object method = list.get(0);
+      pigeonResult.setMethod((String) method);
+      Object callCount = list.get(1);
+      pigeonResult.setCallCount((callCount == null) ? null : ((callCount instanceof Integer) ? (Integer) callCount : (Long) callCount));
+      Object errorCount = list.get(2);
+      pigeonResult.setErrorCount((errorCount == null) ? null : ((errorCount instanceof Integer) ? (Integer) errorCount : (Long) errorCount));
+      Object payloadBytes = list.get(3);
+      pigeonResult.setPayloadBytes((payloadBytes == null) ? null : ((payloadBytes instanceof Integer) ? (Integer) payloadBytes : (Long) payloadBytes));
+      Object p50LatencyMicros = list.get(4);
+      pigeonResult.setP50LatencyMicros((p50LatencyMicros == null) ? null : ((p50LatencyMicros instanceof Integer) ? (Integer) p50LatencyMicros : (Long) p50LatencyMicros));
+      Object p95LatencyMicros = list.get(5);
+      pigeonResult.setP95LatencyMicros((p95LatencyMicros == null) ? null : ((p95LatencyMicros instanceof Integer) ? (Integer) p95LatencyMicros : (Long) p95LatencyMicros));
+      Object p99LatencyMicros = list.get(6);
+      pigeonResult.setP99LatencyMicros((p99LatencyMicros == null) ? null : ((p99LatencyMicros instanceof Integer) ? (Integer) p99LatencyMicros : (Long) p99LatencyMicros));
+      return pigeonResult;
+    }
+  }
+
   public interface Result<T> {
     @SuppressWarnings("UnknownNullness")
     void success(T result);
 
     void error(@NonNull Throwable error);
   }
+
+  private static class InstabugHostApiCodec extends StandardMessageCodec {
+    public static final InstabugHostApiCodec INSTANCE = new InstabugHostApiCodec();
+
+    private InstabugHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return NetworkEntry.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 129:
+          return BridgeMethodStats.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof NetworkEntry) {
+        stream.write(128);
+        writeValue(stream, ((NetworkEntry) value).toList());
+      } else if (value instanceof BridgeMethodStats) {
+        stream.write(129);
+        writeValue(stream, ((BridgeMethodStats) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface InstabugHostApi {
 
@@ -74,8 +716,13 @@ public class InstabugPigeon {
     @NonNull 
     Boolean isBuilt();
 
+    @NonNull 
+    Boolean isMultiplexedChannelEnabled();
+
     void init(@NonNull String token, @NonNull List<String> invocationEvents, @NonNull String debugLogsLevel);
 
+    void waitForInit(@NonNull Result<Map<String, Long>> result);
+
     void show();
 
     void showWelcomeMessageWithMode(@NonNull String mode);
@@ -130,6 +777,8 @@ public class InstabugPigeon {
 
     void reportScreenChange(@NonNull String screenName);
 
+    void onRouteTransition(@NonNull String reportedScreenName, @NonNull String uiTraceScreenName, @NonNull Long microTimeStamp, @NonNull Long uiTraceId);
+
     void setCustomBrandingImage(@NonNull String light, @NonNull String dark);
 
     void setFont(@NonNull String font);
@@ -138,18 +787,33 @@ public class InstabugPigeon {
 
     void addFileAttachmentWithData(@NonNull byte[] data, @NonNull String fileName);
 
+    @Nullable 
+    String beginFileAttachment(@NonNull String fileName);
+
+    void appendFileAttachmentChunk(@NonNull String id, @NonNull byte[] chunk);
+
+    void finishFileAttachment(@NonNull String id);
+
+    void abortFileAttachment(@NonNull String id);
+
     void clearFileAttachments();
 
     void networkLog(@NonNull Map<String, Object> data);
 
+    void logNetworkEntry(@NonNull NetworkEntry entry);
+
+    @NonNull 
+    List<BridgeMethodStats> getBridgeStats();
+
     void willRedirectToStore();
 
     /** The codec used by InstabugHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return com.instabug.flutter.util.InstabugMessageCodec.INSTANCE;
     }
     /**Sets up an instance of `InstabugHostApi` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable InstabugHostApi api) {
+      BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -208,6 +872,28 @@ public class InstabugPigeon {
                   Boolean output = api.isBuilt();
                   wrapped.add(0, output);
                 }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.isMultiplexedChannelEnabled", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  Boolean output = api.isMultiplexedChannelEnabled();
+                  wrapped.add(0, output);
+                }
  catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
                   wrapped = wrappedError;
@@ -244,6 +930,33 @@ public class InstabugPigeon {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.waitForInit", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                Result<Map<String, Long>> resultCallback =
+                    new Result<Map<String, Long>>() {
+                      public void success(Map<String, Long> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.waitForInit(resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -580,7 +1293,7 @@ public class InstabugPigeon {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.getTags", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.getTags", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -796,7 +1509,7 @@ public class InstabugPigeon {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.getUserAttributeForKey", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.getUserAttributeForKey", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -825,7 +1538,7 @@ public class InstabugPigeon {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.getUserAttributes", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.getUserAttributes", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -902,7 +1615,34 @@ public class InstabugPigeon {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.setCustomBrandingImage", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.onRouteTransition", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String reportedScreenNameArg = (String) args.get(0);
+                String uiTraceScreenNameArg = (String) args.get(1);
+                Number microTimeStampArg = (Number) args.get(2);
+                Number uiTraceIdArg = (Number) args.get(3);
+                try {
+                  api.onRouteTransition(reportedScreenNameArg, uiTraceScreenNameArg, (microTimeStampArg == null) ? null : microTimeStampArg.longValue(), (uiTraceIdArg == null) ? null : uiTraceIdArg.longValue());
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.setCustomBrandingImage", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -951,7 +1691,7 @@ public class InstabugPigeon {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.addFileAttachmentWithURL", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.addFileAttachmentWithURL", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -976,7 +1716,7 @@ public class InstabugPigeon {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.addFileAttachmentWithData", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.addFileAttachmentWithData", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1001,7 +1741,104 @@ public class InstabugPigeon {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.clearFileAttachments", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.beginFileAttachment", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String fileNameArg = (String) args.get(0);
+                try {
+                  String output = api.beginFileAttachment(fileNameArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.appendFileAttachmentChunk", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String idArg = (String) args.get(0);
+                byte[] chunkArg = (byte[]) args.get(1);
+                try {
+                  api.appendFileAttachmentChunk(idArg, chunkArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.finishFileAttachment", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String idArg = (String) args.get(0);
+                try {
+                  api.finishFileAttachment(idArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.abortFileAttachment", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String idArg = (String) args.get(0);
+                try {
+                  api.abortFileAttachment(idArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.clearFileAttachments", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1023,7 +1860,7 @@ public class InstabugPigeon {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.networkLog", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.networkLog", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1034,6 +1871,52 @@ public class InstabugPigeon {
                   api.networkLog(dataArg);
                   wrapped.add(0, null);
                 }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.logNetworkEntry", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                NetworkEntry entryArg = (NetworkEntry) args.get(0);
+                try {
+                  api.logNetworkEntry(entryArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.instabug_flutter.InstabugHostApi.getBridgeStats", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  List<BridgeMethodStats> output = api.getBridgeStats();
+                  wrapped.add(0, output);
+                }
  catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
                   wrapped = wrappedError;
@@ -78,7 +78,7 @@ public class RepliesPigeon {
     }
     /** The codec used by RepliesFlutterApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return StandardMessageCodec.INSTANCE;
     }
     public void onNewReply(@NonNull Reply<Void> callback) {
       BasicMessageChannel<Object> channel =
@@ -108,7 +108,7 @@ public class RepliesPigeon {
 
     /** The codec used by RepliesHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return StandardMessageCodec.INSTANCE;
     }
     /**Sets up an instance of `RepliesHostApi` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable RepliesHostApi api) {
@@ -78,7 +78,7 @@ public class SessionReplayPigeon {
 
     /** The codec used by SessionReplayHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return StandardMessageCodec.INSTANCE;
     }
     /**Sets up an instance of `SessionReplayHostApi` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable SessionReplayHostApi api) {
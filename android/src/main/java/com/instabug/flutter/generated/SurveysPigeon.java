@@ -78,7 +78,7 @@ public class SurveysPigeon {
     }
     /** The codec used by SurveysFlutterApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return StandardMessageCodec.INSTANCE;
     }
     public void onShowSurvey(@NonNull Reply<Void> callback) {
       BasicMessageChannel<Object> channel =
@@ -122,7 +122,7 @@ public class SurveysPigeon {
 
     /** The codec used by SurveysHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return StandardMessageCodec.INSTANCE;
     }
     /**Sets up an instance of `SurveysHostApi` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable SurveysHostApi api) {
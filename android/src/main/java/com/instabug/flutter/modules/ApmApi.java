@@ -4,6 +4,7 @@ import android.util.Log;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 import com.instabug.apm.APM;
 import com.instabug.apm.InternalAPM;
@@ -12,32 +13,109 @@ import com.instabug.apm.configuration.cp.FeatureAvailabilityCallback;
 import com.instabug.apm.model.ExecutionTrace;
 import com.instabug.apm.networking.APMNetworkLogger;
 import com.instabug.flutter.generated.ApmPigeon;
-import com.instabug.flutter.util.Reflection;
+import com.instabug.flutter.generated.InstabugPigeon;
+import com.instabug.flutter.util.ApmFeatureCache;
+import com.instabug.flutter.util.ExecutionTraceRegistry;
+import com.instabug.flutter.util.HeadersEncoder;
+import com.instabug.flutter.util.NetworkLogQueue;
+import com.instabug.flutter.util.SdkInvokers;
 import com.instabug.flutter.util.ThreadManager;
-import com.instabug.apm.networkinterception.cp.APMCPNetworkLog;
 
 import io.flutter.plugin.common.BinaryMessenger;
 
 import org.jetbrains.annotations.NotNull;
-import org.json.JSONObject;
 
-import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class ApmApi implements ApmPigeon.ApmHostApi {
     private final String TAG = ApmApi.class.getName();
-    private final HashMap<String, ExecutionTrace> traces = new HashMap<>();
+
+    // The keys of the features sent to Dart, matching FlagsConfig.key on the Dart side.
+    public static final String FEATURE_APM = "apm";
+    public static final String FEATURE_SCREEN_LOADING = "screenLoading";
+    public static final String FEATURE_END_SCREEN_LOADING = "endScreenLoading";
+    private final ExecutionTraceRegistry traces;
+    private final ApmFeatureCache features;
+
+    // Calls on execution traces whose non-blocking start is still in progress,
+    // applied in order once the trace is started.
+    private final HashMap<String, List<Runnable>> pendingTraceCalls = new HashMap<>();
 
     public static void init(BinaryMessenger messenger) {
-        final ApmApi api = new ApmApi();
-        ApmPigeon.ApmHostApi.setup(messenger, api);
+        ApmPigeon.ApmHostApi.setup(messenger, create(messenger));
+        listenToFeatures(messenger, messenger);
+    }
+
+    public static ApmApi create(BinaryMessenger messenger) {
+        return new ApmApi();
+    }
+
+    /**
+     * Sends the APM feature availability changes to an engine's Dart side. Installed when
+     * the module is built, until then Dart queries the availability through the host API,
+     * which builds the module.
+     *
+     * @param engine    the key of the engine, see {@link #stopListeningToFeatures(Object)}
+     * @param messenger the messenger to send the changes through
+     */
+    public static void listenToFeatures(@NonNull Object engine, @NonNull BinaryMessenger messenger) {
+        listenToFeatures(engine, new ApmPigeon.ApmFlutterApi(messenger), ApmFeatureCache.getInstance());
+    }
+
+    @VisibleForTesting
+    public static void listenToFeatures(@NonNull Object engine, @NonNull ApmPigeon.ApmFlutterApi flutterApi, @NonNull ApmFeatureCache features) {
+        features.setListener(engine, new ApmFeatureCache.Listener() {
+            @Override
+            public void onAvailabilityChanged(@NonNull APMFeature feature, boolean isAvailable) {
+                if (feature == APMFeature.SCREEN_LOADING) {
+                    // End screen loading is available along with screen loading on Android.
+                    notifyFeatureAvailability(flutterApi, FEATURE_SCREEN_LOADING, isAvailable);
+                    notifyFeatureAvailability(flutterApi, FEATURE_END_SCREEN_LOADING, isAvailable);
+                }
+            }
+        });
+        // Doesn't change until the Android SDK exposes whether APM is enabled, see isEnabled.
+        notifyFeatureAvailability(flutterApi, FEATURE_APM, isApmEnabled());
+    }
+
+    /**
+     * Stops sending the APM feature availability changes to an engine, once it's detached.
+     */
+    public static void stopListeningToFeatures(@NonNull Object engine) {
+        ApmFeatureCache.getInstance().setListener(engine, null);
+    }
+
+    public ApmApi() {
+        this(ExecutionTraceRegistry.getInstance(), ApmFeatureCache.getInstance());
+    }
+
+    @VisibleForTesting
+    public ApmApi(ExecutionTraceRegistry traces, ApmFeatureCache features) {
+        this.traces = traces;
+        this.features = features;
+    }
+
+    private static void notifyFeatureAvailability(@NonNull ApmPigeon.ApmFlutterApi flutterApi, @NonNull String feature, boolean isAvailable) {
+        ThreadManager.runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                flutterApi.onFeatureAvailabilityChanged(feature, isAvailable, new ApmPigeon.ApmFlutterApi.Reply<Void>() {
+                    @Override
+                    public void reply(Void reply) {
+                    }
+                });
+            }
+        });
     }
 
     @Override
     public void setEnabled(@NonNull Boolean isEnabled) {
         try {
             APM.setEnabled(isEnabled);
+            features.refresh();
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -63,7 +141,7 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
 
     @Override
     public void startExecutionTrace(@NonNull String id, @NonNull String name, ApmPigeon.Result<String> result) {
-        ThreadManager.runOnBackground(
+        ThreadManager.runOnBackgroundSerially(
                 new Runnable() {
                     @Override
                     public void run() {
@@ -101,6 +179,59 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
         );
     }
 
+    @Override
+    public void startExecutionTraceNonBlocking(@NonNull String id, @NonNull String name) {
+        synchronized (pendingTraceCalls) {
+            pendingTraceCalls.put(id, new ArrayList<Runnable>());
+        }
+
+        ThreadManager.runOnBackgroundSerially(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        ExecutionTrace trace = null;
+                        try {
+                            trace = APM.startExecutionTrace(name);
+                        } catch (Exception e) {
+                            e.printStackTrace();
+                        }
+
+                        synchronized (pendingTraceCalls) {
+                            final List<Runnable> calls = pendingTraceCalls.remove(id);
+
+                            if (trace == null) {
+                                Log.w(TAG, "Execution trace " + name + " wasn't created. Please make sure to enable APM first");
+                                return;
+                            }
+
+                            traces.put(id, trace);
+                            // Applied while holding the lock, so calls arriving meanwhile
+                            // wait for the queued ones instead of overtaking them.
+                            for (Runnable call : calls) {
+                                call.run();
+                            }
+                        }
+                    }
+                }
+        );
+    }
+
+    /**
+     * Queues a call on an execution trace if its non-blocking start is still in progress.
+     *
+     * @return true if the call was queued, false if it should be applied right away
+     */
+    private boolean deferIfPending(@NonNull String id, @NonNull Runnable call) {
+        synchronized (pendingTraceCalls) {
+            final List<Runnable> calls = pendingTraceCalls.get(id);
+            if (calls == null) {
+                return false;
+            }
+            calls.add(call);
+            return true;
+        }
+    }
+
     @Override
     public void startFlow(@NonNull String name) {
         try {
@@ -119,6 +250,17 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
         }
     }
 
+    @Override
+    public void setFlowAttributes(@NonNull String name, @NonNull Map<String, String> attributes) {
+        try {
+            for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                APM.setFlowAttribute(name, attribute.getKey(), attribute.getValue());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
     @Override
     public void endFlow(@NonNull String name) {
         try {
@@ -130,17 +272,82 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
 
     @Override
     public void setExecutionTraceAttribute(@NonNull String id, @NonNull String key, @NonNull String value) {
+        final boolean deferred = deferIfPending(id, new Runnable() {
+            @Override
+            public void run() {
+                applyExecutionTraceAttribute(id, key, value);
+            }
+        });
+
+        if (!deferred) {
+            applyExecutionTraceAttribute(id, key, value);
+        }
+    }
+
+    @Override
+    public void setExecutionTraceAttributes(@NonNull String id, @NonNull Map<String, String> attributes) {
+        final boolean deferred = deferIfPending(id, new Runnable() {
+            @Override
+            public void run() {
+                applyExecutionTraceAttributes(id, attributes);
+            }
+        });
+
+        if (!deferred) {
+            applyExecutionTraceAttributes(id, attributes);
+        }
+    }
+
+    @Override
+    public void endExecutionTrace(@NonNull String id) {
+        final boolean deferred = deferIfPending(id, new Runnable() {
+            @Override
+            public void run() {
+                applyEndExecutionTrace(id);
+            }
+        });
+
+        if (!deferred) {
+            applyEndExecutionTrace(id);
+        }
+    }
+
+    private void applyExecutionTraceAttribute(@NonNull String id, @NonNull String key, @NonNull String value) {
         try {
-            traces.get(id).setAttribute(key, value);
+            final ExecutionTrace trace = traces.get(id);
+            if (trace == null) {
+                Log.w(TAG, "Execution trace " + id + " wasn't found, it might have been ended or expired");
+                return;
+            }
+            trace.setAttribute(key, value);
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
-    @Override
-    public void endExecutionTrace(@NonNull String id) {
+    private void applyExecutionTraceAttributes(@NonNull String id, @NonNull Map<String, String> attributes) {
+        try {
+            final ExecutionTrace trace = traces.get(id);
+            if (trace == null) {
+                Log.w(TAG, "Execution trace " + id + " wasn't found, it might have been ended or expired");
+                return;
+            }
+            for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                trace.setAttribute(attribute.getKey(), attribute.getValue());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void applyEndExecutionTrace(@NonNull String id) {
         try {
-            traces.get(id).end();
+            final ExecutionTrace trace = traces.remove(id);
+            if (trace == null) {
+                Log.w(TAG, "Execution trace " + id + " wasn't found, it might have been ended or expired");
+                return;
+            }
+            trace.end();
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -175,62 +382,99 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
 
     @Override
     public void networkLogAndroid(@NonNull Map<String, Object> data) {
-        try {
-            APMNetworkLogger apmNetworkLogger = new APMNetworkLogger();
-            final String requestUrl = (String) data.get("url");
-            final String requestBody = (String) data.get("requestBody");
-            final String responseBody = (String) data.get("responseBody");
-            final String requestMethod = (String) data.get("method");
-            //--------------------------------------------
-            final String requestContentType = (String) data.get("requestContentType");
-            final String responseContentType = (String) data.get("responseContentType");
-            //--------------------------------------------
-            final long requestBodySize = ((Number) data.get("requestBodySize")).longValue();
-            final long responseBodySize = ((Number) data.get("responseBodySize")).longValue();
-            //--------------------------------------------
-            final String errorDomain = (String) data.get("errorDomain");
-            final Integer statusCode = (Integer) data.get("responseCode");
-            final long requestDuration = ((Number) data.get("duration")).longValue() / 1000;
-            final long requestStartTime = ((Number) data.get("startTime")).longValue() * 1000;
-            final String requestHeaders = (new JSONObject((HashMap<String, String>) data.get("requestHeaders"))).toString(4);
-            final String responseHeaders = (new JSONObject((HashMap<String, String>) data.get("responseHeaders"))).toString(4);
-            final String errorMessage;
-
-            if (errorDomain.equals("")) {
-                errorMessage = null;
-            } else {
-                errorMessage = errorDomain;
-            }
-            //--------------------------------------------------
-            String gqlQueryName = null;
-            if (data.containsKey("gqlQueryName")) {
-                gqlQueryName = (String) data.get("gqlQueryName");
-            }
-            String serverErrorMessage = "";
-            if (data.containsKey("serverErrorMessage")) {
-                serverErrorMessage = (String) data.get("serverErrorMessage");
-            }
+        NetworkLogQueue.submit(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    APMNetworkLogger apmNetworkLogger = new APMNetworkLogger();
+                    final String requestUrl = (String) data.get("url");
+                    final String requestBody = (String) data.get("requestBody");
+                    final String responseBody = (String) data.get("responseBody");
+                    final String requestMethod = (String) data.get("method");
+                    //--------------------------------------------
+                    final String requestContentType = (String) data.get("requestContentType");
+                    final String responseContentType = (String) data.get("responseContentType");
+                    //--------------------------------------------
+                    final long requestBodySize = ((Number) data.get("requestBodySize")).longValue();
+                    final long responseBodySize = ((Number) data.get("responseBodySize")).longValue();
+                    //--------------------------------------------
+                    final String errorDomain = (String) data.get("errorDomain");
+                    final Integer statusCode = (Integer) data.get("responseCode");
+                    final long requestDuration = ((Number) data.get("duration")).longValue() / 1000;
+                    final long requestStartTime = ((Number) data.get("startTime")).longValue() * 1000;
+                    final String requestHeaders = HeadersEncoder.encode((Map<String, String>) data.get("requestHeaders"));
+                    final String responseHeaders = HeadersEncoder.encode((Map<String, String>) data.get("responseHeaders"));
+                    final String errorMessage;
+
+                    if (errorDomain.equals("")) {
+                        errorMessage = null;
+                    } else {
+                        errorMessage = errorDomain;
+                    }
+                    //--------------------------------------------------
+                    String gqlQueryName = null;
+                    if (data.containsKey("gqlQueryName")) {
+                        gqlQueryName = (String) data.get("gqlQueryName");
+                    }
+                    String serverErrorMessage = "";
+                    if (data.containsKey("serverErrorMessage")) {
+                        serverErrorMessage = (String) data.get("serverErrorMessage");
+                    }
+
+                    logNetworkRequest(apmNetworkLogger, requestStartTime, requestDuration, requestHeaders, requestBody, requestBodySize, requestMethod, requestUrl, requestContentType, responseHeaders, responseBody, responseBodySize, statusCode, responseContentType, errorMessage, gqlQueryName, serverErrorMessage);
 
-            Method method = Reflection.getMethod(Class.forName("com.instabug.apm.networking.APMNetworkLogger"), "log", long.class, long.class, String.class, String.class, long.class, String.class, String.class, String.class, String.class, String.class, long.class, int.class, String.class, String.class, String.class, String.class, APMCPNetworkLog.W3CExternalTraceAttributes.class);
-            if (method != null) {
-                method.invoke(apmNetworkLogger, requestStartTime, requestDuration, requestHeaders, requestBody, requestBodySize, requestMethod, requestUrl, requestContentType, responseHeaders, responseBody, responseBodySize, statusCode, responseContentType, errorMessage, gqlQueryName, serverErrorMessage, null);
-            } else {
-                Log.e(TAG, "APMNetworkLogger.log was not found by reflection");
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
             }
+        });
+    }
 
+    /**
+     * Logs a network request sent through {@link InstabugApi#logNetworkEntry(InstabugPigeon.NetworkEntry)}
+     * to APM, the entry is decoded once and shared with the Bug Reporting network log.
+     * Called from the {@link NetworkLogQueue} workers.
+     */
+    public static void logNetworkEntry(@NonNull InstabugPigeon.NetworkEntry entry) {
+        try {
+            final String errorDomain = entry.getErrorDomain();
+            final String errorMessage = errorDomain.equals("") ? null : errorDomain;
+            final String serverErrorMessage = entry.getServerErrorMessage() == null ? "" : entry.getServerErrorMessage();
+            final Integer statusCode = entry.getResponseCode() == null ? 0 : entry.getResponseCode().intValue();
+            final long requestDuration = entry.getDuration() == null ? 0 : entry.getDuration() / 1000;
+            final long requestStartTime = entry.getStartTime() * 1000;
+            final String requestHeaders = HeadersEncoder.encode(entry.getRequestHeaders());
+            final String responseHeaders = HeadersEncoder.encode(entry.getResponseHeaders());
+
+            logNetworkRequest(new APMNetworkLogger(), requestStartTime, requestDuration, requestHeaders, entry.getRequestBody(), entry.getRequestBodySize(), entry.getMethod(), entry.getUrl(), entry.getRequestContentType(), responseHeaders, entry.getResponseBody(), entry.getResponseBodySize(), statusCode, entry.getResponseContentType(), errorMessage, entry.getGqlQueryName(), serverErrorMessage);
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
+    private static void logNetworkRequest(APMNetworkLogger apmNetworkLogger, long requestStartTime, long requestDuration, String requestHeaders, String requestBody, long requestBodySize, String requestMethod, String requestUrl, String requestContentType, String responseHeaders, String responseBody, long responseBodySize, Integer statusCode, String responseContentType, String errorMessage, String gqlQueryName, String serverErrorMessage) throws Exception {
+        SdkInvokers.apmNetworkLog.invoke(apmNetworkLogger, requestStartTime, requestDuration, requestHeaders, requestBody, requestBodySize, requestMethod, requestUrl, requestContentType, responseHeaders, responseBody, responseBodySize, statusCode, responseContentType, errorMessage, gqlQueryName, serverErrorMessage, null);
+    }
+
 
     @Override
     public void startCpUiTrace(@NonNull String screenName, @NonNull Long microTimeStamp, @NonNull Long traceId) {
+        startUiTrace(screenName, microTimeStamp, traceId);
+    }
+
+    /**
+     * Starts a UI trace for a screen loading trace, shared with
+     * {@link InstabugApi#onRouteTransition(String, String, Long, Long)}.
+     * Also refreshes the cached features availability if it's stale, since routes
+     * are the most frequent APM calls.
+     */
+    public static void startUiTrace(@NonNull String screenName, long microTimeStamp, long traceId) {
         try {
             InternalAPM._startUiTraceCP(screenName, microTimeStamp, traceId);
         } catch (Exception e) {
             e.printStackTrace();
         }
+        ApmFeatureCache.getInstance().refreshIfStale();
     }
 
     @Override
@@ -259,18 +503,22 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
     @Override
     public void isEnabled(@NonNull ApmPigeon.Result<Boolean> result) {
         try {
-            // TODO: replace true with an actual implementation of APM.isEnabled once implemented
-            // in the Android SDK.
-            result.success(true);
+            result.success(isApmEnabled());
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
+    private static boolean isApmEnabled() {
+        // TODO: replace true with an actual implementation of APM.isEnabled once implemented
+        // in the Android SDK.
+        return true;
+    }
+
     @Override
     public void isScreenLoadingEnabled(@NonNull ApmPigeon.Result<Boolean> result) {
         try {
-            InternalAPM._isFeatureEnabledCP(APMFeature.SCREEN_LOADING, "InstabugCaptureScreenLoading", new FeatureAvailabilityCallback() {
+            features.isAvailable(APMFeature.SCREEN_LOADING, "InstabugCaptureScreenLoading", new FeatureAvailabilityCallback() {
                 @Override
                 public void invoke(boolean isFeatureAvailable) {
                     result.success(isFeatureAvailable);
@@ -285,6 +533,7 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
     public void setScreenLoadingEnabled(@NonNull Boolean isEnabled) {
         try {
             APM.setScreenLoadingEnabled(isEnabled);
+            features.refresh();
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -8,6 +8,7 @@ import androidx.annotation.Nullable;
 import com.instabug.bug.BugReporting;
 import com.instabug.flutter.generated.BugReportingPigeon;
 import com.instabug.flutter.util.ArgsRegistry;
+import com.instabug.flutter.util.AttachmentDigestIndex;
 import com.instabug.flutter.util.ThreadManager;
 import com.instabug.library.Feature;
 import com.instabug.library.OnSdkDismissCallback;
@@ -24,16 +25,53 @@ import io.flutter.plugin.common.BinaryMessenger;
 public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
     private final BugReportingPigeon.BugReportingFlutterApi flutterApi;
 
+    // The Dart side the SDK's dismissals are sent to, once it binds the dismiss callback.
+    @Nullable
+    private static volatile BugReportingPigeon.BugReportingFlutterApi dismissListener;
+
     public static void init(BinaryMessenger messenger) {
+        BugReportingPigeon.BugReportingHostApi.setup(messenger, create(messenger));
+    }
+
+    public static BugReportingApi create(BinaryMessenger messenger) {
         final BugReportingPigeon.BugReportingFlutterApi flutterApi = new BugReportingPigeon.BugReportingFlutterApi(messenger);
-        final BugReportingApi api = new BugReportingApi(flutterApi);
-        BugReportingPigeon.BugReportingHostApi.setup(messenger, api);
+        return new BugReportingApi(flutterApi);
     }
 
     public BugReportingApi(BugReportingPigeon.BugReportingFlutterApi flutterApi) {
         this.flutterApi = flutterApi;
     }
 
+    /**
+     * Sets the SDK's dismiss callback, which forgets the attachment digests when a report
+     * is dismissed, since the SDK drops the file attachments along with the report, and
+     * sends the dismissal to Dart once it binds the callback. The SDK holds a single
+     * callback, so it's installed both when the SDK is built and when Dart binds it.
+     */
+    public static void installDismissCallback() {
+        BugReporting.setOnDismissCallback(new OnSdkDismissCallback() {
+            @Override
+            public void call(DismissType dismissType, ReportType reportType) {
+                AttachmentDigestIndex.getInstance().clear();
+
+                final BugReportingPigeon.BugReportingFlutterApi listener = dismissListener;
+                if (listener == null) {
+                    return;
+                }
+                ThreadManager.runOnMainThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        listener.onSdkDismiss(dismissType.toString(), reportType.toString(), new BugReportingPigeon.BugReportingFlutterApi.Reply<Void>() {
+                            @Override
+                            public void reply(Void reply) {
+                            }
+                        });
+                    }
+                });
+            }
+        });
+    }
+
     @Override
     public void setEnabled(@NonNull Boolean isEnabled) {
         if (isEnabled) {
@@ -152,21 +190,8 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
 
     @Override
     public void bindOnDismissCallback() {
-        BugReporting.setOnDismissCallback(new OnSdkDismissCallback() {
-            @Override
-            public void call(DismissType dismissType, ReportType reportType) {
-                ThreadManager.runOnMainThread(new Runnable() {
-                    @Override
-                    public void run() {
-                        flutterApi.onSdkDismiss(dismissType.toString(), reportType.toString(), new BugReportingPigeon.BugReportingFlutterApi.Reply<Void>() {
-                            @Override
-                            public void reply(Void reply) {
-                            }
-                        });
-                    }
-                });
-            }
-        });
+        dismissListener = flutterApi;
+        installDismissCallback();
     }
 
     @Override
@@ -9,12 +9,11 @@ import com.instabug.crash.CrashReporting;
 import com.instabug.crash.models.IBGNonFatalException;
 import com.instabug.flutter.generated.CrashReportingPigeon;
 import com.instabug.flutter.util.ArgsRegistry;
-import com.instabug.flutter.util.Reflection;
+import com.instabug.flutter.util.SdkInvokers;
 import com.instabug.library.Feature;
 
 import org.json.JSONObject;
 
-import java.lang.reflect.Method;
 import java.util.Map;
 
 import io.flutter.plugin.common.BinaryMessenger;
@@ -23,8 +22,11 @@ public class CrashReportingApi implements CrashReportingPigeon.CrashReportingHos
     private final String TAG = CrashReportingApi.class.getName();
 
     public static void init(BinaryMessenger messenger) {
-        final CrashReportingApi api = new CrashReportingApi();
-        CrashReportingPigeon.CrashReportingHostApi.setup(messenger, api);
+        CrashReportingPigeon.CrashReportingHostApi.setup(messenger, create(messenger));
+    }
+
+    public static CrashReportingApi create(BinaryMessenger messenger) {
+        return new CrashReportingApi();
     }
 
     @Override
@@ -40,11 +42,7 @@ public class CrashReportingApi implements CrashReportingPigeon.CrashReportingHos
     public void send(@NonNull String jsonCrash, @NonNull Boolean isHandled) {
         try {
             final JSONObject exceptionObject = new JSONObject(jsonCrash);
-            Method method = Reflection.getMethod(Class.forName("com.instabug.crash.CrashReporting"), "reportException",
-                    JSONObject.class, boolean.class);
-            if (method != null) {
-                method.invoke(null, exceptionObject, isHandled);
-            }
+            SdkInvokers.reportException.invoke(null, exceptionObject, isHandled);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -53,8 +51,6 @@ public class CrashReportingApi implements CrashReportingPigeon.CrashReportingHos
     @Override
     public void sendNonFatalError(@NonNull String jsonCrash, @Nullable Map<String, String> userAttributes, @Nullable String fingerprint, @NonNull String nonFatalExceptionLevel) {
         try {
-            Method method = Reflection.getMethod(Class.forName("com.instabug.crash.CrashReporting"), "reportException", JSONObject.class, boolean.class,
-                    Map.class, JSONObject.class, IBGNonFatalException.Level.class);
             final JSONObject exceptionObject = new JSONObject(jsonCrash);
 
             JSONObject fingerprintObj = null;
@@ -62,9 +58,7 @@ public class CrashReportingApi implements CrashReportingPigeon.CrashReportingHos
                 fingerprintObj = getFingerprintObject(fingerprint);
             }
             IBGNonFatalException.Level nonFatalExceptionLevelType = ArgsRegistry.nonFatalExceptionLevel.get(nonFatalExceptionLevel);
-            if (method != null) {
-                method.invoke(null, exceptionObject, true, userAttributes, fingerprintObj, nonFatalExceptionLevelType);
-            }
+            SdkInvokers.reportNonFatalException.invoke(null, exceptionObject, true, userAttributes, fingerprintObj, nonFatalExceptionLevelType);
         } catch (Exception e) {
             e.printStackTrace();
         }
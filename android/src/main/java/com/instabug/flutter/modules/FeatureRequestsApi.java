@@ -15,8 +15,11 @@ import io.flutter.plugin.common.BinaryMessenger;
 public class FeatureRequestsApi implements FeatureRequestsPigeon.FeatureRequestsHostApi {
 
     public static void init(BinaryMessenger messenger) {
-        final FeatureRequestsApi api = new FeatureRequestsApi();
-        FeatureRequestsPigeon.FeatureRequestsHostApi.setup(messenger, api);
+        FeatureRequestsPigeon.FeatureRequestsHostApi.setup(messenger, create(messenger));
+    }
+
+    public static FeatureRequestsApi create(BinaryMessenger messenger) {
+        return new FeatureRequestsApi();
     }
 
     @Override
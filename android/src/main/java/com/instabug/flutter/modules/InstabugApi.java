@@ -3,7 +3,6 @@ package com.instabug.flutter.modules;
 import android.app.Application;
 import android.content.Context;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.net.Uri;
 import android.util.Log;
 import androidx.annotation.NonNull;
@@ -11,7 +10,15 @@ import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.instabug.flutter.generated.InstabugPigeon;
 import com.instabug.flutter.util.ArgsRegistry;
-import com.instabug.flutter.util.Reflection;
+import com.instabug.flutter.util.AssetBitmapCache;
+import com.instabug.flutter.util.AttachmentDigestIndex;
+import com.instabug.flutter.util.BridgeStats;
+import com.instabug.flutter.util.ChunkedFileAttachments;
+import com.instabug.flutter.util.HeadersEncoder;
+import com.instabug.flutter.util.NetworkLogQueue;
+import com.instabug.flutter.util.ScreenshotFrameCache;
+import com.instabug.flutter.util.SdkInvokers;
+import com.instabug.flutter.util.SdkStartup;
 import com.instabug.flutter.util.ThreadManager;
 import com.instabug.library.Feature;
 import com.instabug.library.Instabug;
@@ -29,44 +36,66 @@ import io.flutter.FlutterInjector;
 import io.flutter.embedding.engine.loader.FlutterLoader;
 import io.flutter.plugin.common.BinaryMessenger;
 import org.jetbrains.annotations.NotNull;
-import org.json.JSONObject;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 public class InstabugApi implements InstabugPigeon.InstabugHostApi {
     private final String TAG = InstabugApi.class.getName();
     private final Context context;
     private final Callable<Bitmap> screenshotProvider;
+    private final ChunkedFileAttachments attachments;
+    private final AttachmentDigestIndex attachmentDigests;
+    private final SdkStartup startup;
+    private final boolean buildInBackground;
+    private final boolean multiplexedChannel;
     private final InstabugCustomTextPlaceHolder placeHolder = new InstabugCustomTextPlaceHolder();
 
     public static void init(BinaryMessenger messenger, Context context, Callable<Bitmap> screenshotProvider) {
-        final InstabugApi api = new InstabugApi(context, screenshotProvider);
+        init(messenger, context, screenshotProvider, false, false);
+    }
+
+    /**
+     * @param buildInBackground  whether {@link #init} builds the SDK in the background, see {@link SdkStartup}
+     * @param multiplexedChannel whether the messenger is a {@link com.instabug.flutter.util.DispatchMessenger},
+     *                           reported to Dart so it sends its calls on the right channels
+     */
+    public static void init(BinaryMessenger messenger, Context context, Callable<Bitmap> screenshotProvider, boolean buildInBackground, boolean multiplexedChannel) {
+        final InstabugApi api = new InstabugApi(context, screenshotProvider, buildInBackground, multiplexedChannel);
         InstabugPigeon.InstabugHostApi.setup(messenger, api);
     }
 
     public InstabugApi(Context context, Callable<Bitmap> screenshotProvider) {
+        this(context, screenshotProvider, false, false);
+    }
+
+    public InstabugApi(Context context, Callable<Bitmap> screenshotProvider, boolean buildInBackground, boolean multiplexedChannel) {
+        this(context, screenshotProvider, new ChunkedFileAttachments(new File(context.getCacheDir(), "instabug-flutter-attachments")), AttachmentDigestIndex.getInstance(), SdkStartup.getInstance(), buildInBackground, multiplexedChannel);
+    }
+
+    @VisibleForTesting
+    public InstabugApi(Context context, Callable<Bitmap> screenshotProvider, ChunkedFileAttachments attachments, AttachmentDigestIndex attachmentDigests, SdkStartup startup, boolean buildInBackground, boolean multiplexedChannel) {
         this.context = context;
         this.screenshotProvider = screenshotProvider;
+        this.attachments = attachments;
+        this.attachmentDigests = attachmentDigests;
+        this.startup = startup;
+        this.buildInBackground = buildInBackground;
+        this.multiplexedChannel = multiplexedChannel;
     }
 
     @VisibleForTesting
     public void setCurrentPlatform() {
         try {
-            Method method = Reflection.getMethod(Class.forName("com.instabug.library.Instabug"), "setCurrentPlatform", int.class);
-            if (method != null) {
-                method.invoke(null, Platform.FLUTTER);
-            } else {
-                Log.e(TAG, "setCurrentPlatform was not found by reflection");
-            }
+            SdkInvokers.setCurrentPlatform.invoke(null, Platform.FLUTTER);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -94,6 +123,12 @@ public class InstabugApi implements InstabugPigeon.InstabugHostApi {
     @Override
     public Boolean isBuilt() { return Instabug.isBuilt(); }
 
+    @NotNull
+    @Override
+    public Boolean isMultiplexedChannelEnabled() {
+        return multiplexedChannel;
+    }
+
     @Override
     public void init(@NonNull String token, @NonNull List<String> invocationEvents, @NonNull String debugLogsLevel) {
         setCurrentPlatform();
@@ -107,12 +142,28 @@ public class InstabugApi implements InstabugPigeon.InstabugHostApi {
         final Application application = (Application) context;
         final int parsedLogLevel = ArgsRegistry.sdkLogLevels.get(debugLogsLevel);
 
-        new Instabug.Builder(application, token)
-                .setInvocationEvents(invocationEventsArray)
-                .setSdkDebugLogsLevel(parsedLogLevel)
-                .build();
+        startup.start(() -> {
+            new Instabug.Builder(application, token)
+                    .setInvocationEvents(invocationEventsArray)
+                    .setSdkDebugLogsLevel(parsedLogLevel)
+                    .build();
 
-        Instabug.setScreenshotProvider(screenshotProvider);
+            Instabug.setScreenshotProvider(screenshotProvider);
+            BugReportingApi.installDismissCallback();
+        }, buildInBackground);
+    }
+
+    @Override
+    public void waitForInit(InstabugPigeon.Result<Map<String, Long>> result) {
+        startup.whenReady(() -> {
+            final Map<String, Long> timing = new HashMap<>();
+            timing.put("buildDurationMs", TimeUnit.NANOSECONDS.toMillis(startup.getBuildDuration()));
+            timing.put("replayDurationMs", TimeUnit.NANOSECONDS.toMillis(startup.getReplayDuration()));
+            timing.put("budgetMs", TimeUnit.NANOSECONDS.toMillis(startup.getBudget()));
+            timing.put("replayedCalls", startup.getReplayedCount());
+            timing.put("droppedCalls", startup.getDroppedCount());
+            result.success(timing);
+        });
     }
 
     @Override
@@ -128,22 +179,22 @@ public class InstabugApi implements InstabugPigeon.InstabugHostApi {
 
     @Override
     public void identifyUser(@NonNull String email, @Nullable String name, @Nullable String userId) {
-        Instabug.identifyUser(name, email, userId);
+        startup.run(() -> Instabug.identifyUser(name, email, userId));
     }
 
     @Override
     public void setUserData(@NonNull String data) {
-        Instabug.setUserData(data);
+        startup.run(() -> Instabug.setUserData(data));
     }
 
     @Override
     public void logUserEvent(@NonNull String name) {
-        Instabug.logUserEvent(name);
+        startup.run(() -> Instabug.logUserEvent(name));
     }
 
     @Override
     public void logOut() {
-        Instabug.logoutUser();
+        startup.run(() -> Instabug.logoutUser());
     }
 
     @Override
@@ -191,46 +242,32 @@ public class InstabugApi implements InstabugPigeon.InstabugHostApi {
 
     @Override
     public void appendTags(@NonNull List<String> tags) {
-        Instabug.addTags(tags.toArray(new String[0]));
+        startup.run(() -> Instabug.addTags(tags.toArray(new String[0])));
     }
 
     @Override
     public void resetTags() {
-        Instabug.resetTags();
+        startup.run(() -> Instabug.resetTags());
     }
 
     @Override
     public void getTags(InstabugPigeon.Result<List<String>> result) {
-        ThreadManager.runOnBackground(
-                new Runnable() {
-                    @Override
-                    public void run() {
-                        final List<String> tags = Instabug.getTags();
-
-                        ThreadManager.runOnMainThread(new Runnable() {
-                            @Override
-                            public void run() {
-                                result.success(tags);
-                            }
-                        });
-                    }
-                }
-        );
+        result.success(Instabug.getTags());
     }
 
     @Override
     public void addExperiments(@NonNull List<String> experiments) {
-        Instabug.addExperiments(experiments);
+        startup.run(() -> Instabug.addExperiments(experiments));
     }
 
     @Override
     public void removeExperiments(@NonNull List<String> experiments) {
-        Instabug.removeExperiments(experiments);
+        startup.run(() -> Instabug.removeExperiments(experiments));
     }
 
     @Override
     public void clearAllExperiments() {
-        Instabug.clearAllExperiments();
+        startup.run(() -> Instabug.clearAllExperiments());
     }
 
     @Override
@@ -240,7 +277,7 @@ public class InstabugApi implements InstabugPigeon.InstabugHostApi {
             for (Map.Entry<String, String> entry : featureFlags.entrySet()) {
                 features.add(new IBGFeatureFlag(entry.getKey(), entry.getValue().isEmpty() ? null : entry.getValue()));
             }
-            Instabug.addFeatureFlags(features);
+            startup.run(() -> Instabug.addFeatureFlags(features));
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -249,7 +286,7 @@ public class InstabugApi implements InstabugPigeon.InstabugHostApi {
     @Override
     public void removeFeatureFlags(@NonNull List<String> featureFlags) {
         try {
-            Instabug.removeFeatureFlag(featureFlags);
+            startup.run(() -> Instabug.removeFeatureFlag(featureFlags));
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -258,7 +295,7 @@ public class InstabugApi implements InstabugPigeon.InstabugHostApi {
     @Override
     public void removeAllFeatureFlags() {
         try {
-            Instabug.removeAllFeatureFlags();
+            startup.run(() -> Instabug.removeAllFeatureFlags());
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -266,51 +303,23 @@ public class InstabugApi implements InstabugPigeon.InstabugHostApi {
 
     @Override
     public void setUserAttribute(@NonNull String value, @NonNull String key) {
-        Instabug.setUserAttribute(key, value);
+        startup.run(() -> Instabug.setUserAttribute(key, value));
     }
 
     @Override
     public void removeUserAttribute(@NonNull String key) {
-        Instabug.removeUserAttribute(key);
+        startup.run(() -> Instabug.removeUserAttribute(key));
     }
 
 
     @Override
     public void getUserAttributeForKey(@NonNull String key, InstabugPigeon.Result<String> result) {
-        ThreadManager.runOnBackground(
-                new Runnable() {
-                    @Override
-                    public void run() {
-                        final String attribute = Instabug.getUserAttribute(key);
-
-                        ThreadManager.runOnMainThread(new Runnable() {
-                            @Override
-                            public void run() {
-                                result.success(attribute);
-                            }
-                        });
-                    }
-                }
-        );
+        result.success(Instabug.getUserAttribute(key));
     }
 
     @Override
     public void getUserAttributes(InstabugPigeon.Result<Map<String, String>> result) {
-        ThreadManager.runOnBackground(
-                new Runnable() {
-                    @Override
-                    public void run() {
-                        final Map<String, String> attributes = Instabug.getAllUserAttributes();
-
-                        ThreadManager.runOnMainThread(new Runnable() {
-                            @Override
-                            public void run() {
-                                result.success(attributes);
-                            }
-                        });
-                    }
-                }
-        );
+        result.success(Instabug.getAllUserAttributes());
     }
 
     @Override
@@ -343,53 +352,66 @@ public class InstabugApi implements InstabugPigeon.InstabugHostApi {
 
     @Override
     public void reportScreenChange(@NonNull String screenName) {
+        if (screenshotProvider instanceof ScreenshotFrameCache) {
+            // The new screen makes the cached screenshot outdated.
+            ((ScreenshotFrameCache) screenshotProvider).invalidate();
+        }
+
         try {
-            Method method = Reflection.getMethod(Class.forName("com.instabug.library.Instabug"), "reportScreenChange",
-                    Bitmap.class, String.class);
-            if (method != null) {
-                method.invoke(null, null, screenName);
-            }
+            SdkInvokers.reportScreenChange.invoke(null, null, screenName);
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
+    @Override
+    public void onRouteTransition(@NonNull String reportedScreenName, @NonNull String uiTraceScreenName, @NonNull Long microTimeStamp, @NonNull Long uiTraceId) {
+        reportScreenChange(reportedScreenName);
+        ApmApi.startUiTrace(uiTraceScreenName, microTimeStamp, uiTraceId);
+    }
+
     @VisibleForTesting
     public Bitmap getBitmapForAsset(String assetName) {
-        try {
-            FlutterLoader loader = FlutterInjector.instance().flutterLoader();
-            String key = loader.getLookupKeyForAsset(assetName);
-            InputStream stream = context.getAssets().open(key);
-            return BitmapFactory.decodeStream(stream);
-        } catch (IOException exception) {
-            return null;
-        }
+        final FlutterLoader loader = FlutterInjector.instance().flutterLoader();
+        final String key = loader.getLookupKeyForAsset(assetName);
+
+        return AssetBitmapCache.getInstance().get(key, new AssetBitmapCache.StreamOpener() {
+            @NonNull
+            @Override
+            public InputStream open() throws IOException {
+                return context.getAssets().open(key);
+            }
+        });
     }
 
     @Override
     public void setCustomBrandingImage(@NonNull String light, @NonNull String dark) {
-        try {
-            Bitmap lightLogoVariant = getBitmapForAsset(light);
-            Bitmap darkLogoVariant = getBitmapForAsset(dark);
-
-            if (lightLogoVariant == null) {
-                lightLogoVariant = darkLogoVariant;
-            }
-            if (darkLogoVariant == null) {
-                darkLogoVariant = lightLogoVariant;
-            }
-            if (lightLogoVariant == null) {
-                throw new Exception("Couldn't find the light or dark logo images");
-            }
-
-            Method method = Reflection.getMethod(Class.forName("com.instabug.library.Instabug"), "setCustomBrandingImage", Bitmap.class, Bitmap.class);
+        // Decoded on the plugin's executor rather than the host API's serial task
+        // queue, so it doesn't hold back the other calls handled on that queue. Kept
+        // in call order so the last branding image set is the one applied.
+        ThreadManager.runOnBackgroundSerially(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Bitmap lightLogoVariant = getBitmapForAsset(light);
+                    Bitmap darkLogoVariant = getBitmapForAsset(dark);
+
+                    if (lightLogoVariant == null) {
+                        lightLogoVariant = darkLogoVariant;
+                    }
+                    if (darkLogoVariant == null) {
+                        darkLogoVariant = lightLogoVariant;
+                    }
+                    if (lightLogoVariant == null) {
+                        throw new Exception("Couldn't find the light or dark logo images");
+                    }
 
-            if (method != null) {
-                method.invoke(null, lightLogoVariant, darkLogoVariant);
+                    SdkInvokers.setCustomBrandingImage.invoke(null, lightLogoVariant, darkLogoVariant);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        });
     }
 
     @Override
@@ -400,41 +422,155 @@ public class InstabugApi implements InstabugPigeon.InstabugHostApi {
     @Override
     public void addFileAttachmentWithURL(@NonNull String filePath, @NonNull String fileName) {
         final File file = new File(filePath);
-        if (file.exists()) {
+        if (file.exists() && isNewAttachment(fileName, file)) {
             Instabug.addFileAttachment(Uri.fromFile(file), fileName);
         }
     }
 
     @Override
     public void addFileAttachmentWithData(@NonNull byte[] data, @NonNull String fileName) {
-        Instabug.addFileAttachment(data, fileName);
+        if (attachmentDigests.addData(fileName, data)) {
+            Instabug.addFileAttachment(data, fileName);
+        }
+    }
+
+    @Nullable
+    @Override
+    public String beginFileAttachment(@NonNull String fileName) {
+        try {
+            return attachments.begin(fileName);
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to create file attachment " + fileName + ". Cause: " + e);
+            return null;
+        }
+    }
+
+    @Override
+    public void appendFileAttachmentChunk(@NonNull String id, @NonNull byte[] chunk) {
+        try {
+            attachments.append(id, chunk);
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to write file attachment chunk. Cause: " + e);
+        }
+    }
+
+    @Override
+    public void finishFileAttachment(@NonNull String id) {
+        try {
+            final ChunkedFileAttachments.Attachment attachment = attachments.finish(id);
+            if (attachmentDigests.add(attachment.fileName, attachment.digest, attachment.size)) {
+                Instabug.addFileAttachment(Uri.fromFile(attachment.file), attachment.fileName);
+            } else {
+                attachments.discard(attachment);
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to finish file attachment. Cause: " + e);
+        }
+    }
+
+    @Override
+    public void abortFileAttachment(@NonNull String id) {
+        attachments.abort(id);
     }
 
     @Override
     public void clearFileAttachments() {
         Instabug.clearFileAttachment();
+        attachments.clear();
+        attachmentDigests.clear();
+    }
+
+    private boolean isNewAttachment(@NonNull String fileName, @NonNull File file) {
+        try {
+            return attachmentDigests.addFile(fileName, file);
+        } catch (IOException e) {
+            // Leave it to the SDK to handle files that can't be read.
+            Log.w(TAG, "Failed to hash file attachment " + file + ". Cause: " + e);
+            return true;
+        }
     }
 
     @Override
     public void networkLog(@NonNull Map<String, Object> data) {
-        try {
-            NetworkLog networkLog = new NetworkLog();
-            String date = System.currentTimeMillis() + "";
-
-            networkLog.setDate(date);
-            networkLog.setUrl((String) data.get("url"));
-            networkLog.setRequest((String) data.get("requestBody"));
-            networkLog.setResponse((String) data.get("responseBody"));
-            networkLog.setMethod((String) data.get("method"));
-            networkLog.setResponseCode((Integer) data.get("responseCode"));
-            networkLog.setRequestHeaders((new JSONObject((HashMap<String, String>) data.get("requestHeaders"))).toString(4));
-            networkLog.setResponseHeaders((new JSONObject((HashMap<String, String>) data.get("responseHeaders"))).toString(4));
-            networkLog.setTotalDuration(((Number) data.get("duration")).longValue() / 1000);
-
-            networkLog.insert();
-        } catch (Exception e) {
-            Log.e(TAG, "Network logging failed");
+        final String date = System.currentTimeMillis() + "";
+
+        NetworkLogQueue.submit(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    NetworkLog networkLog = new NetworkLog();
+
+                    networkLog.setDate(date);
+                    networkLog.setUrl((String) data.get("url"));
+                    networkLog.setRequest((String) data.get("requestBody"));
+                    networkLog.setResponse((String) data.get("responseBody"));
+                    networkLog.setMethod((String) data.get("method"));
+                    networkLog.setResponseCode((Integer) data.get("responseCode"));
+                    networkLog.setRequestHeaders(HeadersEncoder.encode((Map<String, String>) data.get("requestHeaders")));
+                    networkLog.setResponseHeaders(HeadersEncoder.encode((Map<String, String>) data.get("responseHeaders")));
+                    networkLog.setTotalDuration(((Number) data.get("duration")).longValue() / 1000);
+
+                    networkLog.insert();
+                } catch (Exception e) {
+                    Log.e(TAG, "Network logging failed");
+                }
+            }
+        });
+    }
+
+    /**
+     * Logs a network request for both Bug Reporting and APM in a single
+     * platform channel call, replacing {@link #networkLog(Map)} and
+     * {@link ApmApi#networkLogAndroid(Map)}.
+     */
+    @Override
+    public void logNetworkEntry(@NonNull InstabugPigeon.NetworkEntry entry) {
+        final String date = System.currentTimeMillis() + "";
+
+        NetworkLogQueue.submit(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    NetworkLog networkLog = new NetworkLog();
+
+                    networkLog.setDate(date);
+                    networkLog.setUrl(entry.getUrl());
+                    networkLog.setRequest(entry.getRequestBody());
+                    networkLog.setResponse(entry.getResponseBody());
+                    networkLog.setMethod(entry.getMethod());
+                    networkLog.setResponseCode(entry.getResponseCode() == null ? 0 : entry.getResponseCode().intValue());
+                    networkLog.setRequestHeaders(HeadersEncoder.encode(entry.getRequestHeaders()));
+                    networkLog.setResponseHeaders(HeadersEncoder.encode(entry.getResponseHeaders()));
+                    networkLog.setTotalDuration(entry.getDuration() == null ? 0 : entry.getDuration() / 1000);
+
+                    networkLog.insert();
+                } catch (Exception e) {
+                    Log.e(TAG, "Network logging failed");
+                }
+
+                ApmApi.logNetworkEntry(entry);
+            }
+        });
+    }
+
+    @NonNull
+    @Override
+    public List<InstabugPigeon.BridgeMethodStats> getBridgeStats() {
+        final List<InstabugPigeon.BridgeMethodStats> result = new ArrayList<>();
+
+        for (BridgeStats.MethodStats stats : BridgeStats.getInstance().getCalledMethods().values()) {
+            result.add(new InstabugPigeon.BridgeMethodStats.Builder()
+                    .setMethod(stats.getMethod())
+                    .setCallCount(stats.getCallCount())
+                    .setErrorCount(stats.getErrorCount())
+                    .setPayloadBytes(stats.getPayloadBytes())
+                    .setP50LatencyMicros(TimeUnit.NANOSECONDS.toMicros(stats.getLatencyPercentile(50)))
+                    .setP95LatencyMicros(TimeUnit.NANOSECONDS.toMicros(stats.getLatencyPercentile(95)))
+                    .setP99LatencyMicros(TimeUnit.NANOSECONDS.toMicros(stats.getLatencyPercentile(99)))
+                    .build());
         }
+
+        return result;
     }
 
     @Override
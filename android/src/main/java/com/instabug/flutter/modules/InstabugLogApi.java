@@ -1,45 +1,164 @@
 package com.instabug.flutter.modules;
 
+import android.util.Log;
+
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 
 import com.instabug.flutter.generated.InstabugLogPigeon;
+import com.instabug.flutter.util.LogBuffer;
 import com.instabug.library.logging.InstabugLog;
 
+import java.util.List;
+
 import io.flutter.plugin.common.BinaryMessenger;
 
 public class InstabugLogApi implements InstabugLogPigeon.InstabugLogHostApi {
+    private final String TAG = InstabugLogApi.class.getName();
+
+    /**
+     * Log levels of the entries packed in {@link #logBatch(List)},
+     * must be kept in sync with the Dart side.
+     */
+    public static final int LEVEL_VERBOSE = 0;
+    public static final int LEVEL_DEBUG = 1;
+    public static final int LEVEL_INFO = 2;
+    public static final int LEVEL_WARN = 3;
+    public static final int LEVEL_ERROR = 4;
+
+    /**
+     * Number of slots each entry takes in a packed batch: level, timestamp and message.
+     */
+    public static final int BATCH_ENTRY_SIZE = 3;
+
+    private static int bufferCapacity = LogBuffer.DEFAULT_CAPACITY;
+    private static LogBuffer sharedBuffer;
+
+    private final LogBuffer buffer;
+
     public static void init(BinaryMessenger messenger) {
-        final InstabugLogApi api = new InstabugLogApi();
-        InstabugLogPigeon.InstabugLogHostApi.setup(messenger, api);
+        InstabugLogPigeon.InstabugLogHostApi.setup(messenger, create(messenger));
+    }
+
+    public static InstabugLogApi create(BinaryMessenger messenger) {
+        final InstabugLogApi api = new InstabugLogApi(getSharedBuffer());
+        api.buffer.start(api::log);
+        return api;
+    }
+
+    /**
+     * Sets the maximum number of logs waiting to be flushed into the SDK,
+     * when exceeded the oldest logs are dropped. Must be called before the plugin is registered.
+     */
+    public static synchronized void setBufferCapacity(int capacity) {
+        if (sharedBuffer != null) {
+            Log.w(InstabugLogApi.class.getName(), "setBufferCapacity was called after the plugin was registered, ignoring it");
+            return;
+        }
+        bufferCapacity = capacity;
+    }
+
+    /**
+     * @return the number of logs dropped because the buffer was full
+     */
+    public static synchronized long getDroppedLogsCount() {
+        return sharedBuffer == null ? 0 : sharedBuffer.getDroppedCount();
+    }
+
+    /**
+     * @return the number of logs waiting to be flushed into the SDK
+     */
+    public static synchronized long getPendingLogsCount() {
+        return sharedBuffer == null ? 0 : sharedBuffer.getPendingCount();
+    }
+
+    // The SDK logs are process wide, so all the engines share the same buffer.
+    private static synchronized LogBuffer getSharedBuffer() {
+        if (sharedBuffer == null) {
+            sharedBuffer = new LogBuffer(bufferCapacity);
+        }
+        return sharedBuffer;
+    }
+
+    public InstabugLogApi(LogBuffer buffer) {
+        this.buffer = buffer;
     }
 
     @Override
     public void logVerbose(@NonNull String message) {
-        InstabugLog.v(message);
+        buffer.add(LEVEL_VERBOSE, message);
     }
 
     @Override
     public void logDebug(@NonNull String message) {
-        InstabugLog.d(message);
+        buffer.add(LEVEL_DEBUG, message);
     }
 
     @Override
     public void logInfo(@NonNull String message) {
-        InstabugLog.i(message);
+        buffer.add(LEVEL_INFO, message);
     }
 
     @Override
     public void logWarn(@NonNull String message) {
-        InstabugLog.w(message);
+        buffer.add(LEVEL_WARN, message);
     }
 
     @Override
     public void logError(@NonNull String message) {
-        InstabugLog.e(message);
+        buffer.add(LEVEL_ERROR, message);
+    }
+
+    /**
+     * Replays a batch of log entries packed as consecutive
+     * [level, timestamp, message] triplets, in the order they were logged.
+     * <p>
+     * The timestamp is when the entry was logged on the Dart side. The SDK
+     * stamps logs on insertion, so it isn't forwarded and batch order is kept instead.
+     */
+    @Override
+    public void logBatch(@NonNull List<Object> entries) {
+        for (int i = 0; i + BATCH_ENTRY_SIZE <= entries.size(); i += BATCH_ENTRY_SIZE) {
+            final int level = ((Number) entries.get(i)).intValue();
+            final String message = (String) entries.get(i + 2);
+
+            buffer.add(level, message);
+        }
     }
 
     @Override
     public void clearAllLogs() {
+        buffer.clear();
         InstabugLog.clearLogs();
     }
+
+    /**
+     * Flushes the pending logs into the SDK on the calling thread.
+     */
+    @VisibleForTesting
+    public void flush() {
+        buffer.drain(this::log);
+    }
+
+    private void log(int level, @NonNull String message) {
+        switch (level) {
+            case LEVEL_VERBOSE:
+                InstabugLog.v(message);
+                break;
+            case LEVEL_DEBUG:
+                InstabugLog.d(message);
+                break;
+            case LEVEL_INFO:
+                InstabugLog.i(message);
+                break;
+            case LEVEL_WARN:
+                InstabugLog.w(message);
+                break;
+            case LEVEL_ERROR:
+                InstabugLog.e(message);
+                break;
+            default:
+                Log.e(TAG, "Unknown log level " + level + ", dropping log message");
+        }
+    }
 }
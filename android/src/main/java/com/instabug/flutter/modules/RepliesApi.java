@@ -13,9 +13,12 @@ public class RepliesApi implements RepliesPigeon.RepliesHostApi {
     private final RepliesPigeon.RepliesFlutterApi flutterApi;
 
     public static void init(BinaryMessenger messenger) {
+        RepliesPigeon.RepliesHostApi.setup(messenger, create(messenger));
+    }
+
+    public static RepliesApi create(BinaryMessenger messenger) {
         final RepliesPigeon.RepliesFlutterApi flutterApi = new RepliesPigeon.RepliesFlutterApi(messenger);
-        final RepliesApi api = new RepliesApi(flutterApi);
-        RepliesPigeon.RepliesHostApi.setup(messenger, api);
+        return new RepliesApi(flutterApi);
     }
 
     public RepliesApi(RepliesPigeon.RepliesFlutterApi flutterApi) {
@@ -48,7 +51,7 @@ public class RepliesApi implements RepliesPigeon.RepliesHostApi {
 
     @Override
     public void getUnreadRepliesCount(RepliesPigeon.Result<Long> result) {
-        ThreadManager.runOnBackground(
+        ThreadManager.runOnBackgroundSerially(
                 new Runnable() {
                     @Override
                     public void run() {
@@ -67,7 +70,7 @@ public class RepliesApi implements RepliesPigeon.RepliesHostApi {
 
     @Override
     public void hasChats(RepliesPigeon.Result<Boolean> result) {
-        ThreadManager.runOnBackground(
+        ThreadManager.runOnBackgroundSerially(
                 new Runnable() {
                     @Override
                     public void run() {
@@ -8,8 +8,11 @@ import io.flutter.plugin.common.BinaryMessenger;
 public class SessionReplayApi implements SessionReplayPigeon.SessionReplayHostApi {
 
     public static void init(BinaryMessenger messenger) {
-        final SessionReplayApi api = new SessionReplayApi();
-        SessionReplayPigeon.SessionReplayHostApi.setup(messenger, api);
+        SessionReplayPigeon.SessionReplayHostApi.setup(messenger, create(messenger));
+    }
+
+    public static SessionReplayApi create(BinaryMessenger messenger) {
+        return new SessionReplayApi();
     }
 
     @Override
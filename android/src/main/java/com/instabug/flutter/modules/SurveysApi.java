@@ -19,9 +19,12 @@ public class SurveysApi implements SurveysPigeon.SurveysHostApi {
     private final SurveysPigeon.SurveysFlutterApi flutterApi;
 
     public static void init(BinaryMessenger messenger) {
+        SurveysPigeon.SurveysHostApi.setup(messenger, create(messenger));
+    }
+
+    public static SurveysApi create(BinaryMessenger messenger) {
         final SurveysPigeon.SurveysFlutterApi flutterApi = new SurveysPigeon.SurveysFlutterApi(messenger);
-        final SurveysApi api = new SurveysApi(flutterApi);
-        SurveysPigeon.SurveysHostApi.setup(messenger, api);
+        return new SurveysApi(flutterApi);
     }
 
     public SurveysApi(SurveysPigeon.SurveysFlutterApi flutterApi) {
@@ -64,7 +67,7 @@ public class SurveysApi implements SurveysPigeon.SurveysHostApi {
 
     @Override
     public void hasRespondedToSurvey(@NonNull String surveyToken, SurveysPigeon.Result<Boolean> result) {
-        ThreadManager.runOnBackground(
+        ThreadManager.runOnBackgroundSerially(
                 new Runnable() {
                     @Override
                     public void run() {
@@ -83,7 +86,7 @@ public class SurveysApi implements SurveysPigeon.SurveysHostApi {
 
     @Override
     public void getAvailableSurveys(SurveysPigeon.Result<List<String>> result) {
-        ThreadManager.runOnBackground(
+        ThreadManager.runOnBackgroundSerially(
                 new Runnable() {
                     @Override
                     public void run() {
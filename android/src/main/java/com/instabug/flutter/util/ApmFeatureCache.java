@@ -0,0 +1,166 @@
+package com.instabug.flutter.util;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.instabug.apm.InternalAPM;
+import com.instabug.apm.configuration.cp.APMFeature;
+import com.instabug.apm.configuration.cp.FeatureAvailabilityCallback;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The availability of the APM features queried from Dart, cached per {@link APMFeature}
+ * so checking them on every route doesn't wait on the SDK.
+ * <p>
+ * Cached features are queried again once they're older than the configured max age,
+ * or right away through {@link #refresh()} when the APM configuration changes. The
+ * listeners, one per Flutter engine, are notified of each feature's first availability
+ * and of its later changes.
+ */
+public class ApmFeatureCache {
+    private static final String TAG = ApmFeatureCache.class.getName();
+
+    public static final long DEFAULT_MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static long maxAgeMillis = DEFAULT_MAX_AGE_MILLIS;
+    private static ApmFeatureCache instance;
+
+    private final ConcurrentHashMap<APMFeature, Boolean> availability = new ConcurrentHashMap<>();
+    // The API names passed to the SDK with each queried feature, used to query it again.
+    private final ConcurrentHashMap<APMFeature, String> apiNames = new ConcurrentHashMap<>();
+    private final long maxAge;
+    private final AtomicLong lastRefresh;
+
+    // Keyed by the engine each listener sends the changes to.
+    private final Map<Object, Listener> listeners = new ConcurrentHashMap<>();
+
+    public interface Listener {
+        void onAvailabilityChanged(@NonNull APMFeature feature, boolean isAvailable);
+    }
+
+    /**
+     * Configures the shared cache. Must be called before the plugin is registered.
+     *
+     * @param maxAgeMillis the time after which the cached availability is queried again
+     */
+    public static synchronized void configure(long maxAgeMillis) {
+        if (instance != null) {
+            Log.w(TAG, "ApmFeatureCache.configure was called after the cache was created, ignoring it");
+            return;
+        }
+        ApmFeatureCache.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * @return the cache shared by the plugin's modules
+     */
+    @NonNull
+    public static synchronized ApmFeatureCache getInstance() {
+        if (instance == null) {
+            instance = new ApmFeatureCache(maxAgeMillis);
+        }
+        return instance;
+    }
+
+    public ApmFeatureCache(long maxAgeMillis) {
+        if (maxAgeMillis <= 0) {
+            throw new IllegalArgumentException("APM feature cache max age must be positive, got " + maxAgeMillis);
+        }
+
+        this.maxAge = maxAgeMillis;
+        this.lastRefresh = new AtomicLong(nowMillis());
+    }
+
+    /**
+     * Sets the listener of a Flutter engine, replacing its previous one.
+     *
+     * @param engine   the key of the engine, e.g. its binary messenger
+     * @param listener the engine's listener, or null to remove it when the engine is detached
+     */
+    public void setListener(@NonNull Object engine, @Nullable Listener listener) {
+        if (listener == null) {
+            listeners.remove(engine);
+        } else {
+            listeners.put(engine, listener);
+        }
+    }
+
+    /**
+     * Replies with the cached availability of the feature, the SDK is only waited on
+     * the first time the feature is queried.
+     *
+     * @param apiName the name of the API checking the feature, logged by the SDK when it's unavailable
+     */
+    public void isAvailable(@NonNull APMFeature feature, @NonNull String apiName, @NonNull FeatureAvailabilityCallback callback) {
+        final Boolean isAvailable = availability.get(feature);
+        if (isAvailable != null) {
+            callback.invoke(isAvailable);
+            refreshIfStale();
+            return;
+        }
+
+        apiNames.put(feature, apiName);
+        query(feature, apiName, callback);
+    }
+
+    /**
+     * Queries the cached features again if they're older than the max age. Doesn't
+     * wait for the SDK, so it's cheap enough to call on every route.
+     */
+    public void refreshIfStale() {
+        final long now = nowMillis();
+        final long last = lastRefresh.get();
+        if (now - last >= maxAge && lastRefresh.compareAndSet(last, now)) {
+            queryAll();
+        }
+    }
+
+    /**
+     * Queries the cached features again, typically because the APM configuration changed.
+     */
+    public void refresh() {
+        lastRefresh.set(nowMillis());
+        queryAll();
+    }
+
+    @VisibleForTesting
+    protected long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private void queryAll() {
+        for (Map.Entry<APMFeature, String> feature : apiNames.entrySet()) {
+            query(feature.getKey(), feature.getValue(), null);
+        }
+    }
+
+    private void query(@NonNull APMFeature feature, @NonNull String apiName, @Nullable FeatureAvailabilityCallback callback) {
+        try {
+            InternalAPM._isFeatureEnabledCP(feature, apiName, new FeatureAvailabilityCallback() {
+                @Override
+                public void invoke(boolean isFeatureAvailable) {
+                    final Boolean previous = availability.put(feature, isFeatureAvailable);
+
+                    if (callback != null) {
+                        callback.invoke(isFeatureAvailable);
+                    }
+
+                    if (previous == null || previous != isFeatureAvailable) {
+                        for (Listener listener : listeners.values()) {
+                            listener.onAvailabilityChanged(feature, isFeatureAvailable);
+                        }
+                    }
+                }
+            });
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.instabug.flutter.util;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decodes Flutter assets into bitmaps no larger than needed and keeps the decoded
+ * bitmaps in a least recently used cache bounded by their size in bytes, so the
+ * same assets aren't decoded again, e.g. on every theme switch.
+ * <p>
+ * Evicted bitmaps aren't recycled since the SDK may still be displaying them.
+ */
+public class AssetBitmapCache {
+    private static final String TAG = AssetBitmapCache.class.getName();
+
+    public static final int DEFAULT_MAX_SIZE_PX = 512;
+    public static final long DEFAULT_MAX_BYTES = 4 * 1024 * 1024;
+
+    private static int maxSizePx = DEFAULT_MAX_SIZE_PX;
+    private static long maxBytes = DEFAULT_MAX_BYTES;
+    private static AssetBitmapCache instance;
+
+    // Iterated from the least to the most recently used bitmap.
+    private final LinkedHashMap<String, Bitmap> bitmaps = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxSize;
+    private final long budget;
+    private long size = 0;
+    private long hits = 0;
+    private long misses = 0;
+
+    public interface StreamOpener {
+        @NonNull
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * Configures the shared cache. Must be called before the plugin is registered.
+     *
+     * @param maxSizePx the size in pixels assets are sampled down towards, the decoded
+     *                  bitmaps keep both of their dimensions at least this large
+     * @param maxBytes  the maximum total size in bytes of the cached bitmaps
+     */
+    public static synchronized void configure(int maxSizePx, long maxBytes) {
+        if (instance != null) {
+            Log.w(TAG, "AssetBitmapCache.configure was called after the cache was created, ignoring it");
+            return;
+        }
+        AssetBitmapCache.maxSizePx = maxSizePx;
+        AssetBitmapCache.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return the cache shared by the plugin's modules
+     */
+    @NonNull
+    public static synchronized AssetBitmapCache getInstance() {
+        if (instance == null) {
+            instance = new AssetBitmapCache(maxSizePx, maxBytes);
+        }
+        return instance;
+    }
+
+    public AssetBitmapCache(int maxSizePx, long maxBytes) {
+        if (maxSizePx <= 0 || maxBytes < 0) {
+            throw new IllegalArgumentException("Invalid AssetBitmapCache configuration: max size " + maxSizePx + ", max bytes " + maxBytes);
+        }
+
+        this.maxSize = maxSizePx;
+        this.budget = maxBytes;
+    }
+
+    /**
+     * @param asset  the asset's lookup key, used to cache its bitmap
+     * @param opener opens the asset, only called if the asset isn't cached
+     * @return the asset's bitmap, or null if it couldn't be decoded
+     */
+    @Nullable
+    public Bitmap get(@NonNull String asset, @NonNull StreamOpener opener) {
+        final String key = asset + "@" + maxSize;
+
+        synchronized (this) {
+            final Bitmap cached = bitmaps.get(key);
+            if (cached != null && !cached.isRecycled()) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        // Decoded outside the lock, decoding the same asset twice concurrently is
+        // cheaper than blocking the lookups of other assets.
+        final Bitmap bitmap = decode(opener, maxSize);
+        if (bitmap != null) {
+            put(key, bitmap);
+        }
+        return bitmap;
+    }
+
+    /**
+     * @return the total size in bytes of the cached bitmaps
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * @return the largest power of two an image can be sampled down by while
+     * keeping both of its dimensions at least {@code maxSize}
+     */
+    public static int calculateInSampleSize(int width, int height, int maxSize) {
+        int sampleSize = 1;
+        while (width / (sampleSize * 2) >= maxSize && height / (sampleSize * 2) >= maxSize) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+
+    @VisibleForTesting
+    @Nullable
+    protected Bitmap decode(@NonNull StreamOpener opener, int maxSize) {
+        try {
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            decodeStream(opener, options);
+
+            options.inJustDecodeBounds = false;
+            options.inSampleSize = calculateInSampleSize(options.outWidth, options.outHeight, maxSize);
+            return decodeStream(opener, options);
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to decode asset. Cause: " + e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private static Bitmap decodeStream(@NonNull StreamOpener opener, @NonNull BitmapFactory.Options options) throws IOException {
+        final InputStream stream = opener.open();
+        try {
+            return BitmapFactory.decodeStream(stream, null, options);
+        } finally {
+            stream.close();
+        }
+    }
+
+    private synchronized void put(@NonNull String key, @NonNull Bitmap bitmap) {
+        final long bytes = bitmap.getByteCount();
+        if (bytes > budget) {
+            return;
+        }
+
+        final Bitmap previous = bitmaps.put(key, bitmap);
+        if (previous != null) {
+            size -= previous.getByteCount();
+        }
+        size += bytes;
+
+        final Iterator<Map.Entry<String, Bitmap>> leastRecentlyUsed = bitmaps.entrySet().iterator();
+        while (size > budget && leastRecentlyUsed.hasNext()) {
+            size -= leastRecentlyUsed.next().getValue().getByteCount();
+            leastRecentlyUsed.remove();
+        }
+    }
+}
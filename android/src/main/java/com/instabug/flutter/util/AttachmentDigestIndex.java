@@ -0,0 +1,140 @@
+package com.instabug.flutter.util;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The names and digests of the file attachments added since they were last cleared,
+ * used to skip attaching the same file again, e.g. config snapshots attached before
+ * every report. Identical content attached under different names is still attached,
+ * since the name is part of what the attachment shows.
+ * <p>
+ * The SDK drops the attachments on its own once a report is dismissed, so the shared
+ * index is cleared then as well as when Dart clears the attachments.
+ */
+public class AttachmentDigestIndex {
+    private static final String ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static AttachmentDigestIndex instance;
+
+    private final Set<String> keys = new HashSet<>();
+    private long skipped = 0;
+    private long bytesSkipped = 0;
+
+    /**
+     * @return the index shared by the plugin's modules
+     */
+    @NonNull
+    public static synchronized AttachmentDigestIndex getInstance() {
+        if (instance == null) {
+            instance = new AttachmentDigestIndex();
+        }
+        return instance;
+    }
+
+    /**
+     * @return a new digest to hash attachments incrementally with, e.g. while they're streamed
+     */
+    @NonNull
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available on every Android version.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Indexes an attachment by its name and the digest of its content.
+     *
+     * @param fileName the attachment's file name
+     * @param digest   the attachment's digest, computed with {@link #newDigest()}
+     * @param size     the attachment's size in bytes
+     * @return true if the file wasn't attached yet and should be attached
+     */
+    public synchronized boolean add(@NonNull String fileName, @NonNull byte[] digest, long size) {
+        // The digest has a fixed length, so the key can't be ambiguous whatever the name is.
+        if (keys.add(fileName + '/' + toHex(digest))) {
+            return true;
+        }
+        skipped++;
+        bytesSkipped += size;
+        return false;
+    }
+
+    /**
+     * @return true if the data wasn't attached yet under this name and should be attached
+     */
+    public boolean addData(@NonNull String fileName, @NonNull byte[] data) {
+        return add(fileName, newDigest().digest(data), data.length);
+    }
+
+    /**
+     * Hashes the file in fixed size chunks, so it's never read into memory as a whole.
+     *
+     * @return true if the file's content wasn't attached yet under this name and should be attached
+     */
+    public boolean addFile(@NonNull String fileName, @NonNull File file) throws IOException {
+        final MessageDigest digest = newDigest();
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long size = 0;
+
+        final FileChannel channel = new FileInputStream(file).getChannel();
+        try {
+            int read;
+            while ((read = channel.read(buffer)) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+                size += read;
+            }
+        } finally {
+            channel.close();
+        }
+
+        return add(fileName, digest.digest(), size);
+    }
+
+    /**
+     * Forgets the indexed attachments, typically because the attachments were cleared
+     * or a report was dismissed.
+     */
+    public synchronized void clear() {
+        keys.clear();
+    }
+
+    /**
+     * @return the number of attachments skipped because they were already attached
+     */
+    public synchronized long getSkippedCount() {
+        return skipped;
+    }
+
+    /**
+     * @return the total size in bytes of the skipped attachments
+     */
+    public synchronized long getBytesSkipped() {
+        return bytesSkipped;
+    }
+
+    @NonNull
+    private static String toHex(@NonNull byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+            hex.append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,169 @@
+package com.instabug.flutter.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The calls handled by the plugin's host API channels, counted per method by the
+ * {@link InstrumentedMessenger}.
+ * <p>
+ * Each method keeps its call and error counts, the total size of the messages it
+ * received and a {@link LatencyHistogram} of the time its handler took to reply. The
+ * listener is notified of each call, e.g. to export them to the app's own telemetry.
+ */
+public class BridgeStats {
+    private static final String CHANNEL_PREFIX = "dev.flutter.pigeon.instabug_flutter.";
+
+    private static BridgeStats instance;
+
+    private final ConcurrentHashMap<String, MethodStats> methods = new ConcurrentHashMap<>();
+
+    @Nullable
+    private volatile Listener listener;
+
+    public interface Listener {
+        /**
+         * Called on the thread the handler replied from, so it should return quickly.
+         *
+         * @param method       the name of the method, e.g. {@code InstabugHostApi.setEnabled}
+         * @param latencyNanos the time the handler took to reply
+         * @param payloadBytes the size of the message the handler received
+         * @param isError      whether the handler replied with an error
+         */
+        void onCall(@NonNull String method, long latencyNanos, int payloadBytes, boolean isError);
+    }
+
+    public static class MethodStats {
+        private final String method;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong payloadBytes = new AtomicLong();
+        private final LatencyHistogram latencies = new LatencyHistogram();
+
+        MethodStats(String method) {
+            this.method = method;
+        }
+
+        void record(long latencyNanos, int payloadBytes, boolean isError) {
+            calls.incrementAndGet();
+            this.payloadBytes.addAndGet(payloadBytes);
+            if (isError) {
+                errors.incrementAndGet();
+            }
+            latencies.record(latencyNanos);
+        }
+
+        /**
+         * @return the name of the method, e.g. {@code InstabugHostApi.setEnabled}
+         */
+        @NonNull
+        public String getMethod() {
+            return method;
+        }
+
+        public long getCallCount() {
+            return calls.get();
+        }
+
+        public long getErrorCount() {
+            return errors.get();
+        }
+
+        /**
+         * @return the total size in bytes of the messages received
+         */
+        public long getPayloadBytes() {
+            return payloadBytes.get();
+        }
+
+        /**
+         * @param percentile between 0 and 100, e.g. 99 for the p99
+         * @return the latency in nanoseconds under which the percentile of the calls replied
+         */
+        public long getLatencyPercentile(double percentile) {
+            return latencies.getPercentile(percentile);
+        }
+
+        void reset() {
+            calls.set(0);
+            errors.set(0);
+            payloadBytes.set(0);
+            latencies.reset();
+        }
+    }
+
+    /**
+     * @return the stats shared by the plugin's channels
+     */
+    @NonNull
+    public static synchronized BridgeStats getInstance() {
+        if (instance == null) {
+            instance = new BridgeStats();
+        }
+        return instance;
+    }
+
+    public void setListener(@Nullable Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return the stats of the channel's method, created on its first use
+     */
+    @NonNull
+    public MethodStats getMethodStats(@NonNull String channel) {
+        final String method = channel.startsWith(CHANNEL_PREFIX) ? channel.substring(CHANNEL_PREFIX.length()) : channel;
+
+        MethodStats stats = methods.get(method);
+        if (stats == null) {
+            final MethodStats created = new MethodStats(method);
+            stats = methods.putIfAbsent(method, created);
+            if (stats == null) {
+                stats = created;
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Records a call to the method, typically through {@link InstrumentedMessenger}.
+     */
+    public void record(@NonNull MethodStats stats, long latencyNanos, int payloadBytes, boolean isError) {
+        stats.record(latencyNanos, payloadBytes, isError);
+
+        final Listener listener = this.listener;
+        if (listener != null) {
+            listener.onCall(stats.method, latencyNanos, payloadBytes, isError);
+        }
+    }
+
+    /**
+     * @return the stats of the methods called at least once, keyed by their names
+     */
+    @NonNull
+    public Map<String, MethodStats> getCalledMethods() {
+        final Map<String, MethodStats> called = new HashMap<>();
+        for (Map.Entry<String, MethodStats> entry : methods.entrySet()) {
+            if (entry.getValue().getCallCount() > 0) {
+                called.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(called);
+    }
+
+    /**
+     * Forgets the recorded calls.
+     */
+    public void reset() {
+        // The stats are kept, as the instrumented handlers hold on to them.
+        for (MethodStats stats : methods.values()) {
+            stats.reset();
+        }
+    }
+}
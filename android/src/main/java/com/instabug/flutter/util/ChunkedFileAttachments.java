@@ -0,0 +1,215 @@
+package com.instabug.flutter.util;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams file attachments sent from Dart in chunks into temporary files, so an
+ * attachment is never held in memory as a whole and only one chunk is alive at a time.
+ * <p>
+ * The finished files are attached by their URI and have to outlive the report they're
+ * attached to, so they're only deleted by {@link #clear()} when the attachments are cleared.
+ */
+public class ChunkedFileAttachments {
+    private static final String TAG = ChunkedFileAttachments.class.getName();
+
+    private final File directory;
+    private final Map<String, PendingAttachment> pending = new HashMap<>();
+    private final List<File> finished = new ArrayList<>();
+    private long nextId = 0;
+    private long bytesWritten = 0;
+
+    private static class PendingAttachment {
+        final File file;
+        final String fileName;
+        final FileChannel channel;
+        // The content's digest, updated with each chunk so the file isn't read again to hash it.
+        final MessageDigest digest = AttachmentDigestIndex.newDigest();
+        long size = 0;
+
+        PendingAttachment(File file, String fileName, FileChannel channel) {
+            this.file = file;
+            this.fileName = fileName;
+            this.channel = channel;
+        }
+    }
+
+    /**
+     * A streamed attachment once all of its chunks were written.
+     */
+    public static class Attachment {
+        @NonNull
+        public final File file;
+        @NonNull
+        public final String fileName;
+        /**
+         * The content's digest, see {@link AttachmentDigestIndex#newDigest()}.
+         */
+        @NonNull
+        public final byte[] digest;
+        public final long size;
+
+        public Attachment(@NonNull File file, @NonNull String fileName, @NonNull byte[] digest, long size) {
+            this.file = file;
+            this.fileName = fileName;
+            this.digest = digest;
+            this.size = size;
+        }
+    }
+
+    /**
+     * @param directory the directory the temporary files are written to, created if missing
+     */
+    public ChunkedFileAttachments(@NonNull File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates the temporary file of a new attachment.
+     *
+     * @return the ID to append the attachment's chunks with
+     */
+    @NonNull
+    public synchronized String begin(@NonNull String fileName) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Couldn't create the attachments directory " + directory);
+        }
+
+        final String id = String.valueOf(nextId++);
+        final File file = File.createTempFile("attachment-" + id + "-", ".tmp", directory);
+        final FileChannel channel = new FileOutputStream(file).getChannel();
+
+        pending.put(id, new PendingAttachment(file, fileName, channel));
+        return id;
+    }
+
+    /**
+     * Writes the next chunk of the attachment to its temporary file.
+     */
+    public void append(@NonNull String id, @NonNull byte[] chunk) throws IOException {
+        final PendingAttachment attachment = get(id);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        try {
+            while (buffer.hasRemaining()) {
+                attachment.channel.write(buffer);
+            }
+        } catch (IOException e) {
+            abort(id);
+            throw e;
+        }
+        attachment.digest.update(chunk);
+
+        synchronized (this) {
+            attachment.size += chunk.length;
+            bytesWritten += chunk.length;
+        }
+    }
+
+    /**
+     * Closes the attachment's temporary file once all of its chunks were appended.
+     */
+    @NonNull
+    public Attachment finish(@NonNull String id) throws IOException {
+        final PendingAttachment attachment;
+        synchronized (this) {
+            attachment = pending.remove(id);
+        }
+        if (attachment == null) {
+            throw new IOException("No pending file attachment with ID " + id);
+        }
+
+        try {
+            attachment.channel.close();
+        } catch (IOException e) {
+            delete(attachment.file);
+            throw e;
+        }
+
+        synchronized (this) {
+            finished.add(attachment.file);
+        }
+        return new Attachment(attachment.file, attachment.fileName, attachment.digest.digest(), attachment.size);
+    }
+
+    /**
+     * Deletes the temporary file of a finished attachment that won't be attached,
+     * e.g. because the same content was already attached.
+     */
+    public synchronized void discard(@NonNull Attachment attachment) {
+        finished.remove(attachment.file);
+        delete(attachment.file);
+    }
+
+    /**
+     * Discards the pending attachments and deletes the temporary files of the finished ones.
+     */
+    public synchronized void clear() {
+        for (String id : new ArrayList<>(pending.keySet())) {
+            abort(id);
+        }
+        for (File file : finished) {
+            delete(file);
+        }
+        finished.clear();
+    }
+
+    /**
+     * @return the number of attachments still being streamed
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return the total number of bytes streamed into attachments
+     */
+    public synchronized long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @NonNull
+    private synchronized PendingAttachment get(@NonNull String id) throws IOException {
+        final PendingAttachment attachment = pending.get(id);
+        if (attachment == null) {
+            throw new IOException("No pending file attachment with ID " + id);
+        }
+        return attachment;
+    }
+
+    /**
+     * Closes and deletes the temporary file of an attachment that won't be finished,
+     * e.g. because the stream it's read from failed. Unknown IDs are ignored.
+     */
+    public synchronized void abort(@NonNull String id) {
+        final PendingAttachment attachment = pending.remove(id);
+        if (attachment == null) {
+            return;
+        }
+        try {
+            attachment.channel.close();
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to close the file attachment " + attachment.fileName + ". Cause: " + e);
+        }
+        delete(attachment.file);
+    }
+
+    private static void delete(@Nullable File file) {
+        if (file != null && file.exists() && !file.delete()) {
+            Log.w(TAG, "Failed to delete the temporary file attachment " + file);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.instabug.flutter.util;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+/**
+ * A messenger that multiplexes the plugin's host API channels over a single
+ * {@link #CHANNEL}, so the engine holds one handler for the whole plugin instead
+ * of one per method.
+ * <p>
+ * The pigeon {@code setup} methods register their handlers with this messenger as
+ * usual, keyed by the {@link #methodId(String)} of their channel names. Each message
+ * on the dispatch channel starts with the little endian method ID of its target,
+ * followed by the message the target channel would have received. The Dart side
+ * computes the same IDs, so no names are sent or looked up per message. Two channels
+ * whose IDs collide can't both be registered.
+ * <p>
+ * Handlers registered with a background task queue run on a serial executor per
+ * queue, on the {@link ThreadManager}'s background threads. Messages sent to Dart
+ * aren't multiplexed and go through the wrapped messenger.
+ */
+public class DispatchMessenger implements BinaryMessenger {
+    private static final String TAG = DispatchMessenger.class.getName();
+
+    public static final String CHANNEL = "dev.flutter.pigeon.instabug_flutter.dispatch";
+
+    private static final int ID_SIZE = 4;
+
+    private final BinaryMessenger messenger;
+    private final Map<Integer, Handler> handlers = new HashMap<>();
+
+    private static class Handler {
+        final String channel;
+        final BinaryMessageHandler handler;
+        @Nullable
+        final SerialTaskQueue taskQueue;
+
+        Handler(String channel, BinaryMessageHandler handler, @Nullable SerialTaskQueue taskQueue) {
+            this.channel = channel;
+            this.handler = handler;
+            this.taskQueue = taskQueue;
+        }
+    }
+
+    /**
+     * Runs the tasks submitted to it one at a time and in order, on the
+     * {@link ThreadManager}'s background threads.
+     */
+    private static class SerialTaskQueue implements TaskQueue, Executor {
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        private boolean running = false;
+
+        @Override
+        public synchronized void execute(@NonNull Runnable task) {
+            tasks.add(task);
+            if (!running) {
+                running = true;
+                ThreadManager.runOnBackground(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                final Runnable task;
+                synchronized (this) {
+                    task = tasks.poll();
+                    if (task == null) {
+                        running = false;
+                        return;
+                    }
+                }
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    Log.e(TAG, "Dispatched message handler failed. Cause: " + e);
+                }
+            }
+        }
+    }
+
+    public DispatchMessenger(@NonNull BinaryMessenger messenger) {
+        this.messenger = messenger;
+        messenger.setMessageHandler(CHANNEL, this::dispatch);
+    }
+
+    /**
+     * @return the ID the Dart side addresses the channel's handler with, the channel
+     * name's 32-bit FNV-1a hash
+     */
+    public static int methodId(@NonNull String channel) {
+        int hash = 0x811c9dc5;
+        for (int i = 0; i < channel.length(); i++) {
+            hash ^= channel.charAt(i);
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+
+    @NonNull
+    @Override
+    public TaskQueue makeBackgroundTaskQueue(@NonNull TaskQueueOptions options) {
+        return new SerialTaskQueue();
+    }
+
+    @Override
+    public void setMessageHandler(@NonNull String channel, @Nullable BinaryMessageHandler handler) {
+        setMessageHandler(channel, handler, null);
+    }
+
+    @Override
+    public void setMessageHandler(@NonNull String channel, @Nullable BinaryMessageHandler handler, @Nullable TaskQueue taskQueue) {
+        final int id = methodId(channel);
+
+        synchronized (handlers) {
+            final Handler existing = handlers.get(id);
+            // Method IDs are hashes, so a collision between two channels fails their
+            // registration rather than silently routing one channel's calls to the other.
+            if (existing != null && !existing.channel.equals(channel)) {
+                throw new IllegalStateException("Channels " + existing.channel + " and " + channel + " have the same method ID " + id);
+            }
+
+            if (handler == null) {
+                handlers.remove(id);
+                return;
+            }
+            handlers.put(id, new Handler(channel, handler, (SerialTaskQueue) taskQueue));
+        }
+    }
+
+    @Override
+    public void send(@NonNull String channel, @Nullable ByteBuffer message) {
+        messenger.send(channel, message);
+    }
+
+    @Override
+    public void send(@NonNull String channel, @Nullable ByteBuffer message, @Nullable BinaryReply callback) {
+        messenger.send(channel, message, callback);
+    }
+
+    /**
+     * @return the number of handlers registered through the messenger
+     */
+    public int getHandlerCount() {
+        synchronized (handlers) {
+            return handlers.size();
+        }
+    }
+
+    private void dispatch(@Nullable ByteBuffer envelope, @NonNull BinaryReply reply) {
+        if (envelope == null || envelope.remaining() < ID_SIZE) {
+            Log.e(TAG, "Dropped malformed dispatched message");
+            reply.reply(null);
+            return;
+        }
+
+        final int id = envelope.order(ByteOrder.LITTLE_ENDIAN).getInt();
+        final Handler target;
+        synchronized (handlers) {
+            target = handlers.get(id);
+        }
+        if (target == null) {
+            // Replying with nothing is how a message to an unregistered channel is answered.
+            reply.reply(null);
+            return;
+        }
+
+        // The target's message starts after the ID, sliced so the codec's alignment
+        // is relative to its own start as when it was encoded.
+        final ByteBuffer message = envelope.slice();
+
+        if (target.taskQueue == null) {
+            target.handler.onMessage(message, reply);
+            return;
+        }
+
+        // The engine's buffer is only valid until this call returns.
+        final ByteBuffer copy = ByteBuffer.allocateDirect(message.remaining());
+        copy.put(message);
+        copy.flip();
+        target.taskQueue.execute(() -> target.handler.onMessage(copy, reply));
+    }
+}
@@ -0,0 +1,189 @@
+package com.instabug.flutter.util;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.instabug.apm.model.ExecutionTrace;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The execution traces started from Dart and not ended yet, keyed by their Dart ids.
+ * <p>
+ * Ended traces are removed, traces that aren't ended within the configured TTL are
+ * considered abandoned and expired, and when the maximum number of live traces is
+ * exceeded the oldest ones are evicted.
+ */
+public class ExecutionTraceRegistry {
+    private static final String TAG = ExecutionTraceRegistry.class.getName();
+
+    public static final int DEFAULT_MAX_TRACES = 512;
+    public static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private static int maxTraces = DEFAULT_MAX_TRACES;
+    private static long ttlMillis = DEFAULT_TTL_MILLIS;
+    private static ExecutionTraceRegistry instance;
+
+    private final ConcurrentHashMap<String, Entry> traces = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final long ttl;
+
+    private final AtomicLong nextPurge;
+    private final AtomicLong expired = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    private static final class Entry {
+        final ExecutionTrace trace;
+        final long startedAt;
+
+        Entry(ExecutionTrace trace, long startedAt) {
+            this.trace = trace;
+            this.startedAt = startedAt;
+        }
+    }
+
+    /**
+     * Configures the shared registry. Must be called before the plugin is registered.
+     *
+     * @param maxTraces the maximum number of live traces, when exceeded the oldest traces are evicted
+     * @param ttlMillis the time after which a trace that wasn't ended is expired
+     */
+    public static synchronized void configure(int maxTraces, long ttlMillis) {
+        if (instance != null) {
+            Log.w(TAG, "ExecutionTraceRegistry.configure was called after the registry was created, ignoring it");
+            return;
+        }
+        ExecutionTraceRegistry.maxTraces = maxTraces;
+        ExecutionTraceRegistry.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * @return the registry shared by the APM module
+     */
+    @NonNull
+    public static synchronized ExecutionTraceRegistry getInstance() {
+        if (instance == null) {
+            instance = new ExecutionTraceRegistry(maxTraces, ttlMillis);
+        }
+        return instance;
+    }
+
+    public ExecutionTraceRegistry(int maxTraces, long ttlMillis) {
+        if (maxTraces <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Execution trace registry max traces and TTL must be positive, got " + maxTraces + " and " + ttlMillis);
+        }
+
+        this.capacity = maxTraces;
+        this.ttl = ttlMillis;
+        this.nextPurge = new AtomicLong(nowMillis() + ttlMillis);
+    }
+
+    public void put(@NonNull String id, @NonNull ExecutionTrace trace) {
+        final long now = nowMillis();
+        traces.put(id, new Entry(trace, now));
+
+        final long purgeAt = nextPurge.get();
+        if (now >= purgeAt && nextPurge.compareAndSet(purgeAt, now + ttl)) {
+            purgeExpired(now);
+        }
+        if (traces.size() > capacity) {
+            purgeExpired(now);
+            while (traces.size() > capacity) {
+                evictOldest();
+            }
+        }
+    }
+
+    /**
+     * @return the live trace with the given id, or null if it was never added, ended, expired or evicted
+     */
+    @Nullable
+    public ExecutionTrace get(@NonNull String id) {
+        final Entry entry = traces.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry, nowMillis())) {
+            if (traces.remove(id, entry)) {
+                expired.incrementAndGet();
+            }
+            return null;
+        }
+        return entry.trace;
+    }
+
+    /**
+     * Removes the trace with the given id, typically because it's being ended.
+     *
+     * @return the removed trace, or null if it was never added, already removed, expired or evicted
+     */
+    @Nullable
+    public ExecutionTrace remove(@NonNull String id) {
+        final Entry entry = traces.remove(id);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry, nowMillis())) {
+            expired.incrementAndGet();
+            return null;
+        }
+        return entry.trace;
+    }
+
+    /**
+     * @return the number of traces started and not ended, expired or evicted yet
+     */
+    public int getLiveCount() {
+        purgeExpired(nowMillis());
+        return traces.size();
+    }
+
+    /**
+     * @return the number of traces expired because they weren't ended within the TTL
+     */
+    public long getExpiredCount() {
+        return expired.get();
+    }
+
+    /**
+     * @return the number of traces evicted because the maximum number of live traces was exceeded
+     */
+    public long getEvictedCount() {
+        return evicted.get();
+    }
+
+    @VisibleForTesting
+    protected long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.startedAt >= ttl;
+    }
+
+    private void purgeExpired(long now) {
+        for (Map.Entry<String, Entry> trace : traces.entrySet()) {
+            if (isExpired(trace.getValue(), now) && traces.remove(trace.getKey(), trace.getValue())) {
+                expired.incrementAndGet();
+            }
+        }
+    }
+
+    private void evictOldest() {
+        Map.Entry<String, Entry> oldest = null;
+        for (Map.Entry<String, Entry> trace : traces.entrySet()) {
+            if (oldest == null || trace.getValue().startedAt < oldest.getValue().startedAt) {
+                oldest = trace;
+            }
+        }
+        if (oldest != null && traces.remove(oldest.getKey(), oldest.getValue())) {
+            evicted.incrementAndGet();
+        }
+    }
+}
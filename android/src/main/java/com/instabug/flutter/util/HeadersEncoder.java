@@ -0,0 +1,127 @@
+package com.instabug.flutter.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONObject;
+
+import java.util.Map;
+
+/**
+ * Encodes network request and response headers into the JSON string stored
+ * with network logs.
+ * <p>
+ * Headers are written as compact JSON into a {@link StringBuilder} reused per
+ * thread, avoiding the intermediate {@link JSONObject} tree and the indentation
+ * of {@link JSONObject#toString(int)}. The legacy pretty-printed format can be
+ * restored through {@link #setPrettyPrintEnabled(boolean)}.
+ */
+public final class HeadersEncoder {
+    private static final int LEGACY_INDENT_SPACES = 4;
+
+    // Builders grown past this size aren't kept, so one large request doesn't pin the memory.
+    private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<StringBuilder> builders = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(256);
+        }
+    };
+
+    private static volatile boolean isPrettyPrintEnabled = false;
+
+    private HeadersEncoder() {
+    }
+
+    /**
+     * Enables the legacy format of the headers, pretty-printed with an indent of 4 spaces.
+     * Disabled by default.
+     */
+    public static void setPrettyPrintEnabled(boolean isEnabled) {
+        isPrettyPrintEnabled = isEnabled;
+    }
+
+    public static boolean isPrettyPrintEnabled() {
+        return isPrettyPrintEnabled;
+    }
+
+    @NonNull
+    public static String encode(@Nullable Map<String, String> headers) throws Exception {
+        if (isPrettyPrintEnabled) {
+            return new JSONObject(headers).toString(LEGACY_INDENT_SPACES);
+        }
+
+        if (headers == null || headers.isEmpty()) {
+            return "{}";
+        }
+
+        StringBuilder builder = builders.get();
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            builder = new StringBuilder(256);
+            builders.set(builder);
+        }
+        builder.setLength(0);
+
+        builder.append('{');
+        boolean isFirst = true;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (!isFirst) {
+                builder.append(',');
+            }
+            isFirst = false;
+
+            appendString(builder, String.valueOf(header.getKey()));
+            builder.append(':');
+
+            final String value = header.getValue();
+            if (value == null) {
+                builder.append("null");
+            } else {
+                appendString(builder, value);
+            }
+        }
+        builder.append('}');
+
+        return builder.toString();
+    }
+
+    private static void appendString(@NonNull StringBuilder builder, @NonNull String value) {
+        builder.append('"');
+        for (int i = 0, length = value.length(); i < length; i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                case '\\':
+                    builder.append('\\').append(c);
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append("\\u00")
+                                .append(HEX_DIGITS[c >> 4])
+                                .append(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+}
@@ -0,0 +1,171 @@
+package com.instabug.flutter.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.instabug.flutter.generated.InstabugPigeon.BridgeMethodStats;
+import com.instabug.flutter.generated.InstabugPigeon.NetworkEntry;
+
+import io.flutter.plugin.common.StandardMessageCodec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * The codec of the {@code InstabugHostApi} channels, installed in place of the generated
+ * one by {@code scripts/pigeon.sh}.
+ * <p>
+ * The generated codec decodes each data class into an intermediate list before copying
+ * it into the class. Network entries, sent for every logged request, are instead read
+ * field by field straight from the message buffer, and the data classes are written
+ * field by field without building the list. The wire format is the generated one, so
+ * the Dart and iOS sides are unchanged.
+ */
+public final class InstabugMessageCodec extends StandardMessageCodec {
+    public static final InstabugMessageCodec INSTANCE = new InstabugMessageCodec();
+
+    // The type IDs pigeon assigns to the InstabugHostApi data classes, in declaration order.
+    private static final byte NETWORK_ENTRY = (byte) 128;
+    private static final byte BRIDGE_METHOD_STATS = (byte) 129;
+
+    // The StandardMessageCodec types read directly.
+    private static final byte NULL = 0;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte LIST = 12;
+
+    private static final int NETWORK_ENTRY_FIELDS = 17;
+    private static final int BRIDGE_METHOD_STATS_FIELDS = 7;
+
+    private InstabugMessageCodec() {
+    }
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+        switch (type) {
+            case NETWORK_ENTRY:
+                return readNetworkEntry(buffer);
+            case BRIDGE_METHOD_STATS:
+                return readBridgeMethodStats(buffer);
+            default:
+                return super.readValueOfType(type, buffer);
+        }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, @Nullable Object value) {
+        if (value instanceof NetworkEntry) {
+            stream.write(NETWORK_ENTRY);
+            writeNetworkEntry(stream, (NetworkEntry) value);
+        } else if (value instanceof BridgeMethodStats) {
+            stream.write(BRIDGE_METHOD_STATS);
+            writeBridgeMethodStats(stream, (BridgeMethodStats) value);
+        } else {
+            super.writeValue(stream, value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @NonNull
+    private NetworkEntry readNetworkEntry(@NonNull ByteBuffer buffer) {
+        readFieldCount(buffer, NETWORK_ENTRY_FIELDS);
+
+        // The fields are read in the order of the builder calls.
+        return new NetworkEntry.Builder()
+                .setUrl((String) readValue(buffer))
+                .setMethod((String) readValue(buffer))
+                .setRequestBody((String) readValue(buffer))
+                .setResponseBody((String) readValue(buffer))
+                .setRequestBodySize(readLong(buffer))
+                .setResponseBodySize(readLong(buffer))
+                .setResponseCode(readLong(buffer))
+                .setRequestHeaders((Map<String, String>) readValue(buffer))
+                .setResponseHeaders((Map<String, String>) readValue(buffer))
+                .setRequestContentType((String) readValue(buffer))
+                .setResponseContentType((String) readValue(buffer))
+                .setDuration(readLong(buffer))
+                .setStartTime(readLong(buffer))
+                .setErrorCode(readLong(buffer))
+                .setErrorDomain((String) readValue(buffer))
+                .setGqlQueryName((String) readValue(buffer))
+                .setServerErrorMessage((String) readValue(buffer))
+                .build();
+    }
+
+    private void writeNetworkEntry(@NonNull ByteArrayOutputStream stream, @NonNull NetworkEntry entry) {
+        stream.write(LIST);
+        writeSize(stream, NETWORK_ENTRY_FIELDS);
+        writeValue(stream, entry.getUrl());
+        writeValue(stream, entry.getMethod());
+        writeValue(stream, entry.getRequestBody());
+        writeValue(stream, entry.getResponseBody());
+        writeValue(stream, entry.getRequestBodySize());
+        writeValue(stream, entry.getResponseBodySize());
+        writeValue(stream, entry.getResponseCode());
+        writeValue(stream, entry.getRequestHeaders());
+        writeValue(stream, entry.getResponseHeaders());
+        writeValue(stream, entry.getRequestContentType());
+        writeValue(stream, entry.getResponseContentType());
+        writeValue(stream, entry.getDuration());
+        writeValue(stream, entry.getStartTime());
+        writeValue(stream, entry.getErrorCode());
+        writeValue(stream, entry.getErrorDomain());
+        writeValue(stream, entry.getGqlQueryName());
+        writeValue(stream, entry.getServerErrorMessage());
+    }
+
+    @NonNull
+    private BridgeMethodStats readBridgeMethodStats(@NonNull ByteBuffer buffer) {
+        readFieldCount(buffer, BRIDGE_METHOD_STATS_FIELDS);
+
+        return new BridgeMethodStats.Builder()
+                .setMethod((String) readValue(buffer))
+                .setCallCount(readLong(buffer))
+                .setErrorCount(readLong(buffer))
+                .setPayloadBytes(readLong(buffer))
+                .setP50LatencyMicros(readLong(buffer))
+                .setP95LatencyMicros(readLong(buffer))
+                .setP99LatencyMicros(readLong(buffer))
+                .build();
+    }
+
+    private void writeBridgeMethodStats(@NonNull ByteArrayOutputStream stream, @NonNull BridgeMethodStats stats) {
+        stream.write(LIST);
+        writeSize(stream, BRIDGE_METHOD_STATS_FIELDS);
+        writeValue(stream, stats.getMethod());
+        writeValue(stream, stats.getCallCount());
+        writeValue(stream, stats.getErrorCount());
+        writeValue(stream, stats.getPayloadBytes());
+        writeValue(stream, stats.getP50LatencyMicros());
+        writeValue(stream, stats.getP95LatencyMicros());
+        writeValue(stream, stats.getP99LatencyMicros());
+    }
+
+    private static void readFieldCount(@NonNull ByteBuffer buffer, int expected) {
+        if (buffer.get() != LIST) {
+            throw new IllegalArgumentException("Message corrupted");
+        }
+        final int count = readSize(buffer);
+        if (count != expected) {
+            throw new IllegalArgumentException("Expected " + expected + " fields, got " + count);
+        }
+    }
+
+    /**
+     * Reads an integer field, sent as a 32-bit int when it fits, without boxing it twice.
+     */
+    @Nullable
+    private static Long readLong(@NonNull ByteBuffer buffer) {
+        switch (buffer.get()) {
+            case NULL:
+                return null;
+            case INT:
+                return (long) buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            default:
+                throw new IllegalArgumentException("Message corrupted");
+        }
+    }
+}
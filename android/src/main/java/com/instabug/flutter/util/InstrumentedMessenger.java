@@ -0,0 +1,92 @@
+package com.instabug.flutter.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+/**
+ * A messenger that records the calls to the handlers registered through it in
+ * {@link BridgeStats}, wrapping the plugin's messenger so every pigeon host API
+ * handler is measured without changing the generated code.
+ * <p>
+ * A call's latency runs from its handler being invoked to its reply, including the
+ * replies of asynchronous handlers, but not the time spent waiting for a background
+ * task queue. Its payload is the size of the encoded message the handler decoded.
+ */
+public class InstrumentedMessenger implements BinaryMessenger {
+    // The pigeon codecs reply with a list of 1 value on success and of 3 on error.
+    private static final byte LIST = 12;
+    private static final byte ERROR_SIZE = 3;
+
+    private final BinaryMessenger messenger;
+    private final BridgeStats stats;
+
+    public InstrumentedMessenger(@NonNull BinaryMessenger messenger, @NonNull BridgeStats stats) {
+        this.messenger = messenger;
+        this.stats = stats;
+    }
+
+    @NonNull
+    @Override
+    public TaskQueue makeBackgroundTaskQueue(@NonNull TaskQueueOptions options) {
+        return messenger.makeBackgroundTaskQueue(options);
+    }
+
+    @Override
+    public void setMessageHandler(@NonNull String channel, @Nullable BinaryMessageHandler handler) {
+        messenger.setMessageHandler(channel, instrument(channel, handler));
+    }
+
+    @Override
+    public void setMessageHandler(@NonNull String channel, @Nullable BinaryMessageHandler handler, @Nullable TaskQueue taskQueue) {
+        messenger.setMessageHandler(channel, instrument(channel, handler), taskQueue);
+    }
+
+    @Override
+    public void send(@NonNull String channel, @Nullable ByteBuffer message) {
+        messenger.send(channel, message);
+    }
+
+    @Override
+    public void send(@NonNull String channel, @Nullable ByteBuffer message, @Nullable BinaryReply callback) {
+        messenger.send(channel, message, callback);
+    }
+
+    @Nullable
+    private BinaryMessageHandler instrument(@NonNull String channel, @Nullable final BinaryMessageHandler handler) {
+        if (handler == null) {
+            return null;
+        }
+
+        final BridgeStats.MethodStats methodStats = stats.getMethodStats(channel);
+
+        return new BinaryMessageHandler() {
+            @Override
+            public void onMessage(@Nullable ByteBuffer message, @NonNull final BinaryReply reply) {
+                final int payloadBytes = message == null ? 0 : message.remaining();
+                final long start = System.nanoTime();
+
+                try {
+                    handler.onMessage(message, new BinaryReply() {
+                        @Override
+                        public void reply(@Nullable ByteBuffer result) {
+                            stats.record(methodStats, System.nanoTime() - start, payloadBytes, isError(result));
+                            reply.reply(result);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    stats.record(methodStats, System.nanoTime() - start, payloadBytes, true);
+                    throw e;
+                }
+            }
+        };
+    }
+
+    private static boolean isError(@Nullable ByteBuffer reply) {
+        // Absolute reads, so the reply's position is left as is.
+        return reply != null && reply.limit() >= 2 && reply.get(0) == LIST && reply.get(1) == ERROR_SIZE;
+    }
+}
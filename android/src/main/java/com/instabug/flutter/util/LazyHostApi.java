@@ -0,0 +1,87 @@
+package com.instabug.flutter.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A module whose host API is only built on its first call. Its channels are
+ * registered with one of the {@link LazyHostApis} stand-ins in its place, which
+ * forward each call to {@link #get()}.
+ * <p>
+ * The module is only created, and the SDK classes it uses only loaded, once
+ * Dart actually calls one of its methods, so modules an app never uses cost
+ * nothing when the plugin is registered.
+ */
+public class LazyHostApi<T> {
+    @Nullable
+    private final Callable<T> factory;
+    // Set for the modules that are never built, reported to Dart as the error of each call.
+    @Nullable
+    private final String disabledMessage;
+
+    private volatile T api;
+    private long buildDuration = 0;
+
+    /**
+     * @param factory creates the real module, called once on the thread of the first call
+     */
+    public LazyHostApi(@NonNull Callable<T> factory) {
+        this(factory, null);
+    }
+
+    private LazyHostApi(@Nullable Callable<T> factory, @Nullable String disabledMessage) {
+        this.factory = factory;
+        this.disabledMessage = disabledMessage;
+    }
+
+    /**
+     * A module that is never built, whose calls fail with the given message instead of
+     * leaving Dart without a channel to call.
+     */
+    @NonNull
+    public static <T> LazyHostApi<T> disabled(@NonNull String message) {
+        return new LazyHostApi<>(null, message);
+    }
+
+    /**
+     * @return the module, built on the first call
+     * @throws IllegalStateException if the module couldn't be built or is disabled,
+     *                               reported to Dart as the error of the call
+     */
+    @NonNull
+    public T get() {
+        T built = api;
+        if (built != null) {
+            return built;
+        }
+        if (factory == null) {
+            throw new IllegalStateException(disabledMessage);
+        }
+
+        synchronized (this) {
+            if (api == null) {
+                final long start = System.nanoTime();
+                try {
+                    api = factory.call();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Failed to build the module", e);
+                }
+                buildDuration = System.nanoTime() - start;
+            }
+            return api;
+        }
+    }
+
+    public boolean isBuilt() {
+        return api != null;
+    }
+
+    /**
+     * @return the time in nanoseconds it took to build the module, 0 if it isn't built yet
+     */
+    public synchronized long getBuildDuration() {
+        return buildDuration;
+    }
+}
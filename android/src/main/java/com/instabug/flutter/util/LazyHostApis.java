@@ -0,0 +1,459 @@
+package com.instabug.flutter.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.instabug.flutter.generated.ApmPigeon;
+import com.instabug.flutter.generated.BugReportingPigeon;
+import com.instabug.flutter.generated.CrashReportingPigeon;
+import com.instabug.flutter.generated.FeatureRequestsPigeon;
+import com.instabug.flutter.generated.InstabugLogPigeon;
+import com.instabug.flutter.generated.RepliesPigeon;
+import com.instabug.flutter.generated.SessionReplayPigeon;
+import com.instabug.flutter.generated.SurveysPigeon;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The stand-ins registered with the pigeon channels of the lazily registered modules,
+ * see {@link LazyHostApi}. Each one forwards every host API method to its module,
+ * building the module on the first call.
+ * <p>
+ * The stand-ins are plain forwarding methods rather than a reflective proxy, so a
+ * call costs no more than a virtual call once the module is built. A method added to
+ * a host API fails to compile here until it's forwarded as well.
+ */
+public final class LazyHostApis {
+    private LazyHostApis() {
+    }
+
+    public static class Apm implements ApmPigeon.ApmHostApi {
+        private final LazyHostApi<ApmPigeon.ApmHostApi> module;
+
+        public Apm(@NonNull LazyHostApi<ApmPigeon.ApmHostApi> module) {
+            this.module = module;
+        }
+
+        @Override
+        public void setEnabled(@NonNull Boolean isEnabled) {
+            module.get().setEnabled(isEnabled);
+        }
+
+        @Override
+        public void isEnabled(@NonNull ApmPigeon.Result<Boolean> result) {
+            module.get().isEnabled(result);
+        }
+
+        @Override
+        public void setScreenLoadingEnabled(@NonNull Boolean isEnabled) {
+            module.get().setScreenLoadingEnabled(isEnabled);
+        }
+
+        @Override
+        public void isScreenLoadingEnabled(@NonNull ApmPigeon.Result<Boolean> result) {
+            module.get().isScreenLoadingEnabled(result);
+        }
+
+        @Override
+        public void setColdAppLaunchEnabled(@NonNull Boolean isEnabled) {
+            module.get().setColdAppLaunchEnabled(isEnabled);
+        }
+
+        @Override
+        public void setAutoUITraceEnabled(@NonNull Boolean isEnabled) {
+            module.get().setAutoUITraceEnabled(isEnabled);
+        }
+
+        @Override
+        public void startExecutionTrace(@NonNull String id, @NonNull String name, @NonNull ApmPigeon.Result<String> result) {
+            module.get().startExecutionTrace(id, name, result);
+        }
+
+        @Override
+        public void startExecutionTraceNonBlocking(@NonNull String id, @NonNull String name) {
+            module.get().startExecutionTraceNonBlocking(id, name);
+        }
+
+        @Override
+        public void startFlow(@NonNull String name) {
+            module.get().startFlow(name);
+        }
+
+        @Override
+        public void setFlowAttribute(@NonNull String name, @NonNull String key, @Nullable String value) {
+            module.get().setFlowAttribute(name, key, value);
+        }
+
+        @Override
+        public void setFlowAttributes(@NonNull String name, @NonNull Map<String, String> attributes) {
+            module.get().setFlowAttributes(name, attributes);
+        }
+
+        @Override
+        public void endFlow(@NonNull String name) {
+            module.get().endFlow(name);
+        }
+
+        @Override
+        public void setExecutionTraceAttribute(@NonNull String id, @NonNull String key, @NonNull String value) {
+            module.get().setExecutionTraceAttribute(id, key, value);
+        }
+
+        @Override
+        public void setExecutionTraceAttributes(@NonNull String id, @NonNull Map<String, String> attributes) {
+            module.get().setExecutionTraceAttributes(id, attributes);
+        }
+
+        @Override
+        public void endExecutionTrace(@NonNull String id) {
+            module.get().endExecutionTrace(id);
+        }
+
+        @Override
+        public void startUITrace(@NonNull String name) {
+            module.get().startUITrace(name);
+        }
+
+        @Override
+        public void endUITrace() {
+            module.get().endUITrace();
+        }
+
+        @Override
+        public void endAppLaunch() {
+            module.get().endAppLaunch();
+        }
+
+        @Override
+        public void networkLogAndroid(@NonNull Map<String, Object> data) {
+            module.get().networkLogAndroid(data);
+        }
+
+        @Override
+        public void startCpUiTrace(@NonNull String screenName, @NonNull Long microTimeStamp, @NonNull Long traceId) {
+            module.get().startCpUiTrace(screenName, microTimeStamp, traceId);
+        }
+
+        @Override
+        public void reportScreenLoadingCP(@NonNull Long startTimeStampMicro, @NonNull Long durationMicro, @NonNull Long uiTraceId) {
+            module.get().reportScreenLoadingCP(startTimeStampMicro, durationMicro, uiTraceId);
+        }
+
+        @Override
+        public void endScreenLoadingCP(@NonNull Long timeStampMicro, @NonNull Long uiTraceId) {
+            module.get().endScreenLoadingCP(timeStampMicro, uiTraceId);
+        }
+
+        @Override
+        public void isEndScreenLoadingEnabled(@NonNull ApmPigeon.Result<Boolean> result) {
+            module.get().isEndScreenLoadingEnabled(result);
+        }
+    }
+
+    public static class BugReporting implements BugReportingPigeon.BugReportingHostApi {
+        private final LazyHostApi<BugReportingPigeon.BugReportingHostApi> module;
+
+        public BugReporting(@NonNull LazyHostApi<BugReportingPigeon.BugReportingHostApi> module) {
+            this.module = module;
+        }
+
+        @Override
+        public void setEnabled(@NonNull Boolean isEnabled) {
+            module.get().setEnabled(isEnabled);
+        }
+
+        @Override
+        public void show(@NonNull String reportType, @NonNull List<String> invocationOptions) {
+            module.get().show(reportType, invocationOptions);
+        }
+
+        @Override
+        public void setInvocationEvents(@NonNull List<String> events) {
+            module.get().setInvocationEvents(events);
+        }
+
+        @Override
+        public void setReportTypes(@NonNull List<String> types) {
+            module.get().setReportTypes(types);
+        }
+
+        @Override
+        public void setExtendedBugReportMode(@NonNull String mode) {
+            module.get().setExtendedBugReportMode(mode);
+        }
+
+        @Override
+        public void setInvocationOptions(@NonNull List<String> options) {
+            module.get().setInvocationOptions(options);
+        }
+
+        @Override
+        public void setFloatingButtonEdge(@NonNull String edge, @NonNull Long offset) {
+            module.get().setFloatingButtonEdge(edge, offset);
+        }
+
+        @Override
+        public void setVideoRecordingFloatingButtonPosition(@NonNull String position) {
+            module.get().setVideoRecordingFloatingButtonPosition(position);
+        }
+
+        @Override
+        public void setShakingThresholdForiPhone(@NonNull Double threshold) {
+            module.get().setShakingThresholdForiPhone(threshold);
+        }
+
+        @Override
+        public void setShakingThresholdForiPad(@NonNull Double threshold) {
+            module.get().setShakingThresholdForiPad(threshold);
+        }
+
+        @Override
+        public void setShakingThresholdForAndroid(@NonNull Long threshold) {
+            module.get().setShakingThresholdForAndroid(threshold);
+        }
+
+        @Override
+        public void setEnabledAttachmentTypes(@NonNull Boolean screenshot, @NonNull Boolean extraScreenshot, @NonNull Boolean galleryImage, @NonNull Boolean screenRecording) {
+            module.get().setEnabledAttachmentTypes(screenshot, extraScreenshot, galleryImage, screenRecording);
+        }
+
+        @Override
+        public void bindOnInvokeCallback() {
+            module.get().bindOnInvokeCallback();
+        }
+
+        @Override
+        public void bindOnDismissCallback() {
+            module.get().bindOnDismissCallback();
+        }
+
+        @Override
+        public void setDisclaimerText(@NonNull String text) {
+            module.get().setDisclaimerText(text);
+        }
+
+        @Override
+        public void setCommentMinimumCharacterCount(@NonNull Long limit, @Nullable List<String> reportTypes) {
+            module.get().setCommentMinimumCharacterCount(limit, reportTypes);
+        }
+    }
+
+    public static class CrashReporting implements CrashReportingPigeon.CrashReportingHostApi {
+        private final LazyHostApi<CrashReportingPigeon.CrashReportingHostApi> module;
+
+        public CrashReporting(@NonNull LazyHostApi<CrashReportingPigeon.CrashReportingHostApi> module) {
+            this.module = module;
+        }
+
+        @Override
+        public void setEnabled(@NonNull Boolean isEnabled) {
+            module.get().setEnabled(isEnabled);
+        }
+
+        @Override
+        public void send(@NonNull String jsonCrash, @NonNull Boolean isHandled) {
+            module.get().send(jsonCrash, isHandled);
+        }
+
+        @Override
+        public void sendNonFatalError(@NonNull String jsonCrash, @Nullable Map<String, String> userAttributes, @Nullable String fingerprint, @NonNull String nonFatalExceptionLevel) {
+            module.get().sendNonFatalError(jsonCrash, userAttributes, fingerprint, nonFatalExceptionLevel);
+        }
+    }
+
+    public static class FeatureRequests implements FeatureRequestsPigeon.FeatureRequestsHostApi {
+        private final LazyHostApi<FeatureRequestsPigeon.FeatureRequestsHostApi> module;
+
+        public FeatureRequests(@NonNull LazyHostApi<FeatureRequestsPigeon.FeatureRequestsHostApi> module) {
+            this.module = module;
+        }
+
+        @Override
+        public void show() {
+            module.get().show();
+        }
+
+        @Override
+        public void setEmailFieldRequired(@NonNull Boolean isRequired, @NonNull List<String> actionTypes) {
+            module.get().setEmailFieldRequired(isRequired, actionTypes);
+        }
+    }
+
+    public static class InstabugLog implements InstabugLogPigeon.InstabugLogHostApi {
+        private final LazyHostApi<InstabugLogPigeon.InstabugLogHostApi> module;
+
+        public InstabugLog(@NonNull LazyHostApi<InstabugLogPigeon.InstabugLogHostApi> module) {
+            this.module = module;
+        }
+
+        @Override
+        public void logVerbose(@NonNull String message) {
+            module.get().logVerbose(message);
+        }
+
+        @Override
+        public void logDebug(@NonNull String message) {
+            module.get().logDebug(message);
+        }
+
+        @Override
+        public void logInfo(@NonNull String message) {
+            module.get().logInfo(message);
+        }
+
+        @Override
+        public void logWarn(@NonNull String message) {
+            module.get().logWarn(message);
+        }
+
+        @Override
+        public void logError(@NonNull String message) {
+            module.get().logError(message);
+        }
+
+        @Override
+        public void logBatch(@NonNull List<Object> entries) {
+            module.get().logBatch(entries);
+        }
+
+        @Override
+        public void clearAllLogs() {
+            module.get().clearAllLogs();
+        }
+    }
+
+    public static class Replies implements RepliesPigeon.RepliesHostApi {
+        private final LazyHostApi<RepliesPigeon.RepliesHostApi> module;
+
+        public Replies(@NonNull LazyHostApi<RepliesPigeon.RepliesHostApi> module) {
+            this.module = module;
+        }
+
+        @Override
+        public void setEnabled(@NonNull Boolean isEnabled) {
+            module.get().setEnabled(isEnabled);
+        }
+
+        @Override
+        public void show() {
+            module.get().show();
+        }
+
+        @Override
+        public void setInAppNotificationsEnabled(@NonNull Boolean isEnabled) {
+            module.get().setInAppNotificationsEnabled(isEnabled);
+        }
+
+        @Override
+        public void setInAppNotificationSound(@NonNull Boolean isEnabled) {
+            module.get().setInAppNotificationSound(isEnabled);
+        }
+
+        @Override
+        public void getUnreadRepliesCount(@NonNull RepliesPigeon.Result<Long> result) {
+            module.get().getUnreadRepliesCount(result);
+        }
+
+        @Override
+        public void hasChats(@NonNull RepliesPigeon.Result<Boolean> result) {
+            module.get().hasChats(result);
+        }
+
+        @Override
+        public void bindOnNewReplyCallback() {
+            module.get().bindOnNewReplyCallback();
+        }
+    }
+
+    public static class SessionReplay implements SessionReplayPigeon.SessionReplayHostApi {
+        private final LazyHostApi<SessionReplayPigeon.SessionReplayHostApi> module;
+
+        public SessionReplay(@NonNull LazyHostApi<SessionReplayPigeon.SessionReplayHostApi> module) {
+            this.module = module;
+        }
+
+        @Override
+        public void setEnabled(@NonNull Boolean isEnabled) {
+            module.get().setEnabled(isEnabled);
+        }
+
+        @Override
+        public void setNetworkLogsEnabled(@NonNull Boolean isEnabled) {
+            module.get().setNetworkLogsEnabled(isEnabled);
+        }
+
+        @Override
+        public void setInstabugLogsEnabled(@NonNull Boolean isEnabled) {
+            module.get().setInstabugLogsEnabled(isEnabled);
+        }
+
+        @Override
+        public void setUserStepsEnabled(@NonNull Boolean isEnabled) {
+            module.get().setUserStepsEnabled(isEnabled);
+        }
+
+        @Override
+        public void getSessionReplayLink(@NonNull SessionReplayPigeon.Result<String> result) {
+            module.get().getSessionReplayLink(result);
+        }
+    }
+
+    public static class Surveys implements SurveysPigeon.SurveysHostApi {
+        private final LazyHostApi<SurveysPigeon.SurveysHostApi> module;
+
+        public Surveys(@NonNull LazyHostApi<SurveysPigeon.SurveysHostApi> module) {
+            this.module = module;
+        }
+
+        @Override
+        public void setEnabled(@NonNull Boolean isEnabled) {
+            module.get().setEnabled(isEnabled);
+        }
+
+        @Override
+        public void showSurveyIfAvailable() {
+            module.get().showSurveyIfAvailable();
+        }
+
+        @Override
+        public void showSurvey(@NonNull String surveyToken) {
+            module.get().showSurvey(surveyToken);
+        }
+
+        @Override
+        public void setAutoShowingEnabled(@NonNull Boolean isEnabled) {
+            module.get().setAutoShowingEnabled(isEnabled);
+        }
+
+        @Override
+        public void setShouldShowWelcomeScreen(@NonNull Boolean shouldShowWelcomeScreen) {
+            module.get().setShouldShowWelcomeScreen(shouldShowWelcomeScreen);
+        }
+
+        @Override
+        public void setAppStoreURL(@NonNull String appStoreURL) {
+            module.get().setAppStoreURL(appStoreURL);
+        }
+
+        @Override
+        public void hasRespondedToSurvey(@NonNull String surveyToken, @NonNull SurveysPigeon.Result<Boolean> result) {
+            module.get().hasRespondedToSurvey(surveyToken, result);
+        }
+
+        @Override
+        public void getAvailableSurveys(@NonNull SurveysPigeon.Result<List<String>> result) {
+            module.get().getAvailableSurveys(result);
+        }
+
+        @Override
+        public void bindOnShowSurveyCallback() {
+            module.get().bindOnShowSurveyCallback();
+        }
+
+        @Override
+        public void bindOnDismissSurveyCallback() {
+            module.get().bindOnDismissSurveyCallback();
+        }
+    }
+}
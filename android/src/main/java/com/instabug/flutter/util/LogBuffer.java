@@ -0,0 +1,179 @@
+package com.instabug.flutter.util;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded buffer of log entries that are drained into the SDK from a
+ * dedicated low priority thread.
+ * <p>
+ * Any thread can add entries, but only one thread drains them. When the buffer
+ * is full the oldest pending entry is dropped and counted. The flush thread
+ * blocks on the underlying {@link ArrayBlockingQueue} until entries are added.
+ */
+public class LogBuffer {
+    private static final String TAG = LogBuffer.class.getName();
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    public interface Sink {
+        void log(int level, @NonNull String message);
+    }
+
+    private static final class Entry {
+        final long generation;
+        final int level;
+        final String message;
+
+        Entry(long generation, int level, String message) {
+            this.generation = generation;
+            this.level = level;
+            this.message = message;
+        }
+    }
+
+    private final ArrayBlockingQueue<Entry> queue;
+    private final int capacity;
+    private final AtomicLong dropped = new AtomicLong();
+
+    // Held while entries are drained into the sink, so clear waits for an in-flight drain.
+    private final Object drainLock = new Object();
+    // Guarded by drainLock.
+    private final List<Entry> batch = new ArrayList<>();
+
+    // Bumped by clear, entries added before it are skipped. Only written under drainLock.
+    private volatile long generation;
+    private volatile Thread flushThread;
+
+    /**
+     * @param capacity the maximum number of pending entries
+     */
+    public LogBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Log buffer capacity must be positive, got " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Starts the background thread that drains the buffer into the given sink.
+     */
+    public synchronized void start(@NonNull Sink sink) {
+        if (flushThread != null) {
+            return;
+        }
+
+        flushThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (!Thread.currentThread().isInterrupted()) {
+                    final Entry first;
+                    try {
+                        first = queue.take();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    drain(sink, first);
+                }
+            }
+        }, "instabug-flutter-log-flusher");
+        flushThread.setPriority(Thread.MIN_PRIORITY);
+        flushThread.setDaemon(true);
+        flushThread.start();
+    }
+
+    public void add(int level, @NonNull String message) {
+        final Entry entry = new Entry(generation, level, message);
+
+        while (!queue.offer(entry)) {
+            final Entry oldest = queue.poll();
+            if (oldest != null && oldest.generation == generation) {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Drops all the pending entries, they aren't counted as dropped. Waits for an
+     * in-flight drain, so no entry added before the call is drained after it returns.
+     */
+    public void clear() {
+        synchronized (drainLock) {
+            generation++;
+            queue.clear();
+        }
+    }
+
+    /**
+     * Drains the pending entries into the given sink in the order they were added.
+     * Must only be called from a single thread at a time, which is the flush
+     * thread once {@link #start(Sink)} is called.
+     */
+    @VisibleForTesting
+    public void drain(@NonNull Sink sink) {
+        drain(sink, null);
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * @return the number of entries waiting to be drained
+     */
+    public long getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of entries dropped before they were drained because the buffer was full
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void drain(@NonNull Sink sink, @Nullable Entry first) {
+        synchronized (drainLock) {
+            if (first != null) {
+                flush(sink, first);
+            }
+
+            queue.drainTo(batch);
+            try {
+                for (Entry entry : batch) {
+                    flush(sink, entry);
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(@NonNull Sink sink, @NonNull Entry entry) {
+        // Taken off the queue before a clear.
+        if (entry.generation != generation) {
+            return;
+        }
+
+        try {
+            sink.log(entry.level, entry.message);
+        } catch (Exception e) {
+            // Skips the entry so a failing sink doesn't stop the following ones.
+            Log.e(TAG, "Failed to flush a log message. Cause: " + e);
+        }
+    }
+}
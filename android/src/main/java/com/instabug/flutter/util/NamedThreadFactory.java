@@ -0,0 +1,33 @@
+package com.instabug.flutter.util;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates daemon threads named after the plugin, so they are easy to tell apart
+ * from the app's threads in traces and thread dumps.
+ */
+public class NamedThreadFactory implements ThreadFactory {
+    private final String prefix;
+    private final int priority;
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * @param prefix   the thread names prefix, followed by the thread number
+     * @param priority the {@link Thread} priority of the created threads
+     */
+    public NamedThreadFactory(@NonNull String prefix, int priority) {
+        this.prefix = prefix;
+        this.priority = priority;
+    }
+
+    @Override
+    public Thread newThread(@NonNull Runnable runnable) {
+        final Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+        thread.setPriority(priority);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
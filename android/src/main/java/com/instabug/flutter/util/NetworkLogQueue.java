@@ -0,0 +1,248 @@
+package com.instabug.flutter.util;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded queue of network logs processed by a small pool of low priority
+ * worker threads, so parsing the logs and inserting them into the SDK doesn't
+ * block the platform thread.
+ * <p>
+ * When the queue is full, logs are handled according to the configured {@link DropPolicy}.
+ */
+public class NetworkLogQueue {
+    private static final String TAG = NetworkLogQueue.class.getName();
+
+    public static final int DEFAULT_CAPACITY = 256;
+    public static final int DEFAULT_WORKERS = 1;
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    public enum DropPolicy {
+        /**
+         * Drops the oldest queued log to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Drops the new log, keeping the queued ones.
+         */
+        DROP_NEWEST,
+        /**
+         * Processes the new log on the calling thread, slowing down the producer
+         * instead of dropping logs.
+         */
+        CALLER_RUNS,
+    }
+
+    private static int capacity = DEFAULT_CAPACITY;
+    private static int workers = DEFAULT_WORKERS;
+    private static DropPolicy dropPolicy = DropPolicy.DROP_OLDEST;
+    private static NetworkLogQueue instance;
+
+    private final ThreadPoolExecutor executor;
+    private final ArrayBlockingQueue<Runnable> queue;
+    private final DropPolicy policy;
+
+    // Logs queued or being processed.
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    /**
+     * Configures the shared queue. Must be called before the plugin is registered.
+     *
+     * @param capacity the maximum number of network logs waiting to be processed
+     * @param workers  the number of worker threads processing the logs
+     * @param policy   how to handle new logs when the queue is full
+     */
+    public static synchronized void configure(int capacity, int workers, @NonNull DropPolicy policy) {
+        if (instance != null) {
+            Log.w(TAG, "NetworkLogQueue.configure was called after the queue was created, ignoring it");
+            return;
+        }
+        NetworkLogQueue.capacity = capacity;
+        NetworkLogQueue.workers = workers;
+        NetworkLogQueue.dropPolicy = policy;
+    }
+
+    /**
+     * @return the queue shared by all the network logging entry points
+     */
+    @NonNull
+    public static synchronized NetworkLogQueue getInstance() {
+        if (instance == null) {
+            instance = new NetworkLogQueue(capacity, workers, dropPolicy);
+        }
+        return instance;
+    }
+
+    /**
+     * Replaces the shared queue, e.g. to process the logs on the calling thread in benchmarks.
+     */
+    @VisibleForTesting
+    public static synchronized void setInstance(@NonNull NetworkLogQueue queue) {
+        instance = queue;
+    }
+
+    /**
+     * Queues a network log to be processed by the shared queue.
+     */
+    public static void submit(@NonNull Runnable task) {
+        getInstance().enqueue(task);
+    }
+
+    public NetworkLogQueue(int capacity, int workers, @NonNull DropPolicy policy) {
+        if (capacity <= 0 || workers <= 0) {
+            throw new IllegalArgumentException("Network log queue capacity and workers must be positive, got " + capacity + " and " + workers);
+        }
+
+        this.policy = policy;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                queue,
+                new NamedThreadFactory("instabug-flutter-network-log", Thread.MIN_PRIORITY),
+                new DropHandler()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public void enqueue(@NonNull Runnable task) {
+        inFlight.incrementAndGet();
+        executor.execute(new TimedTask(task));
+    }
+
+    /**
+     * @return the number of network logs waiting to be processed
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of network logs dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return the number of network logs processed
+     */
+    public long getProcessedCount() {
+        return processed.get();
+    }
+
+    /**
+     * @return the average time in milliseconds between queueing a network log and finishing its processing
+     */
+    public double getAverageLatencyMillis() {
+        final long count = processed.get();
+        if (count == 0) {
+            return 0;
+        }
+        return totalLatencyNanos.get() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return the longest time in milliseconds between queueing a network log and finishing its processing
+     */
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @NonNull
+    public DropPolicy getDropPolicy() {
+        return policy;
+    }
+
+    /**
+     * Waits for the queued network logs to be processed.
+     */
+    @VisibleForTesting
+    public boolean awaitIdle(long timeoutMillis) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (inFlight.get() > 0) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    private void record(long latencyNanos) {
+        processed.incrementAndGet();
+        totalLatencyNanos.addAndGet(latencyNanos);
+
+        long max = maxLatencyNanos.get();
+        while (latencyNanos > max && !maxLatencyNanos.compareAndSet(max, latencyNanos)) {
+            max = maxLatencyNanos.get();
+        }
+    }
+
+    private void drop() {
+        dropped.incrementAndGet();
+        inFlight.decrementAndGet();
+    }
+
+    private final class TimedTask implements Runnable {
+        private final Runnable task;
+        private final long queuedAt = System.nanoTime();
+
+        TimedTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } catch (Exception e) {
+                Log.e(TAG, "Network logging failed", e);
+            } finally {
+                record(System.nanoTime() - queuedAt);
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private final class DropHandler implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                drop();
+                return;
+            }
+
+            switch (policy) {
+                case DROP_OLDEST:
+                    if (queue.poll() != null) {
+                        drop();
+                    }
+                    executor.execute(task);
+                    break;
+                case DROP_NEWEST:
+                    drop();
+                    break;
+                case CALLER_RUNS:
+                    task.run();
+                    break;
+            }
+        }
+    }
+}
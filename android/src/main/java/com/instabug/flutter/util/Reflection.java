@@ -1,11 +1,27 @@
 package com.instabug.flutter.util;
 
+import android.util.Log;
+
+import androidx.annotation.VisibleForTesting;
+
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Reflection {
+    private static final String TAG = Reflection.class.getName();
+
+    // Cached in place of methods that weren't found, as the map doesn't accept null values.
+    private static final Object NOT_FOUND = new Object();
+
+    private static final ConcurrentHashMap<MethodKey, Object> cache = new ConcurrentHashMap<>();
+
     /**
      * Gets the private method that matches the class, method name and parameter
      * types given and making it accessible. For private use only.
+     * <p>
+     * Lookups are cached for the lifetime of the process, including the ones
+     * that didn't match any method.
      *
      * @param clazz         the class the method is in
      * @param methodName    the method name
@@ -13,6 +29,45 @@ public class Reflection {
      * @return the method that matches the class, method name and param types given
      */
     public static Method getMethod(Class clazz, String methodName, Class... parameterType) {
+        final MethodKey key = new MethodKey(clazz, methodName, parameterType);
+
+        Object method = cache.get(key);
+        if (method == null) {
+            final Method found = findMethod(clazz, methodName, parameterType);
+            method = found == null ? NOT_FOUND : found;
+
+            // The key is copied as callers may reuse the varargs array.
+            final Object previous = cache.putIfAbsent(new MethodKey(clazz, methodName, parameterType.clone()), method);
+            if (previous != null) {
+                method = previous;
+            }
+        }
+
+        return method == NOT_FOUND ? null : (Method) method;
+    }
+
+    /**
+     * Resolves and caches a private method ahead of its first use, so the
+     * lookup doesn't happen on a latency sensitive path.
+     *
+     * @param className     the fully qualified name of the class the method is in
+     * @param methodName    the method name
+     * @param parameterType list of the parameter types of the method
+     */
+    public static void prewarm(String className, String methodName, Class... parameterType) {
+        try {
+            getMethod(Class.forName(className), methodName, parameterType);
+        } catch (ClassNotFoundException e) {
+            Log.w(TAG, className + " was not found, skipping pre-warming " + methodName);
+        }
+    }
+
+    @VisibleForTesting
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    private static Method findMethod(Class clazz, String methodName, Class... parameterType) {
         final Method[] methods = clazz.getDeclaredMethods();
         for (Method method : methods) {
             if (method.getName().equals(methodName) && method.getParameterTypes().length == parameterType.length) {
@@ -30,4 +85,34 @@ public class Reflection {
         }
         return null;
     }
+
+    private static final class MethodKey {
+        private final Class clazz;
+        private final String name;
+        private final Class[] parameterTypes;
+        private final int hashCode;
+
+        MethodKey(Class clazz, String name, Class[] parameterTypes) {
+            this.clazz = clazz;
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.hashCode = 31 * (31 * clazz.hashCode() + name.hashCode()) + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof MethodKey)) return false;
+
+            final MethodKey other = (MethodKey) o;
+            return clazz == other.clazz
+                    && name.equals(other.name)
+                    && Arrays.equals(parameterTypes, other.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
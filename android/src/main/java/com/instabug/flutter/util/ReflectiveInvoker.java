@@ -0,0 +1,126 @@
+package com.instabug.flutter.util;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A private SDK method bound once through {@link Reflection} and invoked
+ * without looking it up again.
+ * <p>
+ * The parameter types are given by name and only loaded when the method is
+ * resolved, so invokers can be declared for methods taking SDK types missing
+ * from the SDK version used by the app. When the method or any of its types
+ * isn't available, invoking it does nothing and a single warning is logged.
+ */
+public class ReflectiveInvoker {
+    private static final String TAG = ReflectiveInvoker.class.getName();
+
+    private static final Map<String, Class<?>> primitiveTypes = new HashMap<>();
+
+    static {
+        for (Class<?> type : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class}) {
+            primitiveTypes.put(type.getName(), type);
+        }
+    }
+
+    private final String className;
+    private final String methodName;
+    private final String[] parameterTypes;
+
+    private final AtomicBoolean hasWarned = new AtomicBoolean();
+    private volatile boolean isResolved;
+    private volatile Method method;
+
+    /**
+     * @param parameterTypes the names of the parameter types, as returned by {@link Class#getName()},
+     *                       e.g. {@code "long"} or {@code "com.instabug.crash.models.IBGNonFatalException$Level"}
+     */
+    public ReflectiveInvoker(@NonNull String className, @NonNull String methodName, @NonNull String... parameterTypes) {
+        this.className = className;
+        this.methodName = methodName;
+        this.parameterTypes = parameterTypes;
+    }
+
+    /**
+     * Looks the method up if it wasn't already, safe to call from any thread.
+     */
+    public void resolve() {
+        if (isResolved) {
+            return;
+        }
+
+        synchronized (this) {
+            if (isResolved) {
+                return;
+            }
+
+            try {
+                method = Reflection.getMethod(Class.forName(className), methodName, loadParameterTypes());
+            } catch (ClassNotFoundException | LinkageError e) {
+                method = null;
+                warnMissing("Cause: " + e);
+            }
+            isResolved = true;
+        }
+    }
+
+    public boolean isAvailable() {
+        resolve();
+        return method != null;
+    }
+
+    /**
+     * Invokes the method, or does nothing if it isn't available.
+     *
+     * @param target the instance to invoke the method on, null for static methods
+     * @param args   the arguments matching the parameter types of the method
+     * @return the result of the method, null if it isn't available
+     */
+    @Nullable
+    public Object invoke(@Nullable Object target, Object... args) throws Exception {
+        resolve();
+
+        final Method resolved = method;
+        if (resolved == null) {
+            warnMissing(null);
+            return null;
+        }
+
+        return resolved.invoke(target, args);
+    }
+
+    @NonNull
+    private Class<?>[] loadParameterTypes() throws ClassNotFoundException {
+        final Class<?>[] types = new Class<?>[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            final Class<?> primitive = primitiveTypes.get(parameterTypes[i]);
+            types[i] = primitive != null ? primitive : Class.forName(parameterTypes[i]);
+        }
+        return types;
+    }
+
+    private void warnMissing(@Nullable String cause) {
+        if (hasWarned.compareAndSet(false, true)) {
+            Log.w(TAG, className + "." + methodName + " was not found by reflection, ignoring calls to it"
+                    + (cause == null ? "" : ". " + cause));
+        }
+    }
+
+    /**
+     * Drops the resolved method so the next call looks it up again.
+     */
+    @VisibleForTesting
+    public synchronized void reset() {
+        method = null;
+        isResolved = false;
+        hasWarned.set(false);
+    }
+}
@@ -0,0 +1,210 @@
+package com.instabug.flutter.util;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Captures the screenshots requested by the SDK from the Flutter renderer.
+ * <p>
+ * Frames are grabbed on the main thread, as required by the renderer, then scaled
+ * and converted to the configured pixel format on the thread the SDK asked from,
+ * so the main thread only pays for the grab itself.
+ * <p>
+ * Every screenshot is drawn into a new bitmap: the SDK owns the screenshots it's
+ * given and may still be encoding or may recycle them, so they're never reused.
+ */
+public class ScreenshotCapturer {
+    private static final String TAG = ScreenshotCapturer.class.getName();
+
+    public static final float DEFAULT_SCALE = 1f;
+    public static final Bitmap.Config DEFAULT_CONFIG = Bitmap.Config.ARGB_8888;
+
+    private static final long GRAB_TIMEOUT_MILLIS = 1000;
+
+    private static float scale = DEFAULT_SCALE;
+    private static Bitmap.Config config = DEFAULT_CONFIG;
+    private static ScreenshotCapturer instance;
+
+    private final float frameScale;
+    private final Bitmap.Config frameConfig;
+
+    private final AtomicLong captured = new AtomicLong();
+    private final AtomicLong bytesProduced = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    /**
+     * Grabs the current Flutter frame, always called on the main thread.
+     */
+    public interface FrameSource {
+        @Nullable
+        Bitmap grab();
+    }
+
+    /**
+     * Configures the shared capturer. Must be called before the plugin is registered.
+     *
+     * @param scale    the factor screenshots are scaled by, from 0 (exclusive) to 1
+     * @param config   the pixel format of the screenshots, e.g. {@link Bitmap.Config#RGB_565}
+     *                 to halve their size at the cost of the alpha channel and color depth
+     */
+    public static synchronized void configure(float scale, @NonNull Bitmap.Config config) {
+        if (instance != null) {
+            Log.w(TAG, "ScreenshotCapturer.configure was called after the capturer was created, ignoring it");
+            return;
+        }
+        ScreenshotCapturer.scale = scale;
+        ScreenshotCapturer.config = config;
+    }
+
+    /**
+     * @return the capturer used by the plugin's screenshot provider
+     */
+    @NonNull
+    public static synchronized ScreenshotCapturer getInstance() {
+        if (instance == null) {
+            instance = new ScreenshotCapturer(scale, config);
+        }
+        return instance;
+    }
+
+    public ScreenshotCapturer(float scale, @NonNull Bitmap.Config config) {
+        if (scale <= 0 || scale > 1) {
+            throw new IllegalArgumentException("Screenshot scale must be in (0, 1], got " + scale);
+        }
+
+        this.frameScale = scale;
+        this.frameConfig = config;
+    }
+
+    /**
+     * @return the screenshot of the current frame, or null if it couldn't be grabbed
+     */
+    @Nullable
+    public Bitmap capture(@NonNull FrameSource source) {
+        final long startedAt = System.nanoTime();
+
+        final Bitmap frame = grabOnMainThread(source);
+        if (frame == null) {
+            return null;
+        }
+
+        final Bitmap screenshot = encode(frame);
+        record(System.nanoTime() - startedAt, screenshot.getByteCount());
+        return screenshot;
+    }
+
+    /**
+     * @return the number of screenshots captured
+     */
+    public long getCapturedCount() {
+        return captured.get();
+    }
+
+    /**
+     * @return the total size in bytes of the screenshots captured
+     */
+    public long getBytesProduced() {
+        return bytesProduced.get();
+    }
+
+    /**
+     * @return the average time in milliseconds to grab, scale and convert a screenshot
+     */
+    public double getAverageLatencyMillis() {
+        final long count = captured.get();
+        if (count == 0) {
+            return 0;
+        }
+        return totalLatencyNanos.get() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return the longest time in milliseconds to grab, scale and convert a screenshot
+     */
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Nullable
+    private Bitmap grabOnMainThread(@NonNull FrameSource source) {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            return source.grab();
+        }
+
+        final AtomicReference<Bitmap> frame = new AtomicReference<>();
+        final AtomicBoolean abandoned = new AtomicBoolean();
+        final CountDownLatch grabbed = new CountDownLatch(1);
+
+        ThreadManager.runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    final Bitmap bitmap = source.grab();
+                    if (bitmap != null && abandoned.get()) {
+                        bitmap.recycle();
+                        return;
+                    }
+                    frame.set(bitmap);
+                } finally {
+                    grabbed.countDown();
+                }
+            }
+        });
+
+        try {
+            if (!grabbed.await(GRAB_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                abandoned.set(true);
+                Log.w(TAG, "Timed out waiting for the main thread to grab the Flutter frame");
+                return null;
+            }
+        } catch (InterruptedException e) {
+            abandoned.set(true);
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        return frame.get();
+    }
+
+    @NonNull
+    private Bitmap encode(@NonNull Bitmap frame) {
+        final int width = Math.max(1, Math.round(frame.getWidth() * frameScale));
+        final int height = Math.max(1, Math.round(frame.getHeight() * frameScale));
+
+        if (width == frame.getWidth() && height == frame.getHeight() && frame.getConfig() == frameConfig) {
+            return frame;
+        }
+
+        final Bitmap screenshot = Bitmap.createBitmap(width, height, frameConfig);
+        final Canvas canvas = new Canvas(screenshot);
+        canvas.drawBitmap(frame, null, new Rect(0, 0, width, height), new Paint(Paint.FILTER_BITMAP_FLAG));
+
+        // The full size frame is the bulk of a capture's memory, don't wait for the GC.
+        frame.recycle();
+        return screenshot;
+    }
+
+    private void record(long latencyNanos, long bytes) {
+        captured.incrementAndGet();
+        bytesProduced.addAndGet(bytes);
+        totalLatencyNanos.addAndGet(latencyNanos);
+
+        long max = maxLatencyNanos.get();
+        while (latencyNanos > max && !maxLatencyNanos.compareAndSet(max, latencyNanos)) {
+            max = maxLatencyNanos.get();
+        }
+    }
+}
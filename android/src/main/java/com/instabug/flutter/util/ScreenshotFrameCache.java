@@ -0,0 +1,166 @@
+package com.instabug.flutter.util;
+
+import android.graphics.Bitmap;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A screenshot provider that returns the last captured screenshot while it's
+ * still current, since the SDK can ask for several screenshots within a fraction
+ * of a second during report flows.
+ * <p>
+ * A screenshot stops being current once it's older than the configured max age,
+ * or once {@link #invalidate()} is called because the Flutter UI started or
+ * stopped being displayed or a screen change was reported. The renderer doesn't
+ * report the frames drawn in between, so a cached screenshot can miss changes
+ * made within the max age on the same screen, e.g. an animation. The cache is
+ * therefore disabled by default, and only enabled through {@link #configure(long)}.
+ * <p>
+ * The SDK owns the screenshots it's given, so it's given a copy of the cached
+ * screenshot, which is never handed out and is recycled once outdated.
+ */
+public class ScreenshotFrameCache implements Callable<Bitmap> {
+    private static final String TAG = ScreenshotFrameCache.class.getName();
+
+    public static final long DEFAULT_MAX_AGE_MILLIS = 0;
+
+    private static long maxAgeMillis = DEFAULT_MAX_AGE_MILLIS;
+    private static boolean created = false;
+
+    private final Callable<Bitmap> provider;
+    private final long maxAge;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    // Guarded by this.
+    @Nullable
+    private Bitmap screenshot;
+    private long screenshotGeneration;
+    private long capturedAt;
+
+    /**
+     * Configures the plugin's screenshot cache. Must be called before the plugin is registered.
+     *
+     * @param maxAgeMillis the time after which a screenshot is captured again even if
+     *                     the cache wasn't invalidated, 0 disables the cache, e.g. 500
+     */
+    public static synchronized void configure(long maxAgeMillis) {
+        if (created) {
+            Log.w(TAG, "ScreenshotFrameCache.configure was called after the cache was created, ignoring it");
+            return;
+        }
+        ScreenshotFrameCache.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * @return a cache around the given provider, with the configured max age
+     */
+    @NonNull
+    public static synchronized ScreenshotFrameCache create(@NonNull Callable<Bitmap> provider) {
+        created = true;
+        return new ScreenshotFrameCache(provider, maxAgeMillis);
+    }
+
+    public ScreenshotFrameCache(@NonNull Callable<Bitmap> provider, long maxAgeMillis) {
+        if (maxAgeMillis < 0) {
+            throw new IllegalArgumentException("Screenshot cache max age can't be negative, got " + maxAgeMillis);
+        }
+
+        this.provider = provider;
+        this.maxAge = maxAgeMillis;
+    }
+
+    @Nullable
+    @Override
+    public synchronized Bitmap call() throws Exception {
+        if (maxAge == 0) {
+            misses.incrementAndGet();
+            return provider.call();
+        }
+
+        if (isCurrent()) {
+            final Bitmap copy = copy(screenshot);
+            if (copy != null) {
+                hits.incrementAndGet();
+                return copy;
+            }
+        }
+
+        evict();
+
+        final long capturedGeneration = generation.get();
+        final Bitmap captured = provider.call();
+        misses.incrementAndGet();
+
+        if (captured != null) {
+            screenshot = copy(captured);
+            screenshotGeneration = capturedGeneration;
+            capturedAt = nowMillis();
+        }
+        return captured;
+    }
+
+    /**
+     * Marks the cached screenshot as outdated, e.g. because the screen changed.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Recycles the cached screenshot, typically when the plugin is detached.
+     */
+    public synchronized void clear() {
+        invalidate();
+        evict();
+    }
+
+    /**
+     * @return the number of screenshots served from the cache
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of screenshots captured because none was cached or it was outdated
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    @VisibleForTesting
+    protected long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private boolean isCurrent() {
+        return screenshot != null
+                && screenshotGeneration == generation.get()
+                && nowMillis() - capturedAt < maxAge;
+    }
+
+    /**
+     * Recycles the cached screenshot, only ever handed out as copies.
+     */
+    private void evict() {
+        if (screenshot != null) {
+            screenshot.recycle();
+            screenshot = null;
+        }
+    }
+
+    @Nullable
+    private static Bitmap copy(@NonNull Bitmap bitmap) {
+        return bitmap.copy(bitmap.getConfig(), false);
+    }
+}
@@ -0,0 +1,64 @@
+package com.instabug.flutter.util;
+
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * The private SDK methods called by the modules, resolved once in the
+ * background when the plugin is registered.
+ * <p>
+ * Parameter types are referenced by name, so loading this class doesn't load
+ * SDK types that may be missing from the SDK version used by the app.
+ */
+public final class SdkInvokers {
+    private static final String STRING = "java.lang.String";
+    private static final String BITMAP = "android.graphics.Bitmap";
+    private static final String JSON_OBJECT = "org.json.JSONObject";
+
+    public static final ReflectiveInvoker setCurrentPlatform = new ReflectiveInvoker(
+            "com.instabug.library.Instabug", "setCurrentPlatform", "int");
+
+    public static final ReflectiveInvoker reportScreenChange = new ReflectiveInvoker(
+            "com.instabug.library.Instabug", "reportScreenChange", BITMAP, STRING);
+
+    public static final ReflectiveInvoker setCustomBrandingImage = new ReflectiveInvoker(
+            "com.instabug.library.Instabug", "setCustomBrandingImage", BITMAP, BITMAP);
+
+    public static final ReflectiveInvoker reportException = new ReflectiveInvoker(
+            "com.instabug.crash.CrashReporting", "reportException", JSON_OBJECT, "boolean");
+
+    public static final ReflectiveInvoker reportNonFatalException = new ReflectiveInvoker(
+            "com.instabug.crash.CrashReporting", "reportException", JSON_OBJECT, "boolean",
+            "java.util.Map", JSON_OBJECT, "com.instabug.crash.models.IBGNonFatalException$Level");
+
+    public static final ReflectiveInvoker apmNetworkLog = new ReflectiveInvoker(
+            "com.instabug.apm.networking.APMNetworkLogger", "log", "long", "long", STRING, STRING, "long", STRING, STRING, STRING, STRING, STRING, "long", "int", STRING, STRING, STRING, STRING,
+            "com.instabug.apm.networkinterception.cp.APMCPNetworkLog$W3CExternalTraceAttributes");
+
+    private static final ReflectiveInvoker[] all = {
+            setCurrentPlatform,
+            reportScreenChange,
+            setCustomBrandingImage,
+            reportException,
+            reportNonFatalException,
+            apmNetworkLog,
+    };
+
+    private SdkInvokers() {
+    }
+
+    /**
+     * Resolves all the invokers, so the lookups don't happen on a latency sensitive path.
+     */
+    public static void resolveAll() {
+        for (ReflectiveInvoker invoker : all) {
+            invoker.resolve();
+        }
+    }
+
+    @VisibleForTesting
+    public static void resetAll() {
+        for (ReflectiveInvoker invoker : all) {
+            invoker.reset();
+        }
+    }
+}
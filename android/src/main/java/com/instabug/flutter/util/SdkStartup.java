@@ -0,0 +1,290 @@
+package com.instabug.flutter.util;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import com.instabug.library.Instabug;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the SDK, on the {@link ThreadManager}'s background threads instead of the
+ * platform thread when enabled, holding the calls that arrive before it's built.
+ * <p>
+ * Calls made through {@link #run(Runnable)} before the SDK is built are queued and
+ * replayed in order once it is, instead of being ignored by or racing with the build.
+ * Builds taking longer than the startup budget are logged, and the build and replay
+ * timings are kept for the callers waiting on {@link #whenReady(Runnable)}.
+ */
+public class SdkStartup {
+    private static final String TAG = SdkStartup.class.getName();
+
+    public static final long DEFAULT_BUDGET_MILLIS = 500;
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private static long budgetMillis = DEFAULT_BUDGET_MILLIS;
+    private static int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private static SdkStartup instance;
+
+    private final long budget;
+    private final int capacity;
+    private final Callable<Boolean> isBuilt;
+
+    private final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+    private final List<Runnable> listeners = new ArrayList<>();
+    private boolean isReady = false;
+    private boolean isReplaying = false;
+
+    private long buildDuration = 0;
+    private long replayDuration = 0;
+    private long replayed = 0;
+    private long dropped = 0;
+
+    /**
+     * Configures the shared startup. Must be called before the plugin is registered.
+     *
+     * @param budgetMillis  the time building the SDK is expected to take at most, longer builds are logged
+     * @param queueCapacity the maximum number of calls held until the SDK is built, later calls are dropped
+     */
+    public static synchronized void configure(long budgetMillis, int queueCapacity) {
+        if (instance != null) {
+            Log.w(TAG, "SdkStartup.configure was called after the startup was created, ignoring it");
+            return;
+        }
+        SdkStartup.budgetMillis = budgetMillis;
+        SdkStartup.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * @return the startup shared by the plugin's modules
+     */
+    @NonNull
+    public static synchronized SdkStartup getInstance() {
+        if (instance == null) {
+            instance = new SdkStartup(budgetMillis, queueCapacity, new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return Instabug.isBuilt();
+                }
+            });
+        }
+        return instance;
+    }
+
+    /**
+     * @param isBuilt checks whether the SDK was built, e.g. natively before the plugin was used
+     */
+    @VisibleForTesting
+    public SdkStartup(long budgetMillis, int queueCapacity, @NonNull Callable<Boolean> isBuilt) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("SDK startup budget must be positive, got " + budgetMillis);
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("SDK startup queue capacity must be positive, got " + queueCapacity);
+        }
+
+        this.budget = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.capacity = queueCapacity;
+        this.isBuilt = isBuilt;
+    }
+
+    /**
+     * Builds the SDK in the background, then replays the calls queued meanwhile.
+     */
+    public void start(@NonNull Runnable build) {
+        start(build, true);
+    }
+
+    /**
+     * Builds the SDK, then replays the calls queued meanwhile.
+     *
+     * @param inBackground whether to build the SDK on a background thread, or on the calling thread
+     *                     so it's built once this returns
+     */
+    public void start(@NonNull final Runnable build, boolean inBackground) {
+        if (!inBackground) {
+            build(build);
+            return;
+        }
+
+        ThreadManager.runOnBackground(new Runnable() {
+            @Override
+            public void run() {
+                build(build);
+            }
+        });
+    }
+
+    /**
+     * Runs the call right away if the SDK is built, otherwise queues it until it is.
+     */
+    public void run(@NonNull Runnable call) {
+        synchronized (this) {
+            if (!isReady) {
+                if (pending.size() >= capacity) {
+                    if (dropped++ == 0) {
+                        Log.w(TAG, "More than " + capacity + " calls were made before the SDK was built, dropping the later ones");
+                    }
+                } else {
+                    pending.add(call);
+                }
+
+                // The SDK can also be built natively, without going through start.
+                if (isReplaying || !isSdkBuilt()) {
+                    return;
+                }
+            }
+        }
+
+        if (isReady()) {
+            call.run();
+        } else {
+            replay();
+        }
+    }
+
+    /**
+     * Runs the listener once the SDK is built and the queued calls are replayed, right
+     * away if they already are.
+     */
+    public void whenReady(@NonNull Runnable listener) {
+        boolean runNow = false;
+        boolean replayLater = false;
+        synchronized (this) {
+            if (isReady) {
+                runNow = true;
+            } else {
+                listeners.add(listener);
+
+                // The SDK can also be built natively, without going through start.
+                if (!isReplaying && isSdkBuilt()) {
+                    replayLater = true;
+                }
+            }
+        }
+
+        if (replayLater) {
+            replay();
+        } else if (runNow) {
+            listener.run();
+        }
+    }
+
+    public synchronized boolean isReady() {
+        return isReady;
+    }
+
+    /**
+     * @return the number of calls waiting for the SDK to be built
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return the number of calls replayed once the SDK was built
+     */
+    public synchronized long getReplayedCount() {
+        return replayed;
+    }
+
+    /**
+     * @return the number of calls dropped because the queue was full
+     */
+    public synchronized long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * @return the time in nanoseconds the last SDK build took, 0 if it wasn't built through {@link #start(Runnable)}
+     */
+    public synchronized long getBuildDuration() {
+        return buildDuration;
+    }
+
+    /**
+     * @return the time in nanoseconds replaying the queued calls took
+     */
+    public synchronized long getReplayDuration() {
+        return replayDuration;
+    }
+
+    /**
+     * @return the startup budget in nanoseconds
+     */
+    public long getBudget() {
+        return budget;
+    }
+
+    private void build(@NonNull Runnable build) {
+        final long start = System.nanoTime();
+        try {
+            build.run();
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to build the SDK. Cause: " + e);
+        }
+        final long duration = System.nanoTime() - start;
+
+        if (duration > budget) {
+            Log.w(TAG, "Building the SDK took " + TimeUnit.NANOSECONDS.toMillis(duration) + "ms, over the "
+                    + TimeUnit.NANOSECONDS.toMillis(budget) + "ms startup budget");
+        }
+        synchronized (this) {
+            buildDuration = duration;
+        }
+
+        replay();
+    }
+
+    private void replay() {
+        synchronized (this) {
+            if (isReady || isReplaying) {
+                return;
+            }
+            isReplaying = true;
+        }
+
+        final long start = System.nanoTime();
+        final List<Runnable> ready;
+        while (true) {
+            final Runnable call;
+            synchronized (this) {
+                call = pending.poll();
+                if (call == null) {
+                    // Calls made while replaying were queued after the replayed ones.
+                    isReady = true;
+                    isReplaying = false;
+                    replayDuration = System.nanoTime() - start;
+                    ready = new ArrayList<>(listeners);
+                    listeners.clear();
+                    break;
+                }
+                replayed++;
+            }
+
+            try {
+                call.run();
+            } catch (Exception e) {
+                Log.e(TAG, "Failed to replay a call made before the SDK was built. Cause: " + e);
+            }
+        }
+
+        for (Runnable listener : ready) {
+            listener.run();
+        }
+    }
+
+    private boolean isSdkBuilt() {
+        try {
+            return isBuilt.call();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -1,16 +1,261 @@
 package com.instabug.flutter.util;
 
-import android.os.AsyncTask;
 import android.os.Handler;
 import android.os.Looper;
+import android.util.Log;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the plugin's work on a dedicated background executor or on the main thread.
+ * <p>
+ * The background executor is a bounded pool of named threads, configurable through
+ * {@link #configure(int, int, int)}. Apps can run the plugin's background work on
+ * their own executor instead through {@link #setExecutor(Executor)}.
+ * <p>
+ * Tasks that don't fit in the bounded queue are handed to a single fallback thread
+ * with its own queue of the same capacity, rather than run on the calling thread,
+ * which is often the main thread. Only once both queues are full do tasks run on the
+ * calling thread, slowing down the producer instead of queueing without bounds.
+ * <p>
+ * Unlike the {@code AsyncTask} serial executor used before, tasks submitted through
+ * {@link #runOnBackground(Runnable)} can run concurrently and in any order. Work that
+ * must run in submission order goes through {@link #runOnBackgroundSerially(Runnable)}.
+ */
 public class ThreadManager {
-    // TODO: migrate to Flutter's TaskQueue
+    private static final String TAG = ThreadManager.class.getName();
+
+    public static final int DEFAULT_POOL_SIZE = 2;
+    public static final int DEFAULT_QUEUE_CAPACITY = 128;
+    public static final int DEFAULT_THREAD_PRIORITY = Thread.NORM_PRIORITY;
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static int poolSize = DEFAULT_POOL_SIZE;
+    private static int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private static int threadPriority = DEFAULT_THREAD_PRIORITY;
+
+    private static final AtomicLong rejected = new AtomicLong();
+    private static final AtomicLong callerRuns = new AtomicLong();
+
+    private static volatile Executor customExecutor;
+    private static ThreadPoolExecutor executor;
+    private static ExecutorService fallbackExecutor;
+    private static Handler mainHandler;
+
+    private static final SerialExecutor serialExecutor = new SerialExecutor();
+
+    /**
+     * Runs work that doesn't need to block a platform channel reply, concurrently with
+     * other background work. Expensive host methods are instead registered on background
+     * task queues in the pigeon definitions, so they run and reply off the main thread
+     * without a hop.
+     */
     public static void runOnBackground(Runnable runnable) {
-        AsyncTask.execute(runnable);
+        final Executor custom = customExecutor;
+        if (custom != null) {
+            custom.execute(runnable);
+        } else {
+            getExecutor().execute(runnable);
+        }
+    }
+
+    /**
+     * Runs work on the background executor one task at a time, in the order it
+     * was submitted, for work where a later call must not overtake an earlier one.
+     */
+    public static void runOnBackgroundSerially(Runnable runnable) {
+        serialExecutor.execute(runnable);
     }
 
     public static void runOnMainThread(Runnable runnable) {
-        new Handler(Looper.getMainLooper()).post(runnable);
+        getMainHandler().post(runnable);
+    }
+
+    /**
+     * Configures the plugin's background executor. Must be called before the plugin is registered.
+     *
+     * @param poolSize       the maximum number of background threads
+     * @param queueCapacity  the maximum number of tasks waiting for a thread, when
+     *                       exceeded tasks run on a fallback thread and are counted as rejected,
+     *                       and once its queue of the same capacity is full on the calling thread
+     * @param threadPriority the {@link Thread} priority of the background threads
+     */
+    public static synchronized void configure(int poolSize, int queueCapacity, int threadPriority) {
+        if (executor != null) {
+            Log.w(TAG, "ThreadManager.configure was called after the executor was created, ignoring it");
+            return;
+        }
+        if (poolSize <= 0 || queueCapacity <= 0 || threadPriority < Thread.MIN_PRIORITY || threadPriority > Thread.MAX_PRIORITY) {
+            throw new IllegalArgumentException("Invalid ThreadManager configuration: pool size " + poolSize + ", queue capacity " + queueCapacity + ", thread priority " + threadPriority);
+        }
+
+        ThreadManager.poolSize = poolSize;
+        ThreadManager.queueCapacity = queueCapacity;
+        ThreadManager.threadPriority = threadPriority;
+    }
+
+    /**
+     * Runs the plugin's background work on the given executor instead of the
+     * plugin's own one. Pass null to go back to the plugin's executor.
+     */
+    public static void setExecutor(@Nullable Executor executor) {
+        customExecutor = executor;
+    }
+
+    /**
+     * @return the number of tasks that ran on the fallback thread because the background queue was full
+     */
+    public static long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @return the number of tasks that ran on the calling thread because both the background
+     * and fallback queues were full
+     */
+    public static long getCallerRunCount() {
+        return callerRuns.get();
+    }
+
+    /**
+     * @return the number of tasks waiting for a background thread
+     */
+    public static synchronized int getQueueSize() {
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    private static synchronized Executor getExecutor() {
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(
+                    poolSize,
+                    poolSize,
+                    KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<Runnable>(queueCapacity),
+                    new NamedThreadFactory("instabug-flutter-background", threadPriority),
+                    new RejectedExecutionHandler() {
+                        @Override
+                        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+                            if (executor.isShutdown()) {
+                                return;
+                            }
+                            final long count = rejected.incrementAndGet();
+                            if (count == 1 || count % 100 == 0) {
+                                Log.w(TAG, "The background queue is full, " + count + " tasks ran on the fallback thread so far");
+                            }
+                            // Dropping the task could leave a Dart call waiting for its reply forever,
+                            // and running it on the caller could block the main thread.
+                            getFallbackExecutor().execute(runnable);
+                        }
+                    }
+            );
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    private static synchronized Executor getFallbackExecutor() {
+        if (fallbackExecutor == null) {
+            final ThreadPoolExecutor fallback = new ThreadPoolExecutor(
+                    1,
+                    1,
+                    KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<Runnable>(queueCapacity),
+                    new NamedThreadFactory("instabug-flutter-fallback", threadPriority),
+                    new RejectedExecutionHandler() {
+                        @Override
+                        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+                            if (executor.isShutdown()) {
+                                return;
+                            }
+                            final long count = callerRuns.incrementAndGet();
+                            if (count == 1 || count % 100 == 0) {
+                                Log.w(TAG, "The fallback queue is full, " + count + " tasks ran on the calling thread so far");
+                            }
+                            runnable.run();
+                        }
+                    }
+            );
+            fallback.allowCoreThreadTimeOut(true);
+            fallbackExecutor = fallback;
+        }
+        return fallbackExecutor;
+    }
+
+    private static synchronized Handler getMainHandler() {
+        if (mainHandler == null) {
+            mainHandler = new Handler(Looper.getMainLooper());
+        }
+        return mainHandler;
+    }
+
+    /**
+     * Shuts the background executor down and restores the default configuration.
+     */
+    @VisibleForTesting
+    public static synchronized void reset() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        if (fallbackExecutor != null) {
+            fallbackExecutor.shutdownNow();
+            fallbackExecutor = null;
+        }
+        customExecutor = null;
+        poolSize = DEFAULT_POOL_SIZE;
+        queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        threadPriority = DEFAULT_THREAD_PRIORITY;
+        rejected.set(0);
+        callerRuns.set(0);
+    }
+
+    /**
+     * Runs the tasks submitted to it one at a time and in order on the background
+     * executor, like {@code AsyncTask.SERIAL_EXECUTOR} did.
+     */
+    private static class SerialExecutor implements Executor {
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        private boolean isRunning = false;
+
+        @Override
+        public synchronized void execute(@NonNull Runnable task) {
+            tasks.add(task);
+            if (!isRunning) {
+                isRunning = true;
+                runOnBackground(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                final Runnable task;
+                synchronized (this) {
+                    task = tasks.poll();
+                    if (task == null) {
+                        isRunning = false;
+                        return;
+                    }
+                }
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    Log.e(TAG, "Background task failed. Cause: " + e);
+                }
+            }
+        }
     }
 }
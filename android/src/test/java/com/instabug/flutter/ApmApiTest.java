@@ -8,8 +8,11 @@ import com.instabug.apm.model.ExecutionTrace;
 import com.instabug.apm.networking.APMNetworkLogger;
 import com.instabug.flutter.generated.ApmPigeon;
 import com.instabug.flutter.modules.ApmApi;
+import com.instabug.flutter.util.ApmFeatureCache;
+import com.instabug.flutter.util.ExecutionTraceRegistry;
 import com.instabug.flutter.util.GlobalMocks;
 import com.instabug.flutter.util.MockReflected;
+import com.instabug.flutter.util.ThreadManager;
 
 import io.flutter.plugin.common.BinaryMessenger;
 
@@ -18,10 +21,13 @@ import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.instabug.flutter.util.GlobalMocks.reflected;
@@ -34,7 +40,10 @@ import static org.mockito.Mockito.*;
 public class ApmApiTest {
 
     private final BinaryMessenger mMessenger = mock(BinaryMessenger.class);
-    private final ApmApi api = new ApmApi();
+    private final ExecutionTraceRegistry traces = new ExecutionTraceRegistry(ExecutionTraceRegistry.DEFAULT_MAX_TRACES, ExecutionTraceRegistry.DEFAULT_TTL_MILLIS);
+    private final ApmFeatureCache features = new ApmFeatureCache(ApmFeatureCache.DEFAULT_MAX_AGE_MILLIS);
+    private final ApmPigeon.ApmFlutterApi flutterApi = mock(ApmPigeon.ApmFlutterApi.class);
+    private final ApmApi api = new ApmApi(traces, features);
     private MockedStatic<APM> mAPM;
     private MockedStatic<InternalAPM> mInternalApmStatic;
     private MockedStatic<ApmPigeon.ApmHostApi> mHostApi;
@@ -45,6 +54,7 @@ public class ApmApiTest {
         mInternalApmStatic = mockStatic(InternalAPM.class);
         mHostApi = mockStatic(ApmPigeon.ApmHostApi.class);
         GlobalMocks.setUp();
+        ApmApi.listenToFeatures(mMessenger, flutterApi, features);
     }
 
     @After
@@ -71,6 +81,7 @@ public class ApmApiTest {
         BinaryMessenger messenger = mock(BinaryMessenger.class);
 
         ApmApi.init(messenger);
+        ApmApi.stopListeningToFeatures(messenger);
 
         mHostApi.verify(() -> ApmPigeon.ApmHostApi.setup(eq(messenger), any(ApmApi.class)));
     }
@@ -128,6 +139,64 @@ public class ApmApiTest {
         mAPM.verify(() -> APM.startExecutionTrace(name));
     }
 
+    @Test
+    public void testStartExecutionTraceNonBlocking() {
+        String id = "trace-id";
+        String name = "trace-name";
+        ExecutionTrace mTrace = mock(ExecutionTrace.class);
+
+        mAPM.when(() -> APM.startExecutionTrace(name)).thenReturn(mTrace);
+
+        api.startExecutionTraceNonBlocking(id, name);
+        api.setExecutionTraceAttribute(id, "is_premium", "true");
+
+        mAPM.verify(() -> APM.startExecutionTrace(name));
+        verify(mTrace).setAttribute("is_premium", "true");
+    }
+
+    @Test
+    public void testStartExecutionTraceNonBlockingQueuesCallsUntilStarted() {
+        String id = "trace-id";
+        String name = "trace-name";
+        ExecutionTrace mTrace = mock(ExecutionTrace.class);
+        List<Runnable> background = new ArrayList<>();
+
+        mAPM.when(() -> APM.startExecutionTrace(name)).thenReturn(mTrace);
+        GlobalMocks.threadManager
+                .when(() -> ThreadManager.runOnBackgroundSerially(any(Runnable.class)))
+                .thenAnswer((invocation) -> background.add(invocation.getArgument(0)));
+
+        api.startExecutionTraceNonBlocking(id, name);
+        api.setExecutionTraceAttribute(id, "is_premium", "true");
+        api.endExecutionTrace(id);
+
+        verifyNoInteractions(mTrace);
+
+        background.get(0).run();
+
+        InOrder inOrder = inOrder(mTrace);
+        inOrder.verify(mTrace).setAttribute("is_premium", "true");
+        inOrder.verify(mTrace).end();
+    }
+
+    @Test
+    public void testStartExecutionTraceNonBlockingWhenTraceIsNull() {
+        String id = "trace-id";
+        String name = "trace-name";
+        List<Runnable> background = new ArrayList<>();
+
+        mAPM.when(() -> APM.startExecutionTrace(name)).thenReturn(null);
+        GlobalMocks.threadManager
+                .when(() -> ThreadManager.runOnBackgroundSerially(any(Runnable.class)))
+                .thenAnswer((invocation) -> background.add(invocation.getArgument(0)));
+
+        api.startExecutionTraceNonBlocking(id, name);
+        api.endExecutionTrace(id);
+        background.get(0).run();
+
+        assertEquals(0, traces.getLiveCount());
+    }
+
     @Test
     public void testSetExecutionTraceAttribute() {
         String id = "trace-id";
@@ -140,6 +209,20 @@ public class ApmApiTest {
         verify(mTrace).setAttribute(key, value);
     }
 
+    @Test
+    public void testSetExecutionTraceAttributes() {
+        String id = "trace-id";
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("is_premium", "true");
+        attributes.put("plan", "hobby");
+        ExecutionTrace mTrace = mockTrace(id);
+
+        api.setExecutionTraceAttributes(id, attributes);
+
+        verify(mTrace).setAttribute("is_premium", "true");
+        verify(mTrace).setAttribute("plan", "hobby");
+    }
+
     @Test
     public void testEndExecutionTrace() {
         String id = "trace-id";
@@ -150,6 +233,19 @@ public class ApmApiTest {
         verify(mTrace).end();
     }
 
+    @Test
+    public void testEndExecutionTraceRemovesTrace() {
+        String id = "trace-id";
+        ExecutionTrace mTrace = mockTrace(id);
+
+        api.endExecutionTrace(id);
+        api.endExecutionTrace(id);
+        api.setExecutionTraceAttribute(id, "is_premium", "true");
+
+        verify(mTrace, times(1)).end();
+        verify(mTrace, never()).setAttribute(anyString(), anyString());
+    }
+
     @Test
     public void testStartFlow() {
         String appFlowName = "appFlowName";
@@ -183,6 +279,20 @@ public class ApmApiTest {
         mAPM.verifyNoMoreInteractions();
     }
 
+    @Test
+    public void testSetFlowAttributes() {
+        String appFlowName = "appFlowName";
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("attributeKey", "attributeValue");
+        attributes.put("removedKey", null);
+
+        api.setFlowAttributes(appFlowName, attributes);
+
+        mAPM.verify(() -> APM.setFlowAttribute(appFlowName, "attributeKey", "attributeValue"));
+        mAPM.verify(() -> APM.setFlowAttribute(appFlowName, "removedKey", null));
+        mAPM.verifyNoMoreInteractions();
+    }
+
     @Test
     public void testStartUITrace() {
         String name = "login";
@@ -365,6 +475,75 @@ public class ApmApiTest {
     }
 
 
+    private void mockScreenLoadingAvailability(boolean isAvailable) {
+        mInternalApmStatic.when(() -> InternalAPM._isFeatureEnabledCP(eq(APMFeature.SCREEN_LOADING), any(), any())).thenAnswer(
+                invocation -> {
+                    FeatureAvailabilityCallback callback = (FeatureAvailabilityCallback) invocation.getArguments()[2];
+                    callback.invoke(isAvailable);
+                    return null;
+                });
+    }
+
+    @Test
+    public void testIsScreenLoadingEnabledUsesCachedAvailability() {
+        mockScreenLoadingAvailability(true);
+
+        api.isScreenLoadingEnabled(makeResult());
+        ApmPigeon.Result<Boolean> result = spy(makeResult());
+        api.isScreenLoadingEnabled(result);
+
+        mInternalApmStatic.verify(() -> InternalAPM._isFeatureEnabledCP(eq(APMFeature.SCREEN_LOADING), any(), any()));
+        verify(result).success(true);
+    }
+
+    @Test
+    public void testFeatureAvailabilityIsSentToFlutter() {
+        mockScreenLoadingAvailability(true);
+
+        api.isScreenLoadingEnabled(makeResult());
+        api.isEndScreenLoadingEnabled(makeResult());
+
+        verify(flutterApi).onFeatureAvailabilityChanged(eq(ApmApi.FEATURE_SCREEN_LOADING), eq(true), any());
+        verify(flutterApi).onFeatureAvailabilityChanged(eq(ApmApi.FEATURE_END_SCREEN_LOADING), eq(true), any());
+        verify(flutterApi).onFeatureAvailabilityChanged(eq(ApmApi.FEATURE_APM), eq(true), any());
+        verifyNoMoreInteractions(flutterApi);
+    }
+
+    @Test
+    public void testApmAvailabilityIsSentWhenListening() {
+        ApmPigeon.ApmFlutterApi otherFlutterApi = mock(ApmPigeon.ApmFlutterApi.class);
+
+        ApmApi.listenToFeatures(mock(BinaryMessenger.class), otherFlutterApi, features);
+
+        verify(otherFlutterApi).onFeatureAvailabilityChanged(eq(ApmApi.FEATURE_APM), eq(true), any());
+        verifyNoMoreInteractions(otherFlutterApi);
+    }
+
+    @Test
+    public void testSetScreenLoadingEnabledRefreshesFeatureAvailability() {
+        mockScreenLoadingAvailability(true);
+        api.isScreenLoadingEnabled(makeResult());
+
+        mockScreenLoadingAvailability(false);
+        api.setScreenLoadingEnabled(false);
+
+        mInternalApmStatic.verify(() -> InternalAPM._isFeatureEnabledCP(eq(APMFeature.SCREEN_LOADING), any(), any()), times(2));
+        verify(flutterApi).onFeatureAvailabilityChanged(eq(ApmApi.FEATURE_SCREEN_LOADING), eq(false), any());
+        verify(flutterApi).onFeatureAvailabilityChanged(eq(ApmApi.FEATURE_END_SCREEN_LOADING), eq(false), any());
+    }
+
+    @Test
+    public void testFeatureAvailabilityIsSentToEveryEngine() {
+        ApmPigeon.ApmFlutterApi otherFlutterApi = mock(ApmPigeon.ApmFlutterApi.class);
+        ApmApi.listenToFeatures(mock(BinaryMessenger.class), otherFlutterApi, features);
+        mockScreenLoadingAvailability(true);
+
+        api.isScreenLoadingEnabled(makeResult());
+
+        verify(flutterApi).onFeatureAvailabilityChanged(eq(ApmApi.FEATURE_SCREEN_LOADING), eq(true), any());
+        verify(otherFlutterApi).onFeatureAvailabilityChanged(eq(ApmApi.FEATURE_SCREEN_LOADING), eq(true), any());
+    }
+
     @Test
     public void testSetScreenLoadingMonitoringEnabled() {
         boolean isEnabled = false;
@@ -0,0 +1,143 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.instabug.apm.InternalAPM;
+import com.instabug.apm.configuration.cp.APMFeature;
+import com.instabug.apm.configuration.cp.FeatureAvailabilityCallback;
+import com.instabug.flutter.util.ApmFeatureCache;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ApmFeatureCacheTest {
+    private long now = 0;
+    private boolean isAvailable = true;
+    private MockedStatic<InternalAPM> mInternalApm;
+
+    @Before
+    public void setUp() {
+        mInternalApm = mockStatic(InternalAPM.class);
+        mInternalApm.when(() -> InternalAPM._isFeatureEnabledCP(any(), any(), any())).thenAnswer(
+                invocation -> {
+                    FeatureAvailabilityCallback callback = (FeatureAvailabilityCallback) invocation.getArguments()[2];
+                    callback.invoke(isAvailable);
+                    return null;
+                });
+    }
+
+    @After
+    public void cleanUp() {
+        mInternalApm.close();
+    }
+
+    private ApmFeatureCache makeCache(long maxAgeMillis) {
+        return new ApmFeatureCache(maxAgeMillis) {
+            @Override
+            protected long nowMillis() {
+                return now;
+            }
+        };
+    }
+
+    private void verifyQueries(int count) {
+        mInternalApm.verify(() -> InternalAPM._isFeatureEnabledCP(eq(APMFeature.SCREEN_LOADING), eq("api"), any()), times(count));
+    }
+
+    @Test
+    public void testQueriesSdkOnlyOnce() {
+        ApmFeatureCache cache = makeCache(1000);
+        FeatureAvailabilityCallback callback = mock(FeatureAvailabilityCallback.class);
+
+        cache.isAvailable(APMFeature.SCREEN_LOADING, "api", callback);
+        cache.isAvailable(APMFeature.SCREEN_LOADING, "api", callback);
+
+        verifyQueries(1);
+        verify(callback, times(2)).invoke(true);
+    }
+
+    @Test
+    public void testRefreshesStaleAvailability() {
+        ApmFeatureCache cache = makeCache(1000);
+        FeatureAvailabilityCallback callback = mock(FeatureAvailabilityCallback.class);
+
+        cache.isAvailable(APMFeature.SCREEN_LOADING, "api", callback);
+        now = 999;
+        cache.refreshIfStale();
+        verifyQueries(1);
+
+        now = 1000;
+        isAvailable = false;
+        cache.refreshIfStale();
+        cache.isAvailable(APMFeature.SCREEN_LOADING, "api", callback);
+
+        verifyQueries(2);
+        verify(callback).invoke(false);
+    }
+
+    @Test
+    public void testNotifiesListenerOfChangesOnly() {
+        ApmFeatureCache cache = makeCache(1000);
+        List<Boolean> changes = new ArrayList<>();
+        cache.setListener(new Object(), (feature, isAvailable) -> changes.add(isAvailable));
+
+        cache.isAvailable(APMFeature.SCREEN_LOADING, "api", mock(FeatureAvailabilityCallback.class));
+        cache.refresh();
+        isAvailable = false;
+        cache.refresh();
+
+        verifyQueries(3);
+        assertEquals(2, changes.size());
+        assertEquals(true, changes.get(0));
+        assertEquals(false, changes.get(1));
+    }
+
+    @Test
+    public void testKeepsOneListenerPerEngine() {
+        ApmFeatureCache cache = makeCache(1000);
+        Object engine = new Object();
+        List<String> changes = new ArrayList<>();
+        cache.setListener(engine, (feature, isAvailable) -> changes.add("first"));
+        cache.setListener(engine, (feature, isAvailable) -> changes.add("replaced"));
+        cache.setListener(new Object(), (feature, isAvailable) -> changes.add("other"));
+
+        cache.isAvailable(APMFeature.SCREEN_LOADING, "api", mock(FeatureAvailabilityCallback.class));
+        cache.setListener(engine, null);
+        isAvailable = false;
+        cache.refresh();
+
+        assertEquals(3, changes.size());
+        assertTrue(changes.containsAll(Arrays.asList("replaced", "other")));
+        assertFalse(changes.contains("first"));
+        assertEquals("other", changes.get(2));
+    }
+
+    @Test
+    public void testRefreshSkipsFeaturesNeverQueried() {
+        ApmFeatureCache cache = makeCache(1000);
+
+        cache.refresh();
+
+        mInternalApm.verify(() -> InternalAPM._isFeatureEnabledCP(any(), any(), any()), never());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsInvalidConfiguration() {
+        new ApmFeatureCache(0);
+    }
+}
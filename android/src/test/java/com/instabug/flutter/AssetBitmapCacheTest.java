@@ -0,0 +1,95 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.graphics.Bitmap;
+
+import androidx.annotation.NonNull;
+
+import com.instabug.flutter.util.AssetBitmapCache;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AssetBitmapCacheTest {
+    private final List<String> decoded = new ArrayList<>();
+
+    private AssetBitmapCache makeCache(long maxBytes) {
+        return new AssetBitmapCache(512, maxBytes) {
+            @Override
+            protected Bitmap decode(@NonNull StreamOpener opener, int maxSize) {
+                Bitmap bitmap = mock(Bitmap.class);
+                when(bitmap.getByteCount()).thenReturn(100);
+                return bitmap;
+            }
+        };
+    }
+
+    private Bitmap get(AssetBitmapCache cache, String asset) {
+        return cache.get(asset, () -> {
+            decoded.add(asset);
+            return new ByteArrayInputStream(new byte[0]);
+        });
+    }
+
+    @Test
+    public void testReturnsCachedBitmap() {
+        AssetBitmapCache cache = makeCache(1000);
+
+        Bitmap first = get(cache, "logo.png");
+        Bitmap second = get(cache, "logo.png");
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(100, cache.getSize());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedBitmapsOverBudget() {
+        AssetBitmapCache cache = makeCache(200);
+
+        Bitmap light = get(cache, "light.png");
+        Bitmap dark = get(cache, "dark.png");
+        get(cache, "light.png");
+        get(cache, "other.png");
+
+        assertSame(light, get(cache, "light.png"));
+        assertEquals(200, cache.getSize());
+        assertEquals(3, cache.getMissCount());
+
+        get(cache, "dark.png");
+        assertEquals(4, cache.getMissCount());
+        verify(dark, never()).recycle();
+    }
+
+    @Test
+    public void testSkipsBitmapsLargerThanBudget() {
+        AssetBitmapCache cache = makeCache(50);
+
+        get(cache, "logo.png");
+
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testCalculateInSampleSize() {
+        assertEquals(1, AssetBitmapCache.calculateInSampleSize(512, 512, 512));
+        assertEquals(2, AssetBitmapCache.calculateInSampleSize(1024, 1024, 512));
+        assertEquals(4, AssetBitmapCache.calculateInSampleSize(4000, 2100, 512));
+        assertEquals(1, AssetBitmapCache.calculateInSampleSize(4000, 300, 512));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsInvalidConfiguration() {
+        new AssetBitmapCache(0, 1000);
+    }
+}
@@ -0,0 +1,71 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.instabug.flutter.util.AttachmentDigestIndex;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+
+public class AttachmentDigestIndexTest {
+    private final AttachmentDigestIndex index = new AttachmentDigestIndex();
+
+    @Test
+    public void testSkipsIdenticalData() {
+        assertTrue(index.addData("config.json", new byte[]{1, 2, 3}));
+        assertFalse(index.addData("config.json", new byte[]{1, 2, 3}));
+        assertTrue(index.addData("config.json", new byte[]{1, 2, 4}));
+
+        assertEquals(1, index.getSkippedCount());
+        assertEquals(3, index.getBytesSkipped());
+    }
+
+    @Test
+    public void testAttachesIdenticalDataUnderDifferentNames() {
+        assertTrue(index.addData("before.json", new byte[]{1, 2, 3}));
+        assertTrue(index.addData("after.json", new byte[]{1, 2, 3}));
+
+        assertEquals(0, index.getSkippedCount());
+    }
+
+    @Test
+    public void testFileDigestMatchesDataDigest() throws IOException {
+        // Larger than the read buffer, so the file is hashed in several chunks.
+        byte[] data = new byte[200 * 1024];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        File file = File.createTempFile("attachment", ".bin");
+        Files.write(file.toPath(), data);
+
+        assertTrue(index.addFile("config.json", file));
+        assertFalse(index.addData("config.json", data));
+
+        file.delete();
+    }
+
+    @Test
+    public void testIncrementalDigestMatchesDataDigest() {
+        MessageDigest digest = AttachmentDigestIndex.newDigest();
+        digest.update(new byte[]{1, 2});
+        digest.update(new byte[]{3});
+
+        assertTrue(index.add("config.json", digest.digest(), 3));
+        assertFalse(index.addData("config.json", new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    public void testClearForgetsDigests() {
+        index.addData("config.json", new byte[]{1, 2, 3});
+
+        index.clear();
+
+        assertTrue(index.addData("config.json", new byte[]{1, 2, 3}));
+    }
+}
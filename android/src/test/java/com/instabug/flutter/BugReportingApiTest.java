@@ -1,5 +1,6 @@
 package com.instabug.flutter;
 
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -9,6 +10,7 @@ import com.instabug.bug.BugReporting;
 import com.instabug.bug.invocation.Option;
 import com.instabug.flutter.generated.BugReportingPigeon;
 import com.instabug.flutter.modules.BugReportingApi;
+import com.instabug.flutter.util.AttachmentDigestIndex;
 import com.instabug.flutter.util.GlobalMocks;
 import com.instabug.library.Feature;
 import com.instabug.library.OnSdkDismissCallback;
@@ -21,6 +23,7 @@ import com.instabug.library.invocation.util.InstabugVideoRecordingButtonPosition
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 
 import java.util.Arrays;
@@ -176,6 +179,21 @@ public class BugReportingApiTest {
         mBugReporting.verify(() -> BugReporting.setOnDismissCallback(any(OnSdkDismissCallback.class)));
     }
 
+    @Test
+    public void testDismissCallbackClearsAttachmentDigests() {
+        ArgumentCaptor<OnSdkDismissCallback> callback = ArgumentCaptor.forClass(OnSdkDismissCallback.class);
+        AttachmentDigestIndex digests = AttachmentDigestIndex.getInstance();
+        byte[] data = new byte[]{1, 2, 3};
+        digests.addData("config.json", data);
+
+        BugReportingApi.installDismissCallback();
+        mBugReporting.verify(() -> BugReporting.setOnDismissCallback(callback.capture()));
+        callback.getValue().call(OnSdkDismissCallback.DismissType.SUBMIT, OnSdkDismissCallback.ReportType.BUG);
+
+        assertTrue(digests.addData("config.json", data));
+        digests.clear();
+    }
+
     @Test
     public void testSetDisclaimerText() {
         String text = "My very own disclaimer text";
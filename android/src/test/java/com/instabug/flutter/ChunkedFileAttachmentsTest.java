@@ -0,0 +1,126 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.instabug.flutter.util.AttachmentDigestIndex;
+import com.instabug.flutter.util.ChunkedFileAttachments;
+import com.instabug.flutter.util.GlobalMocks;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+public class ChunkedFileAttachmentsTest {
+    private File directory;
+    private ChunkedFileAttachments attachments;
+
+    @Before
+    public void setUp() throws NoSuchMethodException, IOException {
+        GlobalMocks.setUp();
+        directory = new File(Files.createTempDirectory("attachments-test").toFile(), "attachments");
+        attachments = new ChunkedFileAttachments(directory);
+    }
+
+    @After
+    public void cleanUp() {
+        attachments.clear();
+        directory.delete();
+        directory.getParentFile().delete();
+        GlobalMocks.close();
+    }
+
+    @Test
+    public void testStreamsChunksIntoFile() throws IOException {
+        String id = attachments.begin("dump.log");
+        attachments.append(id, new byte[]{1, 2, 3});
+        attachments.append(id, new byte[]{4, 5});
+
+        ChunkedFileAttachments.Attachment attachment = attachments.finish(id);
+
+        assertEquals("dump.log", attachment.fileName);
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, Files.readAllBytes(attachment.file.toPath()));
+        assertEquals(directory, attachment.file.getParentFile());
+        assertEquals(5, attachments.getBytesWritten());
+        assertEquals(0, attachments.getPendingCount());
+    }
+
+    @Test
+    public void testHashesChunksWhileStreaming() throws IOException {
+        String id = attachments.begin("dump.log");
+        attachments.append(id, new byte[]{1, 2, 3});
+        attachments.append(id, new byte[]{4, 5});
+
+        ChunkedFileAttachments.Attachment attachment = attachments.finish(id);
+
+        assertEquals(5, attachment.size);
+        assertArrayEquals(AttachmentDigestIndex.newDigest().digest(new byte[]{1, 2, 3, 4, 5}), attachment.digest);
+    }
+
+    @Test
+    public void testDiscardDeletesFile() throws IOException {
+        ChunkedFileAttachments.Attachment attachment = attachments.finish(attachments.begin("dump.log"));
+
+        attachments.discard(attachment);
+
+        assertFalse(attachment.file.exists());
+    }
+
+    @Test
+    public void testStreamsConcurrentAttachmentsSeparately() throws IOException {
+        String first = attachments.begin("first.log");
+        String second = attachments.begin("second.log");
+        attachments.append(first, new byte[]{1});
+        attachments.append(second, new byte[]{2});
+
+        assertNotEquals(first, second);
+        assertArrayEquals(new byte[]{1}, Files.readAllBytes(attachments.finish(first).file.toPath()));
+        assertArrayEquals(new byte[]{2}, Files.readAllBytes(attachments.finish(second).file.toPath()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testAppendToUnknownAttachmentFails() throws IOException {
+        attachments.append("unknown", new byte[]{1});
+    }
+
+    @Test(expected = IOException.class)
+    public void testFinishTwiceFails() throws IOException {
+        String id = attachments.begin("dump.log");
+        attachments.finish(id);
+
+        attachments.finish(id);
+    }
+
+    @Test
+    public void testAbortDeletesPendingFile() throws IOException {
+        String id = attachments.begin("dump.log");
+        attachments.append(id, new byte[]{1, 2, 3});
+
+        attachments.abort(id);
+        attachments.abort(id);
+
+        assertEquals(0, attachments.getPendingCount());
+        String[] remaining = directory.list();
+        assertTrue(remaining == null || remaining.length == 0);
+    }
+
+    @Test
+    public void testClearDeletesPendingAndFinishedFiles() throws IOException {
+        File finished = attachments.finish(attachments.begin("finished.log")).file;
+        attachments.begin("pending.log");
+
+        attachments.clear();
+
+        assertFalse(finished.exists());
+        assertEquals(0, attachments.getPendingCount());
+        String[] remaining = directory.list();
+        assertTrue(remaining == null || remaining.length == 0);
+    }
+}
@@ -0,0 +1,162 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.instabug.flutter.generated.ApmPigeon;
+import com.instabug.flutter.generated.BugReportingPigeon;
+import com.instabug.flutter.generated.CrashReportingPigeon;
+import com.instabug.flutter.generated.FeatureRequestsPigeon;
+import com.instabug.flutter.generated.InstabugLogPigeon;
+import com.instabug.flutter.generated.InstabugPigeon;
+import com.instabug.flutter.generated.RepliesPigeon;
+import com.instabug.flutter.generated.SessionReplayPigeon;
+import com.instabug.flutter.generated.SurveysPigeon;
+import com.instabug.flutter.util.DispatchMessenger;
+import com.instabug.flutter.util.GlobalMocks;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.StandardMessageCodec;
+
+public class DispatchMessengerTest {
+    private static final String CHANNEL_PREFIX = "dev.flutter.pigeon.instabug_flutter.";
+
+    private final BinaryMessenger mMessenger = mock(BinaryMessenger.class);
+    private DispatchMessenger messenger;
+    private BinaryMessenger.BinaryMessageHandler dispatchHandler;
+
+    @Before
+    public void setUp() throws NoSuchMethodException {
+        GlobalMocks.setUp();
+        messenger = new DispatchMessenger(mMessenger);
+
+        ArgumentCaptor<BinaryMessenger.BinaryMessageHandler> handler = ArgumentCaptor.forClass(BinaryMessenger.BinaryMessageHandler.class);
+        verify(mMessenger).setMessageHandler(eq(DispatchMessenger.CHANNEL), handler.capture());
+        dispatchHandler = handler.getValue();
+    }
+
+    @After
+    public void cleanUp() {
+        GlobalMocks.close();
+    }
+
+    private Object dispatch(String channel, List<Object> args) {
+        ByteBuffer message = StandardMessageCodec.INSTANCE.encodeMessage(args);
+        message.flip();
+
+        ByteBuffer envelope = ByteBuffer.allocateDirect(4 + message.remaining()).order(ByteOrder.LITTLE_ENDIAN);
+        envelope.putInt(DispatchMessenger.methodId(CHANNEL_PREFIX + channel));
+        envelope.put(message);
+        envelope.flip();
+
+        AtomicReference<ByteBuffer> reply = new AtomicReference<>();
+        dispatchHandler.onMessage(envelope, reply::set);
+
+        ByteBuffer encodedReply = reply.get();
+        return encodedReply == null ? null : StandardMessageCodec.INSTANCE.decodeMessage((ByteBuffer) encodedReply.rewind());
+    }
+
+    @Test
+    public void testMethodIdIsChannelNameHash() {
+        // FNV-1a hashes shared with the Dart side's dispatch messenger.
+        assertEquals(0x811c9dc5, DispatchMessenger.methodId(""));
+        assertEquals(0xe40c292c, DispatchMessenger.methodId("a"));
+        assertEquals(0xbf9cf968, DispatchMessenger.methodId("foobar"));
+    }
+
+    @Test
+    public void testDispatchesToHandler() {
+        InstabugLogPigeon.InstabugLogHostApi api = mock(InstabugLogPigeon.InstabugLogHostApi.class);
+        InstabugLogPigeon.InstabugLogHostApi.setup(messenger, api);
+
+        Object reply = dispatch("InstabugLogHostApi.logInfo", Collections.singletonList("message"));
+
+        verify(api).logInfo("message");
+        assertEquals(Collections.singletonList(null), reply);
+        verify(mMessenger, never()).setMessageHandler(eq(CHANNEL_PREFIX + "InstabugLogHostApi.logInfo"), any());
+    }
+
+    @Test
+    public void testDispatchesToTaskQueueHandler() {
+        CrashReportingPigeon.CrashReportingHostApi api = mock(CrashReportingPigeon.CrashReportingHostApi.class);
+        CrashReportingPigeon.CrashReportingHostApi.setup(messenger, api);
+
+        Object reply = dispatch("CrashReportingHostApi.send", Arrays.asList("{}", true));
+
+        verify(api).send("{}", true);
+        assertNotNull(reply);
+        verify(mMessenger, never()).setMessageHandler(anyString(), any(), any());
+    }
+
+    @Test
+    public void testRepliesNullToUnknownMethod() {
+        Object reply = dispatch("UnknownHostApi.method", Collections.emptyList());
+
+        assertNull(reply);
+    }
+
+    @Test
+    public void testRegistersAllHostApisWithoutCollisions() {
+        ApmPigeon.ApmHostApi.setup(messenger, mock(ApmPigeon.ApmHostApi.class));
+        BugReportingPigeon.BugReportingHostApi.setup(messenger, mock(BugReportingPigeon.BugReportingHostApi.class));
+        CrashReportingPigeon.CrashReportingHostApi.setup(messenger, mock(CrashReportingPigeon.CrashReportingHostApi.class));
+        FeatureRequestsPigeon.FeatureRequestsHostApi.setup(messenger, mock(FeatureRequestsPigeon.FeatureRequestsHostApi.class));
+        InstabugPigeon.InstabugHostApi.setup(messenger, mock(InstabugPigeon.InstabugHostApi.class));
+        InstabugLogPigeon.InstabugLogHostApi.setup(messenger, mock(InstabugLogPigeon.InstabugLogHostApi.class));
+        RepliesPigeon.RepliesHostApi.setup(messenger, mock(RepliesPigeon.RepliesHostApi.class));
+        SessionReplayPigeon.SessionReplayHostApi.setup(messenger, mock(SessionReplayPigeon.SessionReplayHostApi.class));
+        SurveysPigeon.SurveysHostApi.setup(messenger, mock(SurveysPigeon.SurveysHostApi.class));
+
+        // Only the dispatch channel is registered with the engine.
+        verify(mMessenger).setMessageHandler(anyString(), any());
+        assertTrue(messenger.getHandlerCount() > 100);
+    }
+
+    @Test
+    public void testRejectsChannelsWithCollidingMethodIds() {
+        // Distinct names with the same FNV-1a hash.
+        String first = "channel122789";
+        String second = "channel339192";
+        BinaryMessenger.BinaryMessageHandler handler = mock(BinaryMessenger.BinaryMessageHandler.class);
+        assertEquals(DispatchMessenger.methodId(first), DispatchMessenger.methodId(second));
+
+        messenger.setMessageHandler(first, handler);
+
+        assertThrows(IllegalStateException.class, () -> messenger.setMessageHandler(second, handler));
+        assertThrows(IllegalStateException.class, () -> messenger.setMessageHandler(second, null));
+        assertEquals(1, messenger.getHandlerCount());
+    }
+
+    @Test
+    public void testUnregistersHandler() {
+        InstabugLogPigeon.InstabugLogHostApi api = mock(InstabugLogPigeon.InstabugLogHostApi.class);
+        InstabugLogPigeon.InstabugLogHostApi.setup(messenger, api);
+        InstabugLogPigeon.InstabugLogHostApi.setup(messenger, null);
+
+        Object reply = dispatch("InstabugLogHostApi.logInfo", Collections.singletonList("message"));
+
+        assertNull(reply);
+        verify(api, never()).logInfo(anyString());
+    }
+}
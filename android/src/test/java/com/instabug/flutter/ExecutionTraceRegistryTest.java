@@ -0,0 +1,88 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import com.instabug.apm.model.ExecutionTrace;
+import com.instabug.flutter.util.ExecutionTraceRegistry;
+
+import org.junit.Test;
+
+public class ExecutionTraceRegistryTest {
+    private long now = 0;
+
+    private ExecutionTraceRegistry makeRegistry(int maxTraces, long ttlMillis) {
+        return new ExecutionTraceRegistry(maxTraces, ttlMillis) {
+            @Override
+            protected long nowMillis() {
+                return now;
+            }
+        };
+    }
+
+    @Test
+    public void testRemoveEndsTraceLifetime() {
+        ExecutionTraceRegistry registry = makeRegistry(10, 1000);
+        ExecutionTrace trace = mock(ExecutionTrace.class);
+
+        registry.put("trace-id", trace);
+
+        assertSame(trace, registry.get("trace-id"));
+        assertSame(trace, registry.remove("trace-id"));
+        assertNull(registry.get("trace-id"));
+        assertNull(registry.remove("trace-id"));
+        assertEquals(0, registry.getLiveCount());
+    }
+
+    @Test
+    public void testExpiresAbandonedTraces() {
+        ExecutionTraceRegistry registry = makeRegistry(10, 1000);
+
+        registry.put("abandoned", mock(ExecutionTrace.class));
+        now = 500;
+        registry.put("recent", mock(ExecutionTrace.class));
+        now = 1000;
+
+        assertNull(registry.get("abandoned"));
+        assertEquals(1, registry.getLiveCount());
+        assertEquals(1, registry.getExpiredCount());
+    }
+
+    @Test
+    public void testPurgesExpiredTracesOnPut() {
+        ExecutionTraceRegistry registry = makeRegistry(10, 1000);
+
+        registry.put("first", mock(ExecutionTrace.class));
+        registry.put("second", mock(ExecutionTrace.class));
+        now = 1500;
+        registry.put("third", mock(ExecutionTrace.class));
+
+        assertEquals(2, registry.getExpiredCount());
+        assertEquals(1, registry.getLiveCount());
+    }
+
+    @Test
+    public void testEvictsOldestTraceWhenFull() {
+        ExecutionTraceRegistry registry = makeRegistry(2, 1000);
+        ExecutionTrace newest = mock(ExecutionTrace.class);
+
+        registry.put("oldest", mock(ExecutionTrace.class));
+        now = 1;
+        registry.put("middle", mock(ExecutionTrace.class));
+        now = 2;
+        registry.put("newest", newest);
+
+        assertNull(registry.get("oldest"));
+        assertSame(newest, registry.get("newest"));
+        assertEquals(2, registry.getLiveCount());
+        assertEquals(1, registry.getEvictedCount());
+        assertEquals(0, registry.getExpiredCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsInvalidConfiguration() {
+        new ExecutionTraceRegistry(0, 1000);
+    }
+}
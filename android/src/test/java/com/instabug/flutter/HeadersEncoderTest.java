@@ -0,0 +1,76 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.instabug.flutter.util.HeadersEncoder;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.MockedConstruction;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class HeadersEncoderTest {
+    @After
+    public void cleanUp() {
+        HeadersEncoder.setPrettyPrintEnabled(false);
+    }
+
+    @Test
+    public void testEncodeEmptyHeaders() throws Exception {
+        assertEquals("{}", HeadersEncoder.encode(new HashMap<>()));
+        assertEquals("{}", HeadersEncoder.encode(null));
+    }
+
+    @Test
+    public void testEncodeIsCompact() throws Exception {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("Content-Length", "17");
+        headers.put("X-Empty", null);
+
+        String encoded = HeadersEncoder.encode(headers);
+
+        assertEquals("{\"Content-Type\":\"application/json\",\"Content-Length\":\"17\",\"X-Empty\":null}", encoded);
+    }
+
+    @Test
+    public void testEncodeEscapesSpecialCharacters() throws Exception {
+        Map<String, String> headers = Collections.singletonMap("Quote\"", "back\\slash\n\t\u0001");
+
+        String encoded = HeadersEncoder.encode(headers);
+
+        assertEquals("{\"Quote\\\"\":\"back\\\\slash\\n\\t\\u0001\"}", encoded);
+    }
+
+    @Test
+    public void testEncodeReusesBuilderAcrossCalls() throws Exception {
+        HeadersEncoder.encode(Collections.singletonMap("First", "a much longer header value"));
+
+        String encoded = HeadersEncoder.encode(Collections.singletonMap("Second", "b"));
+
+        assertEquals("{\"Second\":\"b\"}", encoded);
+    }
+
+    @Test
+    public void testEncodeWithPrettyPrintEnabled() throws Exception {
+        Map<String, String> headers = Collections.singletonMap("Content-Type", "application/json");
+        MockedConstruction<JSONObject> mJSONObject = mockConstruction(JSONObject.class, (mock, context) -> when(mock.toString(anyInt())).thenReturn("pretty"));
+
+        HeadersEncoder.setPrettyPrintEnabled(true);
+        String encoded = HeadersEncoder.encode(headers);
+
+        assertEquals("pretty", encoded);
+        verify(mJSONObject.constructed().get(0)).toString(4);
+
+        mJSONObject.close();
+    }
+}
@@ -3,6 +3,8 @@ package com.instabug.flutter;
 import static com.instabug.flutter.util.GlobalMocks.reflected;
 import static com.instabug.flutter.util.MockResult.makeResult;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -14,6 +16,7 @@ import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -21,17 +24,26 @@ import android.app.Application;
 import android.graphics.Bitmap;
 import android.net.Uri;
 
+import com.instabug.apm.InternalAPM;
+import com.instabug.apm.networking.APMNetworkLogger;
 import com.instabug.bug.BugReporting;
 import com.instabug.flutter.generated.InstabugPigeon;
 import com.instabug.flutter.modules.InstabugApi;
+import com.instabug.flutter.util.AttachmentDigestIndex;
+import com.instabug.flutter.util.BridgeStats;
+import com.instabug.flutter.util.ChunkedFileAttachments;
 import com.instabug.flutter.util.GlobalMocks;
 import com.instabug.flutter.util.MockReflected;
+import com.instabug.flutter.util.ScreenshotFrameCache;
+import com.instabug.flutter.util.SdkStartup;
+import com.instabug.flutter.util.ThreadManager;
 import com.instabug.library.Feature;
 import com.instabug.library.Instabug;
 import com.instabug.library.InstabugColorTheme;
 import com.instabug.library.InstabugCustomTextPlaceHolder;
 import com.instabug.library.IssueType;
 import com.instabug.library.LogLevel;
+import com.instabug.library.OnSdkDismissCallback;
 import com.instabug.library.Platform;
 import com.instabug.library.ReproConfigurations;
 import com.instabug.library.ReproMode;
@@ -49,6 +61,7 @@ import org.mockito.MockedStatic;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -64,6 +77,9 @@ import org.mockito.verification.VerificationMode;
 public class InstabugApiTest {
     private final Callable<Bitmap> screenshotProvider = () -> mock(Bitmap.class);
     private final Application mContext = mock(Application.class);
+    private final ChunkedFileAttachments mAttachments = mock(ChunkedFileAttachments.class);
+    private final AttachmentDigestIndex attachmentDigests = new AttachmentDigestIndex();
+    private final SdkStartup startup = new SdkStartup(1000, 16, () -> true);
     private InstabugApi api;
     private MockedStatic<Instabug> mInstabug;
     private MockedStatic<BugReporting> mBugReporting;
@@ -73,7 +89,7 @@ public class InstabugApiTest {
     @Before
     public void setUp() throws NoSuchMethodException {
         mCustomTextPlaceHolder = mockConstruction(InstabugCustomTextPlaceHolder.class);
-        api = spy(new InstabugApi(mContext, screenshotProvider));
+        api = spy(new InstabugApi(mContext, screenshotProvider, mAttachments, attachmentDigests, startup, false, false));
         mInstabug = mockStatic(Instabug.class);
         mBugReporting = mockStatic(BugReporting.class);
         mHostApi = mockStatic(InstabugPigeon.InstabugHostApi.class);
@@ -98,6 +114,49 @@ public class InstabugApiTest {
         mHostApi.verify(() -> InstabugPigeon.InstabugHostApi.setup(eq(messenger), any(InstabugApi.class)));
     }
 
+    @Test
+    public void testReplaysCallsMadeBeforeSdkInit() {
+        SdkStartup pendingStartup = new SdkStartup(1000, 16, () -> false);
+        InstabugApi api = new InstabugApi(mContext, screenshotProvider, mAttachments, attachmentDigests, pendingStartup, true, false);
+        MockedConstruction<Instabug.Builder> mInstabugBuilder = mockConstruction(Instabug.Builder.class, (mock, context) -> {
+            when(mock.setInvocationEvents(any())).thenReturn(mock);
+            when(mock.setSdkDebugLogsLevel(anyInt())).thenReturn(mock);
+        });
+        Map<String, Long> timing = new HashMap<>();
+        InstabugPigeon.Result<Map<String, Long>> result = makeResult(timing::putAll);
+
+        api.setUserAttribute("true", "is_premium");
+        api.appendTags(Collections.singletonList("premium"));
+        api.waitForInit(result);
+
+        mInstabug.verify(() -> Instabug.setUserAttribute(anyString(), anyString()), never());
+        assertTrue(timing.isEmpty());
+
+        api.init("app-token", Collections.emptyList(), "LogLevel.error");
+
+        mInstabug.verify(() -> Instabug.setUserAttribute("is_premium", "true"));
+        mInstabug.verify(() -> Instabug.addTags("premium"));
+        assertEquals(2L, (long) timing.get("replayedCalls"));
+        assertEquals(1000L, (long) timing.get("budgetMs"));
+        mInstabugBuilder.close();
+    }
+
+    @Test
+    public void testGetBridgeStats() {
+        BridgeStats stats = BridgeStats.getInstance();
+        stats.reset();
+        stats.record(stats.getMethodStats("dev.flutter.pigeon.instabug_flutter.InstabugHostApi.show"), 2000, 16, false);
+
+        List<InstabugPigeon.BridgeMethodStats> result = api.getBridgeStats();
+
+        assertEquals(1, result.size());
+        assertEquals("InstabugHostApi.show", result.get(0).getMethod());
+        assertEquals(1L, (long) result.get(0).getCallCount());
+        assertEquals(16L, (long) result.get(0).getPayloadBytes());
+        assertEquals(2L, (long) result.get(0).getP99LatencyMicros());
+        stats.reset();
+    }
+
     @Test
     public void testSetCurrentPlatform() {
         api.setCurrentPlatform();
@@ -136,8 +195,13 @@ public class InstabugApiTest {
         // Sets screenshot provider
         mInstabug.verify(() -> Instabug.setScreenshotProvider(screenshotProvider));
 
+        // Resets the attachment digests when a report is dismissed
+        mBugReporting.verify(() -> BugReporting.setOnDismissCallback(any(OnSdkDismissCallback.class)));
+
         // Sets current platform
         reflected.verify(() -> MockReflected.setCurrentPlatform(Platform.FLUTTER));
+
+        mInstabugBuilder.close();
     }
 
     @Test
@@ -172,6 +236,14 @@ public class InstabugApiTest {
         mInstabug.verify(Instabug::isBuilt);
     }
 
+    @Test
+    public void testIsMultiplexedChannelEnabled() {
+        InstabugApi multiplexed = new InstabugApi(mContext, screenshotProvider, mAttachments, attachmentDigests, startup, false, true);
+
+        assertFalse(api.isMultiplexedChannelEnabled());
+        assertTrue(multiplexed.isMultiplexedChannelEnabled());
+    }
+
     @Test
     public void testShow() {
         api.show();
@@ -419,6 +491,21 @@ public class InstabugApiTest {
         mInstabug.verify(Instabug::getAllUserAttributes);
     }
 
+    @Test
+    public void testGetUserAttributesRepliesOnCallingThread() {
+        Map<String, String> expected = new HashMap<>();
+        List<Map<String, String>> replies = new ArrayList<>();
+
+        InstabugPigeon.Result<Map<String, String>> result = makeResult(replies::add);
+
+        mInstabug.when(Instabug::getAllUserAttributes).thenReturn(expected);
+
+        api.getUserAttributes(result);
+
+        assertEquals(Collections.singletonList(expected), replies);
+        GlobalMocks.threadManager.verify(() -> ThreadManager.runOnMainThread(any(Runnable.class)), never());
+    }
+
     @Test
     public void testSetReproStepsConfig() {
         String bug = "ReproStepsMode.enabled";
@@ -452,6 +539,32 @@ public class InstabugApiTest {
         reflected.verify(() -> MockReflected.reportScreenChange(null, screenName));
     }
 
+    @Test
+    public void testReportScreenChangeInvalidatesCachedScreenshot() {
+        ScreenshotFrameCache screenshotCache = mock(ScreenshotFrameCache.class);
+        InstabugApi api = new InstabugApi(mContext, screenshotCache);
+
+        api.reportScreenChange("HomeScreen");
+
+        verify(screenshotCache).invalidate();
+    }
+
+    @Test
+    public void testOnRouteTransition() {
+        String reportedScreenName = "HomeScreen";
+        String uiTraceScreenName = "SettingsScreen";
+        long microTimeStamp = 1000000L;
+        long uiTraceId = 1000L;
+        MockedStatic<InternalAPM> mInternalAPM = mockStatic(InternalAPM.class);
+
+        api.onRouteTransition(reportedScreenName, uiTraceScreenName, microTimeStamp, uiTraceId);
+
+        reflected.verify(() -> MockReflected.reportScreenChange(null, reportedScreenName));
+        mInternalAPM.verify(() -> InternalAPM._startUiTraceCP(uiTraceScreenName, microTimeStamp, uiTraceId));
+
+        mInternalAPM.close();
+    }
+
     @Test
     public void testSetCustomBrandingImageGivenLightAndDark() {
         String light = "images/light_logo.png";
@@ -524,6 +637,24 @@ public class InstabugApiTest {
         file.delete();
     }
 
+    @Test
+    public void testAddFileAttachmentWithURLSkipsIdenticalContent() throws IOException {
+        File first = File.createTempFile("config", ".json");
+        File second = File.createTempFile("config", ".json");
+        Files.write(first.toPath(), new byte[]{1, 2, 3});
+        Files.write(second.toPath(), new byte[]{1, 2, 3});
+
+        api.addFileAttachmentWithURL(first.getPath(), "config.json");
+        api.addFileAttachmentWithURL(second.getPath(), "config.json");
+
+        mInstabug.verify(() -> Instabug.addFileAttachment(any(Uri.class), eq("config.json")));
+        assertEquals(1, attachmentDigests.getSkippedCount());
+        assertEquals(3, attachmentDigests.getBytesSkipped());
+
+        first.delete();
+        second.delete();
+    }
+
     @Test
     public void testAddFileAttachmentWithURLWhenFileDoesNotExists() {
         String path = "somewhere/that_does_not_exist.png";
@@ -544,11 +675,120 @@ public class InstabugApiTest {
         mInstabug.verify(() -> Instabug.addFileAttachment(data, name));
     }
 
+    @Test
+    public void testAddFileAttachmentWithDataSkipsIdenticalContent() {
+        String name = "Issue";
+
+        api.addFileAttachmentWithData(new byte[]{65, 100}, name);
+        api.addFileAttachmentWithData(new byte[]{65, 100}, name);
+        api.addFileAttachmentWithData(new byte[]{65, 101}, name);
+
+        mInstabug.verify(() -> Instabug.addFileAttachment(any(byte[].class), eq(name)), times(2));
+        assertEquals(1, attachmentDigests.getSkippedCount());
+    }
+
+    @Test
+    public void testAddFileAttachmentWithDataKeepsIdenticalContentUnderDifferentNames() {
+        byte[] data = new byte[]{65, 100};
+
+        api.addFileAttachmentWithData(data, "before.json");
+        api.addFileAttachmentWithData(data, "after.json");
+
+        mInstabug.verify(() -> Instabug.addFileAttachment(data, "before.json"));
+        mInstabug.verify(() -> Instabug.addFileAttachment(data, "after.json"));
+        assertEquals(0, attachmentDigests.getSkippedCount());
+    }
+
+    @Test
+    public void testBeginFileAttachment() throws IOException {
+        String name = "dump.log";
+        when(mAttachments.begin(name)).thenReturn("0");
+
+        String id = api.beginFileAttachment(name);
+
+        assertEquals("0", id);
+    }
+
+    @Test
+    public void testBeginFileAttachmentFailure() throws IOException {
+        String name = "dump.log";
+        when(mAttachments.begin(name)).thenThrow(new IOException("No space left on device"));
+
+        String id = api.beginFileAttachment(name);
+
+        assertNull(id);
+    }
+
+    @Test
+    public void testAppendFileAttachmentChunk() throws IOException {
+        byte[] chunk = new byte[]{65, 100};
+
+        api.appendFileAttachmentChunk("0", chunk);
+
+        verify(mAttachments).append("0", chunk);
+    }
+
+    @Test
+    public void testFinishFileAttachment() throws IOException {
+        String name = "dump.log";
+        File file = new File("dump.tmp");
+        when(mAttachments.finish("0")).thenReturn(new ChunkedFileAttachments.Attachment(file, name, new byte[]{1}, 10));
+
+        api.finishFileAttachment("0");
+
+        mInstabug.verify(() -> Instabug.addFileAttachment(any(Uri.class), eq(name)));
+    }
+
+    @Test
+    public void testAbortFileAttachment() {
+        api.abortFileAttachment("0");
+
+        verify(mAttachments).abort("0");
+    }
+
+    @Test
+    public void testFinishFileAttachmentDiscardsIdenticalContent() throws IOException {
+        String name = "dump.log";
+        ChunkedFileAttachments.Attachment first = new ChunkedFileAttachments.Attachment(new File("first.tmp"), name, new byte[]{1}, 10);
+        ChunkedFileAttachments.Attachment second = new ChunkedFileAttachments.Attachment(new File("second.tmp"), name, new byte[]{1}, 10);
+        when(mAttachments.finish("0")).thenReturn(first);
+        when(mAttachments.finish("1")).thenReturn(second);
+
+        api.finishFileAttachment("0");
+        api.finishFileAttachment("1");
+
+        mInstabug.verify(() -> Instabug.addFileAttachment(any(Uri.class), eq(name)));
+        verify(mAttachments).discard(second);
+        verify(mAttachments, never()).discard(first);
+    }
+
+    @Test
+    public void testFinishFileAttachmentFailure() throws IOException {
+        when(mAttachments.finish("0")).thenThrow(new IOException("No pending file attachment"));
+
+        api.finishFileAttachment("0");
+
+        mInstabug.verify(() -> Instabug.addFileAttachment(any(Uri.class), anyString()), never());
+    }
+
     @Test
     public void testClearFileAttachments() {
         api.clearFileAttachments();
 
         mInstabug.verify(Instabug::clearFileAttachment);
+        verify(mAttachments).clear();
+    }
+
+    @Test
+    public void testClearFileAttachmentsResetsDigests() {
+        byte[] data = new byte[]{65, 100};
+        String name = "Issue";
+
+        api.addFileAttachmentWithData(data, name);
+        api.clearFileAttachments();
+        api.addFileAttachmentWithData(data, name);
+
+        mInstabug.verify(() -> Instabug.addFileAttachment(data, name), times(2));
     }
 
     @Test
@@ -590,6 +830,83 @@ public class InstabugApiTest {
         verify(networkLog).setTotalDuration(duration / 1000);
         verify(networkLog).insert();
 
+        mNetworkLog.close();
+        mJSONObject.close();
+    }
+
+    @Test
+    public void testLogNetworkEntry() {
+        String url = "https://example.com";
+        String requestBody = "hi";
+        String responseBody = "{\"hello\":\"world\"}";
+        String method = "POST";
+        String requestContentType = "text/plain";
+        String responseContentType = "application/json";
+        long requestBodySize = 20;
+        long responseBodySize = 50;
+        int responseCode = 201;
+        long duration = 23000;
+        long startTime = System.currentTimeMillis();
+        String errorDomain = "ERROR_DOMAIN";
+        InstabugPigeon.NetworkEntry entry = new InstabugPigeon.NetworkEntry.Builder()
+                .setUrl(url)
+                .setMethod(method)
+                .setRequestBody(requestBody)
+                .setResponseBody(responseBody)
+                .setRequestBodySize(requestBodySize)
+                .setResponseBodySize(responseBodySize)
+                .setResponseCode((long) responseCode)
+                .setRequestHeaders(new HashMap<>())
+                .setResponseHeaders(new HashMap<>())
+                .setRequestContentType(requestContentType)
+                .setResponseContentType(responseContentType)
+                .setDuration(duration)
+                .setStartTime(startTime)
+                .setErrorCode(0L)
+                .setErrorDomain(errorDomain)
+                .build();
+
+        MockedConstruction<NetworkLog> mNetworkLog = mockConstruction(NetworkLog.class);
+        MockedConstruction<APMNetworkLogger> mAPMNetworkLogger = mockConstruction(APMNetworkLogger.class);
+        MockedConstruction<JSONObject> mJSONObject = mockConstruction(JSONObject.class, (mock, context) -> when(mock.toString(anyInt())).thenReturn("{}"));
+
+        api.logNetworkEntry(entry);
+
+        NetworkLog networkLog = mNetworkLog.constructed().get(0);
+
+        verify(networkLog).setDate(anyString());
+        verify(networkLog).setUrl(url);
+        verify(networkLog).setRequest(requestBody);
+        verify(networkLog).setResponse(responseBody);
+        verify(networkLog).setMethod(method);
+        verify(networkLog).setResponseCode(responseCode);
+        verify(networkLog).setRequestHeaders("{}");
+        verify(networkLog).setResponseHeaders("{}");
+        verify(networkLog).setTotalDuration(duration / 1000);
+        verify(networkLog).insert();
+
+        reflected.verify(() -> MockReflected.apmNetworkLog(
+                startTime * 1000,
+                duration / 1000,
+                "{}",
+                requestBody,
+                requestBodySize,
+                method,
+                url,
+                requestContentType,
+                "{}",
+                responseBody,
+                responseBodySize,
+                responseCode,
+                responseContentType,
+                errorDomain,
+                null,
+                "",
+                null
+        ));
+
+        mNetworkLog.close();
+        mAPMNetworkLogger.close();
         mJSONObject.close();
     }
 
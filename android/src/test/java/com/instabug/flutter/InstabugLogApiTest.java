@@ -1,25 +1,32 @@
 package com.instabug.flutter;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 
 import com.instabug.library.logging.InstabugLog;
 import com.instabug.flutter.generated.InstabugLogPigeon;
 import com.instabug.flutter.modules.InstabugLogApi;
 import com.instabug.flutter.util.GlobalMocks;
+import com.instabug.flutter.util.LogBuffer;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.MockedStatic;
 
+import java.util.Arrays;
+import java.util.List;
+
 import io.flutter.plugin.common.BinaryMessenger;
 
 
 public class InstabugLogApiTest {
-    private final InstabugLogApi api = new InstabugLogApi();
+    private final LogBuffer buffer = new LogBuffer(16);
+    private final InstabugLogApi api = new InstabugLogApi(buffer);
     private MockedStatic<InstabugLog> mInstabugLog;
     private MockedStatic<InstabugLogPigeon.InstabugLogHostApi> mHostApi;
 
@@ -51,6 +58,7 @@ public class InstabugLogApiTest {
         String message = "created an account";
 
         api.logVerbose(message);
+        api.flush();
 
         mInstabugLog.verify(() -> InstabugLog.v(message));
     }
@@ -59,6 +67,7 @@ public class InstabugLogApiTest {
         String message = "created an account";
 
         api.logDebug(message);
+        api.flush();
 
         mInstabugLog.verify(() -> InstabugLog.d(message));
     }
@@ -67,6 +76,7 @@ public class InstabugLogApiTest {
         String message = "created an account";
 
         api.logInfo(message);
+        api.flush();
 
         mInstabugLog.verify(() -> InstabugLog.i(message));
     }
@@ -75,6 +85,7 @@ public class InstabugLogApiTest {
         String message = "created an account";
 
         api.logWarn(message);
+        api.flush();
 
         mInstabugLog.verify(() -> InstabugLog.w(message));
     }
@@ -83,13 +94,53 @@ public class InstabugLogApiTest {
         String message = "something went wrong";
 
         api.logError(message);
+        api.flush();
 
         mInstabugLog.verify(() -> InstabugLog.e(message));
     }
+
+    @Test
+    public void testLogBatch() {
+        List<Object> entries = Arrays.asList(
+                InstabugLogApi.LEVEL_VERBOSE, 1700000000000L, "verbose message",
+                InstabugLogApi.LEVEL_DEBUG, 1700000000001L, "debug message",
+                InstabugLogApi.LEVEL_INFO, 1700000000002L, "info message",
+                InstabugLogApi.LEVEL_WARN, 1700000000003L, "warn message",
+                InstabugLogApi.LEVEL_ERROR, 1700000000004L, "error message"
+        );
+
+        api.logBatch(entries);
+        api.flush();
+
+        mInstabugLog.verify(() -> InstabugLog.v("verbose message"));
+        mInstabugLog.verify(() -> InstabugLog.d("debug message"));
+        mInstabugLog.verify(() -> InstabugLog.i("info message"));
+        mInstabugLog.verify(() -> InstabugLog.w("warn message"));
+        mInstabugLog.verify(() -> InstabugLog.e("error message"));
+    }
+
+    @Test
+    public void testLogsAreNotFlushedSynchronously() {
+        api.logInfo("created an account");
+
+        mInstabugLog.verifyNoInteractions();
+    }
+
     @Test
     public void testClearAllLogs() {
         api.clearAllLogs();
 
         mInstabugLog.verify(InstabugLog::clearLogs);
     }
+
+    @Test
+    public void testClearAllLogsDropsPendingLogs() {
+        api.logInfo("created an account");
+
+        api.clearAllLogs();
+        api.flush();
+
+        mInstabugLog.verify(() -> InstabugLog.i(any()), never());
+        assertEquals(0, buffer.getDroppedCount());
+    }
 }
@@ -0,0 +1,158 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.instabug.flutter.generated.InstabugPigeon;
+import com.instabug.flutter.generated.SurveysPigeon;
+import com.instabug.flutter.util.InstabugMessageCodec;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import io.flutter.plugin.common.MessageCodec;
+import io.flutter.plugin.common.StandardMessageCodec;
+
+public class InstabugMessageCodecTest {
+    private final InstabugMessageCodec codec = InstabugMessageCodec.INSTANCE;
+    private final Map<String, String> headers = Collections.singletonMap("Content-Type", "application/json");
+
+    private InstabugPigeon.NetworkEntry makeEntry() {
+        return new InstabugPigeon.NetworkEntry.Builder()
+                .setUrl("https://example.com")
+                .setMethod("GET")
+                .setRequestBody("")
+                .setResponseBody("{}")
+                .setRequestBodySize(0L)
+                .setResponseBodySize(2L)
+                .setResponseCode(200L)
+                .setRequestHeaders(headers)
+                .setResponseHeaders(headers)
+                .setDuration(23000L)
+                .setStartTime(1700000000000L)
+                .setErrorCode(0L)
+                .setErrorDomain("")
+                .setGqlQueryName("query")
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private MessageCodec<Object> generatedCodec() throws Exception {
+        Class<?> type = Class.forName("com.instabug.flutter.generated.InstabugPigeon$InstabugHostApiCodec");
+        Field instance = type.getField("INSTANCE");
+        instance.setAccessible(true);
+        return (MessageCodec<Object>) instance.get(null);
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        buffer.rewind();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        buffer.rewind();
+        return bytes;
+    }
+
+    @Test
+    public void testIsSharedByTheGeneratedApis() {
+        assertSame(codec, InstabugPigeon.InstabugHostApi.getCodec());
+        assertSame(StandardMessageCodec.INSTANCE, SurveysPigeon.SurveysHostApi.getCodec());
+    }
+
+    @Test
+    public void testEncodesLikeTheGeneratedCodec() throws Exception {
+        List<Object> message = Collections.singletonList(makeEntry());
+
+        byte[] expected = toBytes(generatedCodec().encodeMessage(message));
+        byte[] actual = toBytes(codec.encodeMessage(message));
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testDecodesTheGeneratedEncoding() throws Exception {
+        ByteBuffer message = generatedCodec().encodeMessage(Collections.singletonList(makeEntry()));
+        message.rewind();
+
+        List<?> decoded = (List<?>) codec.decodeMessage(message);
+        InstabugPigeon.NetworkEntry entry = (InstabugPigeon.NetworkEntry) decoded.get(0);
+
+        assertEquals("https://example.com", entry.getUrl());
+        assertEquals("{}", entry.getResponseBody());
+        assertEquals(Long.valueOf(200), entry.getResponseCode());
+        assertEquals(headers, entry.getRequestHeaders());
+        assertEquals(Long.valueOf(1700000000000L), entry.getStartTime());
+        assertEquals("query", entry.getGqlQueryName());
+        assertNull(entry.getRequestContentType());
+        assertNull(entry.getServerErrorMessage());
+    }
+
+    @Test
+    public void testDecodesIntegersSentAsInts() {
+        // Dart sends integers that fit in 32 bits as ints.
+        List<Object> fields = Arrays.asList("https://example.com", "GET", "", "", 0, 2, 200, headers, headers,
+                null, null, 23000, 1700000000000L, 0, "", null, null);
+        ByteBuffer message = encodeEntryFields(fields);
+
+        InstabugPigeon.NetworkEntry entry = (InstabugPigeon.NetworkEntry) ((List<?>) codec.decodeMessage(message)).get(0);
+
+        assertEquals(Long.valueOf(2), entry.getResponseBodySize());
+        assertEquals(Long.valueOf(23000), entry.getDuration());
+        assertEquals(Long.valueOf(1700000000000L), entry.getStartTime());
+    }
+
+    @Test
+    public void testRoundTripsBridgeMethodStats() {
+        InstabugPigeon.BridgeMethodStats stats = new InstabugPigeon.BridgeMethodStats.Builder()
+                .setMethod("InstabugHostApi.show")
+                .setCallCount(2L)
+                .setErrorCount(0L)
+                .setPayloadBytes(32L)
+                .setP50LatencyMicros(100L)
+                .setP95LatencyMicros(200L)
+                .setP99LatencyMicros(300L)
+                .build();
+
+        ByteBuffer message = codec.encodeMessage(Collections.singletonList(stats));
+        message.rewind();
+
+        List<?> decoded = (List<?>) codec.decodeMessage(message);
+        InstabugPigeon.BridgeMethodStats actual = (InstabugPigeon.BridgeMethodStats) decoded.get(0);
+
+        assertEquals("InstabugHostApi.show", actual.getMethod());
+        assertEquals(Long.valueOf(32), actual.getPayloadBytes());
+        assertEquals(Long.valueOf(300), actual.getP99LatencyMicros());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsEntriesWithMissingFields() {
+        codec.decodeMessage(encodeEntryFields(Arrays.asList("https://example.com", "GET")));
+    }
+
+    /**
+     * Encodes a message holding a network entry with the given fields, as the Dart codec does.
+     */
+    private static ByteBuffer encodeEntryFields(List<Object> fields) {
+        byte[] list = toBytes(StandardMessageCodec.INSTANCE.encodeMessage(fields));
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        // A list of one network entry.
+        stream.write(12);
+        stream.write(1);
+        stream.write(128);
+        stream.write(list, 0, list.length);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(stream.size());
+        buffer.put(stream.toByteArray());
+        buffer.rewind();
+        return buffer;
+    }
+}
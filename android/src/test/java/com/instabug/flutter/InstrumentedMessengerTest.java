@@ -0,0 +1,106 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.instabug.flutter.generated.InstabugLogPigeon;
+import com.instabug.flutter.util.BridgeStats;
+import com.instabug.flutter.util.GlobalMocks;
+import com.instabug.flutter.util.InstrumentedMessenger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.StandardMessageCodec;
+
+public class InstrumentedMessengerTest {
+    private static final String CHANNEL = "dev.flutter.pigeon.instabug_flutter.InstabugLogHostApi.logInfo";
+
+    private final BinaryMessenger mMessenger = mock(BinaryMessenger.class);
+    private final InstabugLogPigeon.InstabugLogHostApi mApi = mock(InstabugLogPigeon.InstabugLogHostApi.class);
+    private final BridgeStats stats = new BridgeStats();
+    private BinaryMessenger.BinaryMessageHandler handler;
+
+    @Before
+    public void setUp() throws NoSuchMethodException {
+        GlobalMocks.setUp();
+        InstabugLogPigeon.InstabugLogHostApi.setup(new InstrumentedMessenger(mMessenger, stats), mApi);
+
+        ArgumentCaptor<BinaryMessenger.BinaryMessageHandler> captor = ArgumentCaptor.forClass(BinaryMessenger.BinaryMessageHandler.class);
+        verify(mMessenger).setMessageHandler(eq(CHANNEL), captor.capture(), any());
+        handler = captor.getValue();
+    }
+
+    @After
+    public void cleanUp() {
+        GlobalMocks.close();
+    }
+
+    private void call(String message) {
+        ByteBuffer encoded = StandardMessageCodec.INSTANCE.encodeMessage(Collections.singletonList(message));
+        encoded.flip();
+        handler.onMessage(encoded, reply -> {});
+    }
+
+    @Test
+    public void testRecordsCalls() {
+        call("first");
+        call("second");
+
+        BridgeStats.MethodStats methodStats = stats.getCalledMethods().get("InstabugLogHostApi.logInfo");
+        assertEquals("InstabugLogHostApi.logInfo", methodStats.getMethod());
+        assertEquals(2, methodStats.getCallCount());
+        assertEquals(0, methodStats.getErrorCount());
+        assertTrue(methodStats.getPayloadBytes() > 0);
+        assertTrue(methodStats.getLatencyPercentile(99) > 0);
+        verify(mApi).logInfo("first");
+    }
+
+    @Test
+    public void testRecordsErrors() {
+        doThrow(new IllegalStateException()).when(mApi).logInfo(anyString());
+
+        call("message");
+
+        assertEquals(1, stats.getCalledMethods().get("InstabugLogHostApi.logInfo").getErrorCount());
+    }
+
+    @Test
+    public void testNotifiesListener() {
+        List<String> methods = new ArrayList<>();
+        stats.setListener((method, latencyNanos, payloadBytes, isError) -> methods.add(method));
+
+        call("message");
+
+        assertEquals(Collections.singletonList("InstabugLogHostApi.logInfo"), methods);
+    }
+
+    @Test
+    public void testResetKeepsRecordingCalls() {
+        call("message");
+
+        stats.reset();
+        call("message");
+
+        assertEquals(1, stats.getCalledMethods().get("InstabugLogHostApi.logInfo").getCallCount());
+    }
+
+    @Test
+    public void testListsOnlyCalledMethods() {
+        assertTrue(stats.getCalledMethods().isEmpty());
+    }
+}
@@ -0,0 +1,62 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.instabug.flutter.util.LatencyHistogram;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void testEmptyHistogramReportsZero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+    @Test
+    public void testReportsSmallValuesExactly() {
+        histogram.record(1);
+        histogram.record(2);
+        histogram.record(3);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(2, histogram.getPercentile(50));
+        assertEquals(3, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testReportsPercentilesWithinBucketError() {
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        assertWithin(500_000, histogram.getPercentile(50));
+        assertWithin(950_000, histogram.getPercentile(95));
+        assertWithin(990_000, histogram.getPercentile(99));
+    }
+
+    @Test
+    public void testRecordsExtremeValues() {
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testReset() {
+        histogram.record(1000);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue("expected about " + expected + " but was " + actual, actual >= expected && actual <= expected * 1.25);
+    }
+}
@@ -0,0 +1,96 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.instabug.flutter.generated.SurveysPigeon;
+import com.instabug.flutter.util.LazyHostApi;
+import com.instabug.flutter.util.LazyHostApis;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LazyHostApiTest {
+    private final SurveysPigeon.SurveysHostApi mApi = mock(SurveysPigeon.SurveysHostApi.class);
+    private final AtomicInteger builds = new AtomicInteger();
+    private LazyHostApi<SurveysPigeon.SurveysHostApi> lazy;
+
+    @Before
+    public void setUp() {
+        lazy = new LazyHostApi<>(() -> {
+            builds.incrementAndGet();
+            return mApi;
+        });
+    }
+
+    @Test
+    public void testDoesNotBuildUntilCalled() {
+        assertFalse(lazy.isBuilt());
+        assertEquals(0, builds.get());
+        assertEquals(0, lazy.getBuildDuration());
+    }
+
+    @Test
+    public void testBuildsOnceOnFirstCall() {
+        SurveysPigeon.SurveysHostApi standIn = new LazyHostApis.Surveys(lazy);
+
+        standIn.showSurvey("token");
+        standIn.setEnabled(true);
+
+        verify(mApi).showSurvey("token");
+        verify(mApi).setEnabled(true);
+        assertTrue(lazy.isBuilt());
+        assertEquals(1, builds.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRethrowsModuleErrors() {
+        doThrow(new IllegalStateException()).when(mApi).showSurvey(anyString());
+
+        new LazyHostApis.Surveys(lazy).showSurvey("token");
+    }
+
+    @Test
+    public void testReportsBuildErrorsAndRetries() {
+        LazyHostApi<SurveysPigeon.SurveysHostApi> failing = new LazyHostApi<>(() -> {
+            if (builds.incrementAndGet() == 1) {
+                throw new Exception("SDK not loaded");
+            }
+            return mApi;
+        });
+
+        try {
+            failing.get();
+            fail("Expected the build error to be reported");
+        } catch (IllegalStateException e) {
+            assertEquals("SDK not loaded", e.getCause().getMessage());
+        }
+        assertFalse(failing.isBuilt());
+
+        new LazyHostApis.Surveys(failing).showSurvey("token");
+
+        verify(mApi).showSurvey("token");
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    public void testDisabledModuleReportsItsMessage() {
+        LazyHostApi<SurveysPigeon.SurveysHostApi> disabled = LazyHostApi.disabled("The Surveys module is disabled");
+
+        try {
+            new LazyHostApis.Surveys(disabled).showSurvey("token");
+            fail("Expected the call to fail");
+        } catch (IllegalStateException e) {
+            assertEquals("The Surveys module is disabled", e.getMessage());
+        }
+        assertFalse(disabled.isBuilt());
+    }
+}
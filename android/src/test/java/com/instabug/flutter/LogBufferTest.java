@@ -0,0 +1,205 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.instabug.flutter.util.GlobalMocks;
+import com.instabug.flutter.util.LogBuffer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class LogBufferTest {
+    private final List<String> drained = new ArrayList<>();
+    private final LogBuffer.Sink sink = (level, message) -> drained.add(level + ":" + message);
+
+    @Test
+    public void testCapacity() {
+        assertEquals(3, new LogBuffer(3).getCapacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new LogBuffer(0);
+    }
+
+    @Test
+    public void testDrainKeepsOrder() {
+        LogBuffer buffer = new LogBuffer(4);
+
+        buffer.add(0, "first");
+        buffer.add(2, "second");
+        buffer.add(4, "third");
+        assertEquals(3, buffer.getPendingCount());
+
+        buffer.drain(sink);
+
+        assertEquals(Arrays.asList("0:first", "2:second", "4:third"), drained);
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.getDroppedCount());
+    }
+
+    @Test
+    public void testDropsOldestWhenFull() {
+        LogBuffer buffer = new LogBuffer(2);
+
+        buffer.add(0, "first");
+        buffer.add(0, "second");
+        buffer.add(0, "third");
+        buffer.add(0, "fourth");
+
+        buffer.drain(sink);
+
+        assertEquals(Arrays.asList("0:third", "0:fourth"), drained);
+        assertEquals(2, buffer.getDroppedCount());
+    }
+
+    @Test
+    public void testClearDropsPendingEntries() {
+        LogBuffer buffer = new LogBuffer(4);
+
+        buffer.add(0, "cleared");
+        buffer.clear();
+        buffer.add(0, "kept");
+
+        buffer.drain(sink);
+
+        assertEquals(Arrays.asList("0:kept"), drained);
+        assertEquals(0, buffer.getDroppedCount());
+    }
+
+    @Test(timeout = 5000)
+    public void testClearWaitsForInFlightDrain() throws InterruptedException {
+        LogBuffer buffer = new LogBuffer(4);
+        CountDownLatch draining = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        buffer.add(0, "first");
+        buffer.add(0, "second");
+
+        Thread drainThread = new Thread(() -> buffer.drain((level, message) -> {
+            draining.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            drained.add(message);
+        }));
+        drainThread.start();
+        draining.await();
+
+        Thread clearThread = new Thread(buffer::clear);
+        clearThread.start();
+        clearThread.join(100);
+        assertTrue(clearThread.isAlive());
+
+        release.countDown();
+        clearThread.join();
+        drainThread.join();
+
+        assertEquals(Arrays.asList("first", "second"), drained);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test(timeout = 5000)
+    public void testStartSkipsEntriesClearedWhileDraining() throws InterruptedException {
+        LogBuffer buffer = new LogBuffer(16);
+        CountDownLatch kept = new CountDownLatch(1);
+        List<String> flushed = Collections.synchronizedList(new ArrayList<>());
+
+        buffer.start((level, message) -> {
+            flushed.add(message);
+            if (message.equals("kept")) {
+                kept.countDown();
+            }
+        });
+        for (int i = 0; i < 100; i++) {
+            buffer.add(0, "cleared");
+        }
+        buffer.clear();
+        int flushedBeforeClear = flushed.size();
+        buffer.add(0, "kept");
+
+        kept.await();
+        assertEquals(flushedBeforeClear + 1, flushed.size());
+    }
+
+    @Test
+    public void testDrainAfterWrapAround() {
+        LogBuffer buffer = new LogBuffer(2);
+
+        buffer.add(0, "first");
+        buffer.drain(sink);
+        buffer.add(0, "second");
+        buffer.add(0, "third");
+        buffer.drain(sink);
+
+        assertEquals(Arrays.asList("0:first", "0:second", "0:third"), drained);
+        assertEquals(0, buffer.getDroppedCount());
+    }
+
+    @Test
+    public void testDrainSkipsEntriesTheSinkFailsOn() throws NoSuchMethodException {
+        GlobalMocks.setUp();
+        LogBuffer buffer = new LogBuffer(4);
+
+        buffer.add(0, "first");
+        buffer.add(0, "failing");
+        buffer.add(0, "third");
+
+        buffer.drain((level, message) -> {
+            if (message.equals("failing")) {
+                throw new IllegalStateException("Sink failure");
+            }
+            sink.log(level, message);
+        });
+
+        assertEquals(Arrays.asList("0:first", "0:third"), drained);
+        assertTrue(buffer.isEmpty());
+        GlobalMocks.close();
+    }
+
+    @Test(timeout = 5000)
+    public void testStartDrainsEntriesAddedWhileIdle() throws InterruptedException {
+        LogBuffer buffer = new LogBuffer(16);
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch second = new CountDownLatch(2);
+
+        buffer.start((level, message) -> {
+            first.countDown();
+            second.countDown();
+        });
+        buffer.add(0, "first");
+        first.await();
+
+        // Lets the flush thread park with nothing left to drain.
+        Thread.sleep(50);
+        buffer.add(0, "second");
+
+        second.await();
+    }
+
+    @Test(timeout = 5000)
+    public void testStartDrainsOnBackgroundThread() throws InterruptedException {
+        LogBuffer buffer = new LogBuffer(1024);
+        CountDownLatch latch = new CountDownLatch(100);
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+        buffer.start((level, message) -> {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        });
+        for (int i = 0; i < 100; i++) {
+            buffer.add(0, "message " + i);
+        }
+
+        latch.await();
+        assertEquals(Collections.singleton("instabug-flutter-log-flusher"), new HashSet<>(threads));
+    }
+}
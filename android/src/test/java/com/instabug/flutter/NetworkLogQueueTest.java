@@ -0,0 +1,108 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.instabug.flutter.util.NetworkLogQueue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class NetworkLogQueueTest {
+    private final List<String> processed = Collections.synchronizedList(new ArrayList<>());
+
+    private Runnable log(String name) {
+        return () -> processed.add(name);
+    }
+
+    // Occupies the single worker until the latch is released, so the next logs stay queued.
+    private Runnable blockWorker(CountDownLatch started, CountDownLatch release) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new NetworkLogQueue(0, 1, NetworkLogQueue.DropPolicy.DROP_OLDEST);
+    }
+
+    @Test(timeout = 5000)
+    public void testProcessesLogsOnWorkerThread() throws InterruptedException {
+        NetworkLogQueue queue = new NetworkLogQueue(4, 1, NetworkLogQueue.DropPolicy.DROP_OLDEST);
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+        queue.enqueue(() -> threads.add(Thread.currentThread().getName()));
+
+        assertTrue(queue.awaitIdle(5000));
+        assertEquals(Collections.singletonList("instabug-flutter-network-log-1"), threads);
+        assertEquals(1, queue.getProcessedCount());
+        assertTrue(queue.getMaxLatencyMillis() >= queue.getAverageLatencyMillis());
+    }
+
+    @Test(timeout = 5000)
+    public void testDropOldestWhenFull() throws InterruptedException {
+        NetworkLogQueue queue = new NetworkLogQueue(2, 1, NetworkLogQueue.DropPolicy.DROP_OLDEST);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        queue.enqueue(blockWorker(started, release));
+        started.await();
+        queue.enqueue(log("first"));
+        queue.enqueue(log("second"));
+        queue.enqueue(log("third"));
+        assertEquals(2, queue.getQueueDepth());
+        release.countDown();
+
+        assertTrue(queue.awaitIdle(5000));
+        assertEquals(Arrays.asList("second", "third"), processed);
+        assertEquals(1, queue.getDroppedCount());
+    }
+
+    @Test(timeout = 5000)
+    public void testDropNewestWhenFull() throws InterruptedException {
+        NetworkLogQueue queue = new NetworkLogQueue(2, 1, NetworkLogQueue.DropPolicy.DROP_NEWEST);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        queue.enqueue(blockWorker(started, release));
+        started.await();
+        queue.enqueue(log("first"));
+        queue.enqueue(log("second"));
+        queue.enqueue(log("third"));
+        release.countDown();
+
+        assertTrue(queue.awaitIdle(5000));
+        assertEquals(Arrays.asList("first", "second"), processed);
+        assertEquals(1, queue.getDroppedCount());
+    }
+
+    @Test(timeout = 5000)
+    public void testCallerRunsWhenFull() throws InterruptedException {
+        NetworkLogQueue queue = new NetworkLogQueue(1, 1, NetworkLogQueue.DropPolicy.CALLER_RUNS);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        queue.enqueue(blockWorker(started, release));
+        started.await();
+        queue.enqueue(log("queued"));
+        queue.enqueue(log("caller"));
+
+        assertEquals(Collections.singletonList("caller"), processed);
+        release.countDown();
+
+        assertTrue(queue.awaitIdle(5000));
+        assertEquals(Arrays.asList("caller", "queued"), processed);
+        assertEquals(0, queue.getDroppedCount());
+    }
+}
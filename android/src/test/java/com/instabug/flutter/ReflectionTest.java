@@ -0,0 +1,67 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.instabug.flutter.util.Reflection;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+public class ReflectionTest {
+    @SuppressWarnings("unused")
+    private static class Target {
+        private static String greet(String name, int times) {
+            return "hi " + name + " x" + times;
+        }
+
+        private static String greet(String name, long times) {
+            return "hello " + name + " x" + times;
+        }
+    }
+
+    @After
+    public void cleanUp() {
+        Reflection.clearCache();
+    }
+
+    @Test
+    public void testGetMethodMatchesParameterTypes() throws Exception {
+        Method method = Reflection.getMethod(Target.class, "greet", String.class, long.class);
+
+        assertEquals("hello inst x2", method.invoke(null, "inst", 2L));
+    }
+
+    @Test
+    public void testGetMethodIsCached() {
+        Class[] parameterTypes = {String.class, int.class};
+
+        Method first = Reflection.getMethod(Target.class, "greet", parameterTypes);
+        // Reusing the array shouldn't affect the cached lookup.
+        parameterTypes[1] = long.class;
+        Method second = Reflection.getMethod(Target.class, "greet", String.class, int.class);
+
+        // Class.getDeclaredMethods returns copies, so only a cached lookup returns the same instance.
+        assertSame(first, second);
+        assertEquals(int.class, second.getParameterTypes()[1]);
+    }
+
+    @Test
+    public void testGetMethodCachesMissingMethods() {
+        assertNull(Reflection.getMethod(Target.class, "greet", String.class));
+        assertNull(Reflection.getMethod(Target.class, "greet", String.class));
+        assertNull(Reflection.getMethod(Target.class, "missing", String.class, int.class));
+    }
+
+    @Test
+    public void testPrewarm() {
+        Reflection.prewarm(Target.class.getName(), "greet", String.class, int.class);
+
+        Method method = Reflection.getMethod(Target.class, "greet", String.class, int.class);
+
+        assertEquals(int.class, method.getParameterTypes()[1]);
+    }
+}
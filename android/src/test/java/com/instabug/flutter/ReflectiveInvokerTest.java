@@ -0,0 +1,100 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+
+import android.util.Log;
+
+import com.instabug.flutter.util.ReflectiveInvoker;
+import com.instabug.flutter.util.Reflection;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class ReflectiveInvokerTest {
+    private MockedStatic<Log> mLog;
+
+    @SuppressWarnings("unused")
+    private static class Target {
+        private static int calls = 0;
+
+        private static long add(long first, long second) {
+            calls++;
+            return first + second;
+        }
+
+        private static String join(String separator, List<String> values) {
+            return String.join(separator, values);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        mLog = mockStatic(Log.class);
+        Target.calls = 0;
+    }
+
+    @After
+    public void cleanUp() {
+        mLog.close();
+        Reflection.clearCache();
+    }
+
+    @Test
+    public void testInvoke() throws Exception {
+        ReflectiveInvoker invoker = new ReflectiveInvoker(Target.class.getName(), "add", "long", "long");
+
+        invoker.resolve();
+
+        assertTrue(invoker.isAvailable());
+        assertEquals(3L, invoker.invoke(null, 1L, 2L));
+        assertEquals(1, Target.calls);
+    }
+
+    @Test
+    public void testInvokeMissingMethodIsNoOpWithSingleWarning() throws Exception {
+        ReflectiveInvoker invoker = new ReflectiveInvoker(Target.class.getName(), "subtract", "long", "long");
+
+        assertNull(invoker.invoke(null, 1L, 2L));
+        assertNull(invoker.invoke(null, 1L, 2L));
+
+        assertFalse(invoker.isAvailable());
+        mLog.verify(() -> Log.w(anyString(), anyString()), times(1));
+    }
+
+    @Test
+    public void testInvokeMissingParameterTypeIsNoOpWithSingleWarning() throws Exception {
+        ReflectiveInvoker invoker = new ReflectiveInvoker(Target.class.getName(), "add", "long", "com.instabug.Missing$Level");
+
+        assertNull(invoker.invoke(null, 1L, 2L));
+        assertNull(invoker.invoke(null, 1L, 2L));
+
+        assertFalse(invoker.isAvailable());
+        mLog.verify(() -> Log.w(anyString(), anyString()), times(1));
+    }
+
+    @Test
+    public void testInvokeMethodWithObjectParameters() throws Exception {
+        ReflectiveInvoker invoker = new ReflectiveInvoker(Target.class.getName(), "join", "java.lang.String", "java.util.List");
+
+        assertEquals("a,b", invoker.invoke(null, ",", Arrays.asList("a", "b")));
+    }
+
+    @Test
+    public void testInvokeMissingClassIsNoOp() throws Exception {
+        ReflectiveInvoker invoker = new ReflectiveInvoker("com.instabug.Missing", "add", "long", "long");
+
+        assertNull(invoker.invoke(null, 1L, 2L));
+        assertFalse(invoker.isAvailable());
+    }
+}
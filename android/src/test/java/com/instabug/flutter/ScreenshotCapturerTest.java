@@ -0,0 +1,142 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.os.Looper;
+
+import com.instabug.flutter.util.GlobalMocks;
+import com.instabug.flutter.util.ScreenshotCapturer;
+import com.instabug.flutter.util.ThreadManager;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+
+public class ScreenshotCapturerTest {
+    private final Looper mainLooper = mock(Looper.class);
+    private MockedStatic<Looper> mLooper;
+    private MockedStatic<Bitmap> mBitmap;
+    private MockedConstruction<Canvas> mCanvas;
+    private MockedConstruction<Paint> mPaint;
+    private MockedConstruction<Rect> mRect;
+
+    @Before
+    public void setUp() throws NoSuchMethodException {
+        mLooper = mockStatic(Looper.class);
+        mLooper.when(Looper::getMainLooper).thenReturn(mainLooper);
+        mLooper.when(Looper::myLooper).thenReturn(mainLooper);
+        mBitmap = mockStatic(Bitmap.class);
+        mCanvas = mockConstruction(Canvas.class);
+        mPaint = mockConstruction(Paint.class);
+        mRect = mockConstruction(Rect.class);
+        GlobalMocks.setUp();
+    }
+
+    @After
+    public void cleanUp() {
+        mLooper.close();
+        mBitmap.close();
+        mCanvas.close();
+        mPaint.close();
+        mRect.close();
+        GlobalMocks.close();
+    }
+
+    private Bitmap mockBitmap(int width, int height, Bitmap.Config config) {
+        Bitmap bitmap = mock(Bitmap.class);
+        when(bitmap.getWidth()).thenReturn(width);
+        when(bitmap.getHeight()).thenReturn(height);
+        when(bitmap.getConfig()).thenReturn(config);
+        when(bitmap.getByteCount()).thenReturn(width * height * (config == Bitmap.Config.RGB_565 ? 2 : 4));
+        when(bitmap.isMutable()).thenReturn(true);
+        return bitmap;
+    }
+
+    @Test
+    public void testCaptureScalesAndConvertsFrame() {
+        ScreenshotCapturer capturer = new ScreenshotCapturer(0.5f, Bitmap.Config.RGB_565);
+        Bitmap frame = mockBitmap(1000, 2000, Bitmap.Config.ARGB_8888);
+        Bitmap screenshot = mockBitmap(500, 1000, Bitmap.Config.RGB_565);
+        mBitmap.when(() -> Bitmap.createBitmap(500, 1000, Bitmap.Config.RGB_565)).thenReturn(screenshot);
+
+        Bitmap actual = capturer.capture(() -> frame);
+
+        assertSame(screenshot, actual);
+        Canvas canvas = mCanvas.constructed().get(0);
+        verify(canvas).drawBitmap(eq(frame), isNull(), any(Rect.class), any(Paint.class));
+        verify(frame).recycle();
+        assertEquals(1, capturer.getCapturedCount());
+        assertEquals(1000000, capturer.getBytesProduced());
+    }
+
+    @Test
+    public void testCaptureKeepsFrameMatchingConfiguration() {
+        ScreenshotCapturer capturer = new ScreenshotCapturer(1, Bitmap.Config.ARGB_8888);
+        Bitmap frame = mockBitmap(1000, 2000, Bitmap.Config.ARGB_8888);
+
+        Bitmap actual = capturer.capture(() -> frame);
+
+        assertSame(frame, actual);
+        verify(frame, never()).recycle();
+        mBitmap.verify(() -> Bitmap.createBitmap(anyInt(), anyInt(), any(Bitmap.Config.class)), never());
+        assertEquals(8000000, capturer.getBytesProduced());
+    }
+
+    @Test
+    public void testCaptureDrawsEachScreenshotIntoNewBitmap() {
+        ScreenshotCapturer capturer = new ScreenshotCapturer(0.5f, Bitmap.Config.RGB_565);
+        Bitmap first = mockBitmap(500, 1000, Bitmap.Config.RGB_565);
+        Bitmap second = mockBitmap(500, 1000, Bitmap.Config.RGB_565);
+        mBitmap.when(() -> Bitmap.createBitmap(500, 1000, Bitmap.Config.RGB_565)).thenReturn(first, second);
+
+        Bitmap actualFirst = capturer.capture(() -> mockBitmap(1000, 2000, Bitmap.Config.ARGB_8888));
+        Bitmap actualSecond = capturer.capture(() -> mockBitmap(1000, 2000, Bitmap.Config.ARGB_8888));
+
+        assertSame(first, actualFirst);
+        assertSame(second, actualSecond);
+        verify(first, never()).recycle();
+    }
+
+    @Test
+    public void testCaptureGrabsFrameOnMainThread() {
+        ScreenshotCapturer capturer = new ScreenshotCapturer(1, Bitmap.Config.ARGB_8888);
+        Bitmap frame = mockBitmap(1000, 2000, Bitmap.Config.ARGB_8888);
+        mLooper.when(Looper::myLooper).thenReturn(null);
+
+        Bitmap actual = capturer.capture(() -> frame);
+
+        assertSame(frame, actual);
+        GlobalMocks.threadManager.verify(() -> ThreadManager.runOnMainThread(any(Runnable.class)));
+    }
+
+    @Test
+    public void testCaptureReturnsNullWithoutFrame() {
+        ScreenshotCapturer capturer = new ScreenshotCapturer(0.5f, Bitmap.Config.RGB_565);
+
+        assertNull(capturer.capture(() -> null));
+        assertEquals(0, capturer.getCapturedCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsInvalidScale() {
+        new ScreenshotCapturer(1.5f, Bitmap.Config.ARGB_8888);
+    }
+}
@@ -0,0 +1,132 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.graphics.Bitmap;
+
+import com.instabug.flutter.util.ScreenshotFrameCache;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+public class ScreenshotFrameCacheTest {
+    private long now = 0;
+    private final List<Bitmap> captured = new ArrayList<>();
+    private final List<Bitmap> copies = new ArrayList<>();
+    private final Callable<Bitmap> provider = () -> {
+        Bitmap bitmap = mockBitmap();
+        captured.add(bitmap);
+        return bitmap;
+    };
+
+    private Bitmap mockBitmap() {
+        Bitmap bitmap = mock(Bitmap.class);
+        when(bitmap.copy(any(), anyBoolean())).thenAnswer((invocation) -> {
+            Bitmap copy = mockBitmap();
+            copies.add(copy);
+            return copy;
+        });
+        return bitmap;
+    }
+
+    private ScreenshotFrameCache makeCache(long maxAgeMillis) {
+        return new ScreenshotFrameCache(provider, maxAgeMillis) {
+            @Override
+            protected long nowMillis() {
+                return now;
+            }
+        };
+    }
+
+    @Test
+    public void testReturnsCopyOfCachedScreenshotWithinMaxAge() throws Exception {
+        ScreenshotFrameCache cache = makeCache(500);
+
+        Bitmap first = cache.call();
+        now = 499;
+        Bitmap second = cache.call();
+
+        assertSame(captured.get(0), first);
+        // The first copy is the cached screenshot, the second one is handed out.
+        assertEquals(2, copies.size());
+        assertSame(copies.get(1), second);
+        assertEquals(1, captured.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testRecyclesCachedScreenshotOnceExpired() throws Exception {
+        ScreenshotFrameCache cache = makeCache(500);
+
+        Bitmap first = cache.call();
+        now = 500;
+        Bitmap second = cache.call();
+
+        assertNotSame(first, second);
+        assertEquals(2, captured.size());
+        verify(copies.get(0)).recycle();
+        verify(first, never()).recycle();
+    }
+
+    @Test
+    public void testInvalidateCapturesAgainOnNextCall() throws Exception {
+        ScreenshotFrameCache cache = makeCache(500);
+
+        Bitmap first = cache.call();
+        cache.invalidate();
+        Bitmap second = cache.call();
+
+        assertNotSame(first, second);
+        verify(copies.get(0)).recycle();
+        verify(first, never()).recycle();
+    }
+
+    @Test
+    public void testNeverRecyclesHandedOutScreenshots() throws Exception {
+        ScreenshotFrameCache cache = makeCache(500);
+
+        Bitmap first = cache.call();
+        Bitmap second = cache.call();
+        cache.clear();
+
+        verify(first, never()).recycle();
+        verify(second, never()).recycle();
+        verify(copies.get(0)).recycle();
+    }
+
+    @Test
+    public void testCapturesAgainWhenCopyFails() throws Exception {
+        ScreenshotFrameCache cache = makeCache(500);
+
+        cache.call();
+        when(copies.get(0).copy(any(), anyBoolean())).thenReturn(null);
+        Bitmap second = cache.call();
+
+        assertSame(captured.get(1), second);
+        verify(copies.get(0)).recycle();
+    }
+
+    @Test
+    public void testZeroMaxAgeDisablesCache() throws Exception {
+        ScreenshotFrameCache cache = makeCache(0);
+
+        cache.call();
+        cache.call();
+
+        assertEquals(2, captured.size());
+        assertTrue(copies.isEmpty());
+    }
+}
@@ -0,0 +1,144 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+
+import com.instabug.flutter.util.GlobalMocks;
+import com.instabug.flutter.util.SdkStartup;
+import com.instabug.flutter.util.ThreadManager;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class SdkStartupTest {
+    private final AtomicBoolean isBuilt = new AtomicBoolean(false);
+    private final List<String> calls = new ArrayList<>();
+    private SdkStartup startup;
+
+    @Before
+    public void setUp() throws NoSuchMethodException {
+        GlobalMocks.setUp();
+        startup = new SdkStartup(1000, 2, isBuilt::get);
+    }
+
+    @After
+    public void cleanUp() {
+        GlobalMocks.close();
+    }
+
+    @Test
+    public void testQueuesCallsUntilBuilt() {
+        startup.run(() -> calls.add("first"));
+        startup.run(() -> calls.add("second"));
+
+        assertTrue(calls.isEmpty());
+        assertEquals(2, startup.getPendingCount());
+
+        startup.start(() -> {
+            calls.add("build");
+            isBuilt.set(true);
+        });
+
+        assertEquals(Arrays.asList("build", "first", "second"), calls);
+        assertTrue(startup.isReady());
+        assertEquals(2, startup.getReplayedCount());
+        assertEquals(0, startup.getPendingCount());
+    }
+
+    @Test
+    public void testBuildsOnCallingThreadUnlessInBackground() {
+        startup.run(() -> calls.add("call"));
+
+        startup.start(() -> {
+            calls.add("build");
+            isBuilt.set(true);
+        }, false);
+
+        GlobalMocks.threadManager.verify(() -> ThreadManager.runOnBackground(any(Runnable.class)), never());
+        assertEquals(Arrays.asList("build", "call"), calls);
+        assertTrue(startup.isReady());
+    }
+
+    @Test
+    public void testRunsCallsRightAwayOnceReady() {
+        startup.start(() -> isBuilt.set(true));
+
+        startup.run(() -> calls.add("call"));
+
+        assertEquals(Arrays.asList("call"), calls);
+        assertEquals(0, startup.getReplayedCount());
+    }
+
+    @Test
+    public void testReplaysWhenBuiltNatively() {
+        startup.run(() -> calls.add("first"));
+        isBuilt.set(true);
+
+        startup.run(() -> calls.add("second"));
+
+        assertEquals(Arrays.asList("first", "second"), calls);
+        assertTrue(startup.isReady());
+    }
+
+    @Test
+    public void testDropsCallsOverCapacity() {
+        startup.run(() -> calls.add("first"));
+        startup.run(() -> calls.add("second"));
+        startup.run(() -> calls.add("third"));
+
+        startup.start(() -> isBuilt.set(true));
+
+        assertEquals(Arrays.asList("first", "second"), calls);
+        assertEquals(1, startup.getDroppedCount());
+    }
+
+    @Test
+    public void testNotifiesListenersWhenReady() {
+        AtomicBoolean notified = new AtomicBoolean(false);
+        startup.whenReady(() -> notified.set(true));
+
+        assertFalse(notified.get());
+
+        startup.start(() -> isBuilt.set(true));
+
+        assertTrue(notified.get());
+    }
+
+    @Test
+    public void testNotifiesListenersWhenBuiltNatively() {
+        AtomicBoolean notified = new AtomicBoolean(false);
+        startup.run(() -> calls.add("call"));
+        isBuilt.set(true);
+
+        startup.whenReady(() -> notified.set(true));
+
+        assertTrue(notified.get());
+        assertEquals(Arrays.asList("call"), calls);
+    }
+
+    @Test
+    public void testReplaysAfterFailedBuild() {
+        startup.run(() -> calls.add("call"));
+
+        startup.start(() -> {
+            throw new IllegalStateException();
+        });
+
+        assertEquals(Arrays.asList("call"), calls);
+        assertTrue(startup.isReady());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNonPositiveBudget() {
+        new SdkStartup(0, 2, isBuilt::get);
+    }
+}
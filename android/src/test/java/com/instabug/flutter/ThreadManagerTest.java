@@ -0,0 +1,150 @@
+package com.instabug.flutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mockStatic;
+
+import android.util.Log;
+
+import com.instabug.flutter.util.ThreadManager;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+public class ThreadManagerTest {
+    @After
+    public void cleanUp() {
+        ThreadManager.reset();
+    }
+
+    @Test(timeout = 5000)
+    public void testRunOnBackgroundUsesNamedThreads() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+        ThreadManager.configure(1, 4, Thread.MIN_PRIORITY);
+        ThreadManager.runOnBackground(() -> {
+            threads.add(Thread.currentThread());
+            latch.countDown();
+        });
+
+        latch.await();
+        assertEquals("instabug-flutter-background-1", threads.get(0).getName());
+        assertEquals(Thread.MIN_PRIORITY, threads.get(0).getPriority());
+    }
+
+    @Test
+    public void testRunOnBackgroundUsesHostExecutor() {
+        List<Runnable> executed = new ArrayList<>();
+        Executor executor = executed::add;
+        Runnable runnable = () -> {
+        };
+
+        ThreadManager.setExecutor(executor);
+        ThreadManager.runOnBackground(runnable);
+
+        assertEquals(Collections.singletonList(runnable), executed);
+    }
+
+    @Test(timeout = 5000)
+    public void testRunOnBackgroundRunsRejectedTasksOnFallbackThread() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch queuedRan = new CountDownLatch(1);
+        CountDownLatch rejectedRan = new CountDownLatch(1);
+        List<String> rejectedThreads = Collections.synchronizedList(new ArrayList<>());
+        MockedStatic<Log> mLog = mockStatic(Log.class);
+
+        ThreadManager.configure(1, 1, Thread.NORM_PRIORITY);
+        ThreadManager.runOnBackground(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        ThreadManager.runOnBackground(queuedRan::countDown);
+        ThreadManager.runOnBackground(() -> {
+            rejectedThreads.add(Thread.currentThread().getName());
+            rejectedRan.countDown();
+        });
+
+        assertTrue(rejectedRan.await(5, TimeUnit.SECONDS));
+        assertEquals(1, ThreadManager.getQueueSize());
+        assertEquals(1, ThreadManager.getRejectedCount());
+        assertEquals(Collections.singletonList("instabug-flutter-fallback-1"), rejectedThreads);
+
+        release.countDown();
+        assertTrue(queuedRan.await(5, TimeUnit.SECONDS));
+
+        mLog.close();
+    }
+
+    @Test(timeout = 5000)
+    public void testRunOnBackgroundRunsTasksOnCallerWhenFallbackIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> callerThreads = new ArrayList<>();
+        MockedStatic<Log> mLog = mockStatic(Log.class);
+        Runnable blocking = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        ThreadManager.configure(1, 1, Thread.NORM_PRIORITY);
+        // Occupies the background thread, its queue, the fallback thread then its queue.
+        ThreadManager.runOnBackground(blocking);
+        ThreadManager.runOnBackground(() -> {});
+        ThreadManager.runOnBackground(blocking);
+        started.await();
+        ThreadManager.runOnBackground(() -> {});
+        ThreadManager.runOnBackground(() -> callerThreads.add(Thread.currentThread().getName()));
+
+        assertEquals(Collections.singletonList(Thread.currentThread().getName()), callerThreads);
+        assertEquals(3, ThreadManager.getRejectedCount());
+        assertEquals(1, ThreadManager.getCallerRunCount());
+
+        release.countDown();
+        mLog.close();
+    }
+
+    @Test(timeout = 5000)
+    public void testRunOnBackgroundSeriallyKeepsOrder() throws InterruptedException {
+        int count = 50;
+        CountDownLatch latch = new CountDownLatch(count);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> expected = new ArrayList<>();
+
+        ThreadManager.configure(4, 64, Thread.NORM_PRIORITY);
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            expected.add(index);
+            ThreadManager.runOnBackgroundSerially(() -> {
+                order.add(index);
+                latch.countDown();
+            });
+        }
+
+        latch.await();
+        assertEquals(expected, order);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConfigureRejectsInvalidPriority() {
+        ThreadManager.configure(1, 1, Thread.MAX_PRIORITY + 1);
+    }
+}
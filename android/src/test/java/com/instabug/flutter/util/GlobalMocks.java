@@ -25,6 +25,7 @@ import static org.mockito.Mockito.mockStatic;
 
 public class GlobalMocks {
     public static MockedStatic<ThreadManager> threadManager;
+    public static MockedStatic<NetworkLogQueue> networkLogQueue;
     public static MockedStatic<Log> log;
     public static MockedStatic<Uri> uri;
     private static MockedStatic<Reflection> reflection;
@@ -43,11 +44,21 @@ public class GlobalMocks {
         threadManager
                 .when(() -> ThreadManager.runOnBackground(any(Runnable.class)))
                 .thenAnswer(threadAnswer);
+        threadManager
+                .when(() -> ThreadManager.runOnBackgroundSerially(any(Runnable.class)))
+                .thenAnswer(threadAnswer);
         threadManager
                 .when(() -> ThreadManager.runOnMainThread(any(Runnable.class)))
                 .thenAnswer(threadAnswer);
 
-        // Reflection mock
+        // NetworkLogQueue mock
+        networkLogQueue = mockStatic(NetworkLogQueue.class);
+        networkLogQueue
+                .when(() -> NetworkLogQueue.submit(any(Runnable.class)))
+                .thenAnswer(threadAnswer);
+
+        // Reflection mock, the invokers are reset to be resolved through it
+        SdkInvokers.resetAll();
         reflection = mockStatic(Reflection.class);
         reflected = mockStatic(MockReflected.class);
         Method mReportScreenChange = MockReflected.class.getDeclaredMethod("reportScreenChange", Bitmap.class, String.class);
@@ -110,9 +121,11 @@ public class GlobalMocks {
 
     public static void close() {
         threadManager.close();
+        networkLogQueue.close();
         log.close();
         uri.close();
         reflection.close();
         reflected.close();
+        SdkInvokers.resetAll();
     }
 }
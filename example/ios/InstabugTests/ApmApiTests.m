@@ -8,6 +8,7 @@
 @interface ApmApiTests : XCTestCase
 
 @property (nonatomic, strong) id mAPM;
+@property (nonatomic, strong) ApmFlutterApi *mFlutterApi;
 @property (nonatomic, strong) ApmApi *api;
 
 @end
@@ -16,7 +17,9 @@
 
 - (void)setUp {
     self.mAPM = OCMClassMock([IBGAPM class]);
-    self.api = [[ApmApi alloc] init];
+    self.mFlutterApi = OCMPartialMock([[ApmFlutterApi alloc] init]);
+    OCMStub([self.mFlutterApi onFeatureAvailabilityChangedFeature:OCMOCK_ANY isAvailable:OCMOCK_ANY completion:OCMOCK_ANY]);
+    self.api = [[ApmApi alloc] initWithFlutterApi:self.mFlutterApi];
 }
 
 - (IBGExecutionTrace *)mockTraceWithId:(NSString *)traceId {
@@ -151,6 +154,23 @@
     [self waitForExpectations:@[expectation] timeout:5.0];
 }
 
+- (void)testStartExecutionTraceNonBlocking {
+    NSString *traceId = @"trace-id";
+    NSString *name = @"trace-name";
+    NSString *key = @"is_premium";
+    NSString *value = @"true";
+    FlutterError *error;
+
+    IBGExecutionTrace *mTrace = OCMClassMock([IBGExecutionTrace class]);
+    OCMStub([self.mAPM startExecutionTraceWithName:name]).andReturn(mTrace);
+
+    [self.api startExecutionTraceNonBlockingId:traceId name:name error:&error];
+    [self.api setExecutionTraceAttributeId:traceId key:key value:value error:&error];
+
+    OCMVerify([self.mAPM startExecutionTraceWithName:name]);
+    OCMVerify([mTrace setAttributeWithKey:key value:value]);
+}
+
 
 - (void)testSetExecutionTraceAttribute {
     NSString *traceId = @"trace-id";
@@ -164,6 +184,18 @@
     OCMVerify([mTrace setAttributeWithKey:key value:value]);
 }
 
+- (void)testSetExecutionTraceAttributes {
+    NSString *traceId = @"trace-id";
+    NSDictionary *attributes = @{ @"is_premium": @"true", @"plan": @"hobby" };
+    FlutterError *error;
+    id mTrace = [self mockTraceWithId:traceId];
+
+    [self.api setExecutionTraceAttributesId:traceId attributes:attributes error:&error];
+
+    OCMVerify([mTrace setAttributeWithKey:@"is_premium" value:@"true"]);
+    OCMVerify([mTrace setAttributeWithKey:@"plan" value:@"hobby"]);
+}
+
 - (void)testEndExecutionTrace {
     NSString *traceId = @"trace-id";
     FlutterError *error;
@@ -203,6 +235,17 @@
     OCMVerify([self.mAPM setAttributeForFlowWithName:appFlowName key:attributeKey value:attributeValue]);
 }
 
+- (void)testSetFlowAttributes {
+    NSString *appFlowName = @"app-flow-name";
+    NSDictionary *attributes = @{ @"attribute-key": @"attribute-value", @"removed-key": [NSNull null] };
+    FlutterError *error;
+
+    [self.api setFlowAttributesName:appFlowName attributes:attributes error:&error];
+
+    OCMVerify([self.mAPM setAttributeForFlowWithName:appFlowName key:@"attribute-key" value:@"attribute-value"]);
+    OCMVerify([self.mAPM setAttributeForFlowWithName:appFlowName key:@"removed-key" value:nil]);
+}
+
 - (void)testStartUITrace {
     NSString *name = @"login";
     FlutterError *error;
@@ -266,5 +309,27 @@
     OCMVerify([self.mAPM endScreenLoadingCPWithEndTimestampMUS:endScreenLoadingCPWithEndTimestampMUS]);
 }
 
+- (void)testRefreshFeaturesAvailabilitySendsChanges {
+    OCMStub([self.mAPM enabled]).andReturn(YES);
+    OCMStub([self.mAPM endScreenLoadingEnabled]).andReturn(YES);
+    OCMStub([self.mAPM screenLoadingEnabled]).andReturn(YES);
+
+    [self.api refreshFeaturesAvailability];
+
+    OCMVerify([self.mFlutterApi onFeatureAvailabilityChangedFeature:@"FlagsConfig.apm" isAvailable:@YES completion:OCMOCK_ANY]);
+    OCMVerify([self.mFlutterApi onFeatureAvailabilityChangedFeature:@"FlagsConfig.screenLoading" isAvailable:@YES completion:OCMOCK_ANY]);
+    OCMVerify([self.mFlutterApi onFeatureAvailabilityChangedFeature:@"FlagsConfig.endScreenLoading" isAvailable:@YES completion:OCMOCK_ANY]);
+}
+
+- (void)testRefreshFeaturesAvailabilitySkipsUnchangedFeatures {
+    OCMStub([self.mAPM enabled]).andReturn(YES);
+    OCMStub([self.mAPM screenLoadingEnabled]).andReturn(YES);
+    OCMStub([self.mAPM endScreenLoadingEnabled]).andReturn(YES);
+
+    [self.api refreshFeaturesAvailability];
+    [self.api refreshFeaturesAvailability];
+
+    OCMVerify(times(1), [self.mFlutterApi onFeatureAvailabilityChangedFeature:@"FlagsConfig.screenLoading" isAvailable:@YES completion:OCMOCK_ANY]);
+}
 
 @end
@@ -0,0 +1,66 @@
+#import <XCTest/XCTest.h>
+#import "OCMock/OCMock.h"
+#import "DispatchMessenger.h"
+#import "InstabugLogPigeon.h"
+
+@interface DispatchMessengerTests : XCTestCase
+
+@property (nonatomic, strong) id mMessenger;
+@property (nonatomic, strong) DispatchMessenger *messenger;
+@property (nonatomic, copy) FlutterBinaryMessageHandler dispatchHandler;
+
+@end
+
+@implementation DispatchMessengerTests
+
+- (void)setUp {
+    self.mMessenger = OCMProtocolMock(@protocol(FlutterBinaryMessenger));
+    OCMStub([self.mMessenger setMessageHandlerOnChannel:kDispatchChannel binaryMessageHandler:[OCMArg checkWithBlock:^BOOL(FlutterBinaryMessageHandler handler) {
+        self.dispatchHandler = handler;
+        return YES;
+    }]]);
+
+    self.messenger = [[DispatchMessenger alloc] initWithMessenger:self.mMessenger];
+}
+
+- (NSData *)envelopeForChannel:(NSString *)channel arguments:(NSArray *)arguments {
+    uint32_t methodId = CFSwapInt32HostToLittle([DispatchMessenger methodIdForChannel:channel]);
+    NSMutableData *envelope = [NSMutableData dataWithBytes:&methodId length:sizeof(methodId)];
+    [envelope appendData:[[FlutterStandardMessageCodec sharedInstance] encode:arguments]];
+    return envelope;
+}
+
+- (void)testMethodIdIsChannelNameHash {
+    // FNV-1a hashes shared with the Dart and Android dispatch messengers.
+    XCTAssertEqual([DispatchMessenger methodIdForChannel:@""], 0x811c9dc5);
+    XCTAssertEqual([DispatchMessenger methodIdForChannel:@"a"], 0xe40c292c);
+    XCTAssertEqual([DispatchMessenger methodIdForChannel:@"foobar"], 0xbf9cf968);
+}
+
+- (void)testDispatchesToHandler {
+    id<InstabugLogHostApi> mApi = OCMProtocolMock(@protocol(InstabugLogHostApi));
+    InstabugLogHostApiSetup(self.messenger, mApi);
+
+    __block NSData *reply;
+    self.dispatchHandler([self envelopeForChannel:@"dev.flutter.pigeon.instabug_flutter.InstabugLogHostApi.logInfo" arguments:@[@"message"]], ^(NSData *data) {
+        reply = data;
+    });
+
+    OCMVerify([mApi logInfoMessage:@"message" error:[OCMArg anyObjectRef]]);
+    XCTAssertNotNil(reply);
+    OCMVerify(never(), [self.mMessenger setMessageHandlerOnChannel:@"dev.flutter.pigeon.instabug_flutter.InstabugLogHostApi.logInfo" binaryMessageHandler:[OCMArg any]]);
+}
+
+- (void)testRepliesNilToUnknownMethod {
+    __block BOOL replied = NO;
+    __block NSData *reply;
+    self.dispatchHandler([self envelopeForChannel:@"dev.flutter.pigeon.instabug_flutter.UnknownHostApi.method" arguments:@[]], ^(NSData *data) {
+        replied = YES;
+        reply = data;
+    });
+
+    XCTAssertTrue(replied);
+    XCTAssertNil(reply);
+}
+
+@end
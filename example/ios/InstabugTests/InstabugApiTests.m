@@ -5,6 +5,7 @@
 #import "Instabug/Instabug.h"
 #import "Util/Instabug+Test.h"
 #import "IBGNetworkLogger+CP.h"
+#import "IBGAPM+PrivateAPIs.h"
 #import "Flutter/Flutter.h"
 
 @interface InstabugTests : XCTestCase
@@ -47,6 +48,27 @@
     OCMVerify([self.mInstabug startWithToken:token invocationEvents:(IBGInvocationEventFloatingButton | IBGInvocationEventScreenshot)]);
 }
 
+- (void)testWaitForInit {
+    XCTestExpectation *expectation = [self expectationWithDescription:@"Call completion handler"];
+
+    [self.api waitForInitWithCompletion:^(NSDictionary<NSString *, NSNumber *> *timing, FlutterError *error) {
+        XCTAssertNil(error);
+        XCTAssertEqualObjects(timing[@"replayedCalls"], @0);
+        [expectation fulfill];
+    }];
+
+    [self waitForExpectations:@[expectation] timeout:5.0];
+}
+
+- (void)testGetBridgeStats {
+    FlutterError *error;
+
+    NSArray<BridgeMethodStats *> *stats = [self.api getBridgeStatsWithError:&error];
+
+    XCTAssertNil(error);
+    XCTAssertEqual(stats.count, 0);
+}
+
 - (void)testShow {
     FlutterError *error;
     
@@ -336,6 +358,20 @@
     OCMVerify([self.mInstabug logViewDidAppearEvent:screenName]);
 }
 
+- (void)testOnRouteTransition {
+    NSString *reportedScreenName = @"HomeScreen";
+    NSString *uiTraceScreenName = @"SettingsScreen";
+    NSNumber *microTimeStamp = @1000000;
+    NSNumber *uiTraceId = @1000;
+    FlutterError *error;
+    id mAPM = OCMClassMock([IBGAPM class]);
+
+    [self.api onRouteTransitionReportedScreenName:reportedScreenName uiTraceScreenName:uiTraceScreenName microTimeStamp:microTimeStamp uiTraceId:uiTraceId error:&error];
+
+    OCMVerify([self.mInstabug logViewDidAppearEvent:reportedScreenName]);
+    OCMVerify([mAPM startUITraceCPWithName:uiTraceScreenName startTimestampMUS:[microTimeStamp doubleValue]]);
+}
+
 - (void)testSetCustomBrandingImage {
     NSString *lightImage = @"images/light_logo.jpeg";
     NSString *darkImage = @"images/dark_logo.jpeg";
@@ -381,6 +417,80 @@
     OCMVerify([self.mInstabug addFileAttachmentWithData:[data data]]);
 }
 
+- (void)testAddFileAttachmentWithDataSkipsIdenticalContent {
+    FlutterStandardTypedData *data = [FlutterStandardTypedData typedDataWithBytes:[@"config" dataUsingEncoding:NSUTF8StringEncoding]];
+    FlutterStandardTypedData *copy = [FlutterStandardTypedData typedDataWithBytes:[@"config" dataUsingEncoding:NSUTF8StringEncoding]];
+    FlutterError *error;
+
+    [self.api addFileAttachmentWithDataData:data fileName:@"config.json" error:&error];
+    [self.api addFileAttachmentWithDataData:copy fileName:@"config.json" error:&error];
+
+    OCMVerify(times(1), [self.mInstabug addFileAttachmentWithData:[data data]]);
+}
+
+- (void)testAddFileAttachmentWithDataKeepsIdenticalContentUnderDifferentNames {
+    FlutterStandardTypedData *data = [FlutterStandardTypedData typedDataWithBytes:[@"config" dataUsingEncoding:NSUTF8StringEncoding]];
+    FlutterError *error;
+
+    [self.api addFileAttachmentWithDataData:data fileName:@"before.json" error:&error];
+    [self.api addFileAttachmentWithDataData:data fileName:@"after.json" error:&error];
+
+    OCMVerify(times(2), [self.mInstabug addFileAttachmentWithData:[data data]]);
+}
+
+- (void)testClearFileAttachmentsResetsDigests {
+    FlutterStandardTypedData *data = [FlutterStandardTypedData typedDataWithBytes:[@"config" dataUsingEncoding:NSUTF8StringEncoding]];
+    FlutterError *error;
+
+    [self.api addFileAttachmentWithDataData:data fileName:@"config.json" error:&error];
+    [self.api clearFileAttachmentsWithError:&error];
+    [self.api addFileAttachmentWithDataData:data fileName:@"config.json" error:&error];
+
+    OCMVerify(times(2), [self.mInstabug addFileAttachmentWithData:[data data]]);
+}
+
+- (void)testChunkedFileAttachment {
+    FlutterError *error;
+    __block NSURL *attachedURL;
+    OCMStub([self.mInstabug addFileAttachmentWithURL:[OCMArg checkWithBlock:^BOOL(NSURL *url) {
+        attachedURL = url;
+        return YES;
+    }]]);
+
+    NSString *attachmentId = [self.api beginFileAttachmentFileName:@"dump.log" error:&error];
+    [self.api appendFileAttachmentChunkId:attachmentId chunk:[FlutterStandardTypedData typedDataWithBytes:[@"Hello, " dataUsingEncoding:NSUTF8StringEncoding]] error:&error];
+    [self.api appendFileAttachmentChunkId:attachmentId chunk:[FlutterStandardTypedData typedDataWithBytes:[@"World!" dataUsingEncoding:NSUTF8StringEncoding]] error:&error];
+    [self.api finishFileAttachmentId:attachmentId error:&error];
+
+    XCTAssertNotNil(attachmentId);
+    XCTAssertEqualObjects(attachedURL.lastPathComponent, @"dump.log");
+    NSString *contents = [NSString stringWithContentsOfURL:attachedURL encoding:NSUTF8StringEncoding error:nil];
+    XCTAssertEqualObjects(contents, @"Hello, World!");
+
+    [self.api clearFileAttachmentsWithError:&error];
+
+    XCTAssertFalse([[NSFileManager defaultManager] fileExistsAtPath:attachedURL.path]);
+}
+
+- (void)testAbortFileAttachment {
+    FlutterError *error;
+
+    NSString *attachmentId = [self.api beginFileAttachmentFileName:@"dump.log" error:&error];
+    [self.api appendFileAttachmentChunkId:attachmentId chunk:[FlutterStandardTypedData typedDataWithBytes:[@"Hello, " dataUsingEncoding:NSUTF8StringEncoding]] error:&error];
+    [self.api abortFileAttachmentId:attachmentId error:&error];
+    [self.api finishFileAttachmentId:attachmentId error:&error];
+
+    OCMVerify(never(), [self.mInstabug addFileAttachmentWithURL:[OCMArg any]]);
+}
+
+- (void)testFinishUnknownFileAttachment {
+    FlutterError *error;
+
+    [self.api finishFileAttachmentId:@"unknown" error:&error];
+
+    OCMVerify(never(), [self.mInstabug addFileAttachmentWithURL:[OCMArg any]]);
+}
+
 - (void)testClearFileAttachments {
     FlutterError *error;
     [self.api clearFileAttachmentsWithError:&error];
@@ -442,6 +552,63 @@
                                  caughtedW3CTraceparent:nil]);
 }
 
+- (void)testLogNetworkEntry {
+    NSString *url = @"https://example.com";
+    NSString *requestBody = @"hi";
+    NSNumber *requestBodySize = @17;
+    NSString *responseBody = @"{\"hello\":\"world\"}";
+    NSNumber *responseBodySize = @153;
+    NSString *method = @"POST";
+    NSNumber *responseCode = @201;
+    NSString *responseContentType = @"application/json";
+    NSNumber *duration = @23000;
+    NSNumber *startTime = @1670156107523;
+    NSDictionary *requestHeaders = @{ @"Accepts": @"application/json" };
+    NSDictionary *responseHeaders = @{ @"Content-Type": @"text/plain" };
+    NetworkEntry *entry = [NetworkEntry makeWithUrl:url
+                                             method:method
+                                        requestBody:requestBody
+                                       responseBody:responseBody
+                                    requestBodySize:requestBodySize
+                                   responseBodySize:responseBodySize
+                                       responseCode:responseCode
+                                     requestHeaders:requestHeaders
+                                    responseHeaders:responseHeaders
+                                 requestContentType:nil
+                                responseContentType:responseContentType
+                                           duration:duration
+                                          startTime:startTime
+                                          errorCode:@0
+                                        errorDomain:@""
+                                       gqlQueryName:nil
+                                 serverErrorMessage:nil];
+    FlutterError* error;
+
+    [self.api logNetworkEntryEntry:entry error:&error];
+
+    OCMVerify([self.mNetworkLogger addNetworkLogWithUrl:url
+                                                 method:method
+                                            requestBody:requestBody
+                                        requestBodySize:requestBodySize.integerValue
+                                           responseBody:responseBody
+                                       responseBodySize:responseBodySize.integerValue
+                                           responseCode:(int32_t) responseCode.integerValue
+                                         requestHeaders:requestHeaders
+                                        responseHeaders:responseHeaders
+                                            contentType:responseContentType
+                                            errorDomain:@""
+                                              errorCode:0
+                                              startTime:startTime.integerValue * 1000
+                                               duration:duration.integerValue
+                                           gqlQueryName:nil
+                                     serverErrorMessage:nil
+                                          isW3cCaughted:nil
+                                              partialID:nil
+                                              timestamp:nil
+                                generatedW3CTraceparent:nil
+                                 caughtedW3CTraceparent:nil]);
+}
+
 - (void)testWillRedirectToAppStore {
     FlutterError *error;
     [self.api willRedirectToStoreWithError:&error];
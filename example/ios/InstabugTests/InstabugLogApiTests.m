@@ -62,6 +62,25 @@
     OCMVerify([self.mInstabugLog logError:message]);
 }
 
+- (void)testLogBatch {
+    NSArray *entries = @[
+        @(InstabugLogLevelVerbose), @1700000000000, @"verbose message",
+        @(InstabugLogLevelDebug), @1700000000001, @"debug message",
+        @(InstabugLogLevelInfo), @1700000000002, @"info message",
+        @(InstabugLogLevelWarn), @1700000000003, @"warn message",
+        @(InstabugLogLevelError), @1700000000004, @"error message",
+    ];
+    FlutterError *error;
+
+    [self.api logBatchEntries:entries error:&error];
+
+    OCMVerify([self.mInstabugLog logVerbose:@"verbose message"]);
+    OCMVerify([self.mInstabugLog logDebug:@"debug message"]);
+    OCMVerify([self.mInstabugLog logInfo:@"info message"]);
+    OCMVerify([self.mInstabugLog logWarn:@"warn message"]);
+    OCMVerify([self.mInstabugLog logError:@"error message"]);
+}
+
 - (void)testClearAllLogs {
     FlutterError *error;
 
@@ -11,6 +11,14 @@
 NS_ASSUME_NONNULL_BEGIN
 
 
+/// The codec used by ApmFlutterApi.
+NSObject<FlutterMessageCodec> *ApmFlutterApiGetCodec(void);
+
+@interface ApmFlutterApi : NSObject
+- (instancetype)initWithBinaryMessenger:(id<FlutterBinaryMessenger>)binaryMessenger;
+- (void)onFeatureAvailabilityChangedFeature:(NSString *)feature isAvailable:(NSNumber *)isAvailable completion:(void (^)(FlutterError *_Nullable))completion;
+@end
+
 /// The codec used by ApmHostApi.
 NSObject<FlutterMessageCodec> *ApmHostApiGetCodec(void);
 
@@ -22,10 +30,13 @@ NSObject<FlutterMessageCodec> *ApmHostApiGetCodec(void);
 - (void)setColdAppLaunchEnabledIsEnabled:(NSNumber *)isEnabled error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)setAutoUITraceEnabledIsEnabled:(NSNumber *)isEnabled error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)startExecutionTraceId:(NSString *)id name:(NSString *)name completion:(void (^)(NSString *_Nullable, FlutterError *_Nullable))completion;
+- (void)startExecutionTraceNonBlockingId:(NSString *)id name:(NSString *)name error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)startFlowName:(NSString *)name error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)setFlowAttributeName:(NSString *)name key:(NSString *)key value:(nullable NSString *)value error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)setFlowAttributesName:(NSString *)name attributes:(NSDictionary<NSString *, NSString *> *)attributes error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)endFlowName:(NSString *)name error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)setExecutionTraceAttributeId:(NSString *)id key:(NSString *)key value:(NSString *)value error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)setExecutionTraceAttributesId:(NSString *)id attributes:(NSDictionary<NSString *, NSString *> *)attributes error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)endExecutionTraceId:(NSString *)id error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)startUITraceName:(NSString *)name error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)endUITraceWithError:(FlutterError *_Nullable *_Nonnull)error;
@@ -26,6 +26,37 @@ static id GetNullableObjectAtIndex(NSArray *array, NSInteger key) {
   return (result == [NSNull null]) ? nil : result;
 }
 
+NSObject<FlutterMessageCodec> *ApmFlutterApiGetCodec(void) {
+  static FlutterStandardMessageCodec *sSharedObject = nil;
+  sSharedObject = [FlutterStandardMessageCodec sharedInstance];
+  return sSharedObject;
+}
+
+@interface ApmFlutterApi ()
+@property(nonatomic, strong) NSObject<FlutterBinaryMessenger> *binaryMessenger;
+@end
+
+@implementation ApmFlutterApi
+
+- (instancetype)initWithBinaryMessenger:(NSObject<FlutterBinaryMessenger> *)binaryMessenger {
+  self = [super init];
+  if (self) {
+    _binaryMessenger = binaryMessenger;
+  }
+  return self;
+}
+- (void)onFeatureAvailabilityChangedFeature:(NSString *)arg_feature isAvailable:(NSNumber *)arg_isAvailable completion:(void (^)(FlutterError *_Nullable))completion {
+  FlutterBasicMessageChannel *channel =
+    [FlutterBasicMessageChannel
+      messageChannelWithName:@"dev.flutter.pigeon.instabug_flutter.ApmFlutterApi.onFeatureAvailabilityChanged"
+      binaryMessenger:self.binaryMessenger
+      codec:ApmFlutterApiGetCodec()];
+  [channel sendMessage:@[arg_feature ?: [NSNull null], arg_isAvailable ?: [NSNull null]] reply:^(id reply) {
+    completion(nil);
+  }];
+}
+@end
+
 NSObject<FlutterMessageCodec> *ApmHostApiGetCodec(void) {
   static FlutterStandardMessageCodec *sSharedObject = nil;
   sSharedObject = [FlutterStandardMessageCodec sharedInstance];
@@ -33,6 +64,7 @@ NSObject<FlutterMessageCodec> *ApmHostApiGetCodec(void) {
 }
 
 void ApmHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<ApmHostApi> *api) {
+  NSObject<FlutterTaskQueue> *taskQueue = [binaryMessenger makeBackgroundTaskQueue];
   {
     FlutterBasicMessageChannel *channel =
       [[FlutterBasicMessageChannel alloc]
@@ -163,6 +195,26 @@ void ApmHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<ApmHos
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel =
+      [[FlutterBasicMessageChannel alloc]
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.ApmHostApi.startExecutionTraceNonBlocking"
+        binaryMessenger:binaryMessenger
+        codec:ApmHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(startExecutionTraceNonBlockingId:name:error:)], @"ApmHostApi api (%@) doesn't respond to @selector(startExecutionTraceNonBlockingId:name:error:)", api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        NSString *arg_id = GetNullableObjectAtIndex(args, 0);
+        NSString *arg_name = GetNullableObjectAtIndex(args, 1);
+        FlutterError *error;
+        [api startExecutionTraceNonBlockingId:arg_id name:arg_name error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel =
       [[FlutterBasicMessageChannel alloc]
@@ -203,6 +255,26 @@ void ApmHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<ApmHos
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel =
+      [[FlutterBasicMessageChannel alloc]
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.ApmHostApi.setFlowAttributes"
+        binaryMessenger:binaryMessenger
+        codec:ApmHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(setFlowAttributesName:attributes:error:)], @"ApmHostApi api (%@) doesn't respond to @selector(setFlowAttributesName:attributes:error:)", api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        NSString *arg_name = GetNullableObjectAtIndex(args, 0);
+        NSDictionary<NSString *, NSString *> *arg_attributes = GetNullableObjectAtIndex(args, 1);
+        FlutterError *error;
+        [api setFlowAttributesName:arg_name attributes:arg_attributes error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel =
       [[FlutterBasicMessageChannel alloc]
@@ -243,6 +315,26 @@ void ApmHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<ApmHos
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel =
+      [[FlutterBasicMessageChannel alloc]
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.ApmHostApi.setExecutionTraceAttributes"
+        binaryMessenger:binaryMessenger
+        codec:ApmHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(setExecutionTraceAttributesId:attributes:error:)], @"ApmHostApi api (%@) doesn't respond to @selector(setExecutionTraceAttributesId:attributes:error:)", api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        NSString *arg_id = GetNullableObjectAtIndex(args, 0);
+        NSDictionary<NSString *, NSString *> *arg_attributes = GetNullableObjectAtIndex(args, 1);
+        FlutterError *error;
+        [api setExecutionTraceAttributesId:arg_id attributes:arg_attributes error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel =
       [[FlutterBasicMessageChannel alloc]
@@ -320,7 +412,8 @@ void ApmHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<ApmHos
       [[FlutterBasicMessageChannel alloc]
         initWithName:@"dev.flutter.pigeon.instabug_flutter.ApmHostApi.networkLogAndroid"
         binaryMessenger:binaryMessenger
-        codec:ApmHostApiGetCodec()];
+        codec:ApmHostApiGetCodec()
+        taskQueue:taskQueue];
     if (api) {
       NSCAssert([api respondsToSelector:@selector(networkLogAndroidData:error:)], @"ApmHostApi api (%@) doesn't respond to @selector(networkLogAndroidData:error:)", api);
       [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
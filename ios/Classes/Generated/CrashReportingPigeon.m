@@ -33,6 +33,7 @@ NSObject<FlutterMessageCodec> *CrashReportingHostApiGetCodec(void) {
 }
 
 void CrashReportingHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<CrashReportingHostApi> *api) {
+  NSObject<FlutterTaskQueue> *taskQueue = [binaryMessenger makeBackgroundTaskQueue];
   {
     FlutterBasicMessageChannel *channel =
       [[FlutterBasicMessageChannel alloc]
@@ -57,7 +58,8 @@ void CrashReportingHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSOb
       [[FlutterBasicMessageChannel alloc]
         initWithName:@"dev.flutter.pigeon.instabug_flutter.CrashReportingHostApi.send"
         binaryMessenger:binaryMessenger
-        codec:CrashReportingHostApiGetCodec()];
+        codec:CrashReportingHostApiGetCodec()
+        taskQueue:taskQueue];
     if (api) {
       NSCAssert([api respondsToSelector:@selector(sendJsonCrash:isHandled:error:)], @"CrashReportingHostApi api (%@) doesn't respond to @selector(sendJsonCrash:isHandled:error:)", api);
       [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
@@ -77,7 +79,8 @@ void CrashReportingHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSOb
       [[FlutterBasicMessageChannel alloc]
         initWithName:@"dev.flutter.pigeon.instabug_flutter.CrashReportingHostApi.sendNonFatalError"
         binaryMessenger:binaryMessenger
-        codec:CrashReportingHostApiGetCodec()];
+        codec:CrashReportingHostApiGetCodec()
+        taskQueue:taskQueue];
     if (api) {
       NSCAssert([api respondsToSelector:@selector(sendNonFatalErrorJsonCrash:userAttributes:fingerprint:nonFatalExceptionLevel:error:)], @"CrashReportingHostApi api (%@) doesn't respond to @selector(sendNonFatalErrorJsonCrash:userAttributes:fingerprint:nonFatalExceptionLevel:error:)", api);
       [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
@@ -20,6 +20,7 @@ NSObject<FlutterMessageCodec> *InstabugLogHostApiGetCodec(void);
 - (void)logInfoMessage:(NSString *)message error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)logWarnMessage:(NSString *)message error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)logErrorMessage:(NSString *)message error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)logBatchEntries:(NSArray<id> *)entries error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)clearAllLogsWithError:(FlutterError *_Nullable *_Nonnull)error;
 @end
 
@@ -128,6 +128,25 @@ void InstabugLogHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObjec
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel =
+      [[FlutterBasicMessageChannel alloc]
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugLogHostApi.logBatch"
+        binaryMessenger:binaryMessenger
+        codec:InstabugLogHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(logBatchEntries:error:)], @"InstabugLogHostApi api (%@) doesn't respond to @selector(logBatchEntries:error:)", api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        NSArray<id> *arg_entries = GetNullableObjectAtIndex(args, 0);
+        FlutterError *error;
+        [api logBatchEntries:arg_entries error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel =
       [[FlutterBasicMessageChannel alloc]
@@ -10,6 +10,68 @@
 
 NS_ASSUME_NONNULL_BEGIN
 
+@class NetworkEntry;
+@class BridgeMethodStats;
+
+@interface NetworkEntry : NSObject
+/// `init` unavailable to enforce nonnull fields, see the `make` class method.
+- (instancetype)init NS_UNAVAILABLE;
++ (instancetype)makeWithUrl:(NSString *)url
+    method:(NSString *)method
+    requestBody:(NSString *)requestBody
+    responseBody:(NSString *)responseBody
+    requestBodySize:(NSNumber *)requestBodySize
+    responseBodySize:(NSNumber *)responseBodySize
+    responseCode:(nullable NSNumber *)responseCode
+    requestHeaders:(NSDictionary<NSString *, NSString *> *)requestHeaders
+    responseHeaders:(NSDictionary<NSString *, NSString *> *)responseHeaders
+    requestContentType:(nullable NSString *)requestContentType
+    responseContentType:(nullable NSString *)responseContentType
+    duration:(nullable NSNumber *)duration
+    startTime:(NSNumber *)startTime
+    errorCode:(NSNumber *)errorCode
+    errorDomain:(NSString *)errorDomain
+    gqlQueryName:(nullable NSString *)gqlQueryName
+    serverErrorMessage:(nullable NSString *)serverErrorMessage;
+@property(nonatomic, copy) NSString * url;
+@property(nonatomic, copy) NSString * method;
+@property(nonatomic, copy) NSString * requestBody;
+@property(nonatomic, copy) NSString * responseBody;
+@property(nonatomic, strong) NSNumber * requestBodySize;
+@property(nonatomic, strong) NSNumber * responseBodySize;
+@property(nonatomic, strong, nullable) NSNumber * responseCode;
+@property(nonatomic, strong) NSDictionary<NSString *, NSString *> * requestHeaders;
+@property(nonatomic, strong) NSDictionary<NSString *, NSString *> * responseHeaders;
+@property(nonatomic, copy, nullable) NSString * requestContentType;
+@property(nonatomic, copy, nullable) NSString * responseContentType;
+/// In microseconds.
+@property(nonatomic, strong, nullable) NSNumber * duration;
+/// In milliseconds since epoch.
+@property(nonatomic, strong) NSNumber * startTime;
+@property(nonatomic, strong) NSNumber * errorCode;
+@property(nonatomic, copy) NSString * errorDomain;
+@property(nonatomic, copy, nullable) NSString * gqlQueryName;
+@property(nonatomic, copy, nullable) NSString * serverErrorMessage;
+@end
+
+@interface BridgeMethodStats : NSObject
+/// `init` unavailable to enforce nonnull fields, see the `make` class method.
+- (instancetype)init NS_UNAVAILABLE;
++ (instancetype)makeWithMethod:(NSString *)method
+    callCount:(NSNumber *)callCount
+    errorCount:(NSNumber *)errorCount
+    payloadBytes:(NSNumber *)payloadBytes
+    p50LatencyMicros:(NSNumber *)p50LatencyMicros
+    p95LatencyMicros:(NSNumber *)p95LatencyMicros
+    p99LatencyMicros:(NSNumber *)p99LatencyMicros;
+@property(nonatomic, copy) NSString * method;
+@property(nonatomic, strong) NSNumber * callCount;
+@property(nonatomic, strong) NSNumber * errorCount;
+@property(nonatomic, strong) NSNumber * payloadBytes;
+@property(nonatomic, strong) NSNumber * p50LatencyMicros;
+@property(nonatomic, strong) NSNumber * p95LatencyMicros;
+@property(nonatomic, strong) NSNumber * p99LatencyMicros;
+@end
 
 /// The codec used by InstabugHostApi.
 NSObject<FlutterMessageCodec> *InstabugHostApiGetCodec(void);
@@ -20,7 +82,10 @@ NSObject<FlutterMessageCodec> *InstabugHostApiGetCodec(void);
 - (nullable NSNumber *)isEnabledWithError:(FlutterError *_Nullable *_Nonnull)error;
 /// @return `nil` only when `error != nil`.
 - (nullable NSNumber *)isBuiltWithError:(FlutterError *_Nullable *_Nonnull)error;
+/// @return `nil` only when `error != nil`.
+- (nullable NSNumber *)isMultiplexedChannelEnabledWithError:(FlutterError *_Nullable *_Nonnull)error;
 - (void)initToken:(NSString *)token invocationEvents:(NSArray<NSString *> *)invocationEvents debugLogsLevel:(NSString *)debugLogsLevel error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)waitForInitWithCompletion:(void (^)(NSDictionary<NSString *, NSNumber *> *_Nullable, FlutterError *_Nullable))completion;
 - (void)showWithError:(FlutterError *_Nullable *_Nonnull)error;
 - (void)showWelcomeMessageWithModeMode:(NSString *)mode error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)identifyUserEmail:(NSString *)email name:(nullable NSString *)name userId:(nullable NSString *)userId error:(FlutterError *_Nullable *_Nonnull)error;
@@ -48,12 +113,20 @@ NSObject<FlutterMessageCodec> *InstabugHostApiGetCodec(void);
 - (void)getUserAttributesWithCompletion:(void (^)(NSDictionary<NSString *, NSString *> *_Nullable, FlutterError *_Nullable))completion;
 - (void)setReproStepsConfigBugMode:(nullable NSString *)bugMode crashMode:(nullable NSString *)crashMode sessionReplayMode:(nullable NSString *)sessionReplayMode error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)reportScreenChangeScreenName:(NSString *)screenName error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)onRouteTransitionReportedScreenName:(NSString *)reportedScreenName uiTraceScreenName:(NSString *)uiTraceScreenName microTimeStamp:(NSNumber *)microTimeStamp uiTraceId:(NSNumber *)uiTraceId error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)setCustomBrandingImageLight:(NSString *)light dark:(NSString *)dark error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)setFontFont:(NSString *)font error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)addFileAttachmentWithURLFilePath:(NSString *)filePath fileName:(NSString *)fileName error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)addFileAttachmentWithDataData:(FlutterStandardTypedData *)data fileName:(NSString *)fileName error:(FlutterError *_Nullable *_Nonnull)error;
+- (nullable NSString *)beginFileAttachmentFileName:(NSString *)fileName error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)appendFileAttachmentChunkId:(NSString *)id chunk:(FlutterStandardTypedData *)chunk error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)finishFileAttachmentId:(NSString *)id error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)abortFileAttachmentId:(NSString *)id error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)clearFileAttachmentsWithError:(FlutterError *_Nullable *_Nonnull)error;
 - (void)networkLogData:(NSDictionary<NSString *, id> *)data error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)logNetworkEntryEntry:(NetworkEntry *)entry error:(FlutterError *_Nullable *_Nonnull)error;
+/// @return `nil` only when `error != nil`.
+- (nullable NSArray<BridgeMethodStats *> *)getBridgeStatsWithError:(FlutterError *_Nullable *_Nonnull)error;
 - (void)willRedirectToStoreWithError:(FlutterError *_Nullable *_Nonnull)error;
 @end
 
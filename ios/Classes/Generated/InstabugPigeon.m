@@ -26,13 +26,220 @@ static id GetNullableObjectAtIndex(NSArray *array, NSInteger key) {
   return (result == [NSNull null]) ? nil : result;
 }
 
+@interface NetworkEntry ()
++ (NetworkEntry *)fromList:(NSArray *)list;
++ (nullable NetworkEntry *)nullableFromList:(NSArray *)list;
+- (NSArray *)toList;
+@end
+
+@interface BridgeMethodStats ()
++ (BridgeMethodStats *)fromList:(NSArray *)list;
++ (nullable BridgeMethodStats *)nullableFromList:(NSArray *)list;
+- (NSArray *)toList;
+@end
+
+@implementation NetworkEntry
++ (instancetype)makeWithUrl:(NSString *)url
+    method:(NSString *)method
+    requestBody:(NSString *)requestBody
+    responseBody:(NSString *)responseBody
+    requestBodySize:(NSNumber *)requestBodySize
+    responseBodySize:(NSNumber *)responseBodySize
+    responseCode:(nullable NSNumber *)responseCode
+    requestHeaders:(NSDictionary<NSString *, NSString *> *)requestHeaders
+    responseHeaders:(NSDictionary<NSString *, NSString *> *)responseHeaders
+    requestContentType:(nullable NSString *)requestContentType
+    responseContentType:(nullable NSString *)responseContentType
+    duration:(nullable NSNumber *)duration
+    startTime:(NSNumber *)startTime
+    errorCode:(NSNumber *)errorCode
+    errorDomain:(NSString *)errorDomain
+    gqlQueryName:(nullable NSString *)gqlQueryName
+    serverErrorMessage:(nullable NSString *)serverErrorMessage {
+  NetworkEntry* pigeonResult = [[NetworkEntry alloc] init];
+  pigeonResult.url = url;
+  pigeonResult.method = method;
+  pigeonResult.requestBody = requestBody;
+  pigeonResult.responseBody = responseBody;
+  pigeonResult.requestBodySize = requestBodySize;
+  pigeonResult.responseBodySize = responseBodySize;
+  pigeonResult.responseCode = responseCode;
+  pigeonResult.requestHeaders = requestHeaders;
+  pigeonResult.responseHeaders = responseHeaders;
+  pigeonResult.requestContentType = requestContentType;
+  pigeonResult.responseContentType = responseContentType;
+  pigeonResult.duration = duration;
+  pigeonResult.startTime = startTime;
+  pigeonResult.errorCode = errorCode;
+  pigeonResult.errorDomain = errorDomain;
+  pigeonResult.gqlQueryName = gqlQueryName;
+  pigeonResult.serverErrorMessage = serverErrorMessage;
+  return pigeonResult;
+}
++ (NetworkEntry *)fromList:(NSArray *)list {
+  NetworkEntry *pigeonResult = [[NetworkEntry alloc] init];
+  pigeonResult.url = GetNullableObjectAtIndex(list, 0);
+  NSAssert(pigeonResult.url != nil, @"");
+  pigeonResult.method = GetNullableObjectAtIndex(list, 1);
+  NSAssert(pigeonResult.method != nil, @"");
+  pigeonResult.requestBody = GetNullableObjectAtIndex(list, 2);
+  NSAssert(pigeonResult.requestBody != nil, @"");
+  pigeonResult.responseBody = GetNullableObjectAtIndex(list, 3);
+  NSAssert(pigeonResult.responseBody != nil, @"");
+  pigeonResult.requestBodySize = GetNullableObjectAtIndex(list, 4);
+  NSAssert(pigeonResult.requestBodySize != nil, @"");
+  pigeonResult.responseBodySize = GetNullableObjectAtIndex(list, 5);
+  NSAssert(pigeonResult.responseBodySize != nil, @"");
+  pigeonResult.responseCode = GetNullableObjectAtIndex(list, 6);
+  pigeonResult.requestHeaders = GetNullableObjectAtIndex(list, 7);
+  NSAssert(pigeonResult.requestHeaders != nil, @"");
+  pigeonResult.responseHeaders = GetNullableObjectAtIndex(list, 8);
+  NSAssert(pigeonResult.responseHeaders != nil, @"");
+  pigeonResult.requestContentType = GetNullableObjectAtIndex(list, 9);
+  pigeonResult.responseContentType = GetNullableObjectAtIndex(list, 10);
+  pigeonResult.duration = GetNullableObjectAtIndex(list, 11);
+  pigeonResult.startTime = GetNullableObjectAtIndex(list, 12);
+  NSAssert(pigeonResult.startTime != nil, @"");
+  pigeonResult.errorCode = GetNullableObjectAtIndex(list, 13);
+  NSAssert(pigeonResult.errorCode != nil, @"");
+  pigeonResult.errorDomain = GetNullableObjectAtIndex(list, 14);
+  NSAssert(pigeonResult.errorDomain != nil, @"");
+  pigeonResult.gqlQueryName = GetNullableObjectAtIndex(list, 15);
+  pigeonResult.serverErrorMessage = GetNullableObjectAtIndex(list, 16);
+  return pigeonResult;
+}
++ (nullable NetworkEntry *)nullableFromList:(NSArray *)list {
+  return (list) ? [NetworkEntry fromList:list] : nil;
+}
+- (NSArray *)toList {
+  return @[
+    (self.url ?: [NSNull null]),
+    (self.method ?: [NSNull null]),
+    (self.requestBody ?: [NSNull null]),
+    (self.responseBody ?: [NSNull null]),
+    (self.requestBodySize ?: [NSNull null]),
+    (self.responseBodySize ?: [NSNull null]),
+    (self.responseCode ?: [NSNull null]),
+    (self.requestHeaders ?: [NSNull null]),
+    (self.responseHeaders ?: [NSNull null]),
+    (self.requestContentType ?: [NSNull null]),
+    (self.responseContentType ?: [NSNull null]),
+    (self.duration ?: [NSNull null]),
+    (self.startTime ?: [NSNull null]),
+    (self.errorCode ?: [NSNull null]),
+    (self.errorDomain ?: [NSNull null]),
+    (self.gqlQueryName ?: [NSNull null]),
+    (self.serverErrorMessage ?: [NSNull null]),
+  ];
+}
+@end
+
+@implementation BridgeMethodStats
++ (instancetype)makeWithMethod:(NSString *)method
+    callCount:(NSNumber *)callCount
+    errorCount:(NSNumber *)errorCount
+    payloadBytes:(NSNumber *)payloadBytes
+    p50LatencyMicros:(NSNumber *)p50LatencyMicros
+    p95LatencyMicros:(NSNumber *)p95LatencyMicros
+    p99LatencyMicros:(NSNumber *)p99LatencyMicros {
+  BridgeMethodStats* pigeonResult = [[BridgeMethodStats alloc] init];
+  pigeonResult.method = method;
+  pigeonResult.callCount = callCount;
+  pigeonResult.errorCount = errorCount;
+  pigeonResult.payloadBytes = payloadBytes;
+  pigeonResult.p50LatencyMicros = p50LatencyMicros;
+  pigeonResult.p95LatencyMicros = p95LatencyMicros;
+  pigeonResult.p99LatencyMicros = p99LatencyMicros;
+  return pigeonResult;
+}
++ (BridgeMethodStats *)fromList:(NSArray *)list {
+  BridgeMethodStats *pigeonResult = [[BridgeMethodStats alloc] init];
+  pigeonResult.method = GetNullableObjectAtIndex(list, 0);
+  NSAssert(pigeonResult.method != nil, @"");
+  pigeonResult.callCount = GetNullableObjectAtIndex(list, 1);
+  NSAssert(pigeonResult.callCount != nil, @"");
+  pigeonResult.errorCount = GetNullableObjectAtIndex(list, 2);
+  NSAssert(pigeonResult.errorCount != nil, @"");
+  pigeonResult.payloadBytes = GetNullableObjectAtIndex(list, 3);
+  NSAssert(pigeonResult.payloadBytes != nil, @"");
+  pigeonResult.p50LatencyMicros = GetNullableObjectAtIndex(list, 4);
+  NSAssert(pigeonResult.p50LatencyMicros != nil, @"");
+  pigeonResult.p95LatencyMicros = GetNullableObjectAtIndex(list, 5);
+  NSAssert(pigeonResult.p95LatencyMicros != nil, @"");
+  pigeonResult.p99LatencyMicros = GetNullableObjectAtIndex(list, 6);
+  NSAssert(pigeonResult.p99LatencyMicros != nil, @"");
+  return pigeonResult;
+}
++ (nullable BridgeMethodStats *)nullableFromList:(NSArray *)list {
+  return (list) ? [BridgeMethodStats fromList:list] : nil;
+}
+- (NSArray *)toList {
+  return @[
+    (self.method ?: [NSNull null]),
+    (self.callCount ?: [NSNull null]),
+    (self.errorCount ?: [NSNull null]),
+    (self.payloadBytes ?: [NSNull null]),
+    (self.p50LatencyMicros ?: [NSNull null]),
+    (self.p95LatencyMicros ?: [NSNull null]),
+    (self.p99LatencyMicros ?: [NSNull null]),
+  ];
+}
+@end
+
+@interface InstabugHostApiCodecReader : FlutterStandardReader
+@end
+@implementation InstabugHostApiCodecReader
+- (nullable id)readValueOfType:(UInt8)type {
+  switch (type) {
+    case 128: 
+      return [NetworkEntry fromList:[self readValue]];
+    case 129: 
+      return [BridgeMethodStats fromList:[self readValue]];
+    default:
+      return [super readValueOfType:type];
+  }
+}
+@end
+
+@interface InstabugHostApiCodecWriter : FlutterStandardWriter
+@end
+@implementation InstabugHostApiCodecWriter
+- (void)writeValue:(id)value {
+  if ([value isKindOfClass:[NetworkEntry class]]) {
+    [self writeByte:128];
+    [self writeValue:[value toList]];
+  } else if ([value isKindOfClass:[BridgeMethodStats class]]) {
+    [self writeByte:129];
+    [self writeValue:[value toList]];
+  } else {
+    [super writeValue:value];
+  }
+}
+@end
+
+@interface InstabugHostApiCodecReaderWriter : FlutterStandardReaderWriter
+@end
+@implementation InstabugHostApiCodecReaderWriter
+- (FlutterStandardWriter *)writerWithData:(NSMutableData *)data {
+  return [[InstabugHostApiCodecWriter alloc] initWithData:data];
+}
+- (FlutterStandardReader *)readerWithData:(NSData *)data {
+  return [[InstabugHostApiCodecReader alloc] initWithData:data];
+}
+@end
+
 NSObject<FlutterMessageCodec> *InstabugHostApiGetCodec(void) {
   static FlutterStandardMessageCodec *sSharedObject = nil;
-  sSharedObject = [FlutterStandardMessageCodec sharedInstance];
+  static dispatch_once_t sPred = 0;
+  dispatch_once(&sPred, ^{
+    InstabugHostApiCodecReaderWriter *readerWriter = [[InstabugHostApiCodecReaderWriter alloc] init];
+    sSharedObject = [FlutterStandardMessageCodec codecWithReaderWriter:readerWriter];
+  });
   return sSharedObject;
 }
 
 void InstabugHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<InstabugHostApi> *api) {
+  NSObject<FlutterTaskQueue> *taskQueue = [binaryMessenger makeBackgroundTaskQueue];
   {
     FlutterBasicMessageChannel *channel =
       [[FlutterBasicMessageChannel alloc]
@@ -86,6 +293,23 @@ void InstabugHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<I
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel =
+      [[FlutterBasicMessageChannel alloc]
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.isMultiplexedChannelEnabled"
+        binaryMessenger:binaryMessenger
+        codec:InstabugHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(isMultiplexedChannelEnabledWithError:)], @"InstabugHostApi api (%@) doesn't respond to @selector(isMultiplexedChannelEnabledWithError:)", api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FlutterError *error;
+        NSNumber *output = [api isMultiplexedChannelEnabledWithError:&error];
+        callback(wrapResult(output, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel =
       [[FlutterBasicMessageChannel alloc]
@@ -107,6 +331,23 @@ void InstabugHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<I
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel =
+      [[FlutterBasicMessageChannel alloc]
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.waitForInit"
+        binaryMessenger:binaryMessenger
+        codec:InstabugHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(waitForInitWithCompletion:)], @"InstabugHostApi api (%@) doesn't respond to @selector(waitForInitWithCompletion:)", api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        [api waitForInitWithCompletion:^(NSDictionary<NSString *, NSNumber *> *_Nullable output, FlutterError *_Nullable error) {
+          callback(wrapResult(output, error));
+        }];
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel =
       [[FlutterBasicMessageChannel alloc]
@@ -375,7 +616,8 @@ void InstabugHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<I
       [[FlutterBasicMessageChannel alloc]
         initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.getTags"
         binaryMessenger:binaryMessenger
-        codec:InstabugHostApiGetCodec()];
+        codec:InstabugHostApiGetCodec()
+        taskQueue:taskQueue];
     if (api) {
       NSCAssert([api respondsToSelector:@selector(getTagsWithCompletion:)], @"InstabugHostApi api (%@) doesn't respond to @selector(getTagsWithCompletion:)", api);
       [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
@@ -541,7 +783,8 @@ void InstabugHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<I
       [[FlutterBasicMessageChannel alloc]
         initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.getUserAttributeForKey"
         binaryMessenger:binaryMessenger
-        codec:InstabugHostApiGetCodec()];
+        codec:InstabugHostApiGetCodec()
+        taskQueue:taskQueue];
     if (api) {
       NSCAssert([api respondsToSelector:@selector(getUserAttributeForKeyKey:completion:)], @"InstabugHostApi api (%@) doesn't respond to @selector(getUserAttributeForKeyKey:completion:)", api);
       [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
@@ -560,7 +803,8 @@ void InstabugHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<I
       [[FlutterBasicMessageChannel alloc]
         initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.getUserAttributes"
         binaryMessenger:binaryMessenger
-        codec:InstabugHostApiGetCodec()];
+        codec:InstabugHostApiGetCodec()
+        taskQueue:taskQueue];
     if (api) {
       NSCAssert([api respondsToSelector:@selector(getUserAttributesWithCompletion:)], @"InstabugHostApi api (%@) doesn't respond to @selector(getUserAttributesWithCompletion:)", api);
       [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
@@ -615,9 +859,32 @@ void InstabugHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<I
   {
     FlutterBasicMessageChannel *channel =
       [[FlutterBasicMessageChannel alloc]
-        initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.setCustomBrandingImage"
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.onRouteTransition"
         binaryMessenger:binaryMessenger
         codec:InstabugHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(onRouteTransitionReportedScreenName:uiTraceScreenName:microTimeStamp:uiTraceId:error:)], @"InstabugHostApi api (%@) doesn't respond to @selector(onRouteTransitionReportedScreenName:uiTraceScreenName:microTimeStamp:uiTraceId:error:)", api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        NSString *arg_reportedScreenName = GetNullableObjectAtIndex(args, 0);
+        NSString *arg_uiTraceScreenName = GetNullableObjectAtIndex(args, 1);
+        NSNumber *arg_microTimeStamp = GetNullableObjectAtIndex(args, 2);
+        NSNumber *arg_uiTraceId = GetNullableObjectAtIndex(args, 3);
+        FlutterError *error;
+        [api onRouteTransitionReportedScreenName:arg_reportedScreenName uiTraceScreenName:arg_uiTraceScreenName microTimeStamp:arg_microTimeStamp uiTraceId:arg_uiTraceId error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [[FlutterBasicMessageChannel alloc]
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.setCustomBrandingImage"
+        binaryMessenger:binaryMessenger
+        codec:InstabugHostApiGetCodec()
+        taskQueue:taskQueue];
     if (api) {
       NSCAssert([api respondsToSelector:@selector(setCustomBrandingImageLight:dark:error:)], @"InstabugHostApi api (%@) doesn't respond to @selector(setCustomBrandingImageLight:dark:error:)", api);
       [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
@@ -656,7 +923,8 @@ void InstabugHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<I
       [[FlutterBasicMessageChannel alloc]
         initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.addFileAttachmentWithURL"
         binaryMessenger:binaryMessenger
-        codec:InstabugHostApiGetCodec()];
+        codec:InstabugHostApiGetCodec()
+        taskQueue:taskQueue];
     if (api) {
       NSCAssert([api respondsToSelector:@selector(addFileAttachmentWithURLFilePath:fileName:error:)], @"InstabugHostApi api (%@) doesn't respond to @selector(addFileAttachmentWithURLFilePath:fileName:error:)", api);
       [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
@@ -676,7 +944,8 @@ void InstabugHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<I
       [[FlutterBasicMessageChannel alloc]
         initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.addFileAttachmentWithData"
         binaryMessenger:binaryMessenger
-        codec:InstabugHostApiGetCodec()];
+        codec:InstabugHostApiGetCodec()
+        taskQueue:taskQueue];
     if (api) {
       NSCAssert([api respondsToSelector:@selector(addFileAttachmentWithDataData:fileName:error:)], @"InstabugHostApi api (%@) doesn't respond to @selector(addFileAttachmentWithDataData:fileName:error:)", api);
       [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
@@ -691,12 +960,94 @@ void InstabugHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<I
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel =
+      [[FlutterBasicMessageChannel alloc]
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.beginFileAttachment"
+        binaryMessenger:binaryMessenger
+        codec:InstabugHostApiGetCodec()
+        taskQueue:taskQueue];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(beginFileAttachmentFileName:error:)], @"InstabugHostApi api (%@) doesn't respond to @selector(beginFileAttachmentFileName:error:)", api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        NSString *arg_fileName = GetNullableObjectAtIndex(args, 0);
+        FlutterError *error;
+        NSString *output = [api beginFileAttachmentFileName:arg_fileName error:&error];
+        callback(wrapResult(output, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [[FlutterBasicMessageChannel alloc]
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.appendFileAttachmentChunk"
+        binaryMessenger:binaryMessenger
+        codec:InstabugHostApiGetCodec()
+        taskQueue:taskQueue];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(appendFileAttachmentChunkId:chunk:error:)], @"InstabugHostApi api (%@) doesn't respond to @selector(appendFileAttachmentChunkId:chunk:error:)", api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        NSString *arg_id = GetNullableObjectAtIndex(args, 0);
+        FlutterStandardTypedData *arg_chunk = GetNullableObjectAtIndex(args, 1);
+        FlutterError *error;
+        [api appendFileAttachmentChunkId:arg_id chunk:arg_chunk error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [[FlutterBasicMessageChannel alloc]
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.finishFileAttachment"
+        binaryMessenger:binaryMessenger
+        codec:InstabugHostApiGetCodec()
+        taskQueue:taskQueue];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(finishFileAttachmentId:error:)], @"InstabugHostApi api (%@) doesn't respond to @selector(finishFileAttachmentId:error:)", api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        NSString *arg_id = GetNullableObjectAtIndex(args, 0);
+        FlutterError *error;
+        [api finishFileAttachmentId:arg_id error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [[FlutterBasicMessageChannel alloc]
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.abortFileAttachment"
+        binaryMessenger:binaryMessenger
+        codec:InstabugHostApiGetCodec()
+        taskQueue:taskQueue];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(abortFileAttachmentId:error:)], @"InstabugHostApi api (%@) doesn't respond to @selector(abortFileAttachmentId:error:)", api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        NSString *arg_id = GetNullableObjectAtIndex(args, 0);
+        FlutterError *error;
+        [api abortFileAttachmentId:arg_id error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel =
       [[FlutterBasicMessageChannel alloc]
         initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.clearFileAttachments"
         binaryMessenger:binaryMessenger
-        codec:InstabugHostApiGetCodec()];
+        codec:InstabugHostApiGetCodec()
+        taskQueue:taskQueue];
     if (api) {
       NSCAssert([api respondsToSelector:@selector(clearFileAttachmentsWithError:)], @"InstabugHostApi api (%@) doesn't respond to @selector(clearFileAttachmentsWithError:)", api);
       [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
@@ -713,7 +1064,8 @@ void InstabugHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<I
       [[FlutterBasicMessageChannel alloc]
         initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.networkLog"
         binaryMessenger:binaryMessenger
-        codec:InstabugHostApiGetCodec()];
+        codec:InstabugHostApiGetCodec()
+        taskQueue:taskQueue];
     if (api) {
       NSCAssert([api respondsToSelector:@selector(networkLogData:error:)], @"InstabugHostApi api (%@) doesn't respond to @selector(networkLogData:error:)", api);
       [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
@@ -727,6 +1079,43 @@ void InstabugHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger, NSObject<I
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel =
+      [[FlutterBasicMessageChannel alloc]
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.logNetworkEntry"
+        binaryMessenger:binaryMessenger
+        codec:InstabugHostApiGetCodec()
+        taskQueue:taskQueue];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(logNetworkEntryEntry:error:)], @"InstabugHostApi api (%@) doesn't respond to @selector(logNetworkEntryEntry:error:)", api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        NetworkEntry *arg_entry = GetNullableObjectAtIndex(args, 0);
+        FlutterError *error;
+        [api logNetworkEntryEntry:arg_entry error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [[FlutterBasicMessageChannel alloc]
+        initWithName:@"dev.flutter.pigeon.instabug_flutter.InstabugHostApi.getBridgeStats"
+        binaryMessenger:binaryMessenger
+        codec:InstabugHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(getBridgeStatsWithError:)], @"InstabugHostApi api (%@) doesn't respond to @selector(getBridgeStatsWithError:)", api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FlutterError *error;
+        NSArray<BridgeMethodStats *> *output = [api getBridgeStatsWithError:&error];
+        callback(wrapResult(output, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel =
       [[FlutterBasicMessageChannel alloc]
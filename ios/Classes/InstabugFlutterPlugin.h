@@ -1,4 +1,10 @@
 #import <Flutter/Flutter.h>
 
 @interface InstabugFlutterPlugin : NSObject <FlutterPlugin>
+
+/// Receives all the plugin's platform channel calls on a single multiplexed channel
+/// instead of one channel per method, see `DispatchMessenger`. The Dart side learns
+/// it from `Instabug.init`. Must be called before the plugin is registered.
++ (void)setMultiplexedChannelEnabled:(BOOL)isEnabled;
+
 @end
@@ -9,19 +9,32 @@
 #import "RepliesApi.h"
 #import "SessionReplayApi.h"
 #import "SurveysApi.h"
+#import "DispatchMessenger.h"
+
+static BOOL multiplexedChannelEnabled = NO;
 
 @implementation InstabugFlutterPlugin
 
++ (void)setMultiplexedChannelEnabled:(BOOL)isEnabled {
+    multiplexedChannelEnabled = isEnabled;
+}
+
 + (void)registerWithRegistrar:(NSObject<FlutterPluginRegistrar> *)registrar {
-    InitApmApi([registrar messenger]);
-    InitBugReportingApi([registrar messenger]);
-    InitCrashReportingApi([registrar messenger]);
-    InitFeatureRequestsApi([registrar messenger]);
-    InitInstabugApi([registrar messenger]);
-    InitInstabugLogApi([registrar messenger]);
-    InitRepliesApi([registrar messenger]);
-    InitSessionReplayApi([registrar messenger]);
-    InitSurveysApi([registrar messenger]);
+    NSObject<FlutterBinaryMessenger> *messenger = [registrar messenger];
+    if (multiplexedChannelEnabled) {
+        // Kept alive by the dispatch channel's handler.
+        messenger = [[DispatchMessenger alloc] initWithMessenger:messenger];
+    }
+
+    InitApmApi(messenger);
+    InitBugReportingApi(messenger);
+    InitCrashReportingApi(messenger);
+    InitFeatureRequestsApi(messenger);
+    InitInstabugApi(messenger);
+    InitInstabugLogApi(messenger);
+    InitRepliesApi(messenger);
+    InitSessionReplayApi(messenger);
+    InitSurveysApi(messenger);
 }
 
 @end
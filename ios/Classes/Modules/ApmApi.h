@@ -1,6 +1,12 @@
 #import "ApmPigeon.h"
 
 extern void InitApmApi(id<FlutterBinaryMessenger> messenger);
+extern void RefreshApmFeaturesAvailability(void);
 
 @interface ApmApi : NSObject <ApmHostApi>
+
+@property(nonatomic, strong) ApmFlutterApi *flutterApi;
+- (instancetype)initWithFlutterApi:(ApmFlutterApi *)api;
+- (void)refreshFeaturesAvailability;
+
 @end
@@ -4,23 +4,54 @@
 #import "IBGAPM+PrivateAPIs.h"
 #import "IBGTimeIntervalUnits.h"
 
+static ApmApi *sharedApi;
+
 void InitApmApi(id<FlutterBinaryMessenger> messenger) {
-    ApmApi *api = [[ApmApi alloc] init];
+    ApmFlutterApi *flutterApi = [[ApmFlutterApi alloc] initWithBinaryMessenger:messenger];
+    ApmApi *api = [[ApmApi alloc] initWithFlutterApi:flutterApi];
+    sharedApi = api;
     ApmHostApiSetup(messenger, api);
 }
 
+// Called on every route, reading the features availability is cheap on iOS so there's no throttling.
+void RefreshApmFeaturesAvailability(void) {
+    [sharedApi refreshFeaturesAvailability];
+}
+
 @implementation ApmApi
 
 NSMutableDictionary *traces;
+// The features availability last sent to Dart, keyed by the Dart FlagsConfig keys.
+NSMutableDictionary<NSString *, NSNumber *> *featuresAvailability;
 
-- (instancetype)init {
+- (instancetype)initWithFlutterApi:(ApmFlutterApi *)api {
     self = [super init];
+    self.flutterApi = api;
     traces = [[NSMutableDictionary alloc] init];
+    featuresAvailability = [[NSMutableDictionary alloc] init];
     return self;
 }
 
+- (void)refreshFeaturesAvailability {
+    NSDictionary<NSString *, NSNumber *> *availability = @{
+        @"apm": @(IBGAPM.enabled),
+        @"screenLoading": @(IBGAPM.screenLoadingEnabled),
+        @"endScreenLoading": @(IBGAPM.endScreenLoadingEnabled),
+    };
+
+    for (NSString *feature in availability) {
+        NSNumber *isAvailable = availability[feature];
+
+        if (![featuresAvailability[feature] isEqualToNumber:isAvailable]) {
+            featuresAvailability[feature] = isAvailable;
+            [self.flutterApi onFeatureAvailabilityChangedFeature:feature isAvailable:isAvailable completion:^(FlutterError * _Nullable _) {}];
+        }
+    }
+}
+
 - (void)setEnabledIsEnabled:(NSNumber *)isEnabled error:(FlutterError *_Nullable *_Nonnull)error {
     IBGAPM.enabled = [isEnabled boolValue];
+    [self refreshFeaturesAvailability];
 }
 
 - (void)isEnabledWithCompletion:(nonnull void (^)(NSNumber * _Nullable, FlutterError * _Nullable))completion {
@@ -29,10 +60,12 @@ NSMutableDictionary *traces;
     NSNumber *isEnabledNumber = @(isEnabled);
     
     completion(isEnabledNumber, nil);
+    [self refreshFeaturesAvailability];
 }
 
 - (void)setScreenLoadingEnabledIsEnabled:(nonnull NSNumber *)isEnabled error:(FlutterError * _Nullable __autoreleasing * _Nonnull)error {
     [IBGAPM setScreenLoadingEnabled:[isEnabled boolValue]];
+    [self refreshFeaturesAvailability];
 }
 
 
@@ -40,6 +73,7 @@ NSMutableDictionary *traces;
     BOOL isScreenLoadingEnabled = IBGAPM.screenLoadingEnabled;
     NSNumber *isEnabledNumber = @(isScreenLoadingEnabled);
     completion(isEnabledNumber, nil);
+    [self refreshFeaturesAvailability];
 }
 
 - (void)setColdAppLaunchEnabledIsEnabled:(NSNumber *)isEnabled error:(FlutterError *_Nullable *_Nonnull)error {
@@ -61,6 +95,14 @@ NSMutableDictionary *traces;
     }
 }
 
+- (void)startExecutionTraceNonBlockingId:(NSString *)id name:(NSString *)name error:(FlutterError *_Nullable *_Nonnull)error {
+    IBGExecutionTrace *trace = [IBGAPM startExecutionTraceWithName:name];
+
+    if (trace != nil) {
+        [traces setObject:trace forKey:id];
+    }
+}
+
 - (void)setExecutionTraceAttributeId:(NSString *)id key:(NSString *)key value:(NSString *)value error:(FlutterError *_Nullable *_Nonnull)error {
     IBGExecutionTrace *trace = [traces objectForKey:id];
 
@@ -69,6 +111,16 @@ NSMutableDictionary *traces;
     }
 }
 
+- (void)setExecutionTraceAttributesId:(NSString *)id attributes:(NSDictionary<NSString *, NSString *> *)attributes error:(FlutterError *_Nullable *_Nonnull)error {
+    IBGExecutionTrace *trace = [traces objectForKey:id];
+
+    if (trace != nil) {
+        for (NSString *key in attributes) {
+            [trace setAttributeWithKey:key value:attributes[key]];
+        }
+    }
+}
+
 - (void)endExecutionTraceId:(NSString *)id error:(FlutterError *_Nullable *_Nonnull)error {
     IBGExecutionTrace *trace = [traces objectForKey:id];
 
@@ -85,6 +137,13 @@ NSMutableDictionary *traces;
     [IBGAPM setAttributeForFlowWithName:name key:key value:value];
 }
 
+- (void)setFlowAttributesName:(nonnull NSString *)name attributes:(nonnull NSDictionary<NSString *, NSString *> *)attributes error:(FlutterError * _Nullable __autoreleasing * _Nonnull)error {
+    for (NSString *key in attributes) {
+        id value = attributes[key];
+        [IBGAPM setAttributeForFlowWithName:name key:key value:[value isKindOfClass:[NSNull class]] ? nil : value];
+    }
+}
+
 - (void)endFlowName:(nonnull NSString *)name error:(FlutterError * _Nullable __autoreleasing * _Nonnull)error {
     [IBGAPM endFlowWithName:name];
 }
@@ -109,6 +168,7 @@ NSMutableDictionary *traces;
 - (void)startCpUiTraceScreenName:(nonnull NSString *)screenName microTimeStamp:(nonnull NSNumber *)microTimeStamp traceId:(nonnull NSNumber *)traceId error:(FlutterError * _Nullable __autoreleasing * _Nonnull)error {
     NSTimeInterval startTimeStampMUS = [microTimeStamp doubleValue];
     [IBGAPM startUITraceCPWithName:screenName startTimestampMUS:startTimeStampMUS];
+    [self refreshFeaturesAvailability];
 }
 
 
@@ -128,6 +188,7 @@ NSMutableDictionary *traces;
     BOOL isEndScreenLoadingEnabled = IBGAPM.endScreenLoadingEnabled;
     NSNumber *isEnabledNumber = @(isEndScreenLoadingEnabled);
     completion(isEnabledNumber, nil);
+    [self refreshFeaturesAvailability];
 }
 
 
@@ -1,6 +1,7 @@
 #import <Flutter/Flutter.h>
 #import "Instabug.h"
 #import "BugReportingApi.h"
+#import "InstabugApi.h"
 #import "ArgsRegistry.h"
 
 extern void InitBugReportingApi(id<FlutterBinaryMessenger> messenger) {
@@ -119,6 +120,8 @@ extern void InitBugReportingApi(id<FlutterBinaryMessenger> messenger) {
 
 - (void)bindOnDismissCallbackWithError:(FlutterError *_Nullable *_Nonnull)error {
     IBGBugReporting.didDismissHandler = ^(IBGDismissType dismissType, IBGReportType reportType) {
+      ResetAttachmentDigests();
+
       // Parse dismiss type enum
       NSString *dismissTypeString;
       if (dismissType == IBGDismissTypeCancel) {
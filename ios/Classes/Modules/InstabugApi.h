@@ -2,6 +2,9 @@
 
 extern void InitInstabugApi(id<FlutterBinaryMessenger> messenger);
 
+/// Forgets the digests of the attached files, since the SDK drops the attachments along with a dismissed report.
+extern void ResetAttachmentDigests(void);
+
 @interface InstabugApi : NSObject <InstabugHostApi>
 
 - (UIImage *)getImageForAsset:(NSString *)assetName;
@@ -1,20 +1,69 @@
 #import <Foundation/Foundation.h>
 #import <CoreText/CoreText.h>
+#import <CommonCrypto/CommonDigest.h>
 #import <Flutter/Flutter.h>
 #import "Instabug.h"
 #import "IBGNetworkLogger+CP.h"
+#import "IBGAPM+PrivateAPIs.h"
 #import "InstabugApi.h"
+#import "ApmApi.h"
 #import "ArgsRegistry.h"
+#import "DispatchMessenger.h"
 
 #define UIColorFromRGB(rgbValue) [UIColor colorWithRed:((float)((rgbValue & 0xFF0000) >> 16)) / 255.0 green:((float)((rgbValue & 0xFF00) >> 8)) / 255.0 blue:((float)(rgbValue & 0xFF)) / 255.0 alpha:((float)((rgbValue & 0xFF000000) >> 24)) / 255.0];
 
+@interface InstabugApi ()
+
+// The file handles of the attachments being streamed from Dart, keyed by their IDs.
+@property (nonatomic, strong) NSMutableDictionary<NSString *, NSFileHandle *> *pendingAttachments;
+@property (nonatomic, strong) NSMutableDictionary<NSString *, NSURL *> *pendingAttachmentURLs;
+@property (nonatomic, strong) NSMutableArray<NSURL *> *finishedAttachmentURLs;
+// The SHA-256 contexts of the attachments being streamed, updated with each chunk.
+@property (nonatomic, strong) NSMutableDictionary<NSString *, NSMutableData *> *pendingAttachmentDigests;
+// The names and digests of the files attached since the attachments were last cleared.
+@property (nonatomic, strong) NSMutableSet<NSArray *> *attachmentDigests;
+@property (nonatomic, assign) NSUInteger nextAttachmentId;
+// The time in seconds starting the SDK took.
+@property (nonatomic, assign) NSTimeInterval startDuration;
+// Whether the host API calls are received on the dispatch channel, reported to Dart.
+@property (nonatomic, assign) BOOL multiplexedChannelEnabled;
+
+@end
+
+// The API whose attachment digests are reset when a report is dismissed.
+static __weak InstabugApi *currentApi;
+
 extern void InitInstabugApi(id<FlutterBinaryMessenger> messenger) {
     InstabugApi *api = [[InstabugApi alloc] init];
+    api.multiplexedChannelEnabled = [(NSObject *)messenger isKindOfClass:[DispatchMessenger class]];
+    currentApi = api;
     InstabugHostApiSetup(messenger, api);
 }
 
+extern void ResetAttachmentDigests(void) {
+    InstabugApi *api = currentApi;
+    if (api == nil) {
+        return;
+    }
+    @synchronized (api) {
+        [api.attachmentDigests removeAllObjects];
+    }
+}
+
 @implementation InstabugApi
 
+- (instancetype)init {
+    self = [super init];
+    if (self) {
+        _pendingAttachments = [NSMutableDictionary dictionary];
+        _pendingAttachmentURLs = [NSMutableDictionary dictionary];
+        _finishedAttachmentURLs = [NSMutableArray array];
+        _pendingAttachmentDigests = [NSMutableDictionary dictionary];
+        _attachmentDigests = [NSMutableSet set];
+    }
+    return self;
+}
+
 - (void)setEnabledIsEnabled:(NSNumber *)isEnabled error:(FlutterError *_Nullable *_Nonnull)error {
     Instabug.enabled = [isEnabled boolValue];
 }
@@ -23,6 +72,10 @@ extern void InitInstabugApi(id<FlutterBinaryMessenger> messenger) {
     return @(YES);
 }
 
+- (nullable NSNumber *)isMultiplexedChannelEnabledWithError:(FlutterError * _Nullable __autoreleasing * _Nonnull)error {
+    return @(self.multiplexedChannelEnabled);
+}
+
 
 - (nullable NSNumber *)isEnabledWithError:(FlutterError * _Nullable __autoreleasing * _Nonnull)error {
     return @(Instabug.enabled);
@@ -52,7 +105,29 @@ extern void InitInstabugApi(id<FlutterBinaryMessenger> messenger) {
     IBGSDKDebugLogsLevel resolvedLogLevel = (ArgsRegistry.sdkLogLevels[debugLogsLevel]).integerValue;
 
     [Instabug setSdkDebugLogsLevel:resolvedLogLevel];
+
+    CFAbsoluteTime start = CFAbsoluteTimeGetCurrent();
     [Instabug startWithToken:token invocationEvents:resolvedEvents];
+    self.startDuration = CFAbsoluteTimeGetCurrent() - start;
+
+    // A handler bound from Dart resets the attachment digests as well, see BugReportingApi.
+    if (IBGBugReporting.didDismissHandler == nil) {
+        IBGBugReporting.didDismissHandler = ^(IBGDismissType dismissType, IBGReportType reportType) {
+            ResetAttachmentDigests();
+        };
+    }
+}
+
+- (void)waitForInitWithCompletion:(void (^)(NSDictionary<NSString *, NSNumber *> *_Nullable, FlutterError *_Nullable))completion {
+    // The iOS SDK is started synchronously and handles the calls made before it,
+    // so there's nothing to wait for or replay.
+    completion(@{
+        @"buildDurationMs": @((NSInteger)(self.startDuration * 1000)),
+        @"replayDurationMs": @0,
+        @"budgetMs": @0,
+        @"replayedCalls": @0,
+        @"droppedCalls": @0,
+    }, nil);
 }
 
 - (void)showWithError:(FlutterError *_Nullable *_Nonnull)error {
@@ -217,6 +292,12 @@ extern void InitInstabugApi(id<FlutterBinaryMessenger> messenger) {
     }
 }
 
+- (void)onRouteTransitionReportedScreenName:(NSString *)reportedScreenName uiTraceScreenName:(NSString *)uiTraceScreenName microTimeStamp:(NSNumber *)microTimeStamp uiTraceId:(NSNumber *)uiTraceId error:(FlutterError *_Nullable *_Nonnull)error {
+    [self reportScreenChangeScreenName:reportedScreenName error:error];
+    [IBGAPM startUITraceCPWithName:uiTraceScreenName startTimestampMUS:[microTimeStamp doubleValue]];
+    RefreshApmFeaturesAvailability();
+}
+
 - (UIFont *)getFontForAsset:(NSString *)assetName  error:(FlutterError *_Nullable *_Nonnull)error {
     NSString *key = [FlutterDartProject lookupKeyForAsset:assetName];
     NSString *path = [[NSBundle mainBundle] pathForResource:key ofType:nil];
@@ -247,15 +328,176 @@ extern void InitInstabugApi(id<FlutterBinaryMessenger> messenger) {
 }
 
 - (void)addFileAttachmentWithURLFilePath:(NSString *)filePath fileName:(NSString *)fileName error:(FlutterError *_Nullable *_Nonnull)error {
-    [Instabug addFileAttachmentWithURL:[NSURL URLWithString:filePath]];
+    NSData *digest = [self digestOfFileAtPath:filePath];
+    // Leave it to the SDK to handle files that can't be read.
+    if (digest == nil || [self addAttachmentDigest:digest fileName:fileName]) {
+        [Instabug addFileAttachmentWithURL:[NSURL URLWithString:filePath]];
+    }
 }
 
 - (void)addFileAttachmentWithDataData:(FlutterStandardTypedData *)data fileName:(NSString *)fileName error:(FlutterError *_Nullable *_Nonnull)error {
-    [Instabug addFileAttachmentWithData:[data data]];
+    NSMutableData *digest = [NSMutableData dataWithLength:CC_SHA256_DIGEST_LENGTH];
+    CC_SHA256([data data].bytes, (CC_LONG) [data data].length, digest.mutableBytes);
+
+    if ([self addAttachmentDigest:digest fileName:fileName]) {
+        [Instabug addFileAttachmentWithData:[data data]];
+    }
+}
+
+- (nullable NSString *)beginFileAttachmentFileName:(NSString *)fileName error:(FlutterError *_Nullable *_Nonnull)error {
+    @synchronized (self) {
+        NSString *attachmentId = [NSString stringWithFormat:@"%lu", (unsigned long) self.nextAttachmentId++];
+
+        // The attachment keeps its name as the file is attached by its URL.
+        NSURL *directory = [[NSURL fileURLWithPath:NSTemporaryDirectory()] URLByAppendingPathComponent:[NSString stringWithFormat:@"instabug-flutter-attachments/%@", attachmentId]];
+        NSURL *url = [directory URLByAppendingPathComponent:[fileName lastPathComponent]];
+
+        NSFileManager *fileManager = [NSFileManager defaultManager];
+        if (![fileManager createDirectoryAtURL:directory withIntermediateDirectories:YES attributes:nil error:nil] ||
+            ![fileManager createFileAtPath:url.path contents:nil attributes:nil]) {
+            NSLog(@"IBG-Flutter: Failed to create file attachment %@", fileName);
+            return nil;
+        }
+
+        NSFileHandle *handle = [NSFileHandle fileHandleForWritingToURL:url error:nil];
+        if (handle == nil) {
+            NSLog(@"IBG-Flutter: Failed to open file attachment %@", fileName);
+            [fileManager removeItemAtURL:directory error:nil];
+            return nil;
+        }
+
+        NSMutableData *context = [NSMutableData dataWithLength:sizeof(CC_SHA256_CTX)];
+        CC_SHA256_Init(context.mutableBytes);
+
+        self.pendingAttachments[attachmentId] = handle;
+        self.pendingAttachmentURLs[attachmentId] = url;
+        self.pendingAttachmentDigests[attachmentId] = context;
+        return attachmentId;
+    }
+}
+
+- (void)appendFileAttachmentChunkId:(NSString *)id chunk:(FlutterStandardTypedData *)chunk error:(FlutterError *_Nullable *_Nonnull)error {
+    NSFileHandle *handle;
+    NSMutableData *context;
+    @synchronized (self) {
+        handle = self.pendingAttachments[id];
+        context = self.pendingAttachmentDigests[id];
+    }
+    if (handle == nil) {
+        NSLog(@"IBG-Flutter: No pending file attachment with ID %@", id);
+        return;
+    }
+
+    [handle writeData:[chunk data]];
+    CC_SHA256_Update(context.mutableBytes, [chunk data].bytes, (CC_LONG) [chunk data].length);
+}
+
+- (void)finishFileAttachmentId:(NSString *)id error:(FlutterError *_Nullable *_Nonnull)error {
+    NSFileHandle *handle;
+    NSURL *url;
+    NSMutableData *context;
+    @synchronized (self) {
+        handle = self.pendingAttachments[id];
+        url = self.pendingAttachmentURLs[id];
+        context = self.pendingAttachmentDigests[id];
+        [self.pendingAttachments removeObjectForKey:id];
+        [self.pendingAttachmentURLs removeObjectForKey:id];
+        [self.pendingAttachmentDigests removeObjectForKey:id];
+    }
+    if (handle == nil) {
+        NSLog(@"IBG-Flutter: No pending file attachment with ID %@", id);
+        return;
+    }
+
+    [handle closeFile];
+
+    NSMutableData *digest = [NSMutableData dataWithLength:CC_SHA256_DIGEST_LENGTH];
+    CC_SHA256_Final(digest.mutableBytes, context.mutableBytes);
+
+    if ([self addAttachmentDigest:digest fileName:url.lastPathComponent]) {
+        @synchronized (self) {
+            [self.finishedAttachmentURLs addObject:url];
+        }
+        [Instabug addFileAttachmentWithURL:url];
+    } else {
+        [[NSFileManager defaultManager] removeItemAtURL:[url URLByDeletingLastPathComponent] error:nil];
+    }
+}
+
+- (void)abortFileAttachmentId:(NSString *)id error:(FlutterError *_Nullable *_Nonnull)error {
+    NSFileHandle *handle;
+    NSURL *url;
+    @synchronized (self) {
+        handle = self.pendingAttachments[id];
+        url = self.pendingAttachmentURLs[id];
+        [self.pendingAttachments removeObjectForKey:id];
+        [self.pendingAttachmentURLs removeObjectForKey:id];
+        [self.pendingAttachmentDigests removeObjectForKey:id];
+    }
+    if (handle == nil) {
+        return;
+    }
+
+    [handle closeFile];
+    [[NSFileManager defaultManager] removeItemAtURL:[url URLByDeletingLastPathComponent] error:nil];
 }
 
 - (void)clearFileAttachmentsWithError:(FlutterError *_Nullable *_Nonnull)error {
     [Instabug clearFileAttachments];
+
+    @synchronized (self) {
+        NSFileManager *fileManager = [NSFileManager defaultManager];
+        for (NSString *attachmentId in self.pendingAttachments) {
+            [self.pendingAttachments[attachmentId] closeFile];
+            [fileManager removeItemAtURL:[self.pendingAttachmentURLs[attachmentId] URLByDeletingLastPathComponent] error:nil];
+        }
+        for (NSURL *url in self.finishedAttachmentURLs) {
+            [fileManager removeItemAtURL:[url URLByDeletingLastPathComponent] error:nil];
+        }
+        [self.pendingAttachments removeAllObjects];
+        [self.pendingAttachmentURLs removeAllObjects];
+        [self.pendingAttachmentDigests removeAllObjects];
+        [self.finishedAttachmentURLs removeAllObjects];
+        [self.attachmentDigests removeAllObjects];
+    }
+}
+
+/// Returns YES if the content wasn't attached since the attachments were last cleared.
+/// Identical content attached under different names is still attached, since the name is part of what the attachment shows.
+- (BOOL)addAttachmentDigest:(NSData *)digest fileName:(NSString *)fileName {
+    NSArray *key = @[fileName, digest];
+    @synchronized (self) {
+        if ([self.attachmentDigests containsObject:key]) {
+            return NO;
+        }
+        [self.attachmentDigests addObject:key];
+        return YES;
+    }
+}
+
+/// Hashes the file in fixed size chunks, so it's never read into memory as a whole.
+- (nullable NSData *)digestOfFileAtPath:(NSString *)path {
+    NSFileHandle *handle = [NSFileHandle fileHandleForReadingAtPath:path];
+    if (handle == nil) {
+        return nil;
+    }
+
+    CC_SHA256_CTX context;
+    CC_SHA256_Init(&context);
+
+    BOOL done = NO;
+    while (!done) {
+        @autoreleasepool {
+            NSData *chunk = [handle readDataOfLength:64 * 1024];
+            CC_SHA256_Update(&context, chunk.bytes, (CC_LONG) chunk.length);
+            done = chunk.length == 0;
+        }
+    }
+    [handle closeFile];
+
+    NSMutableData *digest = [NSMutableData dataWithLength:CC_SHA256_DIGEST_LENGTH];
+    CC_SHA256_Final(digest.mutableBytes, &context);
+    return digest;
 }
 
 - (void)networkLogData:(NSDictionary<NSString *, id> *)data error:(FlutterError *_Nullable *_Nonnull)error {
@@ -309,6 +551,35 @@ extern void InitInstabugApi(id<FlutterBinaryMessenger> messenger) {
                     caughtedW3CTraceparent:nil];
 }
 
+- (void)logNetworkEntryEntry:(NetworkEntry *)entry error:(FlutterError *_Nullable *_Nonnull)error {
+    [IBGNetworkLogger addNetworkLogWithUrl:entry.url
+                                    method:entry.method
+                               requestBody:entry.requestBody
+                           requestBodySize:[entry.requestBodySize integerValue]
+                              responseBody:entry.responseBody
+                          responseBodySize:[entry.responseBodySize integerValue]
+                              responseCode:(int32_t) [entry.responseCode integerValue]
+                            requestHeaders:entry.requestHeaders
+                           responseHeaders:entry.responseHeaders
+                               contentType:entry.responseContentType
+                               errorDomain:entry.errorDomain
+                                 errorCode:(int32_t) [entry.errorCode integerValue]
+                                 startTime:[entry.startTime integerValue] * 1000
+                                  duration:[entry.duration integerValue]
+                              gqlQueryName:entry.gqlQueryName
+                        serverErrorMessage:entry.serverErrorMessage
+                             isW3cCaughted:nil
+                                 partialID:nil
+                                 timestamp:nil
+                   generatedW3CTraceparent:nil
+                    caughtedW3CTraceparent:nil];
+}
+
+- (nullable NSArray<BridgeMethodStats *> *)getBridgeStatsWithError:(FlutterError * _Nullable __autoreleasing *)error {
+    // Host API calls are only instrumented on Android.
+    return @[];
+}
+
 - (void)willRedirectToStoreWithError:(FlutterError * _Nullable __autoreleasing *)error {
     [Instabug willRedirectToAppStore];
 }
@@ -1,5 +1,14 @@
 #import "InstabugLogPigeon.h"
 
+// Log levels of the entries packed in logBatch, must be kept in sync with the Dart side.
+typedef NS_ENUM(NSInteger, InstabugLogLevel) {
+    InstabugLogLevelVerbose = 0,
+    InstabugLogLevelDebug = 1,
+    InstabugLogLevelInfo = 2,
+    InstabugLogLevelWarn = 3,
+    InstabugLogLevelError = 4,
+};
+
 extern void InitInstabugLogApi(id<FlutterBinaryMessenger> messenger);
 
 @interface InstabugLogApi : NSObject <InstabugLogHostApi>
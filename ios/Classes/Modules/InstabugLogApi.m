@@ -28,6 +28,32 @@ extern void InitInstabugLogApi(id<FlutterBinaryMessenger> messenger) {
     [IBGLog logError:message];
 }
 
+- (void)logBatchEntries:(NSArray<id> *)entries error:(FlutterError *_Nullable *_Nonnull)error {
+    // Entries are packed as consecutive [level, timestamp, message] triplets.
+    for (NSUInteger i = 0; i + 3 <= entries.count; i += 3) {
+        NSInteger level = [entries[i] integerValue];
+        NSString *message = entries[i + 2];
+
+        switch (level) {
+            case InstabugLogLevelVerbose:
+                [IBGLog logVerbose:message];
+                break;
+            case InstabugLogLevelDebug:
+                [IBGLog logDebug:message];
+                break;
+            case InstabugLogLevelInfo:
+                [IBGLog logInfo:message];
+                break;
+            case InstabugLogLevelWarn:
+                [IBGLog logWarn:message];
+                break;
+            case InstabugLogLevelError:
+                [IBGLog logError:message];
+                break;
+        }
+    }
+}
+
 - (void)clearAllLogsWithError:(FlutterError *_Nullable __autoreleasing *_Nonnull)error {
     [IBGLog clearAllLogs];
 }
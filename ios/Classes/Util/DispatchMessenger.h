@@ -0,0 +1,24 @@
+#import <Flutter/Flutter.h>
+
+NS_ASSUME_NONNULL_BEGIN
+
+extern NSString *const kDispatchChannel;
+
+/// A messenger that multiplexes the plugin's host API channels over a single
+/// `kDispatchChannel`, so the engine holds one handler for the whole plugin
+/// instead of one per method.
+///
+/// Each message on the dispatch channel starts with the little endian method ID
+/// of its target channel, followed by the message the target channel would have
+/// received. Handlers registered with a task queue run on a serial queue per task
+/// queue. Messages sent to Dart aren't multiplexed and go through the wrapped messenger.
+@interface DispatchMessenger : NSObject <FlutterBinaryMessenger>
+
+- (instancetype)initWithMessenger:(NSObject<FlutterBinaryMessenger> *)messenger;
+
+/// The channel name's 32-bit FNV-1a hash, which the Dart side addresses the channel's handler with.
++ (uint32_t)methodIdForChannel:(NSString *)channel;
+
+@end
+
+NS_ASSUME_NONNULL_END
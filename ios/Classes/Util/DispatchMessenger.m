@@ -0,0 +1,137 @@
+#import "DispatchMessenger.h"
+
+NSString *const kDispatchChannel = @"dev.flutter.pigeon.instabug_flutter.dispatch";
+
+@interface DispatchTaskQueue : NSObject <FlutterTaskQueue>
+@property (nonatomic, strong) dispatch_queue_t queue;
+@end
+
+@implementation DispatchTaskQueue
+@end
+
+@interface DispatchHandler : NSObject
+@property (nonatomic, copy) NSString *channel;
+@property (nonatomic, copy) FlutterBinaryMessageHandler handler;
+@property (nonatomic, strong, nullable) DispatchTaskQueue *taskQueue;
+@end
+
+@implementation DispatchHandler
+@end
+
+@interface DispatchMessenger ()
+// Weak as the messenger holds the dispatch channel's handler, which keeps this messenger alive.
+@property (nonatomic, weak) NSObject<FlutterBinaryMessenger> *messenger;
+@property (nonatomic, strong) NSMutableDictionary<NSNumber *, DispatchHandler *> *handlers;
+@end
+
+@implementation DispatchMessenger
+
+- (instancetype)initWithMessenger:(NSObject<FlutterBinaryMessenger> *)messenger {
+    self = [super init];
+    if (self) {
+        _messenger = messenger;
+        _handlers = [NSMutableDictionary dictionary];
+
+        [messenger setMessageHandlerOnChannel:kDispatchChannel binaryMessageHandler:^(NSData *_Nullable message, FlutterBinaryReply reply) {
+            [self dispatch:message reply:reply];
+        }];
+    }
+    return self;
+}
+
++ (uint32_t)methodIdForChannel:(NSString *)channel {
+    uint32_t hash = 0x811c9dc5;
+    for (NSUInteger i = 0; i < channel.length; i++) {
+        hash ^= [channel characterAtIndex:i];
+        hash *= 0x01000193;
+    }
+    return hash;
+}
+
+- (NSObject<FlutterTaskQueue> *)makeBackgroundTaskQueue {
+    DispatchTaskQueue *taskQueue = [[DispatchTaskQueue alloc] init];
+    taskQueue.queue = dispatch_queue_create("com.instabug.flutter.dispatch", DISPATCH_QUEUE_SERIAL);
+    return taskQueue;
+}
+
+- (FlutterBinaryMessengerConnection)setMessageHandlerOnChannel:(NSString *)channel binaryMessageHandler:(FlutterBinaryMessageHandler _Nullable)handler {
+    return [self setMessageHandlerOnChannel:channel binaryMessageHandler:handler taskQueue:nil];
+}
+
+- (FlutterBinaryMessengerConnection)setMessageHandlerOnChannel:(NSString *)channel
+                                          binaryMessageHandler:(FlutterBinaryMessageHandler _Nullable)handler
+                                                     taskQueue:(NSObject<FlutterTaskQueue> *_Nullable)taskQueue {
+    uint32_t methodId = [DispatchMessenger methodIdForChannel:channel];
+
+    @synchronized (self.handlers) {
+        // Method IDs are hashes, so a collision between two channels fails their
+        // registration in every build rather than routing one channel's calls to the other.
+        DispatchHandler *existing = self.handlers[@(methodId)];
+        if (existing != nil && ![existing.channel isEqualToString:channel]) {
+            [NSException raise:NSInternalInconsistencyException format:@"Channels %@ and %@ have the same method ID %u", existing.channel, channel, methodId];
+        }
+
+        if (handler == nil) {
+            [self.handlers removeObjectForKey:@(methodId)];
+            return methodId;
+        }
+
+        DispatchHandler *registration = [[DispatchHandler alloc] init];
+        registration.channel = channel;
+        registration.handler = handler;
+        registration.taskQueue = (DispatchTaskQueue *) taskQueue;
+        self.handlers[@(methodId)] = registration;
+    }
+    return methodId;
+}
+
+- (void)cleanUpConnection:(FlutterBinaryMessengerConnection)connection {
+    @synchronized (self.handlers) {
+        [self.handlers removeObjectForKey:@((uint32_t) connection)];
+    }
+}
+
+- (void)sendOnChannel:(NSString *)channel message:(NSData *_Nullable)message {
+    [self.messenger sendOnChannel:channel message:message];
+}
+
+- (void)sendOnChannel:(NSString *)channel message:(NSData *_Nullable)message binaryReply:(FlutterBinaryReply _Nullable)callback {
+    [self.messenger sendOnChannel:channel message:message binaryReply:callback];
+}
+
+- (void)dispatch:(NSData *_Nullable)envelope reply:(FlutterBinaryReply)reply {
+    if (envelope.length < sizeof(uint32_t)) {
+        NSLog(@"IBG-Flutter: Dropped malformed dispatched message");
+        reply(nil);
+        return;
+    }
+
+    uint32_t methodId;
+    [envelope getBytes:&methodId length:sizeof(methodId)];
+    methodId = CFSwapInt32LittleToHost(methodId);
+
+    DispatchHandler *target;
+    @synchronized (self.handlers) {
+        target = self.handlers[@(methodId)];
+    }
+    if (target == nil) {
+        // Replying with nothing is how a message to an unregistered channel is answered.
+        reply(nil);
+        return;
+    }
+
+    // The target's message starts after the ID, in its own data so the codec's
+    // alignment is relative to its start as when it was encoded.
+    NSData *message = [envelope subdataWithRange:NSMakeRange(sizeof(methodId), envelope.length - sizeof(methodId))];
+
+    if (target.taskQueue == nil) {
+        target.handler(message, reply);
+        return;
+    }
+
+    dispatch_async(target.taskQueue.queue, ^{
+        target.handler(message, reply);
+    });
+}
+
+@end
@@ -1,7 +1,9 @@
 // Models
+export 'src/generated/instabug.api.g.dart' show BridgeMethodStats;
 export 'src/models/crash_data.dart';
 export 'src/models/exception_data.dart';
 export 'src/models/feature_flag.dart';
+export 'src/models/init_timing.dart';
 export 'src/models/network_data.dart';
 export 'src/models/trace.dart';
 // Modules
@@ -8,6 +8,38 @@ import 'dart:typed_data' show Float64List, Int32List, Int64List, Uint8List;
 import 'package:flutter/foundation.dart' show ReadBuffer, WriteBuffer;
 import 'package:flutter/services.dart';
 
+abstract class ApmFlutterApi {
+  static const MessageCodec<Object?> codec = StandardMessageCodec();
+
+  void onFeatureAvailabilityChanged(String feature, bool isAvailable);
+
+  static void setup(ApmFlutterApi? api, {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.instabug_flutter.ApmFlutterApi.onFeatureAvailabilityChanged',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.instabug_flutter.ApmFlutterApi.onFeatureAvailabilityChanged was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_feature = (args[0] as String?);
+          assert(arg_feature != null,
+              'Argument for dev.flutter.pigeon.instabug_flutter.ApmFlutterApi.onFeatureAvailabilityChanged was null, expected non-null String.');
+          final bool? arg_isAvailable = (args[1] as bool?);
+          assert(arg_isAvailable != null,
+              'Argument for dev.flutter.pigeon.instabug_flutter.ApmFlutterApi.onFeatureAvailabilityChanged was null, expected non-null bool.');
+          api.onFeatureAvailabilityChanged(arg_feature!, arg_isAvailable!);
+          return;
+        });
+      }
+    }
+  }
+}
+
 class ApmHostApi {
   /// Constructor for [ApmHostApi].  The [binaryMessenger] named argument is
   /// available for dependency injection.  If it is left null, the default
@@ -185,6 +217,30 @@ class ApmHostApi {
     }
   }
 
+  Future<void> startExecutionTraceNonBlocking(
+      String arg_id, String arg_name) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.instabug_flutter.ApmHostApi.startExecutionTraceNonBlocking',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_id, arg_name]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   Future<void> startFlow(String arg_name) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.instabug_flutter.ApmHostApi.startFlow', codec,
@@ -231,6 +287,30 @@ class ApmHostApi {
     }
   }
 
+  Future<void> setFlowAttributes(
+      String arg_name, Map<String?, String?> arg_attributes) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.instabug_flutter.ApmHostApi.setFlowAttributes',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+        .send(<Object?>[arg_name, arg_attributes]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   Future<void> endFlow(String arg_name) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.instabug_flutter.ApmHostApi.endFlow', codec,
@@ -277,6 +357,30 @@ class ApmHostApi {
     }
   }
 
+  Future<void> setExecutionTraceAttributes(
+      String arg_id, Map<String?, String?> arg_attributes) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.instabug_flutter.ApmHostApi.setExecutionTraceAttributes',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_id, arg_attributes]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   Future<void> endExecutionTrace(String arg_id) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.instabug_flutter.ApmHostApi.endExecutionTrace',
@@ -8,6 +8,190 @@ import 'dart:typed_data' show Float64List, Int32List, Int64List, Uint8List;
 import 'package:flutter/foundation.dart' show ReadBuffer, WriteBuffer;
 import 'package:flutter/services.dart';
 
+class NetworkEntry {
+  NetworkEntry({
+    required this.url,
+    required this.method,
+    required this.requestBody,
+    required this.responseBody,
+    required this.requestBodySize,
+    required this.responseBodySize,
+    this.responseCode,
+    required this.requestHeaders,
+    required this.responseHeaders,
+    this.requestContentType,
+    this.responseContentType,
+    this.duration,
+    required this.startTime,
+    required this.errorCode,
+    required this.errorDomain,
+    this.gqlQueryName,
+    this.serverErrorMessage,
+  });
+
+  String url;
+
+  String method;
+
+  String requestBody;
+
+  String responseBody;
+
+  int requestBodySize;
+
+  int responseBodySize;
+
+  int? responseCode;
+
+  Map<String?, String?> requestHeaders;
+
+  Map<String?, String?> responseHeaders;
+
+  String? requestContentType;
+
+  String? responseContentType;
+
+  /// In microseconds.
+  int? duration;
+
+  /// In milliseconds since epoch.
+  int startTime;
+
+  int errorCode;
+
+  String errorDomain;
+
+  String? gqlQueryName;
+
+  String? serverErrorMessage;
+
+  Object encode() {
+    return <Object?>[
+      url,
+      method,
+      requestBody,
+      responseBody,
+      requestBodySize,
+      responseBodySize,
+      responseCode,
+      requestHeaders,
+      responseHeaders,
+      requestContentType,
+      responseContentType,
+      duration,
+      startTime,
+      errorCode,
+      errorDomain,
+      gqlQueryName,
+      serverErrorMessage,
+    ];
+  }
+
+  static NetworkEntry decode(Object result) {
+    result as List<Object?>;
+    return NetworkEntry(
+      url: result[0]! as String,
+      method: result[1]! as String,
+      requestBody: result[2]! as String,
+      responseBody: result[3]! as String,
+      requestBodySize: result[4]! as int,
+      responseBodySize: result[5]! as int,
+      responseCode: result[6] as int?,
+      requestHeaders:
+          (result[7] as Map<Object?, Object?>?)!.cast<String?, String?>(),
+      responseHeaders:
+          (result[8] as Map<Object?, Object?>?)!.cast<String?, String?>(),
+      requestContentType: result[9] as String?,
+      responseContentType: result[10] as String?,
+      duration: result[11] as int?,
+      startTime: result[12]! as int,
+      errorCode: result[13]! as int,
+      errorDomain: result[14]! as String,
+      gqlQueryName: result[15] as String?,
+      serverErrorMessage: result[16] as String?,
+    );
+  }
+}
+
+class BridgeMethodStats {
+  BridgeMethodStats({
+    required this.method,
+    required this.callCount,
+    required this.errorCount,
+    required this.payloadBytes,
+    required this.p50LatencyMicros,
+    required this.p95LatencyMicros,
+    required this.p99LatencyMicros,
+  });
+
+  String method;
+
+  int callCount;
+
+  int errorCount;
+
+  int payloadBytes;
+
+  int p50LatencyMicros;
+
+  int p95LatencyMicros;
+
+  int p99LatencyMicros;
+
+  Object encode() {
+    return <Object?>[
+      method,
+      callCount,
+      errorCount,
+      payloadBytes,
+      p50LatencyMicros,
+      p95LatencyMicros,
+      p99LatencyMicros,
+    ];
+  }
+
+  static BridgeMethodStats decode(Object result) {
+    result as List<Object?>;
+    return BridgeMethodStats(
+      method: result[0]! as String,
+      callCount: result[1]! as int,
+      errorCount: result[2]! as int,
+      payloadBytes: result[3]! as int,
+      p50LatencyMicros: result[4]! as int,
+      p95LatencyMicros: result[5]! as int,
+      p99LatencyMicros: result[6]! as int,
+    );
+  }
+}
+
+class _InstabugHostApiCodec extends StandardMessageCodec {
+  const _InstabugHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is NetworkEntry) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is BridgeMethodStats) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return NetworkEntry.decode(readValue(buffer)!);
+      case 129:
+        return BridgeMethodStats.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 class InstabugHostApi {
   /// Constructor for [InstabugHostApi].  The [binaryMessenger] named argument is
   /// available for dependency injection.  If it is left null, the default
@@ -16,7 +200,7 @@ class InstabugHostApi {
       : _binaryMessenger = binaryMessenger;
   final BinaryMessenger? _binaryMessenger;
 
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _InstabugHostApiCodec();
 
   Future<void> setEnabled(bool arg_isEnabled) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
@@ -92,6 +276,33 @@ class InstabugHostApi {
     }
   }
 
+  Future<bool> isMultiplexedChannelEnabled() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.instabug_flutter.InstabugHostApi.isMultiplexedChannelEnabled',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as bool?)!;
+    }
+  }
+
   Future<void> init(String arg_token, List<String?> arg_invocationEvents,
       String arg_debugLogsLevel) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
@@ -116,6 +327,33 @@ class InstabugHostApi {
     }
   }
 
+  Future<Map<String?, int?>> waitForInit() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.instabug_flutter.InstabugHostApi.waitForInit',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as Map<Object?, Object?>?)!.cast<String?, int?>();
+    }
+  }
+
   Future<void> show() async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.instabug_flutter.InstabugHostApi.show', codec,
@@ -729,6 +967,37 @@ class InstabugHostApi {
     }
   }
 
+  Future<void> onRouteTransition(
+      String arg_reportedScreenName,
+      String arg_uiTraceScreenName,
+      int arg_microTimeStamp,
+      int arg_uiTraceId) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.instabug_flutter.InstabugHostApi.onRouteTransition',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_reportedScreenName,
+      arg_uiTraceScreenName,
+      arg_microTimeStamp,
+      arg_uiTraceId
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   Future<void> setCustomBrandingImage(String arg_light, String arg_dark) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.instabug_flutter.InstabugHostApi.setCustomBrandingImage',
@@ -822,6 +1091,99 @@ class InstabugHostApi {
     }
   }
 
+  Future<String?> beginFileAttachment(String arg_fileName) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.instabug_flutter.InstabugHostApi.beginFileAttachment',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_fileName]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return (replyList[0] as String?);
+    }
+  }
+
+  Future<void> appendFileAttachmentChunk(
+      String arg_id, Uint8List arg_chunk) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.instabug_flutter.InstabugHostApi.appendFileAttachmentChunk',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_id, arg_chunk]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> finishFileAttachment(String arg_id) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.instabug_flutter.InstabugHostApi.finishFileAttachment',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_id]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> abortFileAttachment(String arg_id) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.instabug_flutter.InstabugHostApi.abortFileAttachment',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_id]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   Future<void> clearFileAttachments() async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.instabug_flutter.InstabugHostApi.clearFileAttachments',
@@ -866,6 +1228,56 @@ class InstabugHostApi {
     }
   }
 
+  Future<void> logNetworkEntry(NetworkEntry arg_entry) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.instabug_flutter.InstabugHostApi.logNetworkEntry',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_entry]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<List<BridgeMethodStats?>> getBridgeStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.instabug_flutter.InstabugHostApi.getBridgeStats',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as List<Object?>?)!.cast<BridgeMethodStats?>();
+    }
+  }
+
   Future<void> willRedirectToStore() async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.instabug_flutter.InstabugHostApi.willRedirectToStore',
@@ -0,0 +1,38 @@
+/// How long initializing the native SDK took, see [Instabug.waitForInit].
+class InitTiming {
+  const InitTiming({
+    required this.buildDuration,
+    required this.replayDuration,
+    required this.budget,
+    required this.replayedCalls,
+    required this.droppedCalls,
+  });
+
+  factory InitTiming.fromMap(Map<String?, int?> map) {
+    return InitTiming(
+      buildDuration: Duration(milliseconds: map['buildDurationMs'] ?? 0),
+      replayDuration: Duration(milliseconds: map['replayDurationMs'] ?? 0),
+      budget: Duration(milliseconds: map['budgetMs'] ?? 0),
+      replayedCalls: map['replayedCalls'] ?? 0,
+      droppedCalls: map['droppedCalls'] ?? 0,
+    );
+  }
+
+  /// The time it took to build the native SDK.
+  final Duration buildDuration;
+
+  /// The time it took to replay the calls made before the SDK was built.
+  final Duration replayDuration;
+
+  /// The time building the SDK is expected to take at most, zero if unbounded.
+  final Duration budget;
+
+  /// The number of calls made before the SDK was built and replayed after.
+  final int replayedCalls;
+
+  /// The number of calls made before the SDK was built and dropped because
+  /// too many calls were waiting.
+  final int droppedCalls;
+
+  bool get isOverBudget => budget > Duration.zero && buildDuration > budget;
+}
@@ -24,6 +24,13 @@ class Trace {
     attributes[key] = value;
   }
 
+  /// Sets multiple attributes of execution trace in a single call.
+  /// [Map] attributes keys and values.
+  void setAttributes(Map<String, String> attributes) {
+    APM.setExecutionTraceAttributes(id, attributes);
+    this.attributes.addAll(attributes);
+  }
+
   /// Ends Execution Trace
   ///
   /// Please migrate to the App Flows APIs: [APM.startFlow], [APM.setFlowAttribute], and [APM.endFlow].
@@ -6,15 +6,23 @@ import 'package:flutter/widgets.dart' show WidgetBuilder;
 import 'package:instabug_flutter/src/generated/apm.api.g.dart';
 import 'package:instabug_flutter/src/models/network_data.dart';
 import 'package:instabug_flutter/src/models/trace.dart';
+import 'package:instabug_flutter/src/utils/dispatch_messenger.dart';
 import 'package:instabug_flutter/src/utils/ibg_build_info.dart';
 import 'package:instabug_flutter/src/utils/ibg_date_time.dart';
 import 'package:instabug_flutter/src/utils/instabug_logger.dart';
+import 'package:instabug_flutter/src/utils/screen_loading/flags_config.dart';
 import 'package:instabug_flutter/src/utils/screen_loading/screen_loading_manager.dart';
 import 'package:meta/meta.dart';
 
-class APM {
-  static var _host = ApmHostApi();
+class APM implements ApmFlutterApi {
+  static var _host = ApmHostApi(binaryMessenger: DispatchMessenger.I);
+  static final _instance = APM();
   static String tag = 'Instabug - APM';
+  static int _nextTraceId = 0;
+
+  /// The features availability sent by the native SDKs, keyed by [FlagsConfig.key],
+  /// so checking them on every route doesn't wait on the platform channel.
+  static final _featuresAvailability = <String, bool>{};
 
   /// @nodoc
   @visibleForTesting
@@ -23,27 +31,51 @@ class APM {
     _host = host;
   }
 
+  /// @nodoc
+  @internal
+  static void $setup() {
+    ApmFlutterApi.setup(_instance);
+  }
+
+  /// @nodoc
+  @internal
+  @override
+  void onFeatureAvailabilityChanged(String feature, bool isAvailable) {
+    _featuresAvailability[feature] = isAvailable;
+  }
+
   /// Enables or disables APM feature.
   /// [boolean] isEnabled
   static Future<void> setEnabled(bool isEnabled) async {
+    _featuresAvailability.clear();
     return _host.setEnabled(isEnabled);
   }
 
   /// @nodoc
   @internal
   static Future<bool> isEnabled() async {
+    final isAvailable = _featuresAvailability[FlagsConfig.apm.key];
+    if (isAvailable != null) {
+      return isAvailable;
+    }
     return _host.isEnabled();
   }
 
   /// Enables or disables the screenLoading Monitoring feature.
   /// [boolean] isEnabled
   static Future<void> setScreenLoadingEnabled(bool isEnabled) {
+    _featuresAvailability.clear();
     return _host.setScreenLoadingEnabled(isEnabled);
   }
 
   /// @nodoc
   @internal
   static Future<bool> isScreenLoadingEnabled() async {
+    final isAvailable =
+        _featuresAvailability[FlagsConfig.screenLoading.key];
+    if (isAvailable != null) {
+      return isAvailable;
+    }
     return _host.isScreenLoadingEnabled();
   }
 
@@ -77,6 +109,27 @@ class APM {
     );
   }
 
+  /// Starts an execution trace without waiting for the native SDK to create it.
+  /// [String] name of the trace.
+  ///
+  /// Unlike [startExecutionTrace], the trace id is allocated on the Dart side
+  /// and the trace is returned right away. Attributes set and ends requested
+  /// before the native trace is created are applied once it is.
+  /// If the trace couldn't be created, e.g. because APM is disabled, those
+  /// calls are ignored.
+  ///
+  /// Please migrate to the App Flows APIs: [startFlow], [setFlowAttribute], and [endFlow].
+  static Trace startExecutionTraceNonBlocking(String name) {
+    final id = '${IBGDateTime.instance.now().microsecondsSinceEpoch}'
+        '-${_nextTraceId++}';
+    _host.startExecutionTraceNonBlocking(id, name);
+
+    return Trace(
+      id: id,
+      name: name,
+    );
+  }
+
   /// Sets attribute of an execution trace.
   /// [String] id of the trace.
   /// [String] key of attribute.
@@ -94,6 +147,18 @@ class APM {
     return _host.setExecutionTraceAttribute(id, key, value);
   }
 
+  /// Sets multiple attributes of an execution trace in a single call.
+  /// [String] id of the trace.
+  /// [Map] attributes keys and values.
+  ///
+  /// Please migrate to the App Flows APIs: [startFlow], [setFlowAttributes], and [endFlow].
+  static Future<void> setExecutionTraceAttributes(
+    String id,
+    Map<String, String> attributes,
+  ) async {
+    return _host.setExecutionTraceAttributes(id, attributes);
+  }
+
   /// Ends an execution trace.
   /// [String] id of the trace.
   ///
@@ -136,6 +201,18 @@ class APM {
     return _host.setFlowAttribute(name, key, value);
   }
 
+  /// Assigns multiple custom attributes to an AppFlow with the specified [name]
+  /// in a single call.
+  ///
+  /// Each key and value follows the same rules as [setFlowAttribute], and
+  /// attributes with null values are removed.
+  static Future<void> setFlowAttributes(
+    String name,
+    Map<String, String?> attributes,
+  ) async {
+    return _host.setFlowAttributes(name, attributes);
+  }
+
   /// Ends the AppFlow with the given [name].
   static Future<void> endFlow(String name) async {
     return _host.endFlow(name);
@@ -222,6 +299,11 @@ class APM {
   /// @nodoc
   @internal
   static Future<bool> isEndScreenLoadingEnabled() async {
+    final isAvailable =
+        _featuresAvailability[FlagsConfig.endScreenLoading.key];
+    if (isAvailable != null) {
+      return isAvailable;
+    }
     return _host.isEndScreenLoadingEnabled();
   }
 
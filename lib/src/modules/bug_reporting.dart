@@ -4,6 +4,7 @@ import 'dart:async';
 
 import 'package:instabug_flutter/src/generated/bug_reporting.api.g.dart';
 import 'package:instabug_flutter/src/modules/instabug.dart';
+import 'package:instabug_flutter/src/utils/dispatch_messenger.dart';
 import 'package:instabug_flutter/src/utils/enum_converter.dart';
 import 'package:instabug_flutter/src/utils/ibg_build_info.dart';
 import 'package:meta/meta.dart';
@@ -38,7 +39,7 @@ typedef OnSDKInvokeCallback = void Function();
 typedef OnSDKDismissCallback = void Function(DismissType, ReportType);
 
 class BugReporting implements BugReportingFlutterApi {
-  static var _host = BugReportingHostApi();
+  static var _host = BugReportingHostApi(binaryMessenger: DispatchMessenger.I);
   static final _instance = BugReporting();
 
   static OnSDKInvokeCallback? _onInvokeCallback;
@@ -7,13 +7,15 @@ import 'package:flutter/foundation.dart';
 import 'package:instabug_flutter/src/generated/crash_reporting.api.g.dart';
 import 'package:instabug_flutter/src/models/crash_data.dart';
 import 'package:instabug_flutter/src/models/exception_data.dart';
+import 'package:instabug_flutter/src/utils/dispatch_messenger.dart';
 import 'package:instabug_flutter/src/utils/ibg_build_info.dart';
 import 'package:stack_trace/stack_trace.dart';
 
 enum NonFatalExceptionLevel { error, critical, info, warning }
 
 class CrashReporting {
-  static var _host = CrashReportingHostApi();
+  static var _host =
+      CrashReportingHostApi(binaryMessenger: DispatchMessenger.I);
   static bool enabled = true;
 
   /// @nodoc
@@ -3,13 +3,15 @@
 import 'dart:async';
 
 import 'package:instabug_flutter/src/generated/feature_requests.api.g.dart';
+import 'package:instabug_flutter/src/utils/dispatch_messenger.dart';
 import 'package:instabug_flutter/src/utils/enum_converter.dart';
 import 'package:meta/meta.dart';
 
 enum ActionType { requestNewFeature, addCommentToFeature }
 
 class FeatureRequests {
-  static var _host = FeatureRequestsHostApi();
+  static var _host =
+      FeatureRequestsHostApi(binaryMessenger: DispatchMessenger.I);
 
   /// @nodoc
   @visibleForTesting
@@ -1,6 +1,7 @@
 // ignore_for_file: avoid_classes_with_only_static_members
 
 import 'dart:async';
+import 'dart:math';
 
 // to maintain supported versions prior to Flutter 3.3
 // ignore: unnecessary_import
@@ -16,6 +17,7 @@ import 'package:flutter/material.dart';
 import 'package:flutter/services.dart';
 import 'package:instabug_flutter/instabug_flutter.dart';
 import 'package:instabug_flutter/src/generated/instabug.api.g.dart';
+import 'package:instabug_flutter/src/utils/dispatch_messenger.dart';
 import 'package:instabug_flutter/src/utils/enum_converter.dart';
 import 'package:instabug_flutter/src/utils/ibg_build_info.dart';
 import 'package:instabug_flutter/src/utils/instabug_logger.dart';
@@ -135,10 +137,13 @@ enum CustomTextPlaceHolderKey {
 enum ReproStepsMode { enabled, disabled, enabledWithNoScreenshots }
 
 class Instabug {
-  static var _host = InstabugHostApi();
+  static var _host = InstabugHostApi(binaryMessenger: DispatchMessenger.I);
 
   static const tag = 'Instabug';
 
+  /// The maximum size in bytes of the chunks file attachments are streamed in.
+  static const _chunkSize = 256 * 1024;
+
   /// @nodoc
   @visibleForTesting
   // ignore: use_setters_to_change_properties
@@ -149,6 +154,7 @@ class Instabug {
   /// @nodoc
   @internal
   static void $setup() {
+    APM.$setup();
     BugReporting.$setup();
     Replies.$setup();
     Surveys.$setup();
@@ -185,11 +191,38 @@ class Instabug {
   }) async {
     $setup();
     InstabugLogger.I.logLevel = debugLogsLevel;
-    return _host.init(
+    await _host.init(
       token,
       invocationEvents.mapToString(),
       debugLogsLevel.toString(),
     );
+    DispatchMessenger.I.isEnabled = await _host.isMultiplexedChannelEnabled();
+  }
+
+  /// Waits for the native SDK to finish initializing after [init].
+  ///
+  /// On Android, when the SDK is built in the background through
+  /// `InstabugFlutterPlugin.setBackgroundSdkBuildEnabled`, the calls made
+  /// before it's built are replayed once it is, so [init] returns before the
+  /// SDK is ready. Returns how long building it and replaying the calls took.
+  ///
+  /// Throws a [TimeoutException] if the SDK isn't initialized within
+  /// [timeout], e.g. when [init] is never called.
+  static Future<InitTiming> waitForInit({
+    Duration timeout = const Duration(seconds: 10),
+  }) async {
+    final timing = await _host.waitForInit().timeout(timeout);
+    return InitTiming.fromMap(timing);
+  }
+
+  /// Returns the call count, error count, payload size and latency
+  /// percentiles of each native method called so far.
+  ///
+  /// Only recorded on Android once enabled through
+  /// `InstabugFlutterPlugin.setBridgeStatsEnabled`, empty otherwise.
+  static Future<List<BridgeMethodStats>> getBridgeStats() async {
+    final stats = await _host.getBridgeStats();
+    return stats.whereType<BridgeMethodStats>().toList();
   }
 
   /// Sets a [callback] to be called wehenever a screen name is captured to mask
@@ -386,6 +419,45 @@ class Instabug {
     return _host.addFileAttachmentWithData(data, fileName);
   }
 
+  /// Add file to be attached to the bug report, streamed to the native SDK in
+  /// chunks so large files aren't held in memory as a whole.
+  /// [stream] of the file's bytes, e.g. `File(path).openRead()`
+  /// [fileName] of the file
+  /// If the stream fails, the partially streamed file is discarded and the
+  /// error is rethrown.
+  static Future<void> addFileAttachmentFromStream(
+    Stream<List<int>> stream,
+    String fileName,
+  ) async {
+    final id = await _host.beginFileAttachment(fileName);
+    if (id == null) {
+      InstabugLogger.I.e(
+        'Failed to create the file attachment $fileName',
+        tag: tag,
+      );
+      return;
+    }
+
+    try {
+      await for (final bytes in stream) {
+        final data = bytes is Uint8List ? bytes : Uint8List.fromList(bytes);
+        for (var offset = 0; offset < data.length; offset += _chunkSize) {
+          final end = min(offset + _chunkSize, data.length);
+          await _host.appendFileAttachmentChunk(
+            id,
+            Uint8List.sublistView(data, offset, end),
+          );
+        }
+      }
+    } catch (_) {
+      // Don't leave the partially written attachment behind on the native side.
+      await _host.abortFileAttachment(id);
+      rethrow;
+    }
+
+    return _host.finishFileAttachment(id);
+  }
+
   /// Clears all Uris of the attached files.
   /// The URIs which added via {@link Instabug#addFileAttachment} API not the physical files.
   static Future<void> clearFileAttachments() async {
@@ -406,6 +478,24 @@ class Instabug {
     return _host.reportScreenChange(screenName);
   }
 
+  /// @nodoc
+  /// Reports the screen change of [reportedScreenName] (repro steps) and starts
+  /// the UI trace of [uiTraceScreenName] in a single platform channel call.
+  @internal
+  static Future<void> onRouteTransition(
+    String reportedScreenName,
+    String uiTraceScreenName,
+    int microTimeStamp,
+    int uiTraceId,
+  ) async {
+    return _host.onRouteTransition(
+      reportedScreenName,
+      uiTraceScreenName,
+      microTimeStamp,
+      uiTraceId,
+    );
+  }
+
   /// Changes the font of Instabug's UI.
   /// [font] The asset path to the font file (e.g. "fonts/Poppins.ttf").
   static Future<void> setFont(String font) async {
@@ -3,10 +3,24 @@
 import 'dart:async';
 
 import 'package:instabug_flutter/src/generated/instabug_log.api.g.dart';
+import 'package:instabug_flutter/src/utils/dispatch_messenger.dart';
+import 'package:instabug_flutter/src/utils/ibg_date_time.dart';
 import 'package:meta/meta.dart';
 
+/// Log levels of the entries sent through [InstabugLogHostApi.logBatch],
+/// must be kept in sync with the native side.
+enum _LogLevel { verbose, debug, info, warn, error }
+
 class InstabugLog {
-  static var _host = InstabugLogHostApi();
+  static var _host = InstabugLogHostApi(binaryMessenger: DispatchMessenger.I);
+
+  /// How long log messages are buffered before being sent as one batch,
+  /// roughly a single frame.
+  static const _batchWindow = Duration(milliseconds: 16);
+
+  static bool _isBatchingEnabled = false;
+  static List<Object> _batch = <Object>[];
+  static Completer<void>? _batchFlushed;
 
   /// @nodoc
   @visibleForTesting
@@ -20,6 +34,9 @@ class InstabugLog {
   /// All log messages are timestamped
   /// Note: logs passed to this method are NOT printed to console
   static Future<void> logVerbose(String message) async {
+    if (_isBatchingEnabled) {
+      return _addToBatch(_LogLevel.verbose, message);
+    }
     return _host.logVerbose(message);
   }
 
@@ -28,6 +45,9 @@ class InstabugLog {
   /// All log messages are timestamped
   /// Note: logs passed to this method are NOT printed to console
   static Future<void> logDebug(String message) async {
+    if (_isBatchingEnabled) {
+      return _addToBatch(_LogLevel.debug, message);
+    }
     return _host.logDebug(message);
   }
 
@@ -36,6 +56,9 @@ class InstabugLog {
   /// All log messages are timestamped
   /// Note: logs passed to this method are NOT printed to console
   static Future<void> logInfo(String message) async {
+    if (_isBatchingEnabled) {
+      return _addToBatch(_LogLevel.info, message);
+    }
     return _host.logInfo(message);
   }
 
@@ -44,6 +67,9 @@ class InstabugLog {
   /// All log messages are timestamped
   /// Note: logs passed to this method are NOT printed to console
   static Future<void> logWarn(String message) async {
+    if (_isBatchingEnabled) {
+      return _addToBatch(_LogLevel.warn, message);
+    }
     return _host.logWarn(message);
   }
 
@@ -52,11 +78,63 @@ class InstabugLog {
   /// All log messages are timestamped
   /// Note: logs passed to this method are NOT printed to console
   static Future<void> logError(String message) async {
+    if (_isBatchingEnabled) {
+      return _addToBatch(_LogLevel.error, message);
+    }
     return _host.logError(message);
   }
 
   /// Clears Instabug internal log
   static Future<void> clearAllLogs() async {
+    _batch = <Object>[];
+    _batchFlushed?.complete();
+    _batchFlushed = null;
+
     return _host.clearAllLogs();
   }
+
+  /// Enables or disables batching of log messages.
+  /// When enabled, messages logged within the same frame are buffered and
+  /// sent to Instabug together, instead of one platform channel call each.
+  /// The futures returned by the log methods complete once their batch is sent.
+  /// Disabling batching sends any buffered messages immediately.
+  static Future<void> setBatchingEnabled(bool isEnabled) async {
+    _isBatchingEnabled = isEnabled;
+
+    if (!isEnabled) {
+      return _flushBatch();
+    }
+  }
+
+  static Future<void> _addToBatch(_LogLevel level, String message) {
+    _batch
+      ..add(level.index)
+      ..add(IBGDateTime.I.now().millisecondsSinceEpoch)
+      ..add(message);
+
+    if (_batchFlushed == null) {
+      _batchFlushed = Completer<void>();
+      Timer(_batchWindow, _flushBatch);
+    }
+
+    return _batchFlushed!.future;
+  }
+
+  static Future<void> _flushBatch() async {
+    final completer = _batchFlushed;
+    if (completer == null) {
+      return;
+    }
+
+    final entries = _batch;
+    _batch = <Object>[];
+    _batchFlushed = null;
+
+    try {
+      await _host.logBatch(entries);
+      completer.complete();
+    } catch (e, stackTrace) {
+      completer.completeError(e, stackTrace);
+    }
+  }
 }
@@ -5,11 +5,11 @@ import 'dart:async';
 import 'package:flutter/foundation.dart';
 import 'package:instabug_flutter/src/generated/instabug.api.g.dart';
 import 'package:instabug_flutter/src/models/network_data.dart';
-import 'package:instabug_flutter/src/modules/apm.dart';
+import 'package:instabug_flutter/src/utils/dispatch_messenger.dart';
 import 'package:instabug_flutter/src/utils/network_manager.dart';
 
 class NetworkLogger {
-  static var _host = InstabugHostApi();
+  static var _host = InstabugHostApi(binaryMessenger: DispatchMessenger.I);
   static var _manager = NetworkManager();
 
   /// @nodoc
@@ -72,7 +72,30 @@ class NetworkLogger {
 
     final obfuscated = await _manager.obfuscateLog(data);
 
-    await _host.networkLog(obfuscated.toJson());
-    await APM.networkLogAndroid(obfuscated);
+    // A single typed entry feeds both the Bug Reporting network log and,
+    // on Android, APM network logging.
+    await _host.logNetworkEntry(_toEntry(obfuscated));
+  }
+
+  NetworkEntry _toEntry(NetworkData data) {
+    return NetworkEntry(
+      url: data.url,
+      method: data.method,
+      requestBody: data.requestBody,
+      responseBody: data.responseBody,
+      requestBodySize: data.requestBodySize,
+      responseBodySize: data.responseBodySize,
+      responseCode: data.status,
+      requestHeaders: data.requestHeaders
+          .map((key, value) => MapEntry(key, value.toString())),
+      responseHeaders: data.responseHeaders
+          .map((key, value) => MapEntry(key, value.toString())),
+      requestContentType: data.requestContentType,
+      responseContentType: data.responseContentType,
+      duration: data.duration,
+      startTime: data.startTime.millisecondsSinceEpoch,
+      errorCode: data.errorCode,
+      errorDomain: data.errorDomain,
+    );
   }
 }
@@ -3,13 +3,14 @@
 import 'dart:async';
 
 import 'package:instabug_flutter/src/generated/replies.api.g.dart';
+import 'package:instabug_flutter/src/utils/dispatch_messenger.dart';
 import 'package:instabug_flutter/src/utils/ibg_build_info.dart';
 import 'package:meta/meta.dart';
 
 typedef OnNewReplyReceivedCallback = void Function();
 
 class Replies implements RepliesFlutterApi {
-  static var _host = RepliesHostApi();
+  static var _host = RepliesHostApi(binaryMessenger: DispatchMessenger.I);
   static final _instance = Replies();
 
   static OnNewReplyReceivedCallback? _onNewReplyReceivedCallback;
@@ -4,9 +4,10 @@ import 'dart:async';
 
 import 'package:flutter/foundation.dart';
 import 'package:instabug_flutter/src/generated/session_replay.api.g.dart';
+import 'package:instabug_flutter/src/utils/dispatch_messenger.dart';
 
 class SessionReplay {
-  static var _host = SessionReplayHostApi();
+  static var _host = SessionReplayHostApi(binaryMessenger: DispatchMessenger.I);
 
   /// @nodoc
   @visibleForTesting
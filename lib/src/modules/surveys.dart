@@ -3,6 +3,7 @@
 import 'dart:async';
 
 import 'package:instabug_flutter/src/generated/surveys.api.g.dart';
+import 'package:instabug_flutter/src/utils/dispatch_messenger.dart';
 import 'package:instabug_flutter/src/utils/ibg_build_info.dart';
 import 'package:meta/meta.dart';
 
@@ -10,7 +11,7 @@ typedef OnShowSurveyCallback = void Function();
 typedef OnDismissSurveyCallback = void Function();
 
 class Surveys implements SurveysFlutterApi {
-  static var _host = SurveysHostApi();
+  static var _host = SurveysHostApi(binaryMessenger: DispatchMessenger.I);
   static final _instance = Surveys();
 
   static OnShowSurveyCallback? _onShowCallback;
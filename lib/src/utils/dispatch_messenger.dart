@@ -0,0 +1,120 @@
+import 'dart:typed_data';
+import 'dart:ui' as ui;
+
+import 'package:flutter/services.dart';
+import 'package:meta/meta.dart';
+
+/// A [BinaryMessenger] that sends the plugin's host API calls over a single
+/// multiplexed channel when the native side has it enabled, instead of one
+/// channel per method.
+///
+/// Each message starts with the little endian ID of its target channel, the
+/// 32-bit FNV-1a hash of the channel's name, followed by the message the
+/// target channel would have received. Whether the native side handles the
+/// dispatch channel is reported by `Instabug.init`. Until then calls are sent
+/// to their target channels, which the native side doesn't register when it
+/// multiplexes them, so a call that gets no reply is resent over the dispatch
+/// channel. Apps that don't enable multiplexing never use the dispatch channel.
+class DispatchMessenger extends BinaryMessenger {
+  DispatchMessenger({BinaryMessenger? messenger})
+      : _binaryMessenger = messenger;
+
+  static final I = DispatchMessenger();
+
+  static const channel = 'dev.flutter.pigeon.instabug_flutter.dispatch';
+
+  final BinaryMessenger? _binaryMessenger;
+  final _methodIds = <String, int>{};
+
+  /// Whether the native side handles the dispatch channel, null until it's
+  /// reported or a reply tells.
+  bool? _isEnabled;
+
+  BinaryMessenger get _messenger =>
+      _binaryMessenger ??
+      // to maintain supported versions prior to Flutter 3.0.0
+      // ignore: unnecessary_non_null_assertion
+      ServicesBinding.instance!.defaultBinaryMessenger;
+
+  /// @nodoc
+  @visibleForTesting
+  bool? get isEnabled => _isEnabled;
+
+  /// @nodoc
+  @internal
+  set isEnabled(bool? isEnabled) => _isEnabled = isEnabled;
+
+  /// The ID the native side registers the channel's handler with.
+  static int methodId(String channel) {
+    var hash = 0x811c9dc5;
+    for (final codeUnit in channel.codeUnits) {
+      hash ^= codeUnit;
+      hash = (hash * 0x01000193) & 0xffffffff;
+    }
+    return hash;
+  }
+
+  @override
+  Future<ByteData?>? send(String channel, ByteData? message) async {
+    if (_isEnabled == true && message != null) {
+      return _messenger.send(
+        DispatchMessenger.channel,
+        _envelope(channel, message),
+      );
+    }
+
+    final reply = await _messenger.send(channel, message);
+
+    // A message to a native handler that's registered always gets a reply, so
+    // one that came back tells the target channels are registered.
+    if (reply != null) {
+      _isEnabled ??= false;
+      return reply;
+    }
+    if (_isEnabled == false || message == null) {
+      return null;
+    }
+
+    // The target channel is unregistered, either because the native side
+    // multiplexes it or because it doesn't handle it at all.
+    final dispatched = await _messenger.send(
+      DispatchMessenger.channel,
+      _envelope(channel, message),
+    );
+    if (dispatched != null) {
+      _isEnabled = true;
+    }
+    return dispatched;
+  }
+
+  @override
+  void setMessageHandler(String channel, MessageHandler? handler) {
+    // Messages from the native side aren't multiplexed.
+    _messenger.setMessageHandler(channel, handler);
+  }
+
+  // to maintain supported versions prior to Flutter 3.0.0
+  // ignore: annotate_overrides
+  Future<void> handlePlatformMessage(
+    String channel,
+    ByteData? data,
+    ui.PlatformMessageResponseCallback? callback,
+  ) {
+    throw UnsupportedError(
+      'DispatchMessenger only sends messages to the native side',
+    );
+  }
+
+  ByteData _envelope(String channel, ByteData message) {
+    final id = _methodIds.putIfAbsent(channel, () => methodId(channel));
+
+    final envelope = Uint8List(4 + message.lengthInBytes);
+    ByteData.view(envelope.buffer).setUint32(0, id, Endian.little);
+    envelope.setRange(
+      4,
+      envelope.length,
+      message.buffer.asUint8List(message.offsetInBytes, message.lengthInBytes),
+    );
+    return ByteData.view(envelope.buffer);
+  }
+}
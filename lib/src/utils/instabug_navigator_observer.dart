@@ -23,14 +23,16 @@ class InstabugNavigatorObserver extends NavigatorObserver {
         name: maskedScreenName,
       );
 
+      // If there is a step that hasn't been pushed yet, remove it from the
+      // list so it's reported along with the new UI trace
+      final pendingStep = _steps.isNotEmpty ? _steps.removeLast() : null;
+
       // Starts a the new UI trace which is exclusive to screen loading
-      ScreenLoadingManager.I.startUiTrace(maskedScreenName, screenName);
-      // If there is a step that hasn't been pushed yet
-      if (_steps.isNotEmpty) {
-        // Report the last step and remove it from the list
-        Instabug.reportScreenChange(_steps.last.name);
-        _steps.removeLast();
-      }
+      ScreenLoadingManager.I.startUiTrace(
+        maskedScreenName,
+        screenName,
+        pendingStep?.name,
+      );
 
       // Add the new step to the list
       _steps.add(route);
@@ -8,6 +8,21 @@ enum FlagsConfig {
 }
 
 extension FeatureExtensions on FlagsConfig {
+  /// The key the native SDKs send the feature's availability with, which doesn't
+  /// depend on how the enum is named or printed.
+  String get key {
+    switch (this) {
+      case FlagsConfig.apm:
+        return 'apm';
+      case FlagsConfig.uiTrace:
+        return 'uiTrace';
+      case FlagsConfig.screenLoading:
+        return 'screenLoading';
+      case FlagsConfig.endScreenLoading:
+        return 'endScreenLoading';
+    }
+  }
+
   Future<bool> isEnabled() async {
     switch (this) {
       case FlagsConfig.apm:
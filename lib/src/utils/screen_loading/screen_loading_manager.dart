@@ -128,12 +128,18 @@ class ScreenLoadingManager {
   /// Starts a new UI trace with [screenName] as the public screen name and
   /// [matchingScreenName] as the screen name used for matching the UI trace
   /// with a Screen Loading trace.
+  ///
+  /// If [reportedScreenName] is provided, its screen change is reported in the
+  /// same platform channel call that starts the UI trace, or on its own if the
+  /// UI trace isn't started.
   @internal
   Future<void> startUiTrace(
     String screenName, [
     String? matchingScreenName,
+    String? reportedScreenName,
   ]) async {
     matchingScreenName ??= screenName;
+    var pendingScreenChange = reportedScreenName;
 
     try {
       resetDidStartScreenLoading();
@@ -164,7 +170,17 @@ class ScreenLoadingManager {
       final microTimeStamp = IBGDateTime.I.now().microsecondsSinceEpoch;
       final uiTraceId = IBGDateTime.I.now().millisecondsSinceEpoch;
 
-      APM.startCpUiTrace(sanitizedScreenName, microTimeStamp, uiTraceId);
+      if (pendingScreenChange != null) {
+        Instabug.onRouteTransition(
+          pendingScreenChange,
+          sanitizedScreenName,
+          microTimeStamp,
+          uiTraceId,
+        );
+        pendingScreenChange = null;
+      } else {
+        APM.startCpUiTrace(sanitizedScreenName, microTimeStamp, uiTraceId);
+      }
 
       currentUiTrace = UiTrace(
         screenName: sanitizedScreenName,
@@ -173,6 +189,10 @@ class ScreenLoadingManager {
       );
     } catch (error, stackTrace) {
       _logExceptionErrorAndStackTrace(error, stackTrace);
+    } finally {
+      if (pendingScreenChange != null) {
+        Instabug.reportScreenChange(pendingScreenChange);
+      }
     }
   }
 
@@ -1,5 +1,12 @@
 import 'package:pigeon/pigeon.dart';
 
+@FlutterApi()
+abstract class ApmFlutterApi {
+  // [feature] is one of the `FlagsConfig.key` values: `apm`, `screenLoading` or
+  // `endScreenLoading`.
+  void onFeatureAvailabilityChanged(String feature, bool isAvailable);
+}
+
 @HostApi()
 abstract class ApmHostApi {
   void setEnabled(bool isEnabled);
@@ -13,19 +20,23 @@ abstract class ApmHostApi {
 
   @async
   String? startExecutionTrace(String id, String name);
+  void startExecutionTraceNonBlocking(String id, String name);
 
   void startFlow(String name);
   void setFlowAttribute(String name, String key, String? value);
+  void setFlowAttributes(String name, Map<String, String?> attributes);
   void endFlow(String name);
   void setExecutionTraceAttribute(
     String id,
     String key,
     String value,
   );
+  void setExecutionTraceAttributes(String id, Map<String, String> attributes);
   void endExecutionTrace(String id);
   void startUITrace(String name);
   void endUITrace();
   void endAppLaunch();
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void networkLogAndroid(Map<String, Object> data);
 
   void startCpUiTrace(String screenName, int microTimeStamp, int traceId);
@@ -1,11 +1,72 @@
 import 'package:pigeon/pigeon.dart';
 
+class NetworkEntry {
+  NetworkEntry({
+    required this.url,
+    required this.method,
+    required this.requestBody,
+    required this.responseBody,
+    required this.requestBodySize,
+    required this.responseBodySize,
+    required this.requestHeaders,
+    required this.responseHeaders,
+    required this.startTime,
+    required this.errorCode,
+    required this.errorDomain,
+  });
+
+  String url;
+  String method;
+  String requestBody;
+  String responseBody;
+  int requestBodySize;
+  int responseBodySize;
+  int? responseCode;
+  Map<String?, String?> requestHeaders;
+  Map<String?, String?> responseHeaders;
+  String? requestContentType;
+  String? responseContentType;
+
+  /// In microseconds.
+  int? duration;
+
+  /// In milliseconds since epoch.
+  int startTime;
+  int errorCode;
+  String errorDomain;
+  String? gqlQueryName;
+  String? serverErrorMessage;
+}
+
+class BridgeMethodStats {
+  BridgeMethodStats({
+    required this.method,
+    required this.callCount,
+    required this.errorCount,
+    required this.payloadBytes,
+    required this.p50LatencyMicros,
+    required this.p95LatencyMicros,
+    required this.p99LatencyMicros,
+  });
+
+  String method;
+  int callCount;
+  int errorCount;
+  int payloadBytes;
+  int p50LatencyMicros;
+  int p95LatencyMicros;
+  int p99LatencyMicros;
+}
+
 @HostApi()
 abstract class InstabugHostApi {
   void setEnabled(bool isEnabled);
   bool isEnabled();
   bool isBuilt();
+  bool isMultiplexedChannelEnabled();
   void init(String token, List<String> invocationEvents, String debugLogsLevel);
+  @async
+  Map<String, int> waitForInit();
 
   void show();
   void showWelcomeMessageWithMode(String mode);
@@ -25,6 +86,7 @@ abstract class InstabugHostApi {
   void appendTags(List<String> tags);
   void resetTags();
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   @async
   List<String>? getTags();
 
@@ -38,9 +100,11 @@ abstract class InstabugHostApi {
   void setUserAttribute(String value, String key);
   void removeUserAttribute(String key);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   @async
   String? getUserAttributeForKey(String key);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   @async
   Map<String, String>? getUserAttributes();
 
@@ -50,15 +114,38 @@ abstract class InstabugHostApi {
     String? sessionReplayMode,
   );
   void reportScreenChange(String screenName);
+  void onRouteTransition(
+    String reportedScreenName,
+    String uiTraceScreenName,
+    int microTimeStamp,
+    int uiTraceId,
+  );
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void setCustomBrandingImage(String light, String dark);
   void setFont(String font);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void addFileAttachmentWithURL(String filePath, String fileName);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void addFileAttachmentWithData(Uint8List data, String fileName);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  String? beginFileAttachment(String fileName);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  void appendFileAttachmentChunk(String id, Uint8List chunk);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  void finishFileAttachment(String id);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  void abortFileAttachment(String id);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void clearFileAttachments();
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void networkLog(Map<String, Object> data);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  void logNetworkEntry(NetworkEntry entry);
+
+  List<BridgeMethodStats> getBridgeStats();
 
   void willRedirectToStore();
 }
@@ -7,5 +7,6 @@ abstract class InstabugLogHostApi {
   void logInfo(String message);
   void logWarn(String message);
   void logError(String message);
+  void logBatch(List<Object> entries);
   void clearAllLogs();
 }
@@ -29,7 +29,23 @@ generate_pigeon() {
   dart format "$DIR_DART/$name_snake.api.g.dart"
 }
 
+# Pigeon allocates a new codec for each channel of the Java APIs without data
+# classes, and decodes data classes through an intermediate list. Share the
+# standard codec instead, and use the hand-written InstabugMessageCodec, which
+# keeps the generated wire format, for the InstabugHostApi channels.
+share_java_codecs() {
+  perl -pi -e 's/return new StandardMessageCodec\(\);/return StandardMessageCodec.INSTANCE;/' $DIR_ANDROID/*Pigeon.java
+  perl -pi -e 's/return InstabugHostApiCodec\.INSTANCE;/return com.instabug.flutter.util.InstabugMessageCodec.INSTANCE;/' "$DIR_ANDROID/InstabugPigeon.java"
+
+  if ! grep -q "InstabugMessageCodec.INSTANCE" "$DIR_ANDROID/InstabugPigeon.java"; then
+    echo "Failed to install InstabugMessageCodec, check the generated InstabugHostApi.getCodec()"
+    exit 1
+  fi
+}
+
 for file in pigeons/**
 do
   generate_pigeon $file
 done
+
+share_java_codecs
@@ -4,6 +4,7 @@ import 'package:instabug_flutter/instabug_flutter.dart';
 import 'package:instabug_flutter/src/generated/apm.api.g.dart';
 import 'package:instabug_flutter/src/utils/ibg_build_info.dart';
 import 'package:instabug_flutter/src/utils/ibg_date_time.dart';
+import 'package:instabug_flutter/src/utils/screen_loading/flags_config.dart';
 import 'package:mockito/annotations.dart';
 import 'package:mockito/mockito.dart';
 
@@ -66,6 +67,38 @@ void main() {
     ).called(1);
   });
 
+  test('[isScreenLoadingEnabled] should use the availability sent by the SDK',
+      () async {
+    APM().onFeatureAvailabilityChanged(
+      FlagsConfig.screenLoading.key,
+      false,
+    );
+
+    final isEnabled = await APM.isScreenLoadingEnabled();
+
+    expect(isEnabled, isFalse);
+    verifyNever(mHost.isScreenLoadingEnabled());
+
+    // Reconfiguring APM discards the sent availability until it's sent again.
+    when(mHost.isScreenLoadingEnabled()).thenAnswer((_) async => true);
+    await APM.setScreenLoadingEnabled(true);
+
+    expect(await APM.isScreenLoadingEnabled(), isTrue);
+    verify(mHost.isScreenLoadingEnabled()).called(1);
+  });
+
+  test('[isEnabled] should use the availability sent by the SDK', () async {
+    APM().onFeatureAvailabilityChanged('apm', false);
+
+    final isEnabled = await APM.isEnabled();
+
+    expect(isEnabled, isFalse);
+    verifyNever(mHost.isEnabled());
+
+    // Discards the sent availability for the following tests.
+    await APM.setEnabled(true);
+  });
+
   test('[setColdAppLaunchEnabled] should call host method', () async {
     const enabled = true;
 
@@ -104,6 +137,22 @@ void main() {
     ).called(1);
   });
 
+  test('[startExecutionTraceNonBlocking] should call host method', () {
+    final now = DateTime.now();
+    const name = "trace";
+
+    when(mDateTime.now()).thenAnswer((_) => now);
+
+    final first = APM.startExecutionTraceNonBlocking(name);
+    final second = APM.startExecutionTraceNonBlocking(name);
+
+    expect(first.name, name);
+    expect(first.id, isNot(second.id));
+
+    verify(mHost.startExecutionTraceNonBlocking(first.id, name)).called(1);
+    verify(mHost.startExecutionTraceNonBlocking(second.id, name)).called(1);
+  });
+
   test('[setExecutionTraceAttribute] should call host method', () async {
     final id = DateTime.now().toString();
     const key = "attr-key";
@@ -117,6 +166,17 @@ void main() {
     ).called(1);
   });
 
+  test('[setExecutionTraceAttributes] should call host method', () async {
+    final id = DateTime.now().toString();
+    const attributes = {"attr-key": "Trace Attribute"};
+
+    await APM.setExecutionTraceAttributes(id, attributes);
+
+    verify(
+      mHost.setExecutionTraceAttributes(id, attributes),
+    ).called(1);
+  });
+
   test('[endExecutionTrace] should call host method', () async {
     final id = DateTime.now().toString();
 
@@ -151,6 +211,21 @@ void main() {
     verifyNoMoreInteractions(mHost);
   });
 
+  test('[setFlowAttributes] should call host method', () async {
+    const flowName = "flow-name";
+    const attributes = {
+      'attribute-key': 'attribute-value',
+      'removed-key': null,
+    };
+
+    await APM.setFlowAttributes(flowName, attributes);
+
+    verify(
+      mHost.setFlowAttributes(flowName, attributes),
+    ).called(1);
+    verifyNoMoreInteractions(mHost);
+  });
+
   test('[endFlow] should call host method', () async {
     const flowName = "flow-name";
 
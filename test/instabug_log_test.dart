@@ -77,4 +77,38 @@ void main() {
       mHost.clearAllLogs(),
     ).called(1);
   });
+
+  test('[setBatchingEnabled] should send buffered logs in a single batch',
+      () async {
+    await InstabugLog.setBatchingEnabled(true);
+
+    await Future.wait([
+      InstabugLog.logVerbose("verbose message"),
+      InstabugLog.logError("error message"),
+    ]);
+
+    final entries =
+        verify(mHost.logBatch(captureAny)).captured.single as List<Object?>;
+
+    expect(entries.length, 6);
+    expect(entries[0], 0);
+    expect(entries[2], "verbose message");
+    expect(entries[3], 4);
+    expect(entries[5], "error message");
+    verifyNever(mHost.logVerbose(any));
+    verifyNever(mHost.logError(any));
+
+    await InstabugLog.setBatchingEnabled(false);
+  });
+
+  test('[setBatchingEnabled] should flush pending logs when disabled',
+      () async {
+    await InstabugLog.setBatchingEnabled(true);
+
+    final logged = InstabugLog.logInfo("info message");
+    await InstabugLog.setBatchingEnabled(false);
+    await logged;
+
+    verify(mHost.logBatch(argThat(contains("info message")))).called(1);
+  });
 }
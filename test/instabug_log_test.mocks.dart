@@ -80,6 +80,16 @@ class MockInstabugLogHostApi extends _i1.Mock
         returnValueForMissingStub: _i3.Future<void>.value(),
       ) as _i3.Future<void>);
 
+  @override
+  _i3.Future<void> logBatch(List<Object?>? arg_entries) => (super.noSuchMethod(
+        Invocation.method(
+          #logBatch,
+          [arg_entries],
+        ),
+        returnValue: _i3.Future<void>.value(),
+        returnValueForMissingStub: _i3.Future<void>.value(),
+      ) as _i3.Future<void>);
+
   @override
   _i3.Future<void> clearAllLogs() => (super.noSuchMethod(
         Invocation.method(
@@ -1,9 +1,11 @@
+import 'dart:async';
 import 'dart:typed_data';
 
 import 'package:flutter/widgets.dart';
 import 'package:flutter_test/flutter_test.dart';
 import 'package:instabug_flutter/instabug_flutter.dart';
 import 'package:instabug_flutter/src/generated/instabug.api.g.dart';
+import 'package:instabug_flutter/src/utils/dispatch_messenger.dart';
 import 'package:instabug_flutter/src/utils/enum_converter.dart';
 import 'package:instabug_flutter/src/utils/ibg_build_info.dart';
 import 'package:instabug_flutter/src/utils/screen_name_masker.dart';
@@ -66,6 +68,61 @@ void main() {
     expect(actual, expected);
   });
 
+  test('[waitForInit] should call host method', () async {
+    when(mHost.waitForInit()).thenAnswer(
+      (_) async => {
+        'buildDurationMs': 700,
+        'replayDurationMs': 5,
+        'budgetMs': 500,
+        'replayedCalls': 3,
+        'droppedCalls': 0,
+      },
+    );
+
+    final timing = await Instabug.waitForInit();
+
+    verify(
+      mHost.waitForInit(),
+    ).called(1);
+
+    expect(timing.buildDuration, const Duration(milliseconds: 700));
+    expect(timing.replayedCalls, 3);
+    expect(timing.isOverBudget, isTrue);
+  });
+
+  test('[waitForInit] should time out when the SDK is never initialized',
+      () async {
+    when(mHost.waitForInit()).thenAnswer(
+      (_) => Completer<Map<String?, int?>>().future,
+    );
+
+    await expectLater(
+      Instabug.waitForInit(timeout: const Duration(milliseconds: 10)),
+      throwsA(isA<TimeoutException>()),
+    );
+  });
+
+  test('[getBridgeStats] should call host method', () async {
+    final stats = BridgeMethodStats(
+      method: 'InstabugHostApi.show',
+      callCount: 2,
+      errorCount: 0,
+      payloadBytes: 32,
+      p50LatencyMicros: 100,
+      p95LatencyMicros: 200,
+      p99LatencyMicros: 300,
+    );
+    when(mHost.getBridgeStats()).thenAnswer((_) async => [stats]);
+
+    final actual = await Instabug.getBridgeStats();
+
+    verify(
+      mHost.getBridgeStats(),
+    ).called(1);
+
+    expect(actual, [stats]);
+  });
+
   test('[start] should call host method', () async {
     const token = "068ba9a8c3615035e163dc5f829c73be";
     const events = [InvocationEvent.shake, InvocationEvent.screenshot];
@@ -80,6 +137,20 @@ void main() {
     ).called(1);
   });
 
+  test('[init] should set whether the native side multiplexes its channels',
+      () async {
+    when(mHost.isMultiplexedChannelEnabled()).thenAnswer((_) async => true);
+
+    await Instabug.init(
+      token: 'token',
+      invocationEvents: [InvocationEvent.none],
+    );
+
+    expect(DispatchMessenger.I.isEnabled, isTrue);
+
+    DispatchMessenger.I.isEnabled = null;
+  });
+
   test(
       '[setScreenNameMaskingCallback] should set masking callback on screen name masker',
       () async {
@@ -417,6 +488,29 @@ void main() {
     ).called(1);
   });
 
+  test('[onRouteTransition] should call host method', () async {
+    const reportedScreen = "home";
+    const uiTraceScreen = "settings";
+    const microTimeStamp = 1000000;
+    const uiTraceId = 1000;
+
+    await Instabug.onRouteTransition(
+      reportedScreen,
+      uiTraceScreen,
+      microTimeStamp,
+      uiTraceId,
+    );
+
+    verify(
+      mHost.onRouteTransition(
+        reportedScreen,
+        uiTraceScreen,
+        microTimeStamp,
+        uiTraceId,
+      ),
+    ).called(1);
+  });
+
   test('[setFont] should call host method', () async {
     const font = "fonts/OpenSans-Regular.ttf";
     when(mBuildInfo.isIOS).thenReturn(true);
@@ -450,6 +544,74 @@ void main() {
     ).called(1);
   });
 
+  test('[addFileAttachmentFromStream] should stream the file in chunks',
+      () async {
+    const name = "dump.log";
+    const id = "0";
+    final first = Uint8List.fromList([1, 2, 3]);
+    final second = [4, 5];
+
+    when(mHost.beginFileAttachment(name)).thenAnswer((_) async => id);
+
+    await Instabug.addFileAttachmentFromStream(
+      Stream.fromIterable([first, second]),
+      name,
+    );
+
+    verifyInOrder([
+      mHost.beginFileAttachment(name),
+      mHost.appendFileAttachmentChunk(id, first),
+      mHost.appendFileAttachmentChunk(id, Uint8List.fromList(second)),
+      mHost.finishFileAttachment(id),
+    ]);
+  });
+
+  test(
+      '[addFileAttachmentFromStream] should not stream the file when the attachment could not be created',
+      () async {
+    const name = "dump.log";
+
+    when(mHost.beginFileAttachment(name)).thenAnswer((_) async => null);
+
+    await Instabug.addFileAttachmentFromStream(
+      Stream.fromIterable([
+        [1, 2, 3],
+      ]),
+      name,
+    );
+
+    verifyNever(mHost.appendFileAttachmentChunk(any, any));
+    verifyNever(mHost.finishFileAttachment(any));
+  });
+
+  test(
+      '[addFileAttachmentFromStream] should abort the attachment when the stream fails',
+      () async {
+    const name = "dump.log";
+    const id = "0";
+    final first = Uint8List.fromList([1, 2, 3]);
+    final error = Exception('Failed to read the file');
+
+    when(mHost.beginFileAttachment(name)).thenAnswer((_) async => id);
+
+    final stream = () async* {
+      yield first;
+      throw error;
+    }();
+
+    await expectLater(
+      Instabug.addFileAttachmentFromStream(stream, name),
+      throwsA(error),
+    );
+
+    verifyInOrder([
+      mHost.beginFileAttachment(name),
+      mHost.appendFileAttachmentChunk(id, first),
+      mHost.abortFileAttachment(id),
+    ]);
+    verifyNever(mHost.finishFileAttachment(any));
+  });
+
   test('[clearFileAttachments] should call host method', () async {
     await Instabug.clearFileAttachments();
 
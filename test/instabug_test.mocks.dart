@@ -61,6 +61,15 @@ class MockInstabugHostApi extends _i1.Mock implements _i2.InstabugHostApi {
         returnValue: _i3.Future<bool>.value(false),
       ) as _i3.Future<bool>);
 
+  @override
+  _i3.Future<bool> isMultiplexedChannelEnabled() => (super.noSuchMethod(
+        Invocation.method(
+          #isMultiplexedChannelEnabled,
+          [],
+        ),
+        returnValue: _i3.Future<bool>.value(false),
+      ) as _i3.Future<bool>);
+
   @override
   _i3.Future<void> init(
     String? arg_token,
@@ -80,6 +89,15 @@ class MockInstabugHostApi extends _i1.Mock implements _i2.InstabugHostApi {
         returnValueForMissingStub: _i3.Future<void>.value(),
       ) as _i3.Future<void>);
 
+  @override
+  _i3.Future<Map<String?, int?>> waitForInit() => (super.noSuchMethod(
+        Invocation.method(
+          #waitForInit,
+          [],
+        ),
+        returnValue: _i3.Future<Map<String?, int?>>.value(<String?, int?>{}),
+      ) as _i3.Future<Map<String?, int?>>);
+
   @override
   _i3.Future<void> show() => (super.noSuchMethod(
         Invocation.method(
@@ -389,6 +407,27 @@ class MockInstabugHostApi extends _i1.Mock implements _i2.InstabugHostApi {
         returnValueForMissingStub: _i3.Future<void>.value(),
       ) as _i3.Future<void>);
 
+  @override
+  _i3.Future<void> onRouteTransition(
+    String? arg_reportedScreenName,
+    String? arg_uiTraceScreenName,
+    int? arg_microTimeStamp,
+    int? arg_uiTraceId,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #onRouteTransition,
+          [
+            arg_reportedScreenName,
+            arg_uiTraceScreenName,
+            arg_microTimeStamp,
+            arg_uiTraceId,
+          ],
+        ),
+        returnValue: _i3.Future<void>.value(),
+        returnValueForMissingStub: _i3.Future<void>.value(),
+      ) as _i3.Future<void>);
+
   @override
   _i3.Future<void> setCustomBrandingImage(
     String? arg_light,
@@ -450,6 +489,55 @@ class MockInstabugHostApi extends _i1.Mock implements _i2.InstabugHostApi {
         returnValueForMissingStub: _i3.Future<void>.value(),
       ) as _i3.Future<void>);
 
+  @override
+  _i3.Future<String?> beginFileAttachment(String? arg_fileName) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #beginFileAttachment,
+          [arg_fileName],
+        ),
+        returnValue: _i3.Future<String?>.value(),
+      ) as _i3.Future<String?>);
+
+  @override
+  _i3.Future<void> appendFileAttachmentChunk(
+    String? arg_id,
+    _i4.Uint8List? arg_chunk,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #appendFileAttachmentChunk,
+          [
+            arg_id,
+            arg_chunk,
+          ],
+        ),
+        returnValue: _i3.Future<void>.value(),
+        returnValueForMissingStub: _i3.Future<void>.value(),
+      ) as _i3.Future<void>);
+
+  @override
+  _i3.Future<void> finishFileAttachment(String? arg_id) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #finishFileAttachment,
+          [arg_id],
+        ),
+        returnValue: _i3.Future<void>.value(),
+        returnValueForMissingStub: _i3.Future<void>.value(),
+      ) as _i3.Future<void>);
+
+  @override
+  _i3.Future<void> abortFileAttachment(String? arg_id) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #abortFileAttachment,
+          [arg_id],
+        ),
+        returnValue: _i3.Future<void>.value(),
+        returnValueForMissingStub: _i3.Future<void>.value(),
+      ) as _i3.Future<void>);
+
   @override
   _i3.Future<void> clearFileAttachments() => (super.noSuchMethod(
         Invocation.method(
@@ -471,6 +559,28 @@ class MockInstabugHostApi extends _i1.Mock implements _i2.InstabugHostApi {
         returnValueForMissingStub: _i3.Future<void>.value(),
       ) as _i3.Future<void>);
 
+  @override
+  _i3.Future<void> logNetworkEntry(_i2.NetworkEntry? arg_entry) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #logNetworkEntry,
+          [arg_entry],
+        ),
+        returnValue: _i3.Future<void>.value(),
+        returnValueForMissingStub: _i3.Future<void>.value(),
+      ) as _i3.Future<void>);
+
+  @override
+  _i3.Future<List<_i2.BridgeMethodStats?>> getBridgeStats() =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getBridgeStats,
+          [],
+        ),
+        returnValue: _i3.Future<List<_i2.BridgeMethodStats?>>.value(
+            <_i2.BridgeMethodStats?>[]),
+      ) as _i3.Future<List<_i2.BridgeMethodStats?>>);
+
   @override
   _i3.Future<void> willRedirectToStore() => (super.noSuchMethod(
         Invocation.method(
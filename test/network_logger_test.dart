@@ -56,15 +56,19 @@ void main() {
     await logger.networkLog(data);
 
     verify(
-      mInstabugHost.networkLog(data.toJson()),
+      mInstabugHost.logNetworkEntry(any),
     ).called(1);
 
     verifyNever(
-      mApmHost.networkLogAndroid(data.toJson()),
+      mInstabugHost.networkLog(any),
+    );
+
+    verifyNever(
+      mApmHost.networkLogAndroid(any),
     );
   });
 
-  test('[networkLog] should call 2 host methods on Android', () async {
+  test('[networkLog] should call 1 host method on Android', () async {
     when(mBuildInfo.isAndroid).thenReturn(true);
     when(mManager.obfuscateLog(data)).thenReturn(data);
     when(mManager.omitLog(data)).thenReturn(false);
@@ -72,12 +76,45 @@ void main() {
     await logger.networkLog(data);
 
     verify(
-      mInstabugHost.networkLog(data.toJson()),
+      mInstabugHost.logNetworkEntry(any),
     ).called(1);
 
-    verify(
-      mApmHost.networkLogAndroid(data.toJson()),
-    ).called(1);
+    verifyNever(
+      mInstabugHost.networkLog(any),
+    );
+
+    verifyNever(
+      mApmHost.networkLogAndroid(any),
+    );
+  });
+
+  test('[networkLog] should send network data as a typed entry', () async {
+    final headers = {'Content-Length': 17};
+    final request = data.copyWith(
+      requestBody: 'body',
+      status: 201,
+      duration: 23000,
+      requestHeaders: headers,
+    );
+
+    when(mBuildInfo.isAndroid).thenReturn(true);
+    when(mManager.obfuscateLog(request)).thenReturn(request);
+    when(mManager.omitLog(request)).thenReturn(false);
+
+    await logger.networkLog(request);
+
+    final entry = verify(
+      mInstabugHost.logNetworkEntry(captureAny),
+    ).captured.single as NetworkEntry;
+
+    expect(entry.url, request.url);
+    expect(entry.method, request.method);
+    expect(entry.requestBody, 'body');
+    expect(entry.responseCode, 201);
+    expect(entry.duration, 23000);
+    expect(entry.requestHeaders, {'Content-Length': '17'});
+    expect(entry.startTime, request.startTime.millisecondsSinceEpoch);
+    expect(entry.errorDomain, request.errorDomain);
   });
 
   test('[networkLog] should obfuscate network data before logging', () async {
@@ -93,13 +130,11 @@ void main() {
       mManager.obfuscateLog(data),
     ).called(1);
 
-    verify(
-      mInstabugHost.networkLog(obfuscated.toJson()),
-    ).called(1);
+    final entry = verify(
+      mInstabugHost.logNetworkEntry(captureAny),
+    ).captured.single as NetworkEntry;
 
-    verify(
-      mApmHost.networkLogAndroid(obfuscated.toJson()),
-    ).called(1);
+    expect(entry.requestBody, 'obfuscated');
   });
 
   test('[networkLog] should not log data if it should be omitted', () async {
@@ -116,11 +151,7 @@ void main() {
     ).called(1);
 
     verifyNever(
-      mInstabugHost.networkLog(data.toJson()),
-    );
-
-    verifyNever(
-      mApmHost.networkLogAndroid(data.toJson()),
+      mInstabugHost.logNetworkEntry(any),
     );
   });
 
@@ -122,6 +122,23 @@ class MockApmHostApi extends _i1.Mock implements _i3.ApmHostApi {
         returnValue: _i4.Future<String?>.value(),
       ) as _i4.Future<String?>);
 
+  @override
+  _i4.Future<void> startExecutionTraceNonBlocking(
+    String? arg_id,
+    String? arg_name,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #startExecutionTraceNonBlocking,
+          [
+            arg_id,
+            arg_name,
+          ],
+        ),
+        returnValue: _i4.Future<void>.value(),
+        returnValueForMissingStub: _i4.Future<void>.value(),
+      ) as _i4.Future<void>);
+
   @override
   _i4.Future<void> startFlow(String? arg_name) => (super.noSuchMethod(
         Invocation.method(
@@ -151,6 +168,23 @@ class MockApmHostApi extends _i1.Mock implements _i3.ApmHostApi {
         returnValueForMissingStub: _i4.Future<void>.value(),
       ) as _i4.Future<void>);
 
+  @override
+  _i4.Future<void> setFlowAttributes(
+    String? arg_name,
+    Map<String?, String?>? arg_attributes,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setFlowAttributes,
+          [
+            arg_name,
+            arg_attributes,
+          ],
+        ),
+        returnValue: _i4.Future<void>.value(),
+        returnValueForMissingStub: _i4.Future<void>.value(),
+      ) as _i4.Future<void>);
+
   @override
   _i4.Future<void> endFlow(String? arg_name) => (super.noSuchMethod(
         Invocation.method(
@@ -180,6 +214,23 @@ class MockApmHostApi extends _i1.Mock implements _i3.ApmHostApi {
         returnValueForMissingStub: _i4.Future<void>.value(),
       ) as _i4.Future<void>);
 
+  @override
+  _i4.Future<void> setExecutionTraceAttributes(
+    String? arg_id,
+    Map<String?, String?>? arg_attributes,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setExecutionTraceAttributes,
+          [
+            arg_id,
+            arg_attributes,
+          ],
+        ),
+        returnValue: _i4.Future<void>.value(),
+        returnValueForMissingStub: _i4.Future<void>.value(),
+      ) as _i4.Future<void>);
+
   @override
   _i4.Future<void> endExecutionTrace(String? arg_id) => (super.noSuchMethod(
         Invocation.method(
@@ -332,6 +383,15 @@ class MockInstabugHostApi extends _i1.Mock implements _i5.InstabugHostApi {
         returnValue: _i4.Future<bool>.value(false),
       ) as _i4.Future<bool>);
 
+  @override
+  _i4.Future<bool> isMultiplexedChannelEnabled() => (super.noSuchMethod(
+        Invocation.method(
+          #isMultiplexedChannelEnabled,
+          [],
+        ),
+        returnValue: _i4.Future<bool>.value(false),
+      ) as _i4.Future<bool>);
+
   @override
   _i4.Future<void> init(
     String? arg_token,
@@ -351,6 +411,15 @@ class MockInstabugHostApi extends _i1.Mock implements _i5.InstabugHostApi {
         returnValueForMissingStub: _i4.Future<void>.value(),
       ) as _i4.Future<void>);
 
+  @override
+  _i4.Future<Map<String?, int?>> waitForInit() => (super.noSuchMethod(
+        Invocation.method(
+          #waitForInit,
+          [],
+        ),
+        returnValue: _i4.Future<Map<String?, int?>>.value(<String?, int?>{}),
+      ) as _i4.Future<Map<String?, int?>>);
+
   @override
   _i4.Future<void> show() => (super.noSuchMethod(
         Invocation.method(
@@ -660,6 +729,27 @@ class MockInstabugHostApi extends _i1.Mock implements _i5.InstabugHostApi {
         returnValueForMissingStub: _i4.Future<void>.value(),
       ) as _i4.Future<void>);
 
+  @override
+  _i4.Future<void> onRouteTransition(
+    String? arg_reportedScreenName,
+    String? arg_uiTraceScreenName,
+    int? arg_microTimeStamp,
+    int? arg_uiTraceId,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #onRouteTransition,
+          [
+            arg_reportedScreenName,
+            arg_uiTraceScreenName,
+            arg_microTimeStamp,
+            arg_uiTraceId,
+          ],
+        ),
+        returnValue: _i4.Future<void>.value(),
+        returnValueForMissingStub: _i4.Future<void>.value(),
+      ) as _i4.Future<void>);
+
   @override
   _i4.Future<void> setCustomBrandingImage(
     String? arg_light,
@@ -721,6 +811,55 @@ class MockInstabugHostApi extends _i1.Mock implements _i5.InstabugHostApi {
         returnValueForMissingStub: _i4.Future<void>.value(),
       ) as _i4.Future<void>);
 
+  @override
+  _i4.Future<String?> beginFileAttachment(String? arg_fileName) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #beginFileAttachment,
+          [arg_fileName],
+        ),
+        returnValue: _i4.Future<String?>.value(),
+      ) as _i4.Future<String?>);
+
+  @override
+  _i4.Future<void> appendFileAttachmentChunk(
+    String? arg_id,
+    _i6.Uint8List? arg_chunk,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #appendFileAttachmentChunk,
+          [
+            arg_id,
+            arg_chunk,
+          ],
+        ),
+        returnValue: _i4.Future<void>.value(),
+        returnValueForMissingStub: _i4.Future<void>.value(),
+      ) as _i4.Future<void>);
+
+  @override
+  _i4.Future<void> finishFileAttachment(String? arg_id) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #finishFileAttachment,
+          [arg_id],
+        ),
+        returnValue: _i4.Future<void>.value(),
+        returnValueForMissingStub: _i4.Future<void>.value(),
+      ) as _i4.Future<void>);
+
+  @override
+  _i4.Future<void> abortFileAttachment(String? arg_id) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #abortFileAttachment,
+          [arg_id],
+        ),
+        returnValue: _i4.Future<void>.value(),
+        returnValueForMissingStub: _i4.Future<void>.value(),
+      ) as _i4.Future<void>);
+
   @override
   _i4.Future<void> clearFileAttachments() => (super.noSuchMethod(
         Invocation.method(
@@ -742,6 +881,28 @@ class MockInstabugHostApi extends _i1.Mock implements _i5.InstabugHostApi {
         returnValueForMissingStub: _i4.Future<void>.value(),
       ) as _i4.Future<void>);
 
+  @override
+  _i4.Future<void> logNetworkEntry(_i5.NetworkEntry? arg_entry) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #logNetworkEntry,
+          [arg_entry],
+        ),
+        returnValue: _i4.Future<void>.value(),
+        returnValueForMissingStub: _i4.Future<void>.value(),
+      ) as _i4.Future<void>);
+
+  @override
+  _i4.Future<List<_i5.BridgeMethodStats?>> getBridgeStats() =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getBridgeStats,
+          [],
+        ),
+        returnValue: _i4.Future<List<_i5.BridgeMethodStats?>>.value(
+            <_i5.BridgeMethodStats?>[]),
+      ) as _i4.Future<List<_i5.BridgeMethodStats?>>);
+
   @override
   _i4.Future<void> willRedirectToStore() => (super.noSuchMethod(
         Invocation.method(
@@ -43,4 +43,13 @@ void main() {
       mHost.setExecutionTraceAttribute(trace.id, key, attribute),
     ).called(1);
   });
+
+  test('[setAttributes] should call host method', () async {
+    const attributes = {"attr-key": "Trace Attribute"};
+    trace.setAttributes(attributes);
+
+    verify(
+      mHost.setExecutionTraceAttributes(trace.id, attributes),
+    ).called(1);
+  });
 }
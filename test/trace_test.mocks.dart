@@ -106,6 +106,23 @@ class MockApmHostApi extends _i1.Mock implements _i2.ApmHostApi {
         returnValue: _i3.Future<String?>.value(),
       ) as _i3.Future<String?>);
 
+  @override
+  _i3.Future<void> startExecutionTraceNonBlocking(
+    String? arg_id,
+    String? arg_name,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #startExecutionTraceNonBlocking,
+          [
+            arg_id,
+            arg_name,
+          ],
+        ),
+        returnValue: _i3.Future<void>.value(),
+        returnValueForMissingStub: _i3.Future<void>.value(),
+      ) as _i3.Future<void>);
+
   @override
   _i3.Future<void> startFlow(String? arg_name) => (super.noSuchMethod(
         Invocation.method(
@@ -135,6 +152,23 @@ class MockApmHostApi extends _i1.Mock implements _i2.ApmHostApi {
         returnValueForMissingStub: _i3.Future<void>.value(),
       ) as _i3.Future<void>);
 
+  @override
+  _i3.Future<void> setFlowAttributes(
+    String? arg_name,
+    Map<String?, String?>? arg_attributes,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setFlowAttributes,
+          [
+            arg_name,
+            arg_attributes,
+          ],
+        ),
+        returnValue: _i3.Future<void>.value(),
+        returnValueForMissingStub: _i3.Future<void>.value(),
+      ) as _i3.Future<void>);
+
   @override
   _i3.Future<void> endFlow(String? arg_name) => (super.noSuchMethod(
         Invocation.method(
@@ -164,6 +198,23 @@ class MockApmHostApi extends _i1.Mock implements _i2.ApmHostApi {
         returnValueForMissingStub: _i3.Future<void>.value(),
       ) as _i3.Future<void>);
 
+  @override
+  _i3.Future<void> setExecutionTraceAttributes(
+    String? arg_id,
+    Map<String?, String?>? arg_attributes,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setExecutionTraceAttributes,
+          [
+            arg_id,
+            arg_attributes,
+          ],
+        ),
+        returnValue: _i3.Future<void>.value(),
+        returnValueForMissingStub: _i3.Future<void>.value(),
+      ) as _i3.Future<void>);
+
   @override
   _i3.Future<void> endExecutionTrace(String? arg_id) => (super.noSuchMethod(
         Invocation.method(
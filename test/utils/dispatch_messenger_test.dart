@@ -0,0 +1,110 @@
+import 'dart:typed_data';
+import 'dart:ui' as ui;
+
+import 'package:flutter/services.dart';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:instabug_flutter/src/utils/dispatch_messenger.dart';
+
+class FakeBinaryMessenger extends BinaryMessenger {
+  final sent = <String, ByteData?>{};
+  final calls = <String>[];
+  final handlers = <String, Future<ByteData?> Function(ByteData?)>{};
+
+  @override
+  Future<ByteData?>? send(String channel, ByteData? message) {
+    sent[channel] = message;
+    calls.add(channel);
+    final handler = handlers[channel];
+    return handler == null ? Future.value() : handler(message);
+  }
+
+  @override
+  void setMessageHandler(String channel, MessageHandler? handler) {}
+
+  // ignore: annotate_overrides
+  Future<void> handlePlatformMessage(
+    String channel,
+    ByteData? data,
+    ui.PlatformMessageResponseCallback? callback,
+  ) async {}
+}
+
+void main() {
+  TestWidgetsFlutterBinding.ensureInitialized();
+
+  const channel =
+      'dev.flutter.pigeon.instabug_flutter.InstabugLogHostApi.logInfo';
+  final message = ByteData.view(Uint8List.fromList([1, 2, 3]).buffer);
+  final reply = ByteData.view(Uint8List.fromList([4]).buffer);
+
+  late FakeBinaryMessenger binaryMessenger;
+  late DispatchMessenger messenger;
+
+  setUp(() {
+    binaryMessenger = FakeBinaryMessenger();
+    messenger = DispatchMessenger(messenger: binaryMessenger);
+  });
+
+  test('[methodId] should be the FNV-1a hash of the channel name', () {
+    // Hashes shared with the native sides' dispatch messengers.
+    expect(DispatchMessenger.methodId(''), 0x811c9dc5);
+    expect(DispatchMessenger.methodId('a'), 0xe40c292c);
+    expect(DispatchMessenger.methodId('foobar'), 0xbf9cf968);
+  });
+
+  test('[send] should prefix the message with its method ID', () async {
+    binaryMessenger.handlers[DispatchMessenger.channel] = (_) async => reply;
+    messenger.isEnabled = true;
+
+    final result = await messenger.send(channel, message);
+
+    final envelope = binaryMessenger.sent[DispatchMessenger.channel]!;
+    expect(result, reply);
+    expect(
+      envelope.getUint32(0, Endian.little),
+      DispatchMessenger.methodId(channel),
+    );
+    expect(envelope.buffer.asUint8List(4), [1, 2, 3]);
+    expect(binaryMessenger.sent.containsKey(channel), isFalse);
+  });
+
+  test('[send] should send to the target channel without probing', () async {
+    binaryMessenger.handlers[channel] = (_) async => reply;
+
+    final first = await messenger.send(channel, message);
+    final second = await messenger.send(channel, message);
+
+    expect(first, reply);
+    expect(second, reply);
+    expect(messenger.isEnabled, isFalse);
+    expect(binaryMessenger.calls, [channel, channel]);
+  });
+
+  test('[send] should resend unanswered calls over the dispatch channel',
+      () async {
+    binaryMessenger.handlers[DispatchMessenger.channel] = (_) async => reply;
+
+    final first = await messenger.send(channel, message);
+    final second = await messenger.send(channel, message);
+
+    expect(first, reply);
+    expect(second, reply);
+    expect(messenger.isEnabled, isTrue);
+    expect(binaryMessenger.calls, [
+      channel,
+      DispatchMessenger.channel,
+      DispatchMessenger.channel,
+    ]);
+  });
+
+  test('[send] should not use the dispatch channel once reported disabled',
+      () async {
+    binaryMessenger.handlers[DispatchMessenger.channel] = (_) async => reply;
+    messenger.isEnabled = false;
+
+    final result = await messenger.send(channel, message);
+
+    expect(result, isNull);
+    expect(binaryMessenger.calls, [channel]);
+  });
+}
@@ -92,6 +92,29 @@ void main() {
     });
   });
 
+  test(
+      'should report the pending screen change along with the next UI trace',
+      () {
+    fakeAsync((async) {
+      observer.didPush(previousRoute, null);
+      observer.didPush(route, previousRoute);
+
+      verify(
+        mScreenLoadingManager.startUiTrace(screen, screen, previousScreen),
+      ).called(1);
+
+      async.elapse(const Duration(milliseconds: 1000));
+
+      verify(
+        mHost.reportScreenChange(screen),
+      ).called(1);
+
+      verifyNever(
+        mHost.reportScreenChange(previousScreen),
+      );
+    });
+  });
+
   test('should fallback to "N/A" when the screen name is empty', () {
     fakeAsync((async) {
       final route = createRoute('');
@@ -232,6 +232,48 @@ void main() {
       ).called(1);
     });
 
+    test(
+        '[startUiTrace] with a reported screen name should report it along with the UI trace',
+        () async {
+      const reportedScreenName = 'reported_screen_name';
+      when(FlagsConfig.apm.isEnabled()).thenAnswer((_) async => true);
+      when(IBGBuildInfo.I.isIOS).thenReturn(false);
+
+      await ScreenLoadingManager.I.startUiTrace(
+        screenName,
+        screenName,
+        reportedScreenName,
+      );
+
+      verify(
+        mInstabugHost.onRouteTransition(
+          reportedScreenName,
+          screenName,
+          time.microsecondsSinceEpoch,
+          time.millisecondsSinceEpoch,
+        ),
+      ).called(1);
+      verifyNever(mApmHost.startCpUiTrace(any, any, any));
+      verifyNever(mInstabugHost.reportScreenChange(any));
+    });
+
+    test(
+        '[startUiTrace] with a reported screen name and SDK not built should report the screen change only',
+        () async {
+      const reportedScreenName = 'reported_screen_name';
+      when(mInstabugHost.isBuilt()).thenAnswer((_) async => false);
+
+      await ScreenLoadingManager.I.startUiTrace(
+        screenName,
+        screenName,
+        reportedScreenName,
+      );
+
+      verify(mInstabugHost.reportScreenChange(reportedScreenName)).called(1);
+      verifyNever(mInstabugHost.onRouteTransition(any, any, any, any));
+      verifyNever(mApmHost.startCpUiTrace(any, any, any));
+    });
+
     test(
         '[startUiTrace] with APM enabled should create a UI trace with the matching screen name',
         () async {
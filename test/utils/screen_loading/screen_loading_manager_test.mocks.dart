@@ -189,6 +189,23 @@ class MockApmHostApi extends _i1.Mock implements _i4.ApmHostApi {
         returnValue: _i5.Future<String?>.value(),
       ) as _i5.Future<String?>);
 
+  @override
+  _i5.Future<void> startExecutionTraceNonBlocking(
+    String? arg_id,
+    String? arg_name,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #startExecutionTraceNonBlocking,
+          [
+            arg_id,
+            arg_name,
+          ],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
   @override
   _i5.Future<void> startFlow(String? arg_name) => (super.noSuchMethod(
         Invocation.method(
@@ -218,6 +235,23 @@ class MockApmHostApi extends _i1.Mock implements _i4.ApmHostApi {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
 
+  @override
+  _i5.Future<void> setFlowAttributes(
+    String? arg_name,
+    Map<String?, String?>? arg_attributes,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setFlowAttributes,
+          [
+            arg_name,
+            arg_attributes,
+          ],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
   @override
   _i5.Future<void> endFlow(String? arg_name) => (super.noSuchMethod(
         Invocation.method(
@@ -247,6 +281,23 @@ class MockApmHostApi extends _i1.Mock implements _i4.ApmHostApi {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
 
+  @override
+  _i5.Future<void> setExecutionTraceAttributes(
+    String? arg_id,
+    Map<String?, String?>? arg_attributes,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setExecutionTraceAttributes,
+          [
+            arg_id,
+            arg_attributes,
+          ],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
   @override
   _i5.Future<void> endExecutionTrace(String? arg_id) => (super.noSuchMethod(
         Invocation.method(
@@ -399,6 +450,15 @@ class MockInstabugHostApi extends _i1.Mock implements _i6.InstabugHostApi {
         returnValue: _i5.Future<bool>.value(false),
       ) as _i5.Future<bool>);
 
+  @override
+  _i5.Future<bool> isMultiplexedChannelEnabled() => (super.noSuchMethod(
+        Invocation.method(
+          #isMultiplexedChannelEnabled,
+          [],
+        ),
+        returnValue: _i5.Future<bool>.value(false),
+      ) as _i5.Future<bool>);
+
   @override
   _i5.Future<void> init(
     String? arg_token,
@@ -418,6 +478,15 @@ class MockInstabugHostApi extends _i1.Mock implements _i6.InstabugHostApi {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
 
+  @override
+  _i5.Future<Map<String?, int?>> waitForInit() => (super.noSuchMethod(
+        Invocation.method(
+          #waitForInit,
+          [],
+        ),
+        returnValue: _i5.Future<Map<String?, int?>>.value(<String?, int?>{}),
+      ) as _i5.Future<Map<String?, int?>>);
+
   @override
   _i5.Future<void> show() => (super.noSuchMethod(
         Invocation.method(
@@ -727,6 +796,27 @@ class MockInstabugHostApi extends _i1.Mock implements _i6.InstabugHostApi {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
 
+  @override
+  _i5.Future<void> onRouteTransition(
+    String? arg_reportedScreenName,
+    String? arg_uiTraceScreenName,
+    int? arg_microTimeStamp,
+    int? arg_uiTraceId,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #onRouteTransition,
+          [
+            arg_reportedScreenName,
+            arg_uiTraceScreenName,
+            arg_microTimeStamp,
+            arg_uiTraceId,
+          ],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
   @override
   _i5.Future<void> setCustomBrandingImage(
     String? arg_light,
@@ -788,6 +878,55 @@ class MockInstabugHostApi extends _i1.Mock implements _i6.InstabugHostApi {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
 
+  @override
+  _i5.Future<String?> beginFileAttachment(String? arg_fileName) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #beginFileAttachment,
+          [arg_fileName],
+        ),
+        returnValue: _i5.Future<String?>.value(),
+      ) as _i5.Future<String?>);
+
+  @override
+  _i5.Future<void> appendFileAttachmentChunk(
+    String? arg_id,
+    _i7.Uint8List? arg_chunk,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #appendFileAttachmentChunk,
+          [
+            arg_id,
+            arg_chunk,
+          ],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
+  @override
+  _i5.Future<void> finishFileAttachment(String? arg_id) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #finishFileAttachment,
+          [arg_id],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
+  @override
+  _i5.Future<void> abortFileAttachment(String? arg_id) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #abortFileAttachment,
+          [arg_id],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
   @override
   _i5.Future<void> clearFileAttachments() => (super.noSuchMethod(
         Invocation.method(
@@ -809,6 +948,28 @@ class MockInstabugHostApi extends _i1.Mock implements _i6.InstabugHostApi {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
 
+  @override
+  _i5.Future<void> logNetworkEntry(_i6.NetworkEntry? arg_entry) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #logNetworkEntry,
+          [arg_entry],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
+  @override
+  _i5.Future<List<_i6.BridgeMethodStats?>> getBridgeStats() =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getBridgeStats,
+          [],
+        ),
+        returnValue: _i5.Future<List<_i6.BridgeMethodStats?>>.value(
+            <_i6.BridgeMethodStats?>[]),
+      ) as _i5.Future<List<_i6.BridgeMethodStats?>>);
+
   @override
   _i5.Future<void> willRedirectToStore() => (super.noSuchMethod(
         Invocation.method(